@@ -2,21 +2,45 @@ package com.jobportal.backend.config;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
 
+/**
+ * Executors for @Async work and blocking I/O.
+ *
+ * With spring.threads.virtual.enabled, Spring Boot already runs Tomcat requests and
+ * @Scheduled methods on virtual threads; the general, LLM call and dashboard executors
+ * below follow the same switch and start a virtual thread per task, with a semaphore in
+ * place of the pool size where concurrency must stay bounded.
+ */
 @Configuration
 @EnableAsync
+@EnableScheduling
 @Slf4j
 public class AsyncConfig implements AsyncConfigurer {
 
+    private final Environment environment;
+    
+    public AsyncConfig(Environment environment) {
+        this.environment = environment;
+    }
+
     /**
-     * Configure async task executor for email sending and other async operations
+     * Configure async task executor for email sending and other async operations.
+     * Platform threads in both modes: Jakarta Mail's SMTPTransport holds its monitor for
+     * the whole SMTP conversation, which would pin virtual threads to their carriers.
      */
     @Bean("emailTaskExecutor")
     @Override
@@ -40,6 +64,10 @@ public class AsyncConfig implements AsyncConfigurer {
      */
     @Bean("generalTaskExecutor")
     public Executor generalAsyncExecutor() {
+        if (virtualThreads()) {
+            log.info("Configuring general virtual thread executor");
+            return virtualThreadExecutor("GeneralAsync-", 10);
+        }
         log.info("Configuring general async task executor");
         
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
@@ -54,6 +82,100 @@ public class AsyncConfig implements AsyncConfigurer {
         return executor;
     }
 
+    /**
+     * Runs LLM provider calls so the gateway's time limiter can interrupt them. Concurrency
+     * is capped by the gateway's bulkhead, so the platform variant behaves like a cached pool.
+     */
+    @Bean("llmCallExecutor")
+    public AsyncTaskExecutor llmCallExecutor() {
+        if (virtualThreads()) {
+            return virtualThreadExecutor("LlmCall-", -1);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(0);
+        executor.setMaxPoolSize(Integer.MAX_VALUE);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("LlmCall-");
+        executor.setDaemon(true);
+        executor.initialize();
+        
+        return executor;
+    }
+
+    /**
+     * Branches of the composite candidate dashboard. Bursts beyond the running branches
+     * wait in a bounded queue, which their deadlines keep short; only a full queue rejects,
+     * and a rejected branch is reported as unavailable like one that timed out.
+     */
+    @Bean("dashboardExecutor")
+    public AsyncTaskExecutor dashboardExecutor(@Value("${app.dashboard.max-concurrent-branches:64}") int maxConcurrent,
+                                               @Value("${app.dashboard.queue-capacity:256}") int queueCapacity) {
+        if (virtualThreads()) {
+            return virtualThreadExecutor("Dashboard-", maxConcurrent);
+        }
+        // All threads are core threads: with a queue, the pool would not grow past the core size
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrent);
+        executor.setMaxPoolSize(maxConcurrent);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("Dashboard-");
+        executor.setDaemon(true);
+        executor.initialize();
+        
+        return executor;
+    }
+
+    /**
+     * Resume text extraction (PDF parsing). Kept small and bounded: each task holds a
+     * document in memory, so excess uploads are rejected instead of queued without limit.
+     * CPU and heap bound rather than blocking, so it stays on platform threads in both modes.
+     */
+    @Bean("documentExtractionExecutor")
+    public ThreadPoolTaskExecutor documentExtractionExecutor(
+            @Value("${app.resume.extraction.threads:4}") int threads,
+            @Value("${app.resume.extraction.queue-capacity:20}") int queueCapacity) {
+        log.info("Configuring document extraction executor ({} threads, queue {})", threads, queueCapacity);
+        
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("DocExtract-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        
+        return executor;
+    }
+
+    private boolean virtualThreads() {
+        return Threading.VIRTUAL.isActive(environment);
+    }
+
+    /**
+     * Virtual thread per task. Unlike SimpleAsyncTaskExecutor's own concurrency limit, the
+     * semaphore is taken on the new thread, so callers never block when the limit is reached;
+     * waiting tasks are parked virtual threads instead of queue entries.
+     */
+    private static SimpleAsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix, int maxConcurrent) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setTaskTerminationTimeout(30_000);
+        if (maxConcurrent > 0) {
+            Semaphore permits = new Semaphore(maxConcurrent);
+            executor.setTaskDecorator(task -> () -> {
+                permits.acquireUninterruptibly();
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        }
+        return executor;
+    }
+
     /**
      * Handle async method execution exceptions
      */
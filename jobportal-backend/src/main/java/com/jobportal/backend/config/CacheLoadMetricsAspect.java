@@ -0,0 +1,52 @@
+package com.jobportal.backend.config;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times @Cacheable methods as cache loads. Runs inside the caching advice (see
+ * {@link CacheConfig}), so it is only reached on a miss; the duration and whether the
+ * method threw go into the cache's Caffeine stats, which back the cache.load meters.
+ *
+ * Caffeine records loads of sync = true caches itself, so those are left alone.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class CacheLoadMetricsAspect {
+
+    private final CacheManager cacheManager;
+
+    @Around("@annotation(cacheable)")
+    public Object recordLoad(ProceedingJoinPoint joinPoint, Cacheable cacheable) throws Throwable {
+        if (cacheable.sync()) {
+            return joinPoint.proceed();
+        }
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            Object result = joinPoint.proceed();
+            success = true;
+            return result;
+        } finally {
+            long duration = System.nanoTime() - start;
+            // Raw annotation: value and cacheNames are not merged as they are for Spring
+            String[] names = cacheable.cacheNames().length > 0 ? cacheable.cacheNames() : cacheable.value();
+            for (String name : names) {
+                Cache cache = cacheManager.getCache(name);
+                if (cache instanceof InstrumentedCaffeineCache instrumented) {
+                    instrumented.recordLoad(duration, success);
+                }
+            }
+        }
+    }
+}
@@ -2,23 +2,32 @@ package com.jobportal.backend.config;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 import javax.sql.DataSource;
+import java.sql.SQLException;
 
 /**
  * Production-grade Database Configuration
  * 
  * Features:
  * - Optimized HikariCP connection pool
+ * - Optional read/write routing to a read-replica pool
  * - Environment-specific configurations
  * - Connection health monitoring
  * - Performance optimization
@@ -57,25 +66,114 @@ public class DatabaseConfig {
     @Value("${spring.datasource.hikari.leak-detection-threshold:60000}")
     private long leakDetectionThreshold;
 
+    @Value("${app.datasource.replica.enabled:false}")
+    private boolean replicaEnabled;
+
+    @Value("${app.datasource.replica.url:${spring.datasource.url}}")
+    private String replicaJdbcUrl;
+
+    @Value("${app.datasource.replica.username:${spring.datasource.username}}")
+    private String replicaUsername;
+
+    @Value("${app.datasource.replica.password:${spring.datasource.password}}")
+    private String replicaPassword;
+
+    @Value("${app.datasource.replica.maximum-pool-size:20}")
+    private int replicaMaxPoolSize;
+
+    @Value("${app.datasource.replica.minimum-idle:5}")
+    private int replicaMinIdleConnections;
+
+    @Value("${app.datasource.replica.max-lag-seconds:10}")
+    private double replicaMaxLagSeconds;
+
+    @Value("${app.datasource.replica.lag-query:" + ReplicaLagMonitor.DEFAULT_LAG_QUERY + "}")
+    private String replicaLagQuery;
+
+    /**
+     * Primary data source. With {@code app.datasource.replica.enabled=true} this is a
+     * read/write router over separate writer and reader pools; otherwise a single pool.
+     */
     @Bean
     @Primary
     @Profile("!test")
-    public DataSource productionDataSource() {
+    public DataSource productionDataSource(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable();
+
+        HikariDataSource writer = createPool("JobPortal-DB-Pool", jdbcUrl, username, password,
+                maxPoolSize, minIdleConnections, false, meterRegistry);
+
+        if (!replicaEnabled) {
+            return writer;
+        }
+
+        HikariDataSource reader = createPool("JobPortal-DB-Reader-Pool", replicaJdbcUrl, replicaUsername,
+                replicaPassword, replicaMaxPoolSize, replicaMinIdleConnections, true, meterRegistry);
+
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(writer, reader);
+        if (meterRegistry != null) {
+            Gauge.builder("jobportal.db.routing", routingDataSource, ReadWriteRoutingDataSource::getWriterRoutes)
+                    .description("Connections routed to the writer pool")
+                    .tag("route", "writer")
+                    .register(meterRegistry);
+            Gauge.builder("jobportal.db.routing", routingDataSource, ReadWriteRoutingDataSource::getReaderRoutes)
+                    .description("Connections routed to the reader pool")
+                    .tag("route", "reader")
+                    .register(meterRegistry);
+            Gauge.builder("jobportal.db.routing", routingDataSource, ReadWriteRoutingDataSource::getFallbackRoutes)
+                    .description("Read-only connections sent to the writer because the replica was unavailable")
+                    .tag("route", "fallback")
+                    .register(meterRegistry);
+        }
+
+        log.info("Read/write routing enabled - writer: {}, reader: {}", jdbcUrl, replicaJdbcUrl);
+
+        // Lazy proxy defers connection lookup until the transaction's read-only flag is set
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * Replica lag monitor, only active when read/write routing is enabled
+     */
+    @Bean
+    @Profile("!test")
+    @ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+    public ReplicaLagMonitor replicaLagMonitor(DataSource dataSource,
+                                               ObjectProvider<MeterRegistry> meterRegistryProvider) throws SQLException {
+        ReadWriteRoutingDataSource routingDataSource = dataSource.unwrap(ReadWriteRoutingDataSource.class);
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(routingDataSource, replicaLagQuery, replicaMaxLagSeconds);
+
+        meterRegistryProvider.ifAvailable(registry -> {
+            Gauge.builder("jobportal.db.replica.lag", monitor, ReplicaLagMonitor::getLastLagSeconds)
+                    .description("Read replica lag in seconds (-1 when unreachable)")
+                    .baseUnit("seconds")
+                    .register(registry);
+            Gauge.builder("jobportal.db.replica.available", routingDataSource, ds -> ds.isReaderAvailable() ? 1 : 0)
+                    .description("Whether read-only transactions are routed to the replica")
+                    .register(registry);
+        });
+
+        return monitor;
+    }
+
+    private HikariDataSource createPool(String poolName, String url, String user, String pass,
+                                        int poolSize, int minIdle, boolean readOnly, MeterRegistry meterRegistry) {
         HikariConfig config = new HikariConfig();
         
         // Basic configuration
-        config.setJdbcUrl(jdbcUrl);
-        config.setUsername(username);
-        config.setPassword(password);
+        config.setJdbcUrl(url);
+        config.setUsername(user);
+        config.setPassword(pass);
         config.setDriverClassName("org.postgresql.Driver");
 
         // Pool configuration
-        config.setMaximumPoolSize(maxPoolSize);
-        config.setMinimumIdle(minIdleConnections);
+        config.setMaximumPoolSize(poolSize);
+        config.setMinimumIdle(minIdle);
         config.setConnectionTimeout(connectionTimeout);
         config.setIdleTimeout(idleTimeout);
         config.setMaxLifetime(maxLifetime);
         config.setLeakDetectionThreshold(leakDetectionThreshold);
+        config.setReadOnly(readOnly);
 
         // Performance optimizations
         config.setAutoCommit(false); // Better transaction control
@@ -83,7 +181,7 @@ public class DatabaseConfig {
         config.setValidationTimeout(5000);
 
         // Connection pool name for monitoring
-        config.setPoolName("JobPortal-DB-Pool");
+        config.setPoolName(poolName);
 
         // Additional PostgreSQL optimizations
         config.addDataSourceProperty("cachePrepStmts", "true");
@@ -96,11 +194,13 @@ public class DatabaseConfig {
         config.addDataSourceProperty("elideSetAutoCommits", "true");
         config.addDataSourceProperty("maintainTimeStats", "false");
 
-        // Health check configuration
-        config.setHealthCheckRegistry(null); // Will be set up by monitoring
+        // Per-pool metrics (hikaricp.connections.* tagged with the pool name)
+        if (meterRegistry != null) {
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        }
         
-        log.info("Configuring HikariCP with maxPoolSize: {}, minIdle: {}, connectionTimeout: {}ms", 
-                maxPoolSize, minIdleConnections, connectionTimeout);
+        log.info("Configuring HikariCP pool {} with maxPoolSize: {}, minIdle: {}, connectionTimeout: {}ms", 
+                poolName, poolSize, minIdle, connectionTimeout);
 
         return new HikariDataSource(config);
     }
@@ -161,6 +261,13 @@ public class DatabaseConfig {
         }
         
         public DatabaseStats getStats(DataSource dataSource) {
+            // The primary DataSource is the router behind a LazyConnectionDataSourceProxy
+            if (dataSource instanceof DelegatingDataSource delegating && delegating.getTargetDataSource() != null) {
+                return getStats(delegating.getTargetDataSource());
+            }
+            if (dataSource instanceof ReadWriteRoutingDataSource routingDataSource) {
+                return getStats(routingDataSource.getWriter());
+            }
             if (dataSource instanceof HikariDataSource) {
                 HikariDataSource hikariDS = (HikariDataSource) dataSource;
                 return new DatabaseStats(
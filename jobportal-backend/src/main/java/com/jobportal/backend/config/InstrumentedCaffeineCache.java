@@ -0,0 +1,123 @@
+package com.jobportal.backend.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caffeine cache that also counts hits and misses per key prefix, e.g. "search" and
+ * "location" for the 'search-…' and 'location-…' keys of job-search, and lets loads
+ * that happen outside Caffeine (plain @Cacheable methods) be recorded in its stats.
+ *
+ * The prefix is the leading lowercase word of a String key followed by '-'. Numeric
+ * keys count as "id" and everything else as "other"; keys containing '@' (emails) are
+ * never split. At most {@link #MAX_PREFIXES} prefixes are tracked per cache, so the
+ * number of meters stays bounded whatever the keys look like.
+ */
+public class InstrumentedCaffeineCache extends CaffeineCache {
+
+    static final int MAX_PREFIXES = 16;
+    static final String OTHER = "other";
+
+    private final StatsCounter statsCounter;
+    private final Map<String, PrefixStats> prefixes = new ConcurrentHashMap<>();
+
+    /**
+     * @param statsCounter the counter the native cache records its stats into
+     */
+    public InstrumentedCaffeineCache(String name, Cache<Object, Object> cache, StatsCounter statsCounter,
+                                     boolean allowNullValues) {
+        super(name, cache, allowNullValues);
+        this.statsCounter = statsCounter;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = super.lookup(key);
+        statsFor(key).record(value != null);
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        boolean[] loaded = new boolean[1];
+        T value = super.get(key, () -> {
+            loaded[0] = true;
+            return valueLoader.call();
+        });
+        statsFor(key).record(!loaded[0]);
+        return value;
+    }
+
+    /**
+     * Records a value computed by the caller after a miss (the cached method itself)
+     */
+    public void recordLoad(long durationNanos, boolean success) {
+        if (success) {
+            statsCounter.recordLoadSuccess(durationNanos);
+        } else {
+            statsCounter.recordLoadFailure(durationNanos);
+        }
+    }
+
+    public Map<String, PrefixStats> getPrefixStats() {
+        return Collections.unmodifiableMap(prefixes);
+    }
+
+    private PrefixStats statsFor(Object key) {
+        String prefix = prefixOf(key);
+        PrefixStats stats = prefixes.get(prefix);
+        if (stats != null) {
+            return stats;
+        }
+        if (prefixes.size() >= MAX_PREFIXES) {
+            prefix = OTHER;
+        }
+        return prefixes.computeIfAbsent(prefix, p -> new PrefixStats());
+    }
+
+    static String prefixOf(Object key) {
+        if (key instanceof Number) {
+            return "id";
+        }
+        if (key instanceof String s && s.indexOf('@') < 0) {
+            int i = 0;
+            while (i < s.length() && s.charAt(i) >= 'a' && s.charAt(i) <= 'z') {
+                i++;
+            }
+            if (i > 0 && i < s.length() && s.charAt(i) == '-') {
+                return s.substring(0, i);
+            }
+        }
+        return OTHER;
+    }
+
+    public static final class PrefixStats {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+
+        void record(boolean hit) {
+            (hit ? hits : misses).increment();
+        }
+
+        public long hitCount() {
+            return hits.sum();
+        }
+
+        public long missCount() {
+            return misses.sum();
+        }
+
+        public double hitRatio() {
+            long hit = hits.sum();
+            long total = hit + misses.sum();
+            return total == 0 ? Double.NaN : (double) hit / total;
+        }
+    }
+}
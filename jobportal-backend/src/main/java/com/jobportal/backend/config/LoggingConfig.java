@@ -1,14 +1,9 @@
 package com.jobportal.backend.config;
 
-import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
-import ch.qos.logback.classic.LoggerContext;
-import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
-import ch.qos.logback.core.ConsoleAppender;
-import ch.qos.logback.core.rolling.RollingFileAppender;
-import ch.qos.logback.core.rolling.TimeBasedRollingPolicy;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -21,15 +16,16 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.time.Duration;
-import java.time.Instant;
-import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Enterprise-grade Logging Configuration
  * 
  * Features:
- * - Structured JSON logging for production
- * - Request/Response logging with correlation IDs
+ * - Structured JSON logging for production (logback-spring.xml, asynchronous appenders)
+ * - Sampled request logging with correlation IDs
  * - Performance monitoring
  * - File rotation and retention
  * - Security audit logging
@@ -62,8 +58,11 @@ public class LoggingConfig {
      */
     @Bean
     @Profile("!test")
-    public RequestLoggingFilter requestLoggingFilter() {
-        return new RequestLoggingFilter();
+    public RequestLoggingFilter requestLoggingFilter(
+            @Value("${app.logging.request.sample-rate:1.0}") double sampleRate,
+            @Value("${app.logging.request.slow-threshold:2000ms}") Duration slowThreshold) {
+        return new RequestLoggingFilter(requestLoggingEnabled, sampleRate,
+                performanceLoggingEnabled ? slowThreshold : null);
     }
 
     /**
@@ -82,64 +81,102 @@ public class LoggingConfig {
         return new PerformanceLogger();
     }
 
-    public class RequestLoggingFilter extends OncePerRequestFilter {
+    /**
+     * One log line per completed request, tagged with a correlation id that is also put in
+     * the MDC for every other line logged while the request runs.
+     *
+     * Successful requests are sampled: whether a request is logged is decided once when it
+     * arrives (head-based, so the decision is available to downstream code through the
+     * "logSampled" request attribute). Error responses, requests that threw and slow
+     * requests are always logged, whatever the sampling decision.
+     */
+    public static class RequestLoggingFilter extends OncePerRequestFilter {
+
+        public static final String CORRELATION_ID = "correlationId";
+        public static final String CORRELATION_HEADER = "X-Correlation-ID";
+        public static final String SAMPLED_ATTRIBUTE = "logSampled";
+
+        private final boolean enabled;
+        private final double sampleRate;
+        private final long slowThresholdMillis;
+        private final CorrelationIdGenerator correlationIds = new CorrelationIdGenerator();
+
+        /**
+         * @param slowThreshold null disables slow request logging
+         */
+        public RequestLoggingFilter(boolean enabled, double sampleRate, Duration slowThreshold) {
+            this.enabled = enabled;
+            this.sampleRate = sampleRate;
+            this.slowThresholdMillis = slowThreshold != null ? slowThreshold.toMillis() : Long.MAX_VALUE;
+        }
 
         @Override
         protected void doFilterInternal(HttpServletRequest request, 
                                       HttpServletResponse response, 
                                       FilterChain filterChain) throws ServletException, IOException {
             
-            if (!requestLoggingEnabled) {
+            if (!enabled) {
                 filterChain.doFilter(request, response);
                 return;
             }
 
-            // Generate correlation ID
-            String correlationId = UUID.randomUUID().toString();
-            request.setAttribute("correlationId", correlationId);
-            response.setHeader("X-Correlation-ID", correlationId);
-
-            long startTime = System.currentTimeMillis();
-
+            // Keep the caller's id when it sent a usable one, so logs line up across services
+            String correlationId = request.getHeader(CORRELATION_HEADER);
+            if (!isUsable(correlationId)) {
+                correlationId = correlationIds.next();
+            }
+            boolean sampled = sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+            request.setAttribute(CORRELATION_ID, correlationId);
+            request.setAttribute(SAMPLED_ATTRIBUTE, sampled);
+            response.setHeader(CORRELATION_HEADER, correlationId);
+            MDC.put(CORRELATION_ID, correlationId);
+
+            long startTime = System.nanoTime();
+            boolean failed = true;
             try {
-                // Log request
-                logRequest(request, correlationId);
+                if (log.isDebugEnabled()) {
+                    log.debug("REQUEST {} {} from {}", request.getMethod(), request.getRequestURI(), getClientIP(request));
+                }
                 
                 filterChain.doFilter(request, response);
-                
+                failed = false;
             } finally {
-                // Log response
-                long duration = System.currentTimeMillis() - startTime;
-                logResponse(request, response, correlationId, duration);
+                long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+                logResponse(request, response, duration, sampled, failed);
+                MDC.remove(CORRELATION_ID);
             }
         }
 
-        private void logRequest(HttpServletRequest request, String correlationId) {
-            log.info("REQUEST [{}] {} {} from {} - User-Agent: {}", 
-                correlationId,
-                request.getMethod(),
-                request.getRequestURI(),
-                getClientIP(request),
-                request.getHeader("User-Agent"));
+        private void logResponse(HttpServletRequest request, HttpServletResponse response,
+                                 long duration, boolean sampled, boolean failed) {
+            int status = response.getStatus();
+            if (failed || status >= 500) {
+                log.error("RESPONSE {} {} - Status: {} - Duration: {}ms{}",
+                    request.getMethod(), request.getRequestURI(), status, duration, failed ? " - threw" : "");
+            } else if (duration >= slowThresholdMillis) {
+                log.warn("SLOW_REQUEST {} {} - Status: {} - Duration: {}ms",
+                    request.getMethod(), request.getRequestURI(), status, duration);
+            } else if (status >= 400) {
+                log.info("RESPONSE {} {} - Status: {} - Duration: {}ms",
+                    request.getMethod(), request.getRequestURI(), status, duration);
+            } else if (sampled) {
+                log.info("RESPONSE {} {} - Status: {} - Duration: {}ms",
+                    request.getMethod(), request.getRequestURI(), status, duration);
+            }
         }
 
-        private void logResponse(HttpServletRequest request, HttpServletResponse response, 
-                               String correlationId, long duration) {
-            log.info("RESPONSE [{}] {} {} - Status: {} - Duration: {}ms", 
-                correlationId,
-                request.getMethod(),
-                request.getRequestURI(),
-                response.getStatus(),
-                duration);
-
-            // Log slow requests
-            if (performanceLoggingEnabled && duration > 2000) {
-                log.warn("SLOW_REQUEST [{}] {} {} took {}ms", 
-                    correlationId,
-                    request.getMethod(),
-                    request.getRequestURI(),
-                    duration);
+        private static boolean isUsable(String correlationId) {
+            if (correlationId == null || correlationId.isEmpty() || correlationId.length() > 64) {
+                return false;
+            }
+            // Ends up in log lines and a response header; allow nothing that could forge either
+            for (int i = 0; i < correlationId.length(); i++) {
+                char c = correlationId.charAt(i);
+                if (!(Character.isLetterOrDigit(c) || c == '-' || c == '_' || c == '.')) {
+                    return false;
+                }
             }
+            return true;
         }
 
         private String getClientIP(HttpServletRequest request) {
@@ -151,6 +188,27 @@ public class LoggingConfig {
         }
     }
 
+    /**
+     * Correlation ids without SecureRandom: a random per-process prefix and a counter,
+     * e.g. "3f9a1c07-1b2x". Unique across instances with high probability and increasing
+     * within one, which keeps them sortable by arrival in the logs of a single instance.
+     */
+    public static class CorrelationIdGenerator {
+        private final String prefix;
+        private final AtomicLong sequence;
+
+        public CorrelationIdGenerator() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            this.prefix = String.format("%08x-", random.nextInt());
+            // Start at the clock so a restart that drew the same prefix does not repeat ids
+            this.sequence = new AtomicLong(System.currentTimeMillis() << 10);
+        }
+
+        public String next() {
+            return prefix + Long.toString(sequence.incrementAndGet(), 36);
+        }
+    }
+
     /**
      * Security audit logging
      */
@@ -218,74 +276,4 @@ public class LoggingConfig {
             }
         }
     }
-
-    /**
-     * Structured logging for production environments
-     */
-    @Configuration
-    @Profile("production")
-    static class ProductionLoggingConfig {
-
-        public ProductionLoggingConfig() {
-            configureProductionLogging();
-        }
-
-        private void configureProductionLogging() {
-            LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
-            
-            // Configure JSON pattern for structured logging
-            String jsonPattern = "{"
-                + "\"timestamp\":\"%d{yyyy-MM-dd HH:mm:ss.SSS}\","
-                + "\"level\":\"%level\","
-                + "\"thread\":\"%thread\","
-                + "\"logger\":\"%logger{36}\","
-                + "\"message\":\"%msg\","
-                + "\"exception\":\"%ex\""
-                + "}%n";
-
-            // Console appender with JSON format
-            ConsoleAppender<ch.qos.logback.classic.spi.ILoggingEvent> consoleAppender = 
-                new ConsoleAppender<>();
-            consoleAppender.setContext(context);
-            consoleAppender.setName("CONSOLE");
-
-            PatternLayoutEncoder encoder = new PatternLayoutEncoder();
-            encoder.setContext(context);
-            encoder.setPattern(jsonPattern);
-            encoder.start();
-
-            consoleAppender.setEncoder(encoder);
-            consoleAppender.start();
-
-            // File appender with rolling policy
-            RollingFileAppender<ch.qos.logback.classic.spi.ILoggingEvent> fileAppender = 
-                new RollingFileAppender<>();
-            fileAppender.setContext(context);
-            fileAppender.setName("FILE");
-            fileAppender.setFile("/var/log/jobportal/application.log");
-
-            TimeBasedRollingPolicy<ch.qos.logback.classic.spi.ILoggingEvent> rollingPolicy = 
-                new TimeBasedRollingPolicy<>();
-            rollingPolicy.setContext(context);
-            rollingPolicy.setParent(fileAppender);
-            rollingPolicy.setFileNamePattern("/var/log/jobportal/application.%d{yyyy-MM-dd}.%i.log.gz");
-            rollingPolicy.setMaxHistory(30); // Keep 30 days
-            rollingPolicy.start();
-
-            PatternLayoutEncoder fileEncoder = new PatternLayoutEncoder();
-            fileEncoder.setContext(context);
-            fileEncoder.setPattern(jsonPattern);
-            fileEncoder.start();
-
-            fileAppender.setRollingPolicy(rollingPolicy);
-            fileAppender.setEncoder(fileEncoder);
-            fileAppender.start();
-
-            // Configure root logger
-            Logger rootLogger = context.getLogger(Logger.ROOT_LOGGER_NAME);
-            rootLogger.addAppender(consoleAppender);
-            rootLogger.addAppender(fileAppender);
-            rootLogger.setLevel(Level.INFO);
-        }
-    }
 }
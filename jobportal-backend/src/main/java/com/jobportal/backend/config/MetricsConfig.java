@@ -1,17 +1,28 @@
 package com.jobportal.backend.config;
 
 import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
 import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.boot.actuate.autoconfigure.metrics.MeterRegistryCustomizer;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.Scheduled;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
 @Slf4j
 @Configuration
 @ConditionalOnProperty(name = "app.metrics.enabled", havingValue = "true", matchIfMissing = true)
@@ -38,7 +49,7 @@ public class MetricsConfig {
     }
 
     /**
-     * Cache performance monitor
+     * Binds every cache to Micrometer (see CacheMetricsCollector)
      */
     @Bean
     @ConditionalOnProperty(name = "app.metrics.cache.enabled", havingValue = "true", matchIfMissing = true)
@@ -56,31 +67,81 @@ public class MetricsConfig {
     }
 
     /**
-     * Custom metrics collector for cache performance
+     * Binds caches to the meter registry: size, gets (hit/miss), puts, evictions, load
+     * duration and load failures from Caffeine's stats, plus per-key-prefix hit/miss counts
+     * and hit ratios for {@link InstrumentedCaffeineCache}s. Caches are created on first
+     * use and key prefixes appear as keys do, so new ones are picked up on every run;
+     * the counts are cumulative, so nothing recorded before binding is lost.
      */
     public static class CacheMetricsCollector {
         private final CacheManager cacheManager;
         private final MeterRegistry meterRegistry;
+        private final Set<String> boundCaches = ConcurrentHashMap.newKeySet();
+        private final Set<String> boundPrefixes = ConcurrentHashMap.newKeySet();
 
         public CacheMetricsCollector(CacheManager cacheManager, MeterRegistry meterRegistry) {
             this.cacheManager = cacheManager;
             this.meterRegistry = meterRegistry;
         }
 
-        @Scheduled(fixedRate = 30000) // Every 30 seconds
+        @Scheduled(fixedRateString = "${app.metrics.cache.bind-interval:30000}")
         public void collectCacheMetrics() {
             try {
                 cacheManager.getCacheNames().forEach(cacheName -> {
-                    var cache = cacheManager.getCache(cacheName);
-                    if (cache != null) {
-                        // Register cache size and hit ratio if available
-                        log.debug("Collecting metrics for cache: {}", cacheName);
+                    Cache cache = cacheManager.getCache(cacheName);
+                    if (cache instanceof CaffeineCache caffeineCache && boundCaches.add(cacheName)) {
+                        log.debug("Binding metrics for cache: {}", cacheName);
+                        CaffeineCacheMetrics.monitor(meterRegistry, caffeineCache.getNativeCache(), cacheName);
+                        if (cache instanceof InstrumentedCaffeineCache) {
+                            bindLoads(cacheName, caffeineCache.getNativeCache());
+                        }
+                    }
+                    if (cache instanceof InstrumentedCaffeineCache instrumented) {
+                        instrumented.getPrefixStats().forEach((prefix, stats) -> bindPrefix(cacheName, prefix, stats));
                     }
                 });
             } catch (Exception e) {
                 log.warn("Error collecting cache metrics", e);
             }
         }
+
+        /**
+         * CaffeineCacheMetrics only registers the load meters for LoadingCaches; ours are
+         * plain caches whose loads are recorded by CacheLoadMetricsAspect
+         */
+        private void bindLoads(String cacheName, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+            TimeGauge.builder("cache.load.duration", cache, TimeUnit.NANOSECONDS, c -> c.stats().totalLoadTime())
+                    .tag("cache", cacheName)
+                    .description("The time the cache has spent loading new values")
+                    .register(meterRegistry);
+            FunctionCounter.builder("cache.load", cache, c -> c.stats().loadSuccessCount())
+                    .tags("cache", cacheName, "result", "success")
+                    .description("The number of times cached methods computed a new value or failed to")
+                    .register(meterRegistry);
+            FunctionCounter.builder("cache.load", cache, c -> c.stats().loadFailureCount())
+                    .tags("cache", cacheName, "result", "failure")
+                    .description("The number of times cached methods computed a new value or failed to")
+                    .register(meterRegistry);
+        }
+
+        private void bindPrefix(String cacheName, String prefix, InstrumentedCaffeineCache.PrefixStats stats) {
+            if (!boundPrefixes.add(cacheName + '/' + prefix)) {
+                return;
+            }
+            Tags tags = Tags.of("cache", cacheName, "prefix", prefix);
+            FunctionCounter.builder("cache.prefix.gets", stats, InstrumentedCaffeineCache.PrefixStats::hitCount)
+                    .tags(tags).tag("result", "hit")
+                    .description("Cache lookups by key prefix")
+                    .register(meterRegistry);
+            FunctionCounter.builder("cache.prefix.gets", stats, InstrumentedCaffeineCache.PrefixStats::missCount)
+                    .tags(tags).tag("result", "miss")
+                    .description("Cache lookups by key prefix")
+                    .register(meterRegistry);
+            Gauge.builder("cache.prefix.hit.ratio", stats, InstrumentedCaffeineCache.PrefixStats::hitRatio)
+                    .tags(tags)
+                    .description("Share of lookups by key prefix that were hits, since startup")
+                    .register(meterRegistry);
+        }
     }
 
     /**
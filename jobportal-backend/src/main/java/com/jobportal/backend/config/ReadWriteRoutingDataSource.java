@@ -0,0 +1,95 @@
+package com.jobportal.backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Routes connections between the primary (writer) pool and the read-replica (reader) pool.
+ *
+ * Transactions marked {@code @Transactional(readOnly = true)} go to the reader while it is
+ * healthy and within the allowed replication lag; everything else goes to the writer.
+ * Must be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}
+ * so the read-only flag is known before the physical connection is fetched.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        WRITER,
+        READER
+    }
+
+    private final DataSource writer;
+    private final DataSource reader;
+
+    private volatile boolean readerAvailable = true;
+
+    private final LongAdder writerRoutes = new LongAdder();
+    private final LongAdder readerRoutes = new LongAdder();
+    private final LongAdder fallbackRoutes = new LongAdder();
+
+    public ReadWriteRoutingDataSource(DataSource writer, DataSource reader) {
+        this.writer = writer;
+        this.reader = reader;
+        setTargetDataSources(Map.of(Route.WRITER, writer, Route.READER, reader));
+        setDefaultTargetDataSource(writer);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (readerAvailable) {
+                readerRoutes.increment();
+                return Route.READER;
+            }
+            fallbackRoutes.increment();
+        }
+        writerRoutes.increment();
+        return Route.WRITER;
+    }
+
+    /**
+     * Called by the {@link ReplicaLagMonitor} when replica health or lag changes.
+     */
+    public void setReaderAvailable(boolean readerAvailable) {
+        if (this.readerAvailable != readerAvailable) {
+            log.warn("Read replica {} - read-only transactions now routed to {}",
+                    readerAvailable ? "available" : "unavailable",
+                    readerAvailable ? Route.READER : Route.WRITER);
+        }
+        this.readerAvailable = readerAvailable;
+    }
+
+    public boolean isReaderAvailable() {
+        return readerAvailable;
+    }
+
+    public DataSource getWriter() {
+        return writer;
+    }
+
+    public DataSource getReader() {
+        return reader;
+    }
+
+    public long getWriterRoutes() {
+        return writerRoutes.sum();
+    }
+
+    public long getReaderRoutes() {
+        return readerRoutes.sum();
+    }
+
+    /**
+     * Read-only transactions sent to the writer because the replica was lagging or down
+     */
+    public long getFallbackRoutes() {
+        return fallbackRoutes.sum();
+    }
+}
@@ -0,0 +1,63 @@
+package com.jobportal.backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Periodically measures replication lag on the read replica and takes it out of
+ * rotation when it is unreachable or further behind the primary than allowed.
+ *
+ * The default query returns 0 when run against a primary (no replay timestamp),
+ * so pointing the reader at the primary in development works as expected.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    public static final String DEFAULT_LAG_QUERY =
+            "SELECT COALESCE(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())), 0)";
+
+    private final ReadWriteRoutingDataSource routingDataSource;
+    private final String lagQuery;
+    private final double maxLagSeconds;
+
+    private volatile double lastLagSeconds = 0;
+
+    public ReplicaLagMonitor(ReadWriteRoutingDataSource routingDataSource, String lagQuery, double maxLagSeconds) {
+        this.routingDataSource = routingDataSource;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval:5000}")
+    public void checkReplicaLag() {
+        try (Connection connection = routingDataSource.getReader().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+
+            double lag = resultSet.next() ? resultSet.getDouble(1) : 0;
+            lastLagSeconds = lag;
+
+            boolean withinLimit = lag <= maxLagSeconds;
+            if (!withinLimit) {
+                log.warn("Read replica lag {}s exceeds limit of {}s", lag, maxLagSeconds);
+            }
+            routingDataSource.setReaderAvailable(withinLimit);
+
+        } catch (Exception e) {
+            log.error("Read replica health check failed: {}", e.getMessage());
+            lastLagSeconds = -1;
+            routingDataSource.setReaderAvailable(false);
+        }
+    }
+
+    /**
+     * Last measured lag in seconds, or -1 if the replica could not be reached
+     */
+    public double getLastLagSeconds() {
+        return lastLagSeconds;
+    }
+}
@@ -0,0 +1,47 @@
+package com.jobportal.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcProperties;
+import org.springframework.boot.web.servlet.MultipartConfigFactory;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+
+/**
+ * Multipart limits for the batch resume import.
+ *
+ * The servlet container enforces multipart limits per servlet, so the main dispatcher keeps
+ * spring.servlet.multipart.* (10MB) for every other endpoint and POST /api/ai/resumes/batch
+ * is served by a second DispatcherServlet over the same application context, with the
+ * larger app.resume.batch.* limits. The exact-path mapping keeps the full request path for
+ * handler matching, and the security filter chain applies to both servlets alike.
+ */
+@Configuration
+public class ResumeBatchUploadConfig {
+
+    static final String RESUME_BATCH_PATH = "/api/ai/resumes/batch";
+
+    @Bean
+    public ServletRegistrationBean<DispatcherServlet> resumeBatchDispatcherServlet(
+            WebApplicationContext applicationContext,
+            WebMvcProperties webMvcProperties,
+            @Value("${app.resume.batch.max-file-size:200MB}") DataSize maxFileSize,
+            @Value("${app.resume.batch.max-request-size:200MB}") DataSize maxRequestSize) {
+        DispatcherServlet servlet = new DispatcherServlet(applicationContext);
+        servlet.setDispatchOptionsRequest(webMvcProperties.isDispatchOptionsRequest());
+        servlet.setDispatchTraceRequest(webMvcProperties.isDispatchTraceRequest());
+        servlet.setPublishEvents(webMvcProperties.isPublishRequestHandledEvents());
+
+        MultipartConfigFactory multipart = new MultipartConfigFactory();
+        multipart.setMaxFileSize(maxFileSize);
+        multipart.setMaxRequestSize(maxRequestSize);
+
+        ServletRegistrationBean<DispatcherServlet> registration = new ServletRegistrationBean<>(servlet, RESUME_BATCH_PATH);
+        registration.setName("resumeBatchDispatcherServlet");
+        registration.setMultipartConfig(multipart.createMultipartConfig());
+        return registration;
+    }
+}
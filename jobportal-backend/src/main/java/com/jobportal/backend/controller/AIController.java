@@ -5,8 +5,10 @@ import com.jobportal.backend.service.*;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -23,16 +25,25 @@ public class AIController {
     private final JobRecommendationService jobRecommendationService;
     private final SkillGapAnalysisService skillGapAnalysisService;
     private final AIInterviewQuestionService interviewQuestionService;
+    private final SemanticMatchService semanticMatchService;
+    private final UserProfileService userProfileService;
+    private final ResumeBatchService resumeBatchService;
 
     // Resume Parser
     @PostMapping("/parse-resume")
     @PreAuthorize("hasAnyRole('CANDIDATE', 'ADMIN')")
     public ResponseEntity<ApiResponse<ParsedResumeResponse>> parseResume(
-            @RequestParam("file") MultipartFile file) {
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) Long userId,
+            Authentication authentication) {
         
-        log.info("POST /api/ai/parse-resume - file: {}", file.getOriginalFilename());
+        log.info("POST /api/ai/parse-resume - file: {}, userId: {}", file.getOriginalFilename(), userId);
         
         ParsedResumeResponse result = resumeParserService.parseResume(file);
+        // With a userId the parsed skills become that candidate's stored profile (own profile unless ADMIN)
+        if (userId != null) {
+            userProfileService.saveFromResume(userId, result, authentication.getName());
+        }
         
         return ResponseEntity.ok(ApiResponse.<ParsedResumeResponse>builder()
                 .success(true)
@@ -42,6 +53,41 @@ public class AIController {
                 .build());
     }
 
+    // Batch resume import: any mix of resumes and zip archives of resumes
+    @PostMapping("/resumes/batch")
+    @PreAuthorize("hasAnyRole('RECRUITER', 'ADMIN')")
+    public ResponseEntity<ApiResponse<ResumeBatchStatusResponse>> submitResumeBatch(
+            @RequestParam("files") List<MultipartFile> files,
+            Authentication authentication) {
+        
+        log.info("POST /api/ai/resumes/batch - {} uploads by {}", files.size(), authentication.getName());
+        
+        ResumeBatchStatusResponse status = resumeBatchService.submit(files, authentication.getName());
+        
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.<ResumeBatchStatusResponse>builder()
+                .success(true)
+                .message("Resume batch accepted: " + status.getTotalFiles() + " files queued")
+                .data(status)
+                .timestamp(LocalDateTime.now())
+                .build());
+    }
+
+    @GetMapping("/resumes/batch/{batchId}")
+    @PreAuthorize("hasAnyRole('RECRUITER', 'ADMIN')")
+    public ResponseEntity<ApiResponse<ResumeBatchStatusResponse>> getResumeBatch(
+            @PathVariable String batchId,
+            Authentication authentication) {
+        
+        ResumeBatchStatusResponse status = resumeBatchService.getStatus(batchId, authentication.getName());
+        
+        return ResponseEntity.ok(ApiResponse.<ResumeBatchStatusResponse>builder()
+                .success(true)
+                .message("Resume batch " + status.getStatus().name().toLowerCase())
+                .data(status)
+                .timestamp(LocalDateTime.now())
+                .build());
+    }
+
     // Job Recommendations
     @GetMapping("/recommendations")
     @PreAuthorize("hasAnyRole('CANDIDATE', 'ADMIN')")
@@ -81,6 +127,25 @@ public class AIController {
                 .build());
     }
 
+    @PostMapping("/skill-gap-analysis/batch")
+    @PreAuthorize("hasAnyRole('CANDIDATE', 'ADMIN')")
+    public ResponseEntity<ApiResponse<SkillGapBatchResponse>> analyzeSkillGaps(
+            @Valid @RequestBody SkillGapBatchRequest request) {
+        
+        log.info("POST /api/ai/skill-gap-analysis/batch - userId: {}, jobs: {}",
+                request.getUserId(), request.getJobIds().size());
+        
+        SkillGapBatchResponse analysis = skillGapAnalysisService.analyzeSkillGaps(
+                request.getUserId(), request.getJobIds());
+        
+        return ResponseEntity.ok(ApiResponse.<SkillGapBatchResponse>builder()
+                .success(true)
+                .message(String.format("Skill gap analysis completed for %d jobs", analysis.getJobsAnalyzed()))
+                .data(analysis)
+                .timestamp(LocalDateTime.now())
+                .build());
+    }
+
     // Interview Questions Generator
     @PostMapping("/generate-interview-questions")
     @PreAuthorize("hasAnyRole('CANDIDATE', 'RECRUITER', 'ADMIN')")
@@ -100,4 +165,41 @@ public class AIController {
                 .timestamp(LocalDateTime.now())
                 .build());
     }
+
+    // Semantic (embedding) matching
+    @GetMapping("/jobs/{jobId}/similar")
+    @PreAuthorize("hasAnyRole('CANDIDATE', 'RECRUITER', 'ADMIN')")
+    public ResponseEntity<ApiResponse<List<SemanticMatchResponse>>> getSimilarJobs(
+            @PathVariable Long jobId,
+            @RequestParam(required = false, defaultValue = "10") Integer limit) {
+        
+        log.info("GET /api/ai/jobs/{}/similar - limit: {}", jobId, limit);
+        
+        List<SemanticMatchResponse> matches = semanticMatchService.findSimilarJobs(jobId, limit);
+        
+        return ResponseEntity.ok(ApiResponse.<List<SemanticMatchResponse>>builder()
+                .success(true)
+                .message("Similar jobs retrieved successfully")
+                .data(matches)
+                .timestamp(LocalDateTime.now())
+                .build());
+    }
+
+    @PostMapping("/semantic-matches")
+    @PreAuthorize("hasAnyRole('CANDIDATE', 'ADMIN')")
+    public ResponseEntity<ApiResponse<List<SemanticMatchResponse>>> matchResume(
+            @RequestBody ParsedResumeResponse resume,
+            @RequestParam(required = false, defaultValue = "10") Integer limit) {
+        
+        log.info("POST /api/ai/semantic-matches - limit: {}", limit);
+        
+        List<SemanticMatchResponse> matches = semanticMatchService.matchResume(resume, limit);
+        
+        return ResponseEntity.ok(ApiResponse.<List<SemanticMatchResponse>>builder()
+                .success(true)
+                .message("Semantic job matches generated successfully")
+                .data(matches)
+                .timestamp(LocalDateTime.now())
+                .build());
+    }
 }
@@ -1,5 +1,8 @@
 package com.jobportal.backend.controller;
 
+import com.jobportal.backend.service.InterviewQuestionBank;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.micrometer.core.annotation.Timed;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,6 +19,8 @@ import org.springframework.web.bind.annotation.*;
 
 import java.time.Instant;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -36,6 +41,9 @@ import java.util.Map;
 @Tag(name = "Admin", description = "System administration and monitoring endpoints")
 public class AdminController {
 
+    private final InterviewQuestionBank interviewQuestionBank;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+
     @Operation(
         summary = "Get system health status",
         description = "Comprehensive system health check including database, cache, and external services"
@@ -143,6 +151,70 @@ public class AdminController {
         }
     }
 
+    @Operation(
+        summary = "Get circuit breaker states",
+        description = "State and call statistics of every circuit breaker guarding external calls"
+    )
+    @GetMapping("/circuit-breakers")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Timed(value = "admin_circuit_breakers")
+    public ResponseEntity<List<Map<String, Object>>> getCircuitBreakers() {
+        List<Map<String, Object>> breakers = circuitBreakerRegistry.getAllCircuitBreakers().stream()
+                .map(this::describe)
+                .toList();
+        return ResponseEntity.ok(breakers);
+    }
+
+    @Operation(
+        summary = "Reset a circuit breaker",
+        description = "Close the circuit breaker and clear its statistics"
+    )
+    @PostMapping("/circuit-breakers/{name}/reset")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Timed(value = "admin_circuit_breaker_reset")
+    public ResponseEntity<Map<String, Object>> resetCircuitBreaker(@PathVariable String name) {
+        CircuitBreaker breaker = circuitBreakerRegistry.find(name)
+                .orElseThrow(() -> new RuntimeException("Unknown circuit breaker: " + name));
+        breaker.reset();
+        log.info("Circuit breaker {} reset", name);
+        return ResponseEntity.ok(describe(breaker));
+    }
+
+    private Map<String, Object> describe(CircuitBreaker breaker) {
+        CircuitBreaker.Metrics metrics = breaker.getMetrics();
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("name", breaker.getName());
+        state.put("state", breaker.getState().name());
+        state.put("failureRate", metrics.getFailureRate());
+        state.put("slowCallRate", metrics.getSlowCallRate());
+        state.put("bufferedCalls", metrics.getNumberOfBufferedCalls());
+        state.put("failedCalls", metrics.getNumberOfFailedCalls());
+        state.put("notPermittedCalls", metrics.getNumberOfNotPermittedCalls());
+        return state;
+    }
+
+    @Operation(
+        summary = "Reload interview question bank",
+        description = "Recompile the interview question index from the question bank file without a restart"
+    )
+    @PostMapping("/interview-questions/reload")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Timed(value = "admin_interview_questions_reload")
+    public ResponseEntity<Map<String, Object>> reloadInterviewQuestions() {
+        try {
+            int questions = interviewQuestionBank.reload();
+            
+            return ResponseEntity.ok(Map.of(
+                "message", "Interview question bank reloaded",
+                "questions", questions,
+                "timestamp", Instant.now().toString()
+            ));
+        } catch (Exception e) {
+            log.error("Failed to reload interview question bank", e);
+            return ResponseEntity.status(500).body(Map.of("error", e.getMessage()));
+        }
+    }
+
     @Operation(
         summary = "Toggle maintenance mode",
         description = "Enable or disable system maintenance mode"
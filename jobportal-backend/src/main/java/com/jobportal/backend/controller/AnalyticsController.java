@@ -21,10 +21,11 @@ public class AnalyticsController {
 
     @GetMapping("/overview")
     @PreAuthorize("hasAnyRole('ADMIN', 'RECRUITER', 'CANDIDATE')") // ✅ Added CANDIDATE
-    public ResponseEntity<ApiResponse<ApplicationAnalyticsResponse>> getOverallAnalytics() {
+    public ResponseEntity<ApiResponse<ApplicationAnalyticsResponse>> getOverallAnalytics(
+            @RequestParam(required = false) Integer months) {
         log.info("GET /api/analytics/overview");
         
-        ApplicationAnalyticsResponse analytics = analyticsService.getAnalytics();
+        ApplicationAnalyticsResponse analytics = analyticsService.getAnalytics(months);
         
         return ResponseEntity.ok(ApiResponse.<ApplicationAnalyticsResponse>builder()
                 .success(true)
@@ -37,11 +38,12 @@ public class AnalyticsController {
     @GetMapping("/recruiter/{recruiterId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'RECRUITER', 'CANDIDATE')") // ✅ Added CANDIDATE
     public ResponseEntity<ApiResponse<ApplicationAnalyticsResponse>> getRecruiterAnalytics(
-            @PathVariable Long recruiterId) {
+            @PathVariable Long recruiterId,
+            @RequestParam(required = false) Integer months) {
         
         log.info("GET /api/analytics/recruiter/{}", recruiterId);
         
-        ApplicationAnalyticsResponse analytics = analyticsService.getRecruiterAnalytics(recruiterId);
+        ApplicationAnalyticsResponse analytics = analyticsService.getRecruiterAnalytics(recruiterId, months);
         
         return ResponseEntity.ok(ApiResponse.<ApplicationAnalyticsResponse>builder()
                 .success(true)
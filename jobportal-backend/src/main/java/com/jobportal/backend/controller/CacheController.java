@@ -1,5 +1,6 @@
 package com.jobportal.backend.controller;
 
+import com.jobportal.backend.config.InstrumentedCaffeineCache;
 import com.jobportal.backend.dto.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -45,6 +46,16 @@ public class CacheController {
                 cacheStats.put("missCount", nativeCache.stats().missCount());
                 cacheStats.put("hitRate", nativeCache.stats().hitRate());
                 cacheStats.put("evictionCount", nativeCache.stats().evictionCount());
+                cacheStats.put("loadFailureCount", nativeCache.stats().loadFailureCount());
+                cacheStats.put("averageLoadPenaltyMs", nativeCache.stats().averageLoadPenalty() / 1_000_000.0);
+                if (cache instanceof InstrumentedCaffeineCache instrumented) {
+                    Map<String, Object> prefixes = new HashMap<>();
+                    instrumented.getPrefixStats().forEach((prefix, prefixStats) -> prefixes.put(prefix, Map.of(
+                            "hitCount", prefixStats.hitCount(),
+                            "missCount", prefixStats.missCount(),
+                            "hitRate", prefixStats.hitRatio())));
+                    cacheStats.put("keyPrefixes", prefixes);
+                }
                 
                 stats.put(cacheName, cacheStats);
             }
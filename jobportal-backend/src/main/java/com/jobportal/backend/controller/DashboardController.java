@@ -0,0 +1,42 @@
+package com.jobportal.backend.controller;
+
+import com.jobportal.backend.dto.ApiResponse;
+import com.jobportal.backend.dto.CandidateDashboardResponse;
+import com.jobportal.backend.service.DashboardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    // Applications, stats, recommendations and skill gaps in one round trip
+    @GetMapping
+    @PreAuthorize("hasAnyRole('CANDIDATE', 'ADMIN')")
+    public ResponseEntity<ApiResponse<CandidateDashboardResponse>> getDashboard(Authentication authentication) {
+        log.info("GET /api/dashboard - user: {}", authentication.getName());
+        
+        CandidateDashboardResponse dashboard = dashboardService.getCandidateDashboard(authentication.getName());
+        
+        return ResponseEntity.ok(ApiResponse.<CandidateDashboardResponse>builder()
+                .success(true)
+                .message(dashboard.getPartial()
+                        ? "Dashboard retrieved without: " + dashboard.getUnavailableSections()
+                        : "Dashboard retrieved successfully")
+                .data(dashboard)
+                .timestamp(LocalDateTime.now())
+                .build());
+    }
+}
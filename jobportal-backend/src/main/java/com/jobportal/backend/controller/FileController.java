@@ -2,28 +2,47 @@ package com.jobportal.backend.controller;
 
 import com.jobportal.backend.dto.ApiResponse;
 import com.jobportal.backend.dto.FileUploadResponse;
+import com.jobportal.backend.dto.UploadSessionResponse;
+import com.jobportal.backend.model.StoredFile;
 import com.jobportal.backend.service.FileStorageService;
+import com.jobportal.backend.service.ResumableUploadService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/files")
-@CrossOrigin(originPatterns = "*", allowCredentials = "false")  // ADDED THIS LINE
+@CrossOrigin(originPatterns = "*", allowCredentials = "false",
+             exposedHeaders = {"Location", "Upload-Offset", "Upload-Length", "Tus-Resumable"})
 @RequiredArgsConstructor
 @Slf4j
 public class FileController {
 
+    private static final String TUS_VERSION = "1.0.0";
+
     private final FileStorageService fileStorageService;
+    private final ResumableUploadService resumableUploadService;
 
     @PostMapping("/upload")
     public ResponseEntity<ApiResponse<FileUploadResponse>> uploadFile(
-            @RequestParam("file") MultipartFile file) {
+            @RequestParam("file") MultipartFile file,
+            Authentication authentication) {
         
         log.info("File upload request received: {}", file.getOriginalFilename());
         
@@ -41,7 +60,7 @@ public class FileController {
                 throw new RuntimeException("File size exceeds 10MB limit");
             }
             
-            String fileUrl = fileStorageService.storeFile(file);
+            String fileUrl = fileStorageService.storeFile(file, authentication.getName());
             
             FileUploadResponse response = FileUploadResponse.builder()
                     .fileName(file.getOriginalFilename())
@@ -71,6 +90,118 @@ public class FileController {
         }
     }
     
+    /**
+     * Serves a stored file. Names are content hashes, so the hash is a strong ETag and the
+     * response never changes: clients may cache it indefinitely, If-None-Match is answered
+     * with 304, and Range requests are served as 206 regions of the file. Files the caller
+     * may not read are answered with 404, like missing ones.
+     */
+    @GetMapping("/{fileName:.+}")
+    public ResponseEntity<Resource> downloadFile(@PathVariable String fileName, Authentication authentication) {
+        Optional<StoredFile> stored = fileStorageService.findReadableFile(fileName, authentication.getName());
+        if (stored.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        
+        StoredFile file = stored.get();
+        MediaType mediaType = file.getContentType() != null
+                ? MediaType.parseMediaType(file.getContentType())
+                : MediaType.APPLICATION_OCTET_STREAM;
+        
+        return ResponseEntity.ok()
+                .eTag(file.getSha256())
+                .cacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable())
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline().filename(fileName).build().toString())
+                .body(fileStorageService.loadContent(file));
+    }
+    
+    // Resumable uploads (tus-style): create, PATCH chunks at the current offset, then complete
+    
+    @PostMapping("/uploads")
+    public ResponseEntity<ApiResponse<UploadSessionResponse>> createUpload(
+            @RequestHeader("Upload-Length") long uploadLength,
+            @RequestParam String fileName,
+            @RequestParam String contentType,
+            Authentication authentication) {
+        
+        UploadSessionResponse upload = resumableUploadService.create(
+                uploadLength, fileName, contentType, authentication.getName());
+        
+        return ResponseEntity.created(URI.create("/api/files/uploads/" + upload.getUploadId()))
+                .header("Tus-Resumable", TUS_VERSION)
+                .header("Upload-Offset", "0")
+                .body(ApiResponse.<UploadSessionResponse>builder()
+                        .success(true)
+                        .message("Upload created")
+                        .data(upload)
+                        .timestamp(LocalDateTime.now())
+                        .build());
+    }
+    
+    @RequestMapping(value = "/uploads/{uploadId}", method = RequestMethod.HEAD)
+    public ResponseEntity<Void> getUploadOffset(@PathVariable String uploadId, Authentication authentication) {
+        UploadSessionResponse upload = resumableUploadService.getStatus(uploadId, authentication.getName());
+        
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .header("Tus-Resumable", TUS_VERSION)
+                .header("Upload-Offset", String.valueOf(upload.getUploadOffset()))
+                .header("Upload-Length", String.valueOf(upload.getUploadLength()))
+                .build();
+    }
+    
+    @GetMapping("/uploads/{uploadId}")
+    public ResponseEntity<ApiResponse<UploadSessionResponse>> getUpload(
+            @PathVariable String uploadId, Authentication authentication) {
+        
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(ApiResponse.<UploadSessionResponse>builder()
+                        .success(true)
+                        .message("Upload status retrieved")
+                        .data(resumableUploadService.getStatus(uploadId, authentication.getName()))
+                        .timestamp(LocalDateTime.now())
+                        .build());
+    }
+    
+    @PatchMapping(value = "/uploads/{uploadId}", consumes = "application/offset+octet-stream")
+    public ResponseEntity<Void> uploadChunk(
+            @PathVariable String uploadId,
+            @RequestHeader("Upload-Offset") long offset,
+            @RequestHeader(value = "Upload-Checksum", required = false) String checksum,
+            HttpServletRequest request,
+            Authentication authentication) throws IOException {
+        
+        long newOffset = resumableUploadService.appendChunk(
+                uploadId, authentication.getName(), offset, request.getInputStream(), checksum);
+        
+        return ResponseEntity.noContent()
+                .header("Tus-Resumable", TUS_VERSION)
+                .header("Upload-Offset", String.valueOf(newOffset))
+                .build();
+    }
+    
+    @PostMapping("/uploads/{uploadId}/complete")
+    public ResponseEntity<ApiResponse<FileUploadResponse>> completeUpload(
+            @PathVariable String uploadId, Authentication authentication) {
+        
+        FileUploadResponse response = resumableUploadService.complete(uploadId, authentication.getName());
+        
+        return ResponseEntity.ok(ApiResponse.<FileUploadResponse>builder()
+                .success(true)
+                .message("File uploaded successfully")
+                .data(response)
+                .timestamp(LocalDateTime.now())
+                .build());
+    }
+    
+    @DeleteMapping("/uploads/{uploadId}")
+    public ResponseEntity<Void> cancelUpload(@PathVariable String uploadId, Authentication authentication) {
+        resumableUploadService.cancel(uploadId, authentication.getName());
+        return ResponseEntity.noContent().header("Tus-Resumable", TUS_VERSION).build();
+    }
+    
     private boolean isValidFileType(String contentType) {
         return contentType != null && (
             contentType.equals("application/pdf") ||
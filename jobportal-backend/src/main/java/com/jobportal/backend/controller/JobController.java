@@ -2,10 +2,22 @@ package com.jobportal.backend.controller;
 
 import com.jobportal.backend.dto.ApiResponse;
 import com.jobportal.backend.dto.ApplicationResponse;
+import com.jobportal.backend.dto.AutocompleteSuggestion;
 import com.jobportal.backend.dto.CreateApplicationRequest;
 import com.jobportal.backend.dto.CreateJobRequest;
+import com.jobportal.backend.dto.FacetedSearchResponse;
 import com.jobportal.backend.dto.JobResponse;
+import com.jobportal.backend.dto.JobSearchResult;
+import com.jobportal.backend.dto.NearbyJobResponse;
+import com.jobportal.backend.exception.BadRequestException;
+import com.jobportal.backend.model.JobType;
 import com.jobportal.backend.service.ApplicationService;
+import com.jobportal.backend.service.AutocompleteIndex;
+import com.jobportal.backend.service.AutocompleteService;
+import com.jobportal.backend.service.FacetedSearchService;
+import com.jobportal.backend.service.GeoSearchService;
+import com.jobportal.backend.service.JobFacetIndex;
+import com.jobportal.backend.service.JobFilterService;
 import com.jobportal.backend.service.JobService;
 import com.jobportal.backend.service.UserService;
 import jakarta.validation.Valid;
@@ -15,14 +27,21 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/jobs")
@@ -34,6 +53,10 @@ public class JobController {
     private final JobService jobService;
     private final ApplicationService applicationService;
     private final UserService userService;
+    private final FacetedSearchService facetedSearchService;
+    private final AutocompleteService autocompleteService;
+    private final JobFilterService jobFilterService;
+    private final GeoSearchService geoSearchService;
     
     // Only RECRUITERs can create jobs
     @PreAuthorize("hasRole('RECRUITER')")
@@ -176,6 +199,130 @@ public class JobController {
         return ResponseEntity.ok(response);
     }
     
+    // Public - ranked, paginated search; served by LIKE or full-text depending on app.search.engine
+    @GetMapping("/search/ranked")
+    public ResponseEntity<ApiResponse<Page<JobSearchResult>>> searchJobsRanked(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        
+        log.info("Ranked job search: {} page={}, size={}", q, page, size);
+        
+        Page<JobSearchResult> results = jobService.searchJobsRanked(q, PageRequest.of(page, size));
+        
+        ApiResponse<Page<JobSearchResult>> response = ApiResponse.<Page<JobSearchResult>>builder()
+                .success(true)
+                .message("Search results fetched successfully")
+                .data(results)
+                .timestamp(LocalDateTime.now())
+                .build();
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    // Public - salary overlap, deadline and job type filters, optionally within keyword results
+    @GetMapping("/filter")
+    public ResponseEntity<ApiResponse<Page<JobResponse>>> filterJobs(
+            @RequestParam(required = false) BigDecimal minSalary,
+            @RequestParam(required = false) BigDecimal maxSalary,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate deadlineAfter,
+            @RequestParam(required = false) Set<JobType> jobType,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        
+        Page<JobResponse> jobs = jobFilterService.filterJobs(
+                minSalary, maxSalary, deadlineAfter, jobType, keyword, PageRequest.of(page, size));
+        
+        ApiResponse<Page<JobResponse>> response = ApiResponse.<Page<JobResponse>>builder()
+                .success(true)
+                .message("Jobs fetched successfully")
+                .data(jobs)
+                .timestamp(LocalDateTime.now())
+                .build();
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    // Public - jobs within radiusKm of a city name or of lat/lon, nearest first
+    @GetMapping("/nearby")
+    public ResponseEntity<ApiResponse<List<NearbyJobResponse>>> getJobsNearby(
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lon,
+            @RequestParam(defaultValue = "25") double radiusKm,
+            @RequestParam(defaultValue = "false") boolean includeRemote,
+            @RequestParam(defaultValue = "20") int limit) {
+        
+        List<NearbyJobResponse> jobs;
+        if (lat != null && lon != null) {
+            jobs = geoSearchService.findJobsNear(lat, lon, radiusKm, includeRemote, limit);
+        } else if (location != null) {
+            jobs = geoSearchService.findJobsNear(location, radiusKm, includeRemote, limit);
+        } else {
+            throw new BadRequestException("Either location or lat/lon is required");
+        }
+        
+        ApiResponse<List<NearbyJobResponse>> response = ApiResponse.<List<NearbyJobResponse>>builder()
+                .success(true)
+                .message("Jobs fetched successfully")
+                .data(jobs)
+                .timestamp(LocalDateTime.now())
+                .build();
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    // Public - typeahead for the search box; served from memory, never hits the job-search cache
+    @GetMapping("/autocomplete")
+    public ResponseEntity<ApiResponse<List<AutocompleteSuggestion>>> autocomplete(
+            @RequestParam String prefix,
+            @RequestParam(required = false) AutocompleteIndex.Category type,
+            @RequestParam(defaultValue = "10") int limit) {
+        
+        List<AutocompleteSuggestion> suggestions = autocompleteService.suggest(prefix, type, limit);
+        
+        ApiResponse<List<AutocompleteSuggestion>> response = ApiResponse.<List<AutocompleteSuggestion>>builder()
+                .success(true)
+                .message("Suggestions fetched successfully")
+                .data(suggestions)
+                .timestamp(LocalDateTime.now())
+                .build();
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    // Public - results plus facet counts (job type, location, company, salary band, experience)
+    @GetMapping("/faceted-search")
+    public ResponseEntity<ApiResponse<FacetedSearchResponse>> facetedSearch(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) List<String> jobType,
+            @RequestParam(required = false) List<String> location,
+            @RequestParam(required = false) List<String> company,
+            @RequestParam(required = false) List<String> salaryBand,
+            @RequestParam(required = false) List<String> experience,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        
+        Map<JobFacetIndex.Facet, Set<String>> filters = new EnumMap<>(JobFacetIndex.Facet.class);
+        putFilter(filters, JobFacetIndex.Facet.JOB_TYPE, jobType);
+        putFilter(filters, JobFacetIndex.Facet.LOCATION, location);
+        putFilter(filters, JobFacetIndex.Facet.COMPANY, company);
+        putFilter(filters, JobFacetIndex.Facet.SALARY_BAND, salaryBand);
+        putFilter(filters, JobFacetIndex.Facet.EXPERIENCE, experience);
+        
+        FacetedSearchResponse result = facetedSearchService.search(filters, keyword, PageRequest.of(page, size));
+        
+        ApiResponse<FacetedSearchResponse> response = ApiResponse.<FacetedSearchResponse>builder()
+                .success(true)
+                .message("Search results fetched successfully")
+                .data(result)
+                .timestamp(LocalDateTime.now())
+                .build();
+        
+        return ResponseEntity.ok(response);
+    }
+    
     // Public
     @GetMapping("/location/{location}")
     public ResponseEntity<ApiResponse<List<JobResponse>>> getJobsByLocation(@PathVariable String location) {
@@ -252,4 +399,11 @@ public class JobController {
         
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+    
+    private static void putFilter(Map<JobFacetIndex.Facet, Set<String>> filters,
+                                  JobFacetIndex.Facet facet, List<String> values) {
+        if (values != null && !values.isEmpty()) {
+            filters.put(facet, new HashSet<>(values));
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.jobportal.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AutocompleteSuggestion {
+    
+    private String text;
+    private String type;      // TITLE, COMPANY, LOCATION, SKILL
+    private Integer weight;   // number of active jobs using the term
+}
@@ -0,0 +1,42 @@
+package com.jobportal.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateDashboardResponse {
+
+    public enum Section {
+        APPLICATIONS,
+        APPLICATION_STATS,
+        RECOMMENDATIONS,
+        SKILL_GAPS
+    }
+
+    private UserResponse user;
+    private List<ApplicationResponse> applications;
+    private ApplicationStats applicationStats;
+    private List<JobRecommendationResponse> recommendations;
+    private SkillGapBatchResponse skillGaps;         // jobs the candidate applied to most recently
+    private Boolean partial;                         // true when any section is missing
+    private List<Section> unavailableSections;       // failed or missed its deadline
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ApplicationStats {
+        private Integer totalApplications;
+        private Integer activeApplications;          // not yet accepted, rejected or withdrawn
+        private Map<String, Long> applicationsByStatus;
+        private Double successRate;                  // accepted / decided, as a percentage
+    }
+}
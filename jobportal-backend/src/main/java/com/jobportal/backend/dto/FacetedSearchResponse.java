@@ -0,0 +1,24 @@
+package com.jobportal.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetedSearchResponse {
+    
+    private List<JobResponse> jobs;
+    private long totalResults;
+    private int page;
+    private int size;
+    
+    // facet name (jobType, location, company, salaryBand, experience) -> value -> job count
+    private Map<String, Map<String, Integer>> facets;
+}
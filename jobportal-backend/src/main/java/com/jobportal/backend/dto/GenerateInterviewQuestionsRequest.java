@@ -24,4 +24,10 @@ public class GenerateInterviewQuestionsRequest {
     @Min(value = 1, message = "Count must be at least 1")
     @Max(value = 20, message = "Count cannot exceed 20")
     private Integer count = 10;
+    
+    // Optional: restrict to one question category, e.g. "System Design"
+    private String category;
+    
+    // Optional: same seed -> same questions; defaults to one derived from the request
+    private Long seed;
 }
\ No newline at end of file
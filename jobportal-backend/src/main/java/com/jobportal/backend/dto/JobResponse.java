@@ -20,6 +20,10 @@ import lombok.NoArgsConstructor;
     private String description;
     private String company;
     private String location;
+    private String normalizedLocation;
+    private Double latitude;
+    private Double longitude;
+    private Boolean remote;
     private BigDecimal minSalary;
     private BigDecimal maxSalary;
     private String experienceRequired;
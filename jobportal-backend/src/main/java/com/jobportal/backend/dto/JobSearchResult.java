@@ -0,0 +1,21 @@
+package com.jobportal.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobSearchResult {
+    
+    private JobResponse job;
+    
+    // Full-text mode only; null when the LIKE engine served the request.
+    // Highlights are HTML-escaped job text with matches wrapped in <mark>
+    private Float rank;
+    private String titleHighlight;
+    private String snippet;
+}
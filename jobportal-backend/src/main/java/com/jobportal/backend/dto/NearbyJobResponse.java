@@ -0,0 +1,16 @@
+package com.jobportal.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearbyJobResponse {
+    
+    private JobResponse job;
+    private Double distanceKm;   // null for remote/hybrid jobs outside the radius
+}
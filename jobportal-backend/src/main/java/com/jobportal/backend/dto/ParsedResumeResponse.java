@@ -16,6 +16,7 @@ public class ParsedResumeResponse {
     private String fullName;
     private String email;
     private String phone;
+    private String location;
     private List<String> skills;
     private List<Experience> experience;
     private List<Education> education;
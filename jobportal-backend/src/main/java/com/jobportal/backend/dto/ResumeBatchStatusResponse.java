@@ -0,0 +1,55 @@
+package com.jobportal.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeBatchStatusResponse {
+
+    public enum BatchStatus {
+        RUNNING,
+        COMPLETED
+    }
+
+    public enum ItemStatus {
+        QUEUED,
+        PROCESSING,
+        COMPLETED,
+        FAILED,
+        DUPLICATE
+    }
+
+    private String batchId;
+    private BatchStatus status;
+    private LocalDateTime submittedAt;
+    private LocalDateTime completedAt;
+    private Integer totalFiles;
+    private Integer completed;
+    private Integer failed;
+    private Integer duplicates;
+    private Integer skipped;          // archive entries beyond the per-batch limit
+    private Integer percentComplete;
+    private List<Item> items;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private Integer index;
+        private String fileName;
+        private String contentHash;   // SHA-256, hex
+        private ItemStatus status;
+        private String duplicateOf;   // file name of the first copy, for DUPLICATE
+        private String error;
+        private ParsedResumeResponse result;
+    }
+}
@@ -0,0 +1,16 @@
+package com.jobportal.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SemanticMatchResponse {
+    
+    private JobResponse job;
+    private Double similarity;   // cosine similarity, 0-1
+}
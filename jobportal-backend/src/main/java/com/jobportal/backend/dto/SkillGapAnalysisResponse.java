@@ -4,6 +4,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
 import java.util.List;
 
@@ -42,10 +44,10 @@ public class SkillGapAnalysisResponse {
         private String estimatedLearningTime;
     }
     
-    @Data
+    // Immutable: catalog entries are shared by every response
+    @Value
     @Builder
-    @NoArgsConstructor
-    @AllArgsConstructor
+    @Jacksonized
     public static class LearningResource {
         private String title;
         private String url;
@@ -0,0 +1,37 @@
+package com.jobportal.backend.dto;
+
+import com.jobportal.backend.dto.SkillGapAnalysisResponse.LearningResource;
+import com.jobportal.backend.dto.SkillGapAnalysisResponse.SkillPriority;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SkillGapBatchResponse {
+    
+    private Long userId;
+    private Integer jobsAnalyzed;
+    private List<Long> jobsNotFound;
+    private Integer averageMatchPercentage;
+    private List<SkillGapAnalysisResponse> analyses;        // best match first
+    private List<MissingSkillFrequency> missingSkillFrequencies;   // most frequent first
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MissingSkillFrequency {
+        private String skill;
+        private Integer jobCount;              // jobs requiring it that the user lacks
+        private SkillPriority highestPriority;
+        private List<Long> jobIds;
+        private List<LearningResource> learningResources;
+        private String estimatedLearningTime;
+    }
+}
@@ -0,0 +1,18 @@
+package com.jobportal.backend.dto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadSessionResponse {
+private String uploadId;
+private String fileName;
+private String fileType;
+private Long uploadLength;
+private Long uploadOffset;     // bytes received so far; the next chunk starts here
+private LocalDateTime expiresAt;
+}
@@ -0,0 +1,29 @@
+package com.jobportal.backend.event;
+
+import com.jobportal.backend.model.Job;
+
+/**
+ * Published by JobServiceImpl whenever a job is created, updated or deleted.
+ * In-memory job indexes listen for it (after commit) to stay current without
+ * rescanning the jobs table. Listeners must only read the job's own columns;
+ * lazy associations are not available once the transaction has ended.
+ */
+public record JobChangedEvent(Type type, Job job) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public Long jobId() {
+        return job.getId();
+    }
+
+    /**
+     * True when the job should be searchable after this change
+     */
+    public boolean isLive() {
+        return type != Type.DELETED && Boolean.TRUE.equals(job.getIsActive());
+    }
+}
@@ -0,0 +1,8 @@
+package com.jobportal.backend.event;
+
+/**
+ * Published by UserProfileServiceImpl when a candidate's skill profile is replaced,
+ * so anything precomputed from the old profile (recommendation feeds) can be dropped.
+ */
+public record UserProfileChangedEvent(Long userId) {
+}
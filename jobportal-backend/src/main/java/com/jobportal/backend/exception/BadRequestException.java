@@ -0,0 +1,10 @@
+package com.jobportal.backend.exception;
+
+/**
+ * A request parameter outside the range the endpoint accepts; answered with 400
+ */
+public class BadRequestException extends RuntimeException {
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.jobportal.backend.exception;
+
+/**
+ * A feature that is still warming up (e.g. an index being built at startup) and cannot
+ * answer yet; the client should retry shortly
+ */
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
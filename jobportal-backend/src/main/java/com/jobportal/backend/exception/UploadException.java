@@ -0,0 +1,20 @@
+package com.jobportal.backend.exception;
+
+import org.springframework.http.HttpStatusCode;
+
+/**
+ * Resumable upload request that cannot be applied; carries the status the client
+ * needs to decide whether to retry, resync its offset or start over
+ */
+public class UploadException extends RuntimeException {
+    private final HttpStatusCode status;
+
+    public UploadException(HttpStatusCode status, String message) {
+        super(message);
+        this.status = status;
+    }
+
+    public HttpStatusCode getStatus() {
+        return status;
+    }
+}
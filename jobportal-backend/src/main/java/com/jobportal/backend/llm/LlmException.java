@@ -0,0 +1,16 @@
+package com.jobportal.backend.llm;
+
+/**
+ * Any failure to get a completion: provider error, saturation or exhausted token budget.
+ * Callers are expected to degrade (e.g. fall back to a non-LLM path) rather than fail.
+ */
+public class LlmException extends RuntimeException {
+
+    public LlmException(String message) {
+        super(message);
+    }
+
+    public LlmException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
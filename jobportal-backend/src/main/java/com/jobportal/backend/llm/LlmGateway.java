@@ -0,0 +1,11 @@
+package com.jobportal.backend.llm;
+
+public interface LlmGateway {
+    LlmResponse complete(LlmRequest request);
+    String providerName();
+    
+    /**
+     * False while the circuit breaker is open: callers should take their fallback path
+     */
+    boolean isAvailable();
+}
@@ -0,0 +1,215 @@
+package com.jobportal.backend.llm;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+/**
+ * Single entry point for LLM completions. In order, a request:
+ * <ol>
+ *   <li>joins an identical request already in flight, if any (coalescing);</li>
+ *   <li>reserves its worst-case tokens from the per-minute budget;</li>
+ *   <li>waits briefly for one of a fixed number of concurrent call slots (bulkhead);</li>
+ *   <li>is sent to the configured {@link LlmProvider} through the Resilience4j "llm"
+ *       instances: retry with randomized exponential backoff, around a circuit breaker,
+ *       around a time limiter.</li>
+ * </ol>
+ * While the breaker is open calls fail immediately without touching the provider.
+ * Any refusal or provider failure surfaces as {@link LlmException}.
+ */
+@Service
+@Slf4j
+public class LlmGatewayImpl implements LlmGateway {
+    
+    public static final String RESILIENCE_INSTANCE = "llm";
+    
+    private final LlmProvider provider;
+    private final String defaultModel;
+    private final int defaultMaxTokens;
+    private final Semaphore bulkhead;
+    private final Duration maxWait;
+    private final TokenBudget tokenBudget;
+    private final MeterRegistry meterRegistry;
+    private final Timer latency;
+    private final CircuitBreaker circuitBreaker;
+    private final Retry retry;
+    private final TimeLimiter timeLimiter;
+    // Runs provider calls so the time limiter can interrupt them; concurrency is capped by the bulkhead
+    private final AsyncTaskExecutor callExecutor;
+    
+    private final Map<LlmRequest, CompletableFuture<LlmResponse>> inFlight = new ConcurrentHashMap<>();
+    
+    public LlmGatewayImpl(List<LlmProvider> providers,
+                          MeterRegistry meterRegistry,
+                          CircuitBreakerRegistry circuitBreakerRegistry,
+                          RetryRegistry retryRegistry,
+                          TimeLimiterRegistry timeLimiterRegistry,
+                          @Qualifier("llmCallExecutor") AsyncTaskExecutor callExecutor,
+                          @Value("${app.llm.provider:openai}") String providerName,
+                          @Value("${openai.model:gpt-4o}") String defaultModel,
+                          @Value("${openai.max.tokens:2000}") int defaultMaxTokens,
+                          @Value("${app.llm.max-concurrent:8}") int maxConcurrent,
+                          @Value("${app.llm.max-wait:2s}") Duration maxWait,
+                          @Value("${app.llm.tokens-per-minute:90000}") long tokensPerMinute) {
+        Map<String, LlmProvider> byName = providers.stream()
+                .collect(Collectors.toMap(LlmProvider::name, p -> p));
+        this.provider = byName.get(providerName);
+        if (provider == null) {
+            throw new IllegalStateException("Unknown LLM provider '" + providerName + "', available: " + byName.keySet());
+        }
+        this.defaultModel = defaultModel;
+        this.defaultMaxTokens = defaultMaxTokens;
+        this.bulkhead = new Semaphore(maxConcurrent, true);
+        this.maxWait = maxWait;
+        this.tokenBudget = new TokenBudget(tokensPerMinute);
+        this.meterRegistry = meterRegistry;
+        this.latency = Timer.builder("llm.request.duration")
+                .description("LLM provider call latency")
+                .tag("provider", provider.name())
+                .register(meterRegistry);
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(RESILIENCE_INSTANCE);
+        this.retry = retryRegistry.retry(RESILIENCE_INSTANCE);
+        this.timeLimiter = timeLimiterRegistry.timeLimiter(RESILIENCE_INSTANCE);
+        this.callExecutor = callExecutor;
+        
+        circuitBreaker.getEventPublisher().onStateTransition(event ->
+                log.warn("LLM circuit breaker {} -> {}",
+                         event.getStateTransition().getFromState(), event.getStateTransition().getToState()));
+        
+        meterRegistry.gauge("llm.bulkhead.available", bulkhead, Semaphore::availablePermits);
+        meterRegistry.gauge("llm.coalescing.inflight", inFlight, Map::size);
+        log.info("LLM gateway using provider '{}' (model {}, {} concurrent calls, {} tokens/min)",
+                 provider.name(), defaultModel, maxConcurrent, tokensPerMinute);
+    }
+    
+    @Override
+    public String providerName() {
+        return provider.name();
+    }
+    
+    @Override
+    public boolean isAvailable() {
+        CircuitBreaker.State state = circuitBreaker.getState();
+        return state != CircuitBreaker.State.OPEN && state != CircuitBreaker.State.FORCED_OPEN;
+    }
+    
+    @Override
+    public LlmResponse complete(LlmRequest request) {
+        LlmRequest effective = request.withDefaults(defaultModel, defaultMaxTokens);
+        
+        CompletableFuture<LlmResponse> mine = new CompletableFuture<>();
+        CompletableFuture<LlmResponse> existing = inFlight.putIfAbsent(effective, mine);
+        if (existing != null) {
+            count("coalesced");
+            return await(existing);
+        }
+        
+        try {
+            mine.complete(call(effective));
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+        } finally {
+            inFlight.remove(effective, mine);
+        }
+        return await(mine);
+    }
+    
+    private LlmResponse call(LlmRequest request) {
+        if (!isAvailable()) {
+            count("short_circuited");
+            throw new LlmException("LLM circuit breaker is open");
+        }
+        
+        long reserved = request.estimatedPromptTokens() + (long) request.maxTokens();
+        if (!tokenBudget.tryReserve(reserved, System.currentTimeMillis())) {
+            count("budget_exhausted");
+            throw new LlmException("LLM token budget exhausted for this minute");
+        }
+        
+        boolean acquired = false;
+        try {
+            acquired = bulkhead.tryAcquire(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+            if (!acquired) {
+                tokenBudget.release(reserved);
+                count("bulkhead_full");
+                throw new LlmException("Too many concurrent LLM calls");
+            }
+            
+            Callable<LlmResponse> guarded = Retry.decorateCallable(retry,
+                    CircuitBreaker.decorateCallable(circuitBreaker,
+                            TimeLimiter.decorateFutureSupplier(timeLimiter,
+                                    () -> callExecutor.submit(() -> provider.complete(request)))));
+            LlmResponse response = latency.recordCallable(guarded);
+            tokenBudget.release(Math.max(0, reserved - response.totalTokens()));
+            meterRegistry.counter("llm.tokens", "provider", provider.name(), "type", "prompt")
+                    .increment(response.promptTokens());
+            meterRegistry.counter("llm.tokens", "provider", provider.name(), "type", "completion")
+                    .increment(response.completionTokens());
+            count("success");
+            return response;
+        } catch (LlmException e) {
+            if (acquired) {
+                tokenBudget.release(reserved);
+                count("error");
+            }
+            throw e;
+        } catch (CallNotPermittedException e) {
+            tokenBudget.release(reserved);
+            count("short_circuited");
+            throw new LlmException("LLM circuit breaker is open", e);
+        } catch (TimeoutException e) {
+            tokenBudget.release(reserved);
+            count("timeout");
+            throw new LlmException("LLM call timed out after " + timeLimiter.getTimeLimiterConfig().getTimeoutDuration(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            tokenBudget.release(reserved);
+            throw new LlmException("Interrupted while waiting for an LLM call slot", e);
+        } catch (Exception e) {
+            tokenBudget.release(reserved);
+            count("error");
+            throw new LlmException("LLM call failed: " + e.getMessage(), e);
+        } finally {
+            if (acquired) {
+                bulkhead.release();
+            }
+        }
+    }
+    
+    private static LlmResponse await(CompletableFuture<LlmResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+    
+    private void count(String outcome) {
+        Counter.builder("llm.requests")
+                .tag("provider", provider.name())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,13 @@
+package com.jobportal.backend.llm;
+
+/**
+ * Service provider interface for chat completion backends. Implementations are Spring
+ * beans; the gateway picks one by {@link #name()} from {@code app.llm.provider}.
+ * Requests reaching a provider already carry a model and max token count.
+ */
+public interface LlmProvider {
+
+    String name();
+
+    LlmResponse complete(LlmRequest request);
+}
@@ -0,0 +1,28 @@
+package com.jobportal.backend.llm;
+
+/**
+ * A single chat completion request. Identical requests (same prompts and parameters)
+ * are coalesced by the gateway while one of them is in flight, so this must stay a
+ * value type. A null model or maxTokens means "use the configured default".
+ */
+public record LlmRequest(String systemPrompt, String userPrompt, String model, Integer maxTokens, double temperature) {
+
+    public static LlmRequest of(String systemPrompt, String userPrompt, double temperature) {
+        return new LlmRequest(systemPrompt, userPrompt, null, null, temperature);
+    }
+
+    LlmRequest withDefaults(String defaultModel, int defaultMaxTokens) {
+        return new LlmRequest(systemPrompt, userPrompt,
+                model != null ? model : defaultModel,
+                maxTokens != null ? maxTokens : defaultMaxTokens,
+                temperature);
+    }
+
+    /**
+     * Rough prompt size in tokens (~4 characters per token) for budgeting before the call
+     */
+    int estimatedPromptTokens() {
+        int chars = (systemPrompt != null ? systemPrompt.length() : 0) + (userPrompt != null ? userPrompt.length() : 0);
+        return (chars + 3) / 4;
+    }
+}
@@ -0,0 +1,8 @@
+package com.jobportal.backend.llm;
+
+public record LlmResponse(String content, String provider, String model, int promptTokens, int completionTokens) {
+
+    public int totalTokens() {
+        return promptTokens + completionTokens;
+    }
+}
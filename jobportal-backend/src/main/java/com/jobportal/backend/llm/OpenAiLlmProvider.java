@@ -0,0 +1,101 @@
+package com.jobportal.backend.llm;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * OpenAI chat completions over one shared HTTP/2 client, so connections (and TLS
+ * sessions) are reused and concurrent calls are multiplexed instead of each opening
+ * its own socket.
+ */
+@Component
+@Slf4j
+public class OpenAiLlmProvider implements LlmProvider {
+    
+    private final ObjectMapper objectMapper;
+    private final String apiKey;
+    private final URI endpoint;
+    private final Duration requestTimeout;
+    private final HttpClient httpClient;
+    
+    public OpenAiLlmProvider(ObjectMapper objectMapper,
+                             @Value("${openai.api.key:}") String apiKey,
+                             @Value("${openai.base-url:https://api.openai.com/v1}") String baseUrl,
+                             @Value("${app.llm.connect-timeout:5s}") Duration connectTimeout,
+                             @Value("${app.llm.request-timeout:60s}") Duration requestTimeout) {
+        this.objectMapper = objectMapper;
+        this.apiKey = apiKey != null ? apiKey.trim() : "";
+        this.endpoint = URI.create(baseUrl + "/chat/completions");
+        this.requestTimeout = requestTimeout;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .build();
+    }
+    
+    @Override
+    public String name() {
+        return "openai";
+    }
+    
+    @Override
+    public LlmResponse complete(LlmRequest request) {
+        if (apiKey.isEmpty()) {
+            throw new LlmException("OpenAI API key is not configured");
+        }
+        try {
+            HttpRequest httpRequest = HttpRequest.newBuilder()
+                    .uri(endpoint)
+                    .header("Content-Type", "application/json")
+                    .header("Authorization", "Bearer " + apiKey)
+                    .timeout(requestTimeout)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(toBody(request))))
+                    .build();
+            
+            HttpResponse<byte[]> response = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 200) {
+                log.error("OpenAI API error {}: {}", response.statusCode(), new String(response.body()));
+                throw new LlmException("OpenAI API error: " + response.statusCode());
+            }
+            
+            JsonNode json = objectMapper.readTree(response.body());
+            JsonNode usage = json.path("usage");
+            return new LlmResponse(
+                    json.path("choices").path(0).path("message").path("content").asText(),
+                    name(),
+                    json.path("model").asText(request.model()),
+                    usage.path("prompt_tokens").asInt(request.estimatedPromptTokens()),
+                    usage.path("completion_tokens").asInt(0));
+        } catch (IOException e) {
+            throw new LlmException("OpenAI request failed: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LlmException("OpenAI request interrupted", e);
+        }
+    }
+    
+    private ObjectNode toBody(LlmRequest request) {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("model", request.model());
+        ArrayNode messages = body.putArray("messages");
+        if (request.systemPrompt() != null) {
+            messages.addObject().put("role", "system").put("content", request.systemPrompt());
+        }
+        messages.addObject().put("role", "user").put("content", request.userPrompt());
+        body.put("temperature", request.temperature());
+        body.put("max_tokens", request.maxTokens());
+        return body;
+    }
+}
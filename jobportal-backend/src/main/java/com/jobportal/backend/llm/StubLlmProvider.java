@@ -0,0 +1,70 @@
+package com.jobportal.backend.llm;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.jobportal.backend.util.SkillDictionary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Offline provider for development and load tests. It never leaves the JVM and answers
+ * deterministically: the same prompt always gives the same JSON document, holding the
+ * dictionary skills, first e-mail address and years of experience found in the prompt.
+ * An optional fixed latency stands in for the network round trip.
+ */
+@Component
+public class StubLlmProvider implements LlmProvider {
+    
+    private static final Pattern EMAIL = Pattern.compile("[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}");
+    private static final Pattern YEARS = Pattern.compile("(?i)(\\d+)\\s*\\+?\\s*(?:years?|yrs?)");
+    
+    private final ObjectMapper objectMapper;
+    private final Duration latency;
+    
+    public StubLlmProvider(ObjectMapper objectMapper,
+                           @Value("${app.llm.stub.latency:0ms}") Duration latency) {
+        this.objectMapper = objectMapper;
+        this.latency = latency;
+    }
+    
+    @Override
+    public String name() {
+        return "stub";
+    }
+    
+    @Override
+    public LlmResponse complete(LlmRequest request) {
+        simulateLatency();
+        
+        String prompt = request.userPrompt() != null ? request.userPrompt() : "";
+        ObjectNode document = objectMapper.createObjectNode();
+        
+        Matcher email = EMAIL.matcher(prompt);
+        document.put("email", email.find() ? email.group() : null);
+        var skills = document.putArray("skills");
+        SkillDictionary.MATCHER.findIn(prompt).forEach(skills::add);
+        Matcher years = YEARS.matcher(prompt);
+        document.put("totalExperience", years.find() ? years.group(1) + " years" : null);
+        document.put("summary", "Stub completion #" + Integer.toHexString(prompt.hashCode()));
+        
+        String content = document.toString();
+        int completionTokens = Math.min((content.length() + 3) / 4, request.maxTokens());
+        return new LlmResponse(content, name(), request.model(), request.estimatedPromptTokens(), completionTokens);
+    }
+    
+    private void simulateLatency() {
+        if (latency.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(latency.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LlmException("Stub completion interrupted", e);
+        }
+    }
+}
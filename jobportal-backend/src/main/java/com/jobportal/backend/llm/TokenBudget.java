@@ -0,0 +1,47 @@
+package com.jobportal.backend.llm;
+
+/**
+ * Tokens allowed per fixed one-minute window. A call reserves its worst case (estimated
+ * prompt + max completion tokens) up front and gives back what it did not use.
+ */
+class TokenBudget {
+
+    private static final long WINDOW_MILLIS = 60_000;
+
+    private final long tokensPerMinute;
+    private long windowStart;
+    private long used;
+
+    TokenBudget(long tokensPerMinute) {
+        this.tokensPerMinute = tokensPerMinute;
+    }
+
+    /**
+     * @return false when the reservation would exceed this minute's budget
+     */
+    synchronized boolean tryReserve(long tokens, long now) {
+        if (tokensPerMinute <= 0) {
+            return true;   // unlimited
+        }
+        if (now - windowStart >= WINDOW_MILLIS) {
+            windowStart = now;
+            used = 0;
+        }
+        if (used + tokens > tokensPerMinute) {
+            return false;
+        }
+        used += tokens;
+        return true;
+    }
+
+    synchronized void release(long tokens) {
+        used = Math.max(0, used - tokens);
+    }
+
+    synchronized long remaining(long now) {
+        if (tokensPerMinute <= 0) {
+            return Long.MAX_VALUE;
+        }
+        return now - windowStart >= WINDOW_MILLIS ? tokensPerMinute : tokensPerMinute - used;
+    }
+}
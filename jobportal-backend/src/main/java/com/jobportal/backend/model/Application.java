@@ -11,10 +11,11 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
+// applications is partitioned by applied_at, so its primary key is (id, applied_at) and one
+// application per user and job is enforced by the trigger-maintained application_keys table.
+// id alone still identifies a row: it comes from the table's identity sequence.
 @Entity
-@Table(name = "applications", uniqueConstraints = {
-    @UniqueConstraint(columnNames = {"user_id", "job_id"})
-})
+@Table(name = "applications")
 @EntityListeners(AuditingEntityListener.class)
 @Data
 @NoArgsConstructor
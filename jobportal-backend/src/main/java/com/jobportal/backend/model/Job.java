@@ -33,6 +33,16 @@ public class Job {
     @Column(nullable = false)
     private String location;
 
+    // Canonical city and coordinates resolved from location via the gazetteer
+    @Column(name = "normalized_location")
+    private String normalizedLocation;
+
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
     @Column(name = "min_salary")
     private BigDecimal minSalary;
 
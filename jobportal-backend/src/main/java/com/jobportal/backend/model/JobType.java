@@ -6,5 +6,10 @@ public enum JobType {
     CONTRACT,
     INTERNSHIP,
     REMOTE,
-    HYBRID
+    HYBRID;
+
+    // Jobs of these types can be done (at least partly) away from the office location
+    public boolean isRemoteEligible() {
+        return this == REMOTE || this == HYBRID;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.jobportal.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * What we know about a candidate from their latest parsed resume
+ */
+@Entity
+@Table(name = "user_profiles")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserProfile {
+    
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+    
+    private String location;
+    
+    @Column(name = "years_experience")
+    private Integer yearsExperience;
+    
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "user_skills", joinColumns = @JoinColumn(name = "user_id"))
+    @Column(name = "skill_id")
+    @Builder.Default
+    private Set<Integer> skillIds = new HashSet<>();
+    
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
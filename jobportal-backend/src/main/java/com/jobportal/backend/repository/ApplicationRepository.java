@@ -5,12 +5,18 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
-    boolean existsByUserIdAndJobId(Long userId, Long jobId);
+    // One primary-key probe on the unpartitioned key table instead of one per partition
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM application_keys WHERE user_id = :userId AND job_id = :jobId)",
+           nativeQuery = true)
+    boolean existsByUserIdAndJobId(@Param("userId") Long userId, @Param("jobId") Long jobId);
     
+    // Lookups by user, job or id carry no applied_at bound, so they probe the matching
+    // index on every partition; only the *Since / *GreaterThanEqual queries below prune
     List<Application> findByUserId(Long userId);
     
     List<Application> findByJobId(Long jobId);
@@ -30,4 +36,14 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
            "JOIN FETCH j.recruiter " +
            "WHERE a.id = :id")
     Optional<Application> findByIdWithDetails(@Param("id") Long id);
+    
+    // applications is range-partitioned by month on applied_at: the lower bound
+    // lets PostgreSQL prune every partition older than the window
+    List<Application> findByAppliedAtGreaterThanEqual(LocalDateTime since);
+    
+    @Query("SELECT a FROM Application a " +
+           "JOIN FETCH a.job j " +
+           "WHERE j.recruiter.id = :recruiterId AND a.appliedAt >= :since")
+    List<Application> findApplicationsForRecruiterSince(@Param("recruiterId") Long recruiterId,
+                                                       @Param("since") LocalDateTime since);
 }
\ No newline at end of file
@@ -20,6 +20,9 @@ public interface JobRepository extends JpaRepository<Job, Long> {
     // Find jobs by location
     List<Job> findByLocationContainingIgnoreCase(String location);
     
+    // Jobs whose location has not been resolved against the gazetteer yet
+    List<Job> findByLatitudeIsNullAndNormalizedLocationIsNull();
+    
     // Find jobs by company
     List<Job> findByCompanyContainingIgnoreCase(String company);
     
@@ -35,6 +38,47 @@ public interface JobRepository extends JpaRepository<Job, Long> {
            "LOWER(j.description) LIKE LOWER(CONCAT('%', :keyword, '%'))")
     List<Job> searchJobs(@Param("keyword") String keyword);
     
+    // Paginated variant of searchJobs() used by the ranked search endpoint in LIKE mode
+    @Query("SELECT j FROM Job j WHERE j.isActive = true AND (" +
+           "LOWER(j.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(j.description) LIKE LOWER(CONCAT('%', :keyword, '%')))")
+    Page<Job> searchActiveJobs(@Param("keyword") String keyword, Pageable pageable);
+    
     // Pagination: Get all active jobs with pagination
     Page<Job> findByIsActiveTrue(Pageable pageable);
+    
+    // Full-text search on the trigger-maintained jobs.search_vector column (see V4 migration).
+    // The page is ranked and cut in the inner query so ts_headline only runs for returned rows.
+    // Highlights are delimited by the control characters \u0002/\u0003 (stripped from the text
+    // first) on raw, unescaped text; the caller HTML-escapes them and swaps in <mark> tags.
+    @Query(value = "SELECT r.id AS \"id\", r.rank AS \"rank\", " +
+           "ts_headline('english', translate(coalesce(j.title, ''), chr(2) || chr(3), ''), q, " +
+           "'HighlightAll=true, StartSel=' || chr(2) || ', StopSel=' || chr(3)) AS \"titleHighlight\", " +
+           "ts_headline('english', translate(coalesce(j.description, ''), chr(2) || chr(3), ''), q, " +
+           "'MaxFragments=2, MaxWords=25, MinWords=8, StartSel=' || chr(2) || ', StopSel=' || chr(3)) AS \"snippet\" " +
+           "FROM (SELECT j.id, ts_rank(j.search_vector, q) AS rank " +
+           "      FROM jobs j, websearch_to_tsquery('english', :query) q " +
+           "      WHERE j.is_active = TRUE AND j.search_vector @@ q " +
+           "      ORDER BY rank DESC, j.created_at DESC, j.id " +
+           "      LIMIT :limit OFFSET :offset) r " +
+           "JOIN jobs j ON j.id = r.id " +
+           "CROSS JOIN websearch_to_tsquery('english', :query) q " +
+           "ORDER BY r.rank DESC, j.created_at DESC, j.id",
+           nativeQuery = true)
+    List<FullTextHit> fullTextSearch(@Param("query") String query,
+                                     @Param("limit") int limit,
+                                     @Param("offset") long offset);
+    
+    @Query(value = "SELECT count(*) FROM jobs j " +
+                   "WHERE j.is_active = TRUE AND j.search_vector @@ websearch_to_tsquery('english', :query)",
+           nativeQuery = true)
+    long countFullTextMatches(@Param("query") String query);
+    
+    // Row returned by fullTextSearch()
+    interface FullTextHit {
+        Long getId();
+        Float getRank();
+        String getTitleHighlight();
+        String getSnippet();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.jobportal.backend.repository;
+
+import com.jobportal.backend.model.Skill;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface SkillRepository extends JpaRepository<Skill, Integer> {
+    
+    Optional<Skill> findByNormalizedName(String normalizedName);
+    
+    // Another transaction inserting the same name makes this a no-op instead of an error
+    @Modifying
+    @Query(value = "INSERT INTO skills (name, normalized_name) VALUES (:name, :normalizedName) " +
+                   "ON CONFLICT (normalized_name) DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name, @Param("normalizedName") String normalizedName);
+}
@@ -0,0 +1,69 @@
+package com.jobportal.backend.repository;
+
+import com.jobportal.backend.model.StoredFile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface StoredFileRepository extends JpaRepository<StoredFile, String> {
+    
+    // A file is referenced while any application (live or archived) or profile holds its URL
+    String UNREFERENCED =
+            "NOT EXISTS (SELECT 1 FROM applications a WHERE substring(a.resume_url FROM 12 FOR 64) = f.sha256 " +
+            "            AND a.resume_url LIKE '/api/files/%') " +
+            "AND NOT EXISTS (SELECT 1 FROM applications_archive a WHERE substring(a.resume_url FROM 12 FOR 64) = f.sha256 " +
+            "            AND a.resume_url LIKE '/api/files/%') " +
+            "AND NOT EXISTS (SELECT 1 FROM users u WHERE substring(u.resume_url FROM 12 FOR 64) = f.sha256 " +
+            "            AND u.resume_url LIKE '/api/files/%')";
+    
+    // Inserts the file or restarts its grace period in a single statement
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO stored_files (sha256, content_type, size_bytes, created_at, last_uploaded_at) " +
+                   "VALUES (:sha256, :contentType, :sizeBytes, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT (sha256) DO UPDATE SET last_uploaded_at = CURRENT_TIMESTAMP",
+           nativeQuery = true)
+    void recordUpload(@Param("sha256") String sha256,
+                      @Param("contentType") String contentType,
+                      @Param("sizeBytes") long sizeBytes);
+    
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO stored_file_uploaders (sha256, user_id) VALUES (:sha256, :userId) " +
+                   "ON CONFLICT DO NOTHING",
+           nativeQuery = true)
+    void addUploader(@Param("sha256") String sha256, @Param("userId") Long userId);
+    
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM stored_file_uploaders WHERE sha256 = :sha256 AND user_id = :userId)",
+           nativeQuery = true)
+    boolean isUploadedBy(@Param("sha256") String sha256, @Param("userId") Long userId);
+    
+    // The recruiter owns a job that received an application with this resume
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM applications a JOIN jobs j ON j.id = a.job_id " +
+                   "WHERE j.recruiter_id = :recruiterId AND a.resume_url LIKE '/api/files/' || :sha256 || '%')",
+           nativeQuery = true)
+    boolean isResumeForRecruiter(@Param("sha256") String sha256, @Param("recruiterId") Long recruiterId);
+    
+    @Modifying
+    @Transactional
+    @Query("UPDATE StoredFile f SET f.lastUploadedAt = CURRENT_TIMESTAMP WHERE f.sha256 = :sha256")
+    int touch(@Param("sha256") String sha256);
+    
+    @Query(value = "SELECT f.sha256 FROM stored_files f WHERE f.last_uploaded_at < :cutoff AND " + UNREFERENCED,
+           nativeQuery = true)
+    List<String> findUnreferenced(@Param("cutoff") LocalDateTime cutoff);
+    
+    // Re-checks the references, so a file attached since findUnreferenced is kept
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM stored_files f WHERE f.sha256 = :sha256 AND f.last_uploaded_at < :cutoff AND " + UNREFERENCED,
+           nativeQuery = true)
+    int deleteIfUnreferenced(@Param("sha256") String sha256, @Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,18 @@
+package com.jobportal.backend.repository;
+
+import com.jobportal.backend.model.UserProfile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface UserProfileRepository extends JpaRepository<UserProfile, Long> {
+    
+    // Loads the skill ids in the same query instead of one query per profile
+    @Query("SELECT DISTINCT p FROM UserProfile p LEFT JOIN FETCH p.skillIds WHERE p.userId IN :userIds")
+    List<UserProfile> findWithSkillsByUserIdIn(@Param("userIds") Collection<Long> userIds);
+}
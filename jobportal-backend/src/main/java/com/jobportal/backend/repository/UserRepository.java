@@ -1,8 +1,10 @@
 package com.jobportal.backend.repository;
 
 import com.jobportal.backend.model.User;
+import com.jobportal.backend.model.UserRole;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +13,6 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     
     boolean existsByEmail(String email);
+    
+    List<User> findByRole(UserRole role);
 }
\ No newline at end of file
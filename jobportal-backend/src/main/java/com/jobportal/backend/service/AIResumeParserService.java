@@ -5,5 +5,6 @@ import org.springframework.web.multipart.MultipartFile;
 
 public interface AIResumeParserService {
     ParsedResumeResponse parseResume(MultipartFile file);
+    ParsedResumeResponse parseText(String resumeText);
     String extractTextFromFile(MultipartFile file);
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.jobportal.backend.service;
 import com.jobportal.backend.dto.ApplicationAnalyticsResponse;
 
 public interface ApplicationAnalyticsService {
-    ApplicationAnalyticsResponse getAnalytics();
-    ApplicationAnalyticsResponse getRecruiterAnalytics(Long recruiterId);
+    // months: only applications from the start of that many months ago; null for all live applications
+    ApplicationAnalyticsResponse getAnalytics(Integer months);
+    ApplicationAnalyticsResponse getRecruiterAnalytics(Long recruiterId, Integer months);
 }
\ No newline at end of file
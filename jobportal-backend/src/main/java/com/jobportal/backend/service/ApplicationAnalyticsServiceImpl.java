@@ -11,6 +11,7 @@ import com.jobportal.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.format.TextStyle;
@@ -28,10 +29,14 @@ public class ApplicationAnalyticsServiceImpl implements ApplicationAnalyticsServ
     private final UserRepository userRepository;
 
     @Override
-    public ApplicationAnalyticsResponse getAnalytics() {
-        log.info("Generating overall application analytics");
+    @Transactional(readOnly = true)
+    public ApplicationAnalyticsResponse getAnalytics(Integer months) {
+        log.info("Generating overall application analytics (months: {})", months);
         
-        List<Application> allApplications = applicationRepository.findAll();
+        // A window lets PostgreSQL prune older partitions; without one totals cover every live application
+        List<Application> allApplications = months == null
+                ? applicationRepository.findAll()
+                : applicationRepository.findByAppliedAtGreaterThanEqual(analyticsSince(months));
         List<Job> allJobs = jobRepository.findAll();
         List<User> allUsers = userRepository.findAll();
         
@@ -39,24 +44,28 @@ public class ApplicationAnalyticsServiceImpl implements ApplicationAnalyticsServ
     }
 
     @Override
-    public ApplicationAnalyticsResponse getRecruiterAnalytics(Long recruiterId) {
-        log.info("Generating analytics for recruiter: {}", recruiterId);
+    @Transactional(readOnly = true)
+    public ApplicationAnalyticsResponse getRecruiterAnalytics(Long recruiterId, Integer months) {
+        log.info("Generating analytics for recruiter: {} (months: {})", recruiterId, months);
         
         List<Job> recruiterJobs = jobRepository.findByRecruiterId(recruiterId);
         
-        List<Long> jobIds = recruiterJobs.stream()
-                .map(Job::getId)
-                .collect(Collectors.toList());
-        
-        List<Application> applications = applicationRepository.findAll().stream()
-                .filter(app -> jobIds.contains(app.getJob().getId()))
-                .collect(Collectors.toList());
+        List<Application> applications = months == null
+                ? applicationRepository.findApplicationsForRecruiter(recruiterId)
+                : applicationRepository.findApplicationsForRecruiterSince(recruiterId, analyticsSince(months));
         
         List<User> allUsers = userRepository.findAll();
         
         return buildAnalyticsResponse(applications, recruiterJobs, allUsers);
     }
 
+    private static LocalDateTime analyticsSince(int months) {
+        if (months < 1) {
+            throw new RuntimeException("months must be at least 1");
+        }
+        return LocalDateTime.now().minusMonths(months).withDayOfMonth(1).toLocalDate().atStartOfDay();
+    }
+
     private ApplicationAnalyticsResponse buildAnalyticsResponse(
             List<Application> applications, 
             List<Job> jobs, 
@@ -0,0 +1,10 @@
+package com.jobportal.backend.service;
+
+import java.util.List;
+
+public interface ApplicationArchiveService {
+    void ensureUpcomingPartitions();
+    List<ArchivedPartition> archiveClosedPartitions();
+
+    record ArchivedPartition(String partitionName, long archivedRows, boolean dropped) {}
+}
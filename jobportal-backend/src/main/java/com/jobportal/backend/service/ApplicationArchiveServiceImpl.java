@@ -0,0 +1,81 @@
+package com.jobportal.backend.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Maintains the monthly partitions of the applications table.
+ *
+ * Creates partitions ahead of time so inserts never land in the default partition,
+ * and moves WITHDRAWN/REJECTED applications older than the retention window into
+ * the compressed applications_archive table, dropping partitions left empty.
+ * The heavy lifting is done by the SQL functions from V3__partition_applications.sql.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "app.applications.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class ApplicationArchiveServiceImpl implements ApplicationArchiveService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int retentionMonths;
+    private final int monthsAhead;
+
+    public ApplicationArchiveServiceImpl(JdbcTemplate jdbcTemplate,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${app.applications.archive.retention-months:12}") int retentionMonths,
+                                         @Value("${app.applications.partitions.months-ahead:3}") int monthsAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.meterRegistry = meterRegistry;
+        this.retentionMonths = retentionMonths;
+        this.monthsAhead = monthsAhead;
+    }
+
+    @Override
+    @Scheduled(cron = "${app.applications.partitions.cron:0 0 1 * * *}")
+    public void ensureUpcomingPartitions() {
+        try {
+            jdbcTemplate.execute("SELECT ensure_applications_partitions(" + monthsAhead + ")");
+            log.info("Application partitions ensured for the next {} months", monthsAhead);
+        } catch (Exception e) {
+            log.error("Failed to create upcoming application partitions: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(cron = "${app.applications.archive.cron:0 30 2 * * SUN}")
+    public List<ArchivedPartition> archiveClosedPartitions() {
+        log.info("Archiving closed applications older than {} months", retentionMonths);
+
+        List<ArchivedPartition> archived = jdbcTemplate.query(
+                "SELECT partition_name, archived_rows, dropped FROM archive_closed_application_partitions(?)",
+                (rs, rowNum) -> new ArchivedPartition(
+                        rs.getString("partition_name"),
+                        rs.getLong("archived_rows"),
+                        rs.getBoolean("dropped")),
+                retentionMonths);
+
+        long totalRows = 0;
+        for (ArchivedPartition partition : archived) {
+            totalRows += partition.archivedRows();
+            log.info("Archived {} applications from {}{}", partition.archivedRows(), partition.partitionName(),
+                    partition.dropped() ? " (partition dropped)" : "");
+        }
+
+        meterRegistry.counter("applications.archived.rows").increment(totalRows);
+        meterRegistry.counter("applications.archived.partitions.dropped")
+                .increment(archived.stream().filter(ArchivedPartition::dropped).count());
+
+        log.info("Application archiving completed: {} rows from {} partitions", totalRows, archived.size());
+        return archived;
+    }
+}
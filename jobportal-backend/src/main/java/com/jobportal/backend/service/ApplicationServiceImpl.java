@@ -33,6 +33,7 @@ public class ApplicationServiceImpl implements ApplicationService {
     private final UserRepository userRepository;
     private final JobRepository jobRepository;
     private final EmailService emailService;
+    private final FileStorageService fileStorageService;
     
     @Override
     @Transactional
@@ -64,6 +65,9 @@ public class ApplicationServiceImpl implements ApplicationService {
             throw new RuntimeException("Application deadline has passed");
         }
         
+        // The resume must be one the candidate uploaded; it stays stored while the application points to it
+        fileStorageService.attach(request.getResumeUrl(), userId);
+        
         // 6. Create application
         Application application = Application.builder()
                 .user(user)
@@ -83,6 +87,7 @@ public class ApplicationServiceImpl implements ApplicationService {
     }
     
     @Override
+    @Transactional(readOnly = true)
     @Cacheable(value = "applications", key = "#id")
     public ApplicationResponse getApplicationById(Long id) {
         log.info("Fetching application with ID: {}", id);
@@ -94,6 +99,7 @@ public class ApplicationServiceImpl implements ApplicationService {
     }
     
     @Override
+    @Transactional(readOnly = true)
     @Cacheable(value = "applications", key = "'user-' + #userId")
     public List<ApplicationResponse> getUserApplications(Long userId) {
         log.info("Fetching applications for user ID: {}", userId);
@@ -105,6 +111,7 @@ public class ApplicationServiceImpl implements ApplicationService {
     }
     
     @Override
+    @Transactional(readOnly = true)
     public List<ApplicationResponse> getJobApplications(Long jobId) {
         log.info("Fetching applications for job ID: {}", jobId);
         
@@ -115,6 +122,7 @@ public class ApplicationServiceImpl implements ApplicationService {
     }
     
     @Override
+    @Transactional(readOnly = true)
     public List<ApplicationResponse> getRecruiterApplications(Long recruiterId) {
         log.info("Fetching applications for recruiter ID: {}", recruiterId);
         
@@ -192,6 +200,7 @@ public class ApplicationServiceImpl implements ApplicationService {
     }
     
     @Override
+    @Transactional(readOnly = true)
     public long getApplicationCountForJob(Long jobId) {
         return applicationRepository.countByJobId(jobId);
     }
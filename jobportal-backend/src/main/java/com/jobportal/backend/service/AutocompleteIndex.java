@@ -0,0 +1,162 @@
+package com.jobportal.backend.service;
+
+import java.util.*;
+
+/**
+ * Immutable prefix index answering "top N suggestions for this prefix" queries.
+ *
+ * Lookup keys (the whole term plus every later word start, lower-cased) are kept in one
+ * sorted array, so all keys sharing a prefix form a contiguous range found by two binary
+ * searches. A max segment tree over the key weights then yields the N heaviest terms in
+ * that range in O(N log n) without visiting the rest of it. Instances are rebuilt from
+ * the current term weights and swapped in atomically by {@link AutocompleteServiceImpl}.
+ */
+public final class AutocompleteIndex {
+
+    public enum Category {
+        TITLE,
+        COMPANY,
+        LOCATION,
+        SKILL
+    }
+
+    public record Term(String text, Category category, int weight) {
+    }
+
+    public static final AutocompleteIndex EMPTY = build(List.of());
+
+    private final String[] keys;
+    private final int[] termByKey;
+    private final Term[] terms;
+    // tree[i] = key position with the largest weight in node i's range
+    private final int[] tree;
+    private final int size;
+
+    private AutocompleteIndex(String[] keys, int[] termByKey, Term[] terms) {
+        this.keys = keys;
+        this.termByKey = termByKey;
+        this.terms = terms;
+        this.size = keys.length;
+        this.tree = new int[Math.max(1, 2 * size)];
+        for (int i = 0; i < size; i++) {
+            tree[size + i] = i;
+        }
+        for (int i = size - 1; i > 0; i--) {
+            tree[i] = heavier(tree[2 * i], tree[2 * i + 1]);
+        }
+    }
+
+    public static AutocompleteIndex build(Collection<Term> terms) {
+        Term[] termArray = terms.stream()
+                .filter(term -> term.text() != null && !term.text().isBlank())
+                .toArray(Term[]::new);
+
+        List<Map.Entry<String, Integer>> entries = new ArrayList<>();
+        for (int t = 0; t < termArray.length; t++) {
+            for (String key : keysOf(termArray[t].text())) {
+                entries.add(Map.entry(key, t));
+            }
+        }
+        entries.sort(Map.Entry.comparingByKey());
+
+        String[] keys = new String[entries.size()];
+        int[] termByKey = new int[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            keys[i] = entries.get(i).getKey();
+            termByKey[i] = entries.get(i).getValue();
+        }
+        return new AutocompleteIndex(keys, termByKey, termArray);
+    }
+
+    /**
+     * Heaviest terms with a word starting with the given prefix, most popular first
+     */
+    public List<Term> suggest(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || size == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        int from = lowerBound(normalized);
+        int to = lowerBound(normalized + Character.MAX_VALUE) - 1;
+        if (from > to) {
+            return List.of();
+        }
+
+        // Best-first walk over sub-ranges, each keyed by its heaviest key position
+        PriorityQueue<int[]> ranges = new PriorityQueue<>(
+                (a, b) -> Integer.compare(weightAt(b[2]), weightAt(a[2])));
+        ranges.add(new int[]{from, to, maxPosition(from, to)});
+
+        List<Term> suggestions = new ArrayList<>(limit);
+        BitSet seen = new BitSet(terms.length);
+        while (!ranges.isEmpty() && suggestions.size() < limit) {
+            int[] range = ranges.poll();
+            int position = range[2];
+            int term = termByKey[position];
+            if (!seen.get(term)) {
+                seen.set(term);
+                suggestions.add(terms[term]);
+            }
+            if (range[0] < position) {
+                ranges.add(new int[]{range[0], position - 1, maxPosition(range[0], position - 1)});
+            }
+            if (position < range[1]) {
+                ranges.add(new int[]{position + 1, range[1], maxPosition(position + 1, range[1])});
+            }
+        }
+        return suggestions;
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+
+    private static Set<String> keysOf(String text) {
+        String normalized = normalize(text);
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(normalized);
+        for (int i = 1; i < normalized.length(); i++) {
+            char previous = normalized.charAt(i - 1);
+            if (!Character.isLetterOrDigit(previous) && Character.isLetterOrDigit(normalized.charAt(i))) {
+                keys.add(normalized.substring(i));
+            }
+        }
+        return keys;
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int maxPosition(int from, int to) {
+        int best = from;
+        for (int l = from + size, r = to + size + 1; l < r; l >>= 1, r >>= 1) {
+            if ((l & 1) == 1) {
+                best = heavier(best, tree[l++]);
+            }
+            if ((r & 1) == 1) {
+                best = heavier(best, tree[--r]);
+            }
+        }
+        return best;
+    }
+
+    private int heavier(int a, int b) {
+        return weightAt(b) > weightAt(a) ? b : a;
+    }
+
+    private int weightAt(int position) {
+        return terms[termByKey[position]].weight();
+    }
+}
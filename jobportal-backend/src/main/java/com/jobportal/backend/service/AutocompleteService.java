@@ -0,0 +1,9 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.dto.AutocompleteSuggestion;
+
+import java.util.List;
+
+public interface AutocompleteService {
+    List<AutocompleteSuggestion> suggest(String prefix, AutocompleteIndex.Category category, int limit);
+}
@@ -0,0 +1,188 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.dto.AutocompleteSuggestion;
+import com.jobportal.backend.event.JobChangedEvent;
+import com.jobportal.backend.model.Job;
+import com.jobportal.backend.repository.JobRepository;
+import com.jobportal.backend.util.SkillDictionary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Typeahead over job titles, companies, locations and skills, weighted by the number of
+ * active jobs using each term. Job writes adjust the term counts immediately; the
+ * immutable {@link AutocompleteIndex} snapshots are rebuilt from them shortly after.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AutocompleteServiceImpl implements AutocompleteService {
+    
+    private final JobRepository jobRepository;
+    
+    @Value("${app.autocomplete.max-limit:20}")
+    private int maxLimit;
+    
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<AutocompleteIndex.Category, Map<String, TermCount>> counts = new EnumMap<>(AutocompleteIndex.Category.class);
+    private final Map<Long, List<TermKey>> termsByJob = new HashMap<>();
+    private boolean dirty = false;
+    
+    private volatile Snapshot snapshot = new Snapshot(AutocompleteIndex.EMPTY, Map.of());
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        List<Job> activeJobs = jobRepository.findByIsActiveTrue();
+        lock.lock();
+        try {
+            counts.clear();
+            termsByJob.clear();
+            addDictionarySkills();
+            activeJobs.forEach(this::addJobLocked);
+            dirty = true;
+        } finally {
+            lock.unlock();
+        }
+        refresh();
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        lock.lock();
+        try {
+            removeJobLocked(event.jobId());
+            if (event.isLive()) {
+                addJobLocked(event.job());
+            }
+            dirty = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    // Coalesces bursts of job writes into one rebuild
+    @Scheduled(fixedDelayString = "${app.autocomplete.refresh-interval:2000}")
+    public void refresh() {
+        List<AutocompleteIndex.Term> terms = new ArrayList<>();
+        lock.lock();
+        try {
+            if (!dirty) {
+                return;
+            }
+            counts.forEach((category, byKey) -> byKey.values().forEach(count ->
+                    terms.add(new AutocompleteIndex.Term(count.display, category, count.count))));
+            dirty = false;
+        } finally {
+            lock.unlock();
+        }
+        
+        long start = System.nanoTime();
+        Map<AutocompleteIndex.Category, AutocompleteIndex> byCategory = new EnumMap<>(AutocompleteIndex.Category.class);
+        terms.stream()
+                .collect(Collectors.groupingBy(AutocompleteIndex.Term::category))
+                .forEach((category, categoryTerms) -> byCategory.put(category, AutocompleteIndex.build(categoryTerms)));
+        snapshot = new Snapshot(AutocompleteIndex.build(terms), byCategory);
+        log.debug("Autocomplete index rebuilt with {} terms in {}µs", terms.size(), (System.nanoTime() - start) / 1000);
+    }
+    
+    @Override
+    public List<AutocompleteSuggestion> suggest(String prefix, AutocompleteIndex.Category category, int limit) {
+        Snapshot current = snapshot;
+        AutocompleteIndex index = category == null
+                ? current.all()
+                : current.byCategory().getOrDefault(category, AutocompleteIndex.EMPTY);
+        
+        return index.suggest(prefix, Math.min(limit, maxLimit))
+                .stream()
+                .map(term -> AutocompleteSuggestion.builder()
+                        .text(term.text())
+                        .type(term.category().name())
+                        .weight(term.weight())
+                        .build())
+                .collect(Collectors.toList());
+    }
+    
+    // ---------- term counting (lock held) ----------
+    
+    private void addJobLocked(Job job) {
+        List<TermKey> jobTerms = new ArrayList<>();
+        addTerm(jobTerms, AutocompleteIndex.Category.TITLE, job.getTitle());
+        addTerm(jobTerms, AutocompleteIndex.Category.COMPANY, job.getCompany());
+        addTerm(jobTerms, AutocompleteIndex.Category.LOCATION, job.getLocation());
+        if (job.getSkillsRequired() != null) {
+            Arrays.stream(job.getSkillsRequired().split("[,;\\n]"))
+                    .map(String::trim)
+                    .filter(skill -> !skill.isEmpty())
+                    .distinct()
+                    .forEach(skill -> addTerm(jobTerms, AutocompleteIndex.Category.SKILL, skill));
+        }
+        termsByJob.put(job.getId(), jobTerms);
+    }
+    
+    private void addTerm(List<TermKey> jobTerms, AutocompleteIndex.Category category, String text) {
+        String key = AutocompleteIndex.normalize(text);
+        if (key.isEmpty()) {
+            return;
+        }
+        TermKey termKey = new TermKey(category, key);
+        if (jobTerms.contains(termKey)) {
+            return;
+        }
+        counts.computeIfAbsent(category, c -> new HashMap<>())
+                .computeIfAbsent(key, k -> new TermCount(text.trim()))
+                .count++;
+        jobTerms.add(termKey);
+    }
+    
+    private void removeJobLocked(Long jobId) {
+        List<TermKey> jobTerms = termsByJob.remove(jobId);
+        if (jobTerms == null) {
+            return;
+        }
+        for (TermKey termKey : jobTerms) {
+            Map<String, TermCount> byKey = counts.get(termKey.category());
+            TermCount count = byKey.get(termKey.key());
+            if (--count.count <= 0 && !isDictionarySkill(termKey)) {
+                byKey.remove(termKey.key());
+            }
+        }
+    }
+    
+    // Dictionary skills are always suggestable, even before any job uses them
+    private void addDictionarySkills() {
+        Map<String, TermCount> skills = counts.computeIfAbsent(AutocompleteIndex.Category.SKILL, c -> new HashMap<>());
+        for (String skill : SkillDictionary.SKILLS) {
+            skills.computeIfAbsent(AutocompleteIndex.normalize(skill), k -> new TermCount(skill));
+        }
+    }
+    
+    private boolean isDictionarySkill(TermKey termKey) {
+        return termKey.category() == AutocompleteIndex.Category.SKILL
+                && SkillDictionary.SKILLS.stream().anyMatch(skill -> AutocompleteIndex.normalize(skill).equals(termKey.key()));
+    }
+    
+    private record TermKey(AutocompleteIndex.Category category, String key) {
+    }
+    
+    private static final class TermCount {
+        private final String display;
+        private int count;
+        
+        private TermCount(String display) {
+            this.display = display;
+        }
+    }
+    
+    private record Snapshot(AutocompleteIndex all, Map<AutocompleteIndex.Category, AutocompleteIndex> byCategory) {
+    }
+}
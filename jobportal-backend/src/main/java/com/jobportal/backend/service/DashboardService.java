@@ -0,0 +1,12 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.dto.CandidateDashboardResponse;
+
+public interface DashboardService {
+
+    /**
+     * Everything the candidate dashboard shows in one response. Sections that fail or miss
+     * their deadline are left empty and listed as unavailable instead of failing the request.
+     */
+    CandidateDashboardResponse getCandidateDashboard(String email);
+}
@@ -0,0 +1,225 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.dto.ApplicationResponse;
+import com.jobportal.backend.dto.CandidateDashboardResponse;
+import com.jobportal.backend.dto.CandidateDashboardResponse.ApplicationStats;
+import com.jobportal.backend.dto.CandidateDashboardResponse.Section;
+import com.jobportal.backend.dto.JobRecommendationResponse;
+import com.jobportal.backend.dto.SkillGapBatchResponse;
+import com.jobportal.backend.dto.UserResponse;
+import com.jobportal.backend.model.ApplicationStatus;
+import com.jobportal.backend.model.User;
+import com.jobportal.backend.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Candidate dashboard assembled from several services in one request.
+ *
+ * The user row and the stored skill profile are loaded once on the request thread; the
+ * branches only get the user id and the profile, never the entity. Applications and recommendations then run in parallel on the
+ * dashboard executor; the application stats and the skill gaps for the most recently
+ * applied-to jobs start as soon as the applications are in. Each branch has a deadline
+ * counted from the start of the request: a branch that fails or misses it is interrupted
+ * and reported as unavailable, and the rest of the dashboard is returned without it.
+ * A branch the saturated executor rejects is reported the same way. No branch outlives
+ * the request.
+ */
+@Service
+@Slf4j
+public class DashboardServiceImpl implements DashboardService {
+
+    private static final Set<ApplicationStatus> CLOSED_STATUSES =
+            EnumSet.of(ApplicationStatus.ACCEPTED, ApplicationStatus.REJECTED, ApplicationStatus.WITHDRAWN);
+
+    private final UserRepository userRepository;
+    private final UserProfileService userProfileService;
+    private final ApplicationService applicationService;
+    private final JobRecommendationService jobRecommendationService;
+    private final SkillGapAnalysisService skillGapAnalysisService;
+    private final AsyncTaskExecutor executor;
+    private final MeterRegistry meterRegistry;
+    private final Duration applicationsTimeout;
+    private final Duration recommendationsTimeout;
+    private final Duration skillGapsTimeout;
+    private final int recommendationLimit;
+    private final int skillGapJobs;
+
+    public DashboardServiceImpl(UserRepository userRepository,
+                                UserProfileService userProfileService,
+                                ApplicationService applicationService,
+                                JobRecommendationService jobRecommendationService,
+                                SkillGapAnalysisService skillGapAnalysisService,
+                                @Qualifier("dashboardExecutor") AsyncTaskExecutor executor,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.dashboard.timeout.applications:1500ms}") Duration applicationsTimeout,
+                                @Value("${app.dashboard.timeout.recommendations:2s}") Duration recommendationsTimeout,
+                                @Value("${app.dashboard.timeout.skill-gaps:2500ms}") Duration skillGapsTimeout,
+                                @Value("${app.dashboard.recommendations:5}") int recommendationLimit,
+                                @Value("${app.dashboard.skill-gap-jobs:5}") int skillGapJobs) {
+        this.userRepository = userRepository;
+        this.userProfileService = userProfileService;
+        this.applicationService = applicationService;
+        this.jobRecommendationService = jobRecommendationService;
+        this.skillGapAnalysisService = skillGapAnalysisService;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+        this.applicationsTimeout = applicationsTimeout;
+        this.recommendationsTimeout = recommendationsTimeout;
+        this.skillGapsTimeout = skillGapsTimeout;
+        this.recommendationLimit = recommendationLimit;
+        this.skillGapJobs = skillGapJobs;
+    }
+
+    @Override
+    public CandidateDashboardResponse getCandidateDashboard(String email) {
+        long start = System.nanoTime();
+
+        // Shared inputs, loaded once for all branches
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        Long userId = user.getId();
+        SkillProfile profile = userProfileService.getProfile(userId);
+
+        List<Future<?>> running = new ArrayList<>();
+        CompletableFuture<List<ApplicationResponse>> applications = fork(running, start, applicationsTimeout,
+                () -> applicationService.getUserApplications(userId));
+        CompletableFuture<List<JobRecommendationResponse>> recommendations = fork(running, start, recommendationsTimeout,
+                () -> jobRecommendationService.getRecommendations(userId, profile, recommendationLimit));
+        CompletableFuture<ApplicationStats> applicationStats = applications.thenApply(DashboardServiceImpl::statsOf);
+        CompletableFuture<SkillGapBatchResponse> skillGaps = applications.thenCompose(apps -> {
+            List<Long> jobIds = recentJobIds(apps, skillGapJobs);
+            if (jobIds.isEmpty()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return fork(running, start, skillGapsTimeout,
+                    () -> skillGapAnalysisService.analyzeSkillGaps(userId, profile, jobIds));
+        });
+
+        // Every branch completes by its deadline, so this wait is bounded
+        CompletableFuture.allOf(applications, recommendations, applicationStats, skillGaps)
+                .exceptionally(e -> null)
+                .join();
+        // Interrupts branches that were abandoned at their deadline
+        synchronized (running) {
+            running.forEach(future -> future.cancel(true));
+        }
+
+        List<Section> unavailable = new ArrayList<>();
+        CandidateDashboardResponse response = CandidateDashboardResponse.builder()
+                .user(toUserResponse(user))
+                .applications(join(applications, Section.APPLICATIONS, unavailable))
+                .applicationStats(join(applicationStats, Section.APPLICATION_STATS, unavailable))
+                .recommendations(join(recommendations, Section.RECOMMENDATIONS, unavailable))
+                .skillGaps(join(skillGaps, Section.SKILL_GAPS, unavailable))
+                .partial(!unavailable.isEmpty())
+                .unavailableSections(unavailable)
+                .build();
+
+        log.info("Dashboard for user {} assembled in {} ms{}", userId,
+                 TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                 unavailable.isEmpty() ? "" : ", unavailable: " + unavailable);
+        return response;
+    }
+
+    /**
+     * Runs one branch on the dashboard executor, failing it with a TimeoutException once
+     * the deadline (measured from the start of the request) has passed.
+     */
+    private <T> CompletableFuture<T> fork(List<Future<?>> running, long start, Duration deadline, Supplier<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        long remainingNanos = deadline.toNanos() - (System.nanoTime() - start);
+        if (remainingNanos <= 0) {
+            result.completeExceptionally(new TimeoutException("Deadline passed before the branch started"));
+            return result;
+        }
+        try {
+            Future<?> future = executor.submit(() -> {
+                try {
+                    result.complete(task.get());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+            synchronized (running) {
+                running.add(future);
+            }
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+        return result.orTimeout(remainingNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private <T> T join(CompletableFuture<T> branch, Section section, List<Section> unavailable) {
+        try {
+            return branch.getNow(null);
+        } catch (CompletionException | CancellationException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            String reason;
+            if (cause instanceof TimeoutException) {
+                reason = "timeout";
+                log.warn("Dashboard section {} missed its deadline", section);
+            } else if (cause instanceof RejectedExecutionException) {
+                reason = "rejected";
+                log.warn("Dashboard section {} skipped: executor saturated", section);
+            } else {
+                reason = "error";
+                log.warn("Dashboard section {} failed: {}", section, cause.getMessage());
+            }
+            meterRegistry.counter("dashboard.section.unavailable", "section", section.name(),
+                    "reason", reason).increment();
+            unavailable.add(section);
+            return null;
+        }
+    }
+
+    // Jobs behind the candidate's most recent applications that are still open
+    private static List<Long> recentJobIds(List<ApplicationResponse> applications, int limit) {
+        return applications.stream()
+                .filter(app -> app.getJob() != null && !CLOSED_STATUSES.contains(app.getStatus()))
+                .sorted(Comparator.comparing(ApplicationResponse::getAppliedAt,
+                        Comparator.nullsLast(Comparator.reverseOrder())))
+                .map(app -> app.getJob().getId())
+                .distinct()
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    private static ApplicationStats statsOf(List<ApplicationResponse> applications) {
+        Map<String, Long> byStatus = applications.stream()
+                .collect(Collectors.groupingBy(app -> app.getStatus().name(), TreeMap::new, Collectors.counting()));
+        long accepted = byStatus.getOrDefault(ApplicationStatus.ACCEPTED.name(), 0L);
+        long decided = accepted + byStatus.getOrDefault(ApplicationStatus.REJECTED.name(), 0L);
+        int active = (int) applications.stream()
+                .filter(app -> !CLOSED_STATUSES.contains(app.getStatus()))
+                .count();
+
+        return ApplicationStats.builder()
+                .totalApplications(applications.size())
+                .activeApplications(active)
+                .applicationsByStatus(byStatus)
+                .successRate(decided == 0 ? 0.0 : accepted * 100.0 / decided)
+                .build();
+    }
+
+    private static UserResponse toUserResponse(User user) {
+        return UserResponse.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .fullName(user.getFullName())
+                .role(user.getRole())
+                .phone(user.getPhone())
+                .createdAt(user.getCreatedAt())
+                .build();
+    }
+}
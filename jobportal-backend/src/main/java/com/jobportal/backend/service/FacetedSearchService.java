@@ -0,0 +1,11 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.dto.FacetedSearchResponse;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Map;
+import java.util.Set;
+
+public interface FacetedSearchService {
+    FacetedSearchResponse search(Map<JobFacetIndex.Facet, Set<String>> filters, String keyword, Pageable pageable);
+}
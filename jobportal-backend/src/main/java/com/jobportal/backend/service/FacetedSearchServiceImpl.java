@@ -0,0 +1,81 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.dto.FacetedSearchResponse;
+import com.jobportal.backend.dto.JobResponse;
+import com.jobportal.backend.event.JobChangedEvent;
+import com.jobportal.backend.repository.JobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FacetedSearchServiceImpl implements FacetedSearchService {
+    
+    private final JobRepository jobRepository;
+    private final JobService jobService;
+    
+    private final JobFacetIndex facetIndex = new JobFacetIndex();
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        long start = System.currentTimeMillis();
+        facetIndex.rebuild(jobRepository.findByIsActiveTrue());
+        log.info("Job facet index built with {} active jobs in {}ms",
+                 facetIndex.size(), System.currentTimeMillis() - start);
+    }
+    
+    // Runs after the job write has committed so the index never shows uncommitted jobs
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.isLive()) {
+            facetIndex.upsert(event.job());
+        } else {
+            facetIndex.remove(event.jobId());
+        }
+    }
+    
+    @Override
+    public FacetedSearchResponse search(Map<JobFacetIndex.Facet, Set<String>> filters, String keyword, Pageable pageable) {
+        log.info("Faceted job search: filters={}, keyword={}", filters, keyword);
+        
+        // Keyword hits come from the regular (cached) search and only narrow the bitmaps
+        Set<Long> keywordHits = null;
+        if (keyword != null && !keyword.isBlank()) {
+            keywordHits = jobService.searchJobs(keyword.trim())
+                    .stream()
+                    .map(JobResponse::getId)
+                    .collect(Collectors.toSet());
+        }
+        
+        JobFacetIndex.Result result = facetIndex.query(filters, keywordHits);
+        
+        List<Long> pageIds = result.jobIds()
+                .stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .collect(Collectors.toList());
+        
+        Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+        result.counts().forEach((facet, counts) -> facets.put(facet.getParamName(), counts));
+        
+        return FacetedSearchResponse.builder()
+                .jobs(pageIds.isEmpty() ? List.of() : jobService.getJobsByIds(pageIds))
+                .totalResults(result.jobIds().size())
+                .page(pageable.getPageNumber())
+                .size(pageable.getPageSize())
+                .facets(facets)
+                .build();
+    }
+}
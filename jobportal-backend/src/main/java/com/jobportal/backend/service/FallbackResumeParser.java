@@ -0,0 +1,158 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.dto.ParsedResumeResponse;
+import com.jobportal.backend.util.SkillDictionary;
+import com.jobportal.backend.util.SkillMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Regex-based resume parser used when the LLM is unavailable (breaker open, timeout,
+ * budget exhausted), which makes it the main parser during an outage.
+ *
+ * One pass over the characters feeds the shared {@link SkillDictionary#MATCHER} automaton
+ * and, at each position where a field can start (a letter for the name, '@' for the
+ * email, a digit for phone and experience, 'b' for the degree), tries that field's
+ * precompiled pattern anchored there until the field is found. This yields the same
+ * values as running {@code find()} per field, without re-scanning or lower-casing the
+ * resume.
+ */
+@Component
+public class FallbackResumeParser {
+
+    static final int NAME = 0;
+    static final int EMAIL = 1;
+    static final int PHONE = 2;
+    static final int YEARS = 3;
+    static final int DEGREE = 4;
+
+    // Indexed by the constants above; group 1 is the value
+    static final Pattern[] FIELD_PATTERNS = {
+            Pattern.compile("(?i)(?:name[:\\s]+)?([A-Z][a-z]+ [A-Z][a-z]+(?:[ \\t]+[A-Z][a-z]+)?)"),
+            Pattern.compile("([a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,})"),
+            Pattern.compile("(?i)(?:phone[:\\s]+)?([+\\d][\\d\\s-]{8,})"),
+            Pattern.compile("(?i)(\\d+)\\s*(?:\\+)?\\s*(?:years?|yrs?)"),
+            Pattern.compile("(?i)(b\\.tech|bachelor)")
+    };
+
+    // Shown when no known skill was found; not a skill of the candidate
+    static final String PLACEHOLDER_SKILL = "General IT Skills";
+
+    private final SkillMatcher skillMatcher = SkillDictionary.MATCHER;
+
+    public ParsedResumeResponse parse(String resumeText) {
+        SkillMatcher.Scan skillScan = skillMatcher.newScan();
+        String[] fields = scanFields(resumeText, skillScan);
+        ParsedResumeResponse response = new ParsedResumeResponse();
+
+        // Name: first "Firstname [Middle] Lastname" on one line, else the first line
+        String name = fields[NAME] != null ? fields[NAME].trim() : firstLine(resumeText);
+        response.setFullName(name.isEmpty() ? "Not Found" : name);
+        response.setEmail(fields[EMAIL] != null ? fields[EMAIL].trim() : "not-found@example.com");
+        response.setPhone(fields[PHONE] != null ? fields[PHONE].trim() : "Not Found");
+
+        List<String> skills = skillScan.skills();
+        response.setSkills(skills.isEmpty() ? Collections.singletonList(PLACEHOLDER_SKILL) : skills);
+
+        List<ParsedResumeResponse.Experience> experiences = new ArrayList<>();
+        String totalExp = "0 years";
+        if (fields[YEARS] != null) {
+            totalExp = fields[YEARS] + " years";
+            ParsedResumeResponse.Experience exp = new ParsedResumeResponse.Experience();
+            exp.setCompany("Previous Company");
+            exp.setRole("Software Engineer");
+            exp.setDuration(totalExp);
+            exp.setDescription("Professional experience in software development");
+            experiences.add(exp);
+        }
+        response.setExperience(experiences);
+        response.setTotalExperience(totalExp);
+
+        List<ParsedResumeResponse.Education> education = new ArrayList<>();
+        if (fields[DEGREE] != null) {
+            ParsedResumeResponse.Education edu = new ParsedResumeResponse.Education();
+            edu.setDegree("B.Tech");
+            edu.setInstitution("University");
+            edu.setYear("2020");
+            edu.setFieldOfStudy("Computer Science");
+            education.add(edu);
+        }
+        response.setEducation(education);
+
+        response.setSummary("Experienced professional with skills in "
+                + String.join(", ", skills.subList(0, Math.min(3, skills.size())))
+                + ". Total experience: " + totalExp);
+        return response;
+    }
+
+    /**
+     * First value of each field (null where absent), fed to the skill scan along the way
+     */
+    static String[] scanFields(String text, SkillMatcher.Scan skills) {
+        String[] found = new String[FIELD_PATTERNS.length];
+        Matcher[] matchers = new Matcher[FIELD_PATTERNS.length];
+        int missing = FIELD_PATTERNS.length;
+        int length = text.length();
+
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            skills.accept(c);
+            if (missing == 0) {
+                continue;
+            }
+
+            boolean digit = c >= '0' && c <= '9';
+            if (found[NAME] == null && ((c | 0x20) >= 'a' && (c | 0x20) <= 'z')) {
+                missing -= tryAt(NAME, i, text, found, matchers);
+            }
+            if (found[EMAIL] == null && c == '@') {
+                // The match starts where the run of local-part characters before the '@' starts
+                int start = i;
+                while (start > 0 && isEmailLocalChar(text.charAt(start - 1))) {
+                    start--;
+                }
+                if (start < i) {
+                    missing -= tryAt(EMAIL, start, text, found, matchers);
+                }
+            }
+            if (found[PHONE] == null && (digit || c == '+')) {
+                missing -= tryAt(PHONE, i, text, found, matchers);
+            }
+            if (found[YEARS] == null && digit) {
+                missing -= tryAt(YEARS, i, text, found, matchers);
+            }
+            if (found[DEGREE] == null && (c | 0x20) == 'b') {
+                missing -= tryAt(DEGREE, i, text, found, matchers);
+            }
+        }
+        return found;
+    }
+
+    // 1 if the field's pattern matches starting exactly at the position
+    private static int tryAt(int field, int position, String text, String[] found, Matcher[] matchers) {
+        if (matchers[field] == null) {
+            matchers[field] = FIELD_PATTERNS[field].matcher(text);
+        }
+        Matcher matcher = matchers[field].region(position, text.length());
+        if (matcher.lookingAt()) {
+            found[field] = matcher.group(1);
+            return 1;
+        }
+        return 0;
+    }
+
+    private static boolean isEmailLocalChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '.' || c == '_' || c == '%' || c == '+' || c == '-';
+    }
+
+    private static String firstLine(String text) {
+        int end = text.indexOf('\n');
+        return (end >= 0 ? text.substring(0, end) : text).trim();
+    }
+}
@@ -1,5 +1,31 @@
 package com.jobportal.backend.service;
+import com.jobportal.backend.model.StoredFile;
+import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
+import java.nio.file.Path;
+import java.util.Optional;
 public interface FileStorageService {
-String storeFile(MultipartFile file);
-}
\ No newline at end of file
+String storeFile(MultipartFile file, String uploadedBy);
+
+/** Moves an already spooled file whose SHA-256 is known into the store; returns its URL */
+String storeFile(Path file, String sha256, String fileName, String contentType, String uploadedBy);
+
+/**
+ * Stored file behind a /api/files/{fileName} name, if its content is still present and
+ * the user may read it: its uploader, a recruiter who received it with an application,
+ * or an admin. Anything else looks the same as a missing file.
+ */
+Optional<StoredFile> findReadableFile(String fileName, String email);
+
+Resource loadContent(StoredFile file);
+
+/**
+ * Checks that a stored file URL about to be saved on one of the user's rows was uploaded
+ * by that user, and restarts its grace period so it is not swept meanwhile. URLs outside
+ * the store are accepted as they are.
+ */
+void attach(String fileUrl, Long userId);
+
+/** Deletes files that no application or profile points to any more; returns how many */
+int removeUnreferencedFiles();
+}
@@ -1,21 +1,72 @@
 package com.jobportal.backend.service;
+import com.jobportal.backend.model.StoredFile;
+import com.jobportal.backend.model.User;
+import com.jobportal.backend.model.UserRole;
+import com.jobportal.backend.repository.StoredFileRepository;
+import com.jobportal.backend.repository.UserRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
-import java.util.UUID;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Content-addressed file store: every distinct file is kept once, at
+ * {@code <upload-dir>/<first two hex digits>/<sha256>}, and handed out as
+ * {@code /api/files/<sha256><extension>}.
+ *
+ * A file is in use while an application (live or archived) or a user profile holds its
+ * URL; nothing is counted, so every way such a row disappears releases the file. Files
+ * nobody points to are swept once their grace period after the last upload has passed.
+ * Uploaders are recorded per file: they may read it and attach it to their own rows.
+ *
+ * Storing and sweeping the same hash are serialized by a striped lock, so a blob is
+ * never deleted while another upload of the same content is being recorded. The locks are
+ * ReentrantLocks rather than monitors because they are held across JDBC and file I/O,
+ * which would pin a virtual thread to its carrier.
+ */
 @Service
 @Slf4j
 public class FileStorageServiceImpl implements FileStorageService {
+private static final String URL_PREFIX = "/api/files/";
+private static final Pattern STORED_NAME = Pattern.compile("([0-9a-f]{64})(\\.[A-Za-z0-9]{1,10})?");
+
 private final Path fileStorageLocation;
+private final StoredFileRepository storedFileRepository;
+private final UserRepository userRepository;
+private final Duration unreferencedGrace;
+private final Lock[] locks = new Lock[64];
 
-public FileStorageServiceImpl(@Value("${file.upload-dir:uploads}") String uploadDir) {
+public FileStorageServiceImpl(@Value("${file.upload-dir:uploads}") String uploadDir,
+                              StoredFileRepository storedFileRepository,
+                              UserRepository userRepository,
+                              @Value("${app.files.unreferenced-grace:24h}") Duration unreferencedGrace) {
     this.fileStorageLocation = Paths.get(uploadDir).toAbsolutePath().normalize();
+    this.storedFileRepository = storedFileRepository;
+    this.userRepository = userRepository;
+    this.unreferencedGrace = unreferencedGrace;
+    for (int i = 0; i < locks.length; i++) {
+        locks[i] = new ReentrantLock();
+    }
     
     try {
         Files.createDirectories(this.fileStorageLocation);
@@ -26,26 +77,173 @@ public FileStorageServiceImpl(@Value("${file.upload-dir:uploads}") String upload
 }
 
 @Override
-public String storeFile(MultipartFile file) {
+public String storeFile(MultipartFile file, String uploadedBy) {
+    Path temp = null;
     try {
-        String originalFileName = file.getOriginalFilename();
-        String fileExtension = "";
-        if (originalFileName != null && originalFileName.contains(".")) {
-            fileExtension = originalFileName.substring(originalFileName.lastIndexOf("."));
+        // Hash while copying, into the store directory so the final move is a rename
+        temp = Files.createTempFile(this.fileStorageLocation, "upload-", ".tmp");
+        MessageDigest digest = sha256();
+        try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+            Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
         }
+        return storeFile(temp, HexFormat.of().formatHex(digest.digest()), file.getOriginalFilename(),
+                         file.getContentType(), uploadedBy);
         
-        String fileName = UUID.randomUUID().toString() + fileExtension;
-        
-        Path targetLocation = this.fileStorageLocation.resolve(fileName);
-        Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
-        
-        log.info("File stored successfully: {}", fileName);
+    } catch (IOException e) {
+        log.error("Failed to store file: {}", e.getMessage(), e);
+        throw new RuntimeException("Failed to store file", e);
+    } finally {
+        deleteQuietly(temp);
+    }
+}
+
+@Override
+public String storeFile(Path file, String sha256, String fileName, String contentType, String uploadedBy) {
+    try {
+        long size = Files.size(file);
+        Long uploaderId = userRepository.findByEmail(uploadedBy).map(User::getId).orElse(null);
+        Lock lock = lockFor(sha256);
+        lock.lock();
+        try {
+            Path target = blobPath(sha256);
+            boolean created = false;
+            if (Files.notExists(target)) {
+                Files.createDirectories(target.getParent());
+                Files.move(file, target, StandardCopyOption.ATOMIC_MOVE);
+                created = true;
+            }
+            try {
+                storedFileRepository.recordUpload(sha256, contentType, size);
+                if (uploaderId != null) {
+                    storedFileRepository.addUploader(sha256, uploaderId);
+                }
+            } catch (RuntimeException e) {
+                if (created) {
+                    Files.deleteIfExists(target);
+                }
+                throw e;
+            }
+            log.info("File stored successfully: {} ({})", sha256, created ? "new" : "deduplicated");
+        } finally {
+            lock.unlock();
+        }
+        deleteQuietly(file);
         
-        return "/api/files/" + fileName;
+        return URL_PREFIX + sha256 + extensionOf(fileName);
         
     } catch (IOException e) {
         log.error("Failed to store file: {}", e.getMessage(), e);
         throw new RuntimeException("Failed to store file", e);
     }
 }
-}
\ No newline at end of file
+
+@Override
+public Optional<StoredFile> findReadableFile(String fileName, String email) {
+    Matcher matcher = STORED_NAME.matcher(fileName);
+    if (!matcher.matches()) {
+        return Optional.empty();
+    }
+    String hash = matcher.group(1);
+    Optional<User> user = userRepository.findByEmail(email);
+    if (user.isEmpty() || !mayRead(hash, user.get())) {
+        return Optional.empty();
+    }
+    return storedFileRepository.findById(hash)
+            .filter(file -> Files.isRegularFile(blobPath(file.getSha256())));
+}
+
+private boolean mayRead(String hash, User user) {
+    if (user.getRole() == UserRole.ADMIN || storedFileRepository.isUploadedBy(hash, user.getId())) {
+        return true;
+    }
+    return user.getRole() == UserRole.RECRUITER && storedFileRepository.isResumeForRecruiter(hash, user.getId());
+}
+
+@Override
+public Resource loadContent(StoredFile file) {
+    return new FileSystemResource(blobPath(file.getSha256()));
+}
+
+@Override
+public void attach(String fileUrl, Long userId) {
+    String hash = hashOf(fileUrl);
+    if (hash == null) {
+        return;
+    }
+    Lock lock = lockFor(hash);
+    lock.lock();
+    try {
+        if (!storedFileRepository.isUploadedBy(hash, userId) || storedFileRepository.touch(hash) == 0) {
+            throw new RuntimeException("Resume file not found: " + fileUrl);
+        }
+    } finally {
+        lock.unlock();
+    }
+}
+
+@Override
+@Scheduled(fixedDelayString = "${app.files.cleanup-interval:21600000}")
+public int removeUnreferencedFiles() {
+    LocalDateTime cutoff = LocalDateTime.now().minus(unreferencedGrace);
+    int removed = 0;
+    for (String hash : storedFileRepository.findUnreferenced(cutoff)) {
+        Lock lock = lockFor(hash);
+        lock.lock();
+        try {
+            if (storedFileRepository.deleteIfUnreferenced(hash, cutoff) > 0) {
+                deleteQuietly(blobPath(hash));
+                removed++;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    if (removed > 0) {
+        log.info("Deleted {} stored files no longer referenced", removed);
+    }
+    return removed;
+}
+
+private static String extensionOf(String fileName) {
+    if (fileName == null || !fileName.contains(".")) {
+        return "";
+    }
+    String extension = fileName.substring(fileName.lastIndexOf(".")).toLowerCase();
+    return extension.matches("\\.[a-z0-9]{1,10}") ? extension : "";
+}
+
+static String hashOf(String fileUrl) {
+    if (fileUrl == null || !fileUrl.startsWith(URL_PREFIX)) {
+        return null;
+    }
+    Matcher matcher = STORED_NAME.matcher(fileUrl.substring(URL_PREFIX.length()));
+    return matcher.matches() ? matcher.group(1) : null;
+}
+
+private Path blobPath(String hash) {
+    return this.fileStorageLocation.resolve(hash.substring(0, 2)).resolve(hash);
+}
+
+private Lock lockFor(String hash) {
+    return locks[Integer.parseInt(hash.substring(0, 2), 16) % locks.length];
+}
+
+private static void deleteQuietly(Path path) {
+    if (path == null) {
+        return;
+    }
+    try {
+        Files.deleteIfExists(path);
+    } catch (IOException e) {
+        log.warn("Could not delete {}: {}", path, e.getMessage());
+    }
+}
+
+private static MessageDigest sha256() {
+    try {
+        return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException(e);
+    }
+}
+}
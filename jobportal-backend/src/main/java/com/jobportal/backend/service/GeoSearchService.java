@@ -0,0 +1,10 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.dto.NearbyJobResponse;
+
+import java.util.List;
+
+public interface GeoSearchService {
+    List<NearbyJobResponse> findJobsNear(String location, double radiusKm, boolean includeRemote, int limit);
+    List<NearbyJobResponse> findJobsNear(double latitude, double longitude, double radiusKm, boolean includeRemote, int limit);
+}
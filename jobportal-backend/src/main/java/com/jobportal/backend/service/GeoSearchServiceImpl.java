@@ -0,0 +1,120 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.dto.JobResponse;
+import com.jobportal.backend.dto.NearbyJobResponse;
+import com.jobportal.backend.event.JobChangedEvent;
+import com.jobportal.backend.exception.BadRequestException;
+import com.jobportal.backend.exception.ResourceNotFoundException;
+import com.jobportal.backend.model.Job;
+import com.jobportal.backend.repository.JobRepository;
+import com.jobportal.backend.util.Gazetteer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GeoSearchServiceImpl implements GeoSearchService {
+    
+    private final JobRepository jobRepository;
+    private final JobService jobService;
+    private final Gazetteer gazetteer;
+    
+    @Value("${app.geo.max-radius-km:500}")
+    private double maxRadiusKm;
+    
+    private final JobGeoIndex geoIndex = new JobGeoIndex();
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        backfillNormalizedLocations();
+        
+        geoIndex.clear();
+        jobRepository.findByIsActiveTrue().forEach(this::index);
+        log.info("Job geo index built with {} located jobs", geoIndex.size());
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.isLive()) {
+            index(event.job());
+        } else {
+            geoIndex.remove(event.jobId());
+        }
+    }
+    
+    @Override
+    public List<NearbyJobResponse> findJobsNear(String location, double radiusKm, boolean includeRemote, int limit) {
+        Gazetteer.City city = gazetteer.resolve(location)
+                .orElseThrow(() -> new ResourceNotFoundException("Unknown location: " + location));
+        return findJobsNear(city.latitude(), city.longitude(), radiusKm, includeRemote, limit);
+    }
+    
+    @Override
+    public List<NearbyJobResponse> findJobsNear(double latitude, double longitude, double radiusKm,
+                                                boolean includeRemote, int limit) {
+        log.info("Finding jobs within {}km of ({}, {}), includeRemote={}", radiusKm, latitude, longitude, includeRemote);
+        
+        // Written so that NaN is rejected too
+        if (!(radiusKm > 0 && radiusKm <= maxRadiusKm)) {
+            throw new BadRequestException("radiusKm must be between 0 and " + maxRadiusKm);
+        }
+        
+        // Nearest first, then remote/hybrid jobs that are not already in the radius
+        Map<Long, Double> distances = new LinkedHashMap<>();
+        geoIndex.within(latitude, longitude, radiusKm)
+                .forEach(hit -> distances.put(hit.jobId(), hit.distanceKm()));
+        if (includeRemote) {
+            geoIndex.remoteJobIds().forEach(jobId -> distances.putIfAbsent(jobId, null));
+        }
+        
+        List<Long> jobIds = distances.keySet().stream().limit(limit).collect(Collectors.toList());
+        if (jobIds.isEmpty()) {
+            return List.of();
+        }
+        
+        Map<Long, JobResponse> jobsById = jobService.getJobsByIds(jobIds)
+                .stream()
+                .collect(Collectors.toMap(JobResponse::getId, Function.identity()));
+        
+        return jobIds.stream()
+                .filter(jobsById::containsKey)
+                .map(jobId -> NearbyJobResponse.builder()
+                        .job(jobsById.get(jobId))
+                        .distanceKm(distances.get(jobId) != null ? Math.round(distances.get(jobId) * 10) / 10.0 : null)
+                        .build())
+                .collect(Collectors.toList());
+    }
+    
+    private void index(Job job) {
+        geoIndex.upsert(job.getId(), job.getLatitude(), job.getLongitude(),
+                job.getJobType() != null && job.getJobType().isRemoteEligible());
+    }
+    
+    // Resolves locations of jobs saved before normalized coordinates existed
+    private void backfillNormalizedLocations() {
+        List<Job> unresolved = jobRepository.findByLatitudeIsNullAndNormalizedLocationIsNull();
+        if (unresolved.isEmpty()) {
+            return;
+        }
+        
+        List<Job> resolved = new ArrayList<>();
+        for (Job job : unresolved) {
+            gazetteer.normalize(job);
+            if (job.getLatitude() != null) {
+                resolved.add(job);
+            }
+        }
+        jobRepository.saveAll(resolved);
+        log.info("Backfilled normalized locations for {} of {} jobs", resolved.size(), unresolved.size());
+    }
+}
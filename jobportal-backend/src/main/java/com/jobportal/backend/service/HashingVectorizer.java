@@ -0,0 +1,91 @@
+package com.jobportal.backend.service;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Turns free text into a fixed-size, L2-normalized dense vector by feature hashing
+ * unigrams and bigrams (signed hashing, log-scaled term frequency). Needs no vocabulary
+ * or corpus statistics, so job and resume vectors stay comparable as the corpus changes.
+ */
+public class HashingVectorizer {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "has", "have", "in", "is",
+            "it", "of", "on", "or", "our", "that", "the", "this", "to", "we", "will", "with", "you", "your");
+
+    private final int dimensions;
+
+    public HashingVectorizer(int dimensions) {
+        this.dimensions = dimensions;
+    }
+
+    public int getDimensions() {
+        return dimensions;
+    }
+
+    public float[] vectorize(String text) {
+        float[] vector = new float[dimensions];
+        if (text == null || text.isBlank()) {
+            return vector;
+        }
+
+        String previous = null;
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}+#.]+")) {
+            String term = trimDots(token);
+            if (term.isEmpty() || STOP_WORDS.contains(term)) {
+                previous = null;
+                continue;
+            }
+            add(vector, term);
+            if (previous != null) {
+                add(vector, previous + ' ' + term);
+            }
+            previous = term;
+        }
+
+        // log(1 + tf) keeps long descriptions from being dominated by repeated words
+        double norm = 0;
+        for (int i = 0; i < dimensions; i++) {
+            float value = vector[i];
+            vector[i] = (float) (Math.signum(value) * Math.log1p(Math.abs(value)));
+            norm += vector[i] * vector[i];
+        }
+        if (norm > 0) {
+            float inverse = (float) (1 / Math.sqrt(norm));
+            for (int i = 0; i < dimensions; i++) {
+                vector[i] *= inverse;
+            }
+        }
+        return vector;
+    }
+
+    private void add(float[] vector, String feature) {
+        int hash = murmurMix(feature.hashCode());
+        int bucket = Math.floorMod(hash, dimensions);
+        // The sign bit comes from a different part of the hash so collisions tend to cancel out
+        vector[bucket] += (hash & 0x40000000) == 0 ? 1f : -1f;
+    }
+
+    // Keeps "node.js" and "c++" intact but drops sentence punctuation
+    private static String trimDots(String token) {
+        int start = 0;
+        int end = token.length();
+        while (start < end && token.charAt(start) == '.') {
+            start++;
+        }
+        while (end > start && token.charAt(end - 1) == '.') {
+            end--;
+        }
+        return token.substring(start, end);
+    }
+
+    private static int murmurMix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
@@ -0,0 +1,621 @@
+package com.jobportal.backend.service;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process HNSW (hierarchical navigable small world) graph for approximate top-K
+ * retrieval by cosine similarity over L2-normalized vectors.
+ *
+ * Each external id maps to its latest node, together with a caller-defined version of
+ * the content it was embedded from; re-adding an id or removing it tombstones the old
+ * node, which then still routes searches but is never returned. Tombstones are only
+ * dropped by {@link #compact()}, which rebuilds the graph from the live entries.
+ *
+ * The graph is saved to a file and served from it after a restart: {@link #load} maps
+ * the file and keeps only ids, versions and tombstones on the heap, while vectors and
+ * link lists are read from the mapping. A loaded node's links are copied to the heap
+ * only when a later insert has to change them; nodes added after loading live on the
+ * heap until the next {@link #compact()}.
+ */
+public class HnswIndex {
+
+    private static final int MAGIC = 0x484E5357;   // "HNSW"
+    private static final int VERSION = 2;
+    // Per node: id, version, deleted flag, top level, then the vector and the link lists
+    private static final int NODE_HEADER_BYTES = Long.BYTES + Long.BYTES + 1 + Integer.BYTES;
+
+    public record Match(long id, float similarity) {
+    }
+
+    private final int dimensions;
+    private final int m;
+    private final int maxConnectionsLevel0;
+    private final int efConstruction;
+    private final double levelMultiplier;
+
+    // Null entries belong to mapped nodes whose vector or links are read from the file
+    private final List<float[]> vectors = new ArrayList<>();
+    private final List<int[][]> links = new ArrayList<>();     // node -> level -> neighbour nodes
+    private long[] ids = new long[16];
+    private long[] versions = new long[16];
+    private final BitSet deleted = new BitSet();
+    private final Map<Long, Integer> nodeById = new HashMap<>();
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+
+    // Set for a loaded index: the file, and the offset of each loaded node's record in it
+    private MappedByteBuffer mapped;
+    private int[] mappedOffsets = new int[0];
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public HnswIndex(int dimensions, int m, int efConstruction) {
+        this.dimensions = dimensions;
+        this.m = m;
+        this.maxConnectionsLevel0 = 2 * m;
+        this.efConstruction = efConstruction;
+        this.levelMultiplier = 1 / Math.log(m);
+    }
+
+    public int getDimensions() {
+        return dimensions;
+    }
+
+    /**
+     * Number of live (non-tombstoned) entries
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return nodeById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Share of graph nodes that are tombstones, 0 for an empty graph
+     */
+    public double tombstoneRatio() {
+        lock.readLock().lock();
+        try {
+            return vectors.isEmpty() ? 0 : (double) deleted.cardinality() / vectors.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(long id) {
+        lock.readLock().lock();
+        try {
+            return nodeById.containsKey(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Set<Long> ids() {
+        lock.readLock().lock();
+        try {
+            return new HashSet<>(nodeById.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public float[] vectorOf(long id) {
+        lock.readLock().lock();
+        try {
+            Integer node = nodeById.get(id);
+            return node != null ? vector(node) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Version the live entry was added with, or null when the id is not indexed
+     */
+    public Long versionOf(long id) {
+        lock.readLock().lock();
+        try {
+            Integer node = nodeById.get(id);
+            return node != null ? versions[node] : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void add(long id, float[] vector) {
+        add(id, 0, vector);
+    }
+
+    public void add(long id, long version, float[] vector) {
+        if (vector.length != dimensions) {
+            throw new IllegalArgumentException("Expected " + dimensions + " dimensions, got " + vector.length);
+        }
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            int node = vectors.size();
+            int level = randomLevel();
+            int[][] nodeLinks = new int[level + 1][];
+            for (int l = 0; l <= level; l++) {
+                nodeLinks[l] = new int[0];
+            }
+            vectors.add(vector);
+            links.add(nodeLinks);
+            if (node >= ids.length) {
+                ids = Arrays.copyOf(ids, ids.length * 2);
+                versions = Arrays.copyOf(versions, ids.length);
+            }
+            ids[node] = id;
+            versions[node] = version;
+            nodeById.put(id, node);
+
+            if (entryPoint < 0) {
+                entryPoint = node;
+                maxLevel = level;
+                return;
+            }
+
+            int current = entryPoint;
+            for (int l = maxLevel; l > level; l--) {
+                current = greedyClosest(vector, current, l);
+            }
+            for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+                List<Candidate> candidates = searchLayer(vector, current, efConstruction, l);
+                int maxConnections = l == 0 ? maxConnectionsLevel0 : m;
+                int[] neighbours = selectNeighbours(candidates, m);
+                nodeLinks[l] = neighbours;
+                for (int neighbour : neighbours) {
+                    connect(neighbour, node, l, maxConnections);
+                }
+                current = candidates.get(0).node;
+            }
+            if (level > maxLevel) {
+                maxLevel = level;
+                entryPoint = node;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuilds the graph from the live entries only, dropping every tombstone; searches
+     * and updates wait until it is done
+     *
+     * @return number of tombstoned nodes removed
+     */
+    public int compact() {
+        lock.writeLock().lock();
+        try {
+            int tombstones = deleted.cardinality();
+            if (tombstones == 0) {
+                return 0;
+            }
+            HnswIndex rebuilt = new HnswIndex(dimensions, m, efConstruction);
+            for (int node = 0; node < vectors.size(); node++) {
+                if (!deleted.get(node)) {
+                    rebuilt.add(ids[node], versions[node], vector(node));
+                }
+            }
+            vectors.clear();
+            vectors.addAll(rebuilt.vectors);
+            links.clear();
+            links.addAll(rebuilt.links);
+            ids = rebuilt.ids;
+            versions = rebuilt.versions;
+            mapped = null;
+            mappedOffsets = new int[0];
+            deleted.clear();
+            nodeById.clear();
+            nodeById.putAll(rebuilt.nodeById);
+            entryPoint = rebuilt.entryPoint;
+            maxLevel = rebuilt.maxLevel;
+            return tombstones;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Approximate top-k most similar live entries
+     *
+     * @param ef size of the dynamic candidate list; higher = better recall, slower
+     */
+    public List<Match> search(float[] query, int k, int ef) {
+        lock.readLock().lock();
+        try {
+            if (entryPoint < 0 || nodeById.isEmpty()) {
+                return List.of();
+            }
+            int current = entryPoint;
+            for (int l = maxLevel; l > 0; l--) {
+                current = greedyClosest(query, current, l);
+            }
+            List<Candidate> candidates = searchLayer(query, current, Math.max(ef, k), 0);
+
+            List<Match> matches = new ArrayList<>(k);
+            for (Candidate candidate : candidates) {
+                if (!deleted.get(candidate.node)) {
+                    matches.add(new Match(ids[candidate.node], candidate.similarity));
+                    if (matches.size() == k) {
+                        break;
+                    }
+                }
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Exact top-k by scanning every live vector; the baseline the graph is measured against
+     */
+    public List<Match> bruteForce(float[] query, int k) {
+        lock.readLock().lock();
+        try {
+            PriorityQueue<Candidate> best = new PriorityQueue<>(Comparator.comparingDouble(c -> c.similarity));
+            for (int node : nodeById.values()) {
+                best.add(new Candidate(node, similarity(query, node)));
+                if (best.size() > k) {
+                    best.poll();
+                }
+            }
+            List<Match> matches = new ArrayList<>(best.size());
+            while (!best.isEmpty()) {
+                Candidate candidate = best.poll();
+                matches.add(new Match(ids[candidate.node], candidate.similarity));
+            }
+            Collections.reverse(matches);
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ---------- persistence ----------
+
+    /**
+     * Writes the graph through a memory-mapped temp file that then replaces the target.
+     * The file is mapped with int offsets, so it must stay below 2 GB.
+     */
+    public void save(Path path) throws IOException {
+        lock.readLock().lock();
+        try {
+            int count = vectors.size();
+            long bytes = 8L * Integer.BYTES;
+            for (int node = 0; node < count; node++) {
+                bytes += NODE_HEADER_BYTES + (long) dimensions * Float.BYTES;
+                for (int l = 0; l <= levelOf(node); l++) {
+                    bytes += Integer.BYTES + (long) degree(node, l) * Integer.BYTES;
+                }
+            }
+            if (bytes > Integer.MAX_VALUE) {
+                throw new IOException("HNSW index of " + bytes + " bytes exceeds the 2 GB file limit");
+            }
+
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            try (RandomAccessFile file = new RandomAccessFile(temp.toFile(), "rw");
+                 FileChannel channel = file.getChannel()) {
+                file.setLength(bytes);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+                buffer.putInt(MAGIC).putInt(VERSION).putInt(dimensions).putInt(m)
+                        .putInt(efConstruction).putInt(count).putInt(entryPoint).putInt(maxLevel);
+                for (int node = 0; node < count; node++) {
+                    int level = levelOf(node);
+                    buffer.putLong(ids[node]);
+                    buffer.putLong(versions[node]);
+                    buffer.put((byte) (deleted.get(node) ? 1 : 0));
+                    buffer.putInt(level);
+                    for (int i = 0; i < dimensions; i++) {
+                        buffer.putFloat(component(node, i));
+                    }
+                    for (int l = 0; l <= level; l++) {
+                        int degree = degree(node, l);
+                        buffer.putInt(degree);
+                        for (int i = 0; i < degree; i++) {
+                            buffer.putInt(neighbour(node, l, i));
+                        }
+                    }
+                }
+                buffer.force();
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Maps the file and serves the graph from it; only ids, versions and tombstones are
+     * read onto the heap. The mapping stays valid after the file is replaced by a save.
+     */
+    public static HnswIndex load(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("HNSW index file too large: " + path);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not an HNSW index file: " + path);
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported HNSW index file version " + version + ": " + path);
+            }
+            HnswIndex index = new HnswIndex(buffer.getInt(), buffer.getInt(), buffer.getInt());
+            int count = buffer.getInt();
+            index.entryPoint = buffer.getInt();
+            index.maxLevel = buffer.getInt();
+            index.ids = new long[Math.max(16, count)];
+            index.versions = new long[index.ids.length];
+            index.mappedOffsets = new int[count];
+
+            for (int node = 0; node < count; node++) {
+                int offset = buffer.position();
+                long id = buffer.getLong();
+                index.ids[node] = id;
+                index.versions[node] = buffer.getLong();
+                boolean isDeleted = buffer.get() == 1;
+                int level = buffer.getInt();
+                int position = offset + NODE_HEADER_BYTES + index.dimensions * Float.BYTES;
+                for (int l = 0; l <= level; l++) {
+                    position += Integer.BYTES + buffer.getInt(position) * Integer.BYTES;
+                }
+                buffer.position(position);
+
+                index.mappedOffsets[node] = offset;
+                index.vectors.add(null);
+                index.links.add(null);
+                if (isDeleted) {
+                    index.deleted.set(node);
+                } else {
+                    index.nodeById.put(id, node);
+                }
+            }
+            index.mapped = buffer;
+            return index;
+        }
+    }
+
+    // ---------- graph internals (lock held) ----------
+
+    private record Candidate(int node, float similarity) {
+    }
+
+    private void removeLocked(long id) {
+        Integer node = nodeById.remove(id);
+        if (node != null) {
+            deleted.set(node);
+        }
+    }
+
+    // Position of the node's first vector component in the mapped file
+    private int vectorOffset(int node) {
+        return mappedOffsets[node] + NODE_HEADER_BYTES;
+    }
+
+    // Position of the length of the node's link list on the given level in the mapped file
+    private int linksOffset(int node, int level) {
+        int position = vectorOffset(node) + dimensions * Float.BYTES;
+        for (int l = 0; l < level; l++) {
+            position += Integer.BYTES + mapped.getInt(position) * Integer.BYTES;
+        }
+        return position;
+    }
+
+    private float component(int node, int i) {
+        float[] vector = vectors.get(node);
+        return vector != null ? vector[i] : mapped.getFloat(vectorOffset(node) + i * Float.BYTES);
+    }
+
+    // Heap copy for mapped nodes
+    private float[] vector(int node) {
+        float[] vector = vectors.get(node);
+        if (vector != null) {
+            return vector;
+        }
+        vector = new float[dimensions];
+        mapped.slice(vectorOffset(node), dimensions * Float.BYTES).asFloatBuffer().get(vector);
+        return vector;
+    }
+
+    private int levelOf(int node) {
+        int[][] nodeLinks = links.get(node);
+        return nodeLinks != null ? nodeLinks.length - 1 : mapped.getInt(mappedOffsets[node] + 2 * Long.BYTES + 1);
+    }
+
+    // Number of neighbours on the level, 0 when the node does not reach it
+    private int degree(int node, int level) {
+        int[][] nodeLinks = links.get(node);
+        if (nodeLinks != null) {
+            return level < nodeLinks.length ? nodeLinks[level].length : 0;
+        }
+        return level <= levelOf(node) ? mapped.getInt(linksOffset(node, level)) : 0;
+    }
+
+    private int neighbour(int node, int level, int i) {
+        int[][] nodeLinks = links.get(node);
+        if (nodeLinks != null) {
+            return nodeLinks[level][i];
+        }
+        return mapped.getInt(linksOffset(node, level) + Integer.BYTES + i * Integer.BYTES);
+    }
+
+    // Links of a mapped node are copied to the heap the first time an insert changes them
+    private int[][] mutableLinks(int node) {
+        int[][] nodeLinks = links.get(node);
+        if (nodeLinks == null) {
+            nodeLinks = new int[levelOf(node) + 1][];
+            for (int l = 0; l < nodeLinks.length; l++) {
+                int[] levelLinks = new int[degree(node, l)];
+                for (int i = 0; i < levelLinks.length; i++) {
+                    levelLinks[i] = neighbour(node, l, i);
+                }
+                nodeLinks[l] = levelLinks;
+            }
+            links.set(node, nodeLinks);
+        }
+        return nodeLinks;
+    }
+
+    private int randomLevel() {
+        double r = ThreadLocalRandom.current().nextDouble();
+        return (int) (-Math.log(1 - r) * levelMultiplier);
+    }
+
+    private int greedyClosest(float[] query, int start, int level) {
+        int current = start;
+        float best = similarity(query, current);
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            int node = current;
+            int degree = degree(node, level);
+            for (int i = 0; i < degree; i++) {
+                int neighbour = neighbour(node, level, i);
+                float similarity = similarity(query, neighbour);
+                if (similarity > best) {
+                    best = similarity;
+                    current = neighbour;
+                    improved = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    // Best-first search on one layer; returns up to ef nodes, most similar first
+    private List<Candidate> searchLayer(float[] query, int entry, int ef, int level) {
+        BitSet visited = new BitSet(vectors.size());
+        PriorityQueue<Candidate> toVisit = new PriorityQueue<>((a, b) -> Float.compare(b.similarity, a.similarity));
+        PriorityQueue<Candidate> found = new PriorityQueue<>((a, b) -> Float.compare(a.similarity, b.similarity));
+
+        Candidate start = new Candidate(entry, similarity(query, entry));
+        toVisit.add(start);
+        found.add(start);
+        visited.set(entry);
+
+        while (!toVisit.isEmpty()) {
+            Candidate current = toVisit.poll();
+            if (found.size() >= ef && current.similarity < found.peek().similarity) {
+                break;
+            }
+            int degree = degree(current.node, level);
+            for (int i = 0; i < degree; i++) {
+                int neighbour = neighbour(current.node, level, i);
+                if (visited.get(neighbour)) {
+                    continue;
+                }
+                visited.set(neighbour);
+                float similarity = similarity(query, neighbour);
+                if (found.size() < ef || similarity > found.peek().similarity) {
+                    Candidate candidate = new Candidate(neighbour, similarity);
+                    toVisit.add(candidate);
+                    found.add(candidate);
+                    if (found.size() > ef) {
+                        found.poll();
+                    }
+                }
+            }
+        }
+
+        List<Candidate> result = new ArrayList<>(found);
+        result.sort((a, b) -> Float.compare(b.similarity, a.similarity));
+        return result;
+    }
+
+    /**
+     * Neighbour selection heuristic: keep a candidate only if it is closer to the new node
+     * than to any neighbour already kept, which preserves links across clusters
+     */
+    private int[] selectNeighbours(List<Candidate> candidates, int max) {
+        List<Candidate> selected = new ArrayList<>(max);
+        List<Candidate> skipped = new ArrayList<>();
+        for (Candidate candidate : candidates) {
+            if (selected.size() >= max) {
+                break;
+            }
+            boolean diverse = true;
+            float[] candidateVector = vector(candidate.node);
+            for (Candidate kept : selected) {
+                if (similarity(candidateVector, kept.node) > candidate.similarity) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) {
+                selected.add(candidate);
+            } else {
+                skipped.add(candidate);
+            }
+        }
+        // Fill up with the closest skipped ones so small graphs stay well connected
+        for (int i = 0; i < skipped.size() && selected.size() < max; i++) {
+            selected.add(skipped.get(i));
+        }
+        return selected.stream().mapToInt(Candidate::node).toArray();
+    }
+
+    private void connect(int from, int to, int level, int maxConnections) {
+        int[][] fromLinks = mutableLinks(from);
+        int[] current = fromLinks[level];
+        if (current.length < maxConnections) {
+            int[] grown = Arrays.copyOf(current, current.length + 1);
+            grown[current.length] = to;
+            fromLinks[level] = grown;
+            return;
+        }
+        // Full: re-select among the existing neighbours plus the new node
+        float[] base = vector(from);
+        List<Candidate> candidates = new ArrayList<>(current.length + 1);
+        for (int neighbour : current) {
+            candidates.add(new Candidate(neighbour, similarity(base, neighbour)));
+        }
+        candidates.add(new Candidate(to, similarity(base, to)));
+        candidates.sort((a, b) -> Float.compare(b.similarity, a.similarity));
+        fromLinks[level] = selectNeighbours(candidates, maxConnections);
+    }
+
+    private float similarity(float[] query, int node) {
+        float[] vector = vectors.get(node);
+        float sum = 0;
+        if (vector != null) {
+            for (int i = 0; i < query.length; i++) {
+                sum += query[i] * vector[i];
+            }
+            return sum;
+        }
+        int offset = vectorOffset(node);
+        for (int i = 0; i < query.length; i++) {
+            sum += query[i] * mapped.getFloat(offset + i * Float.BYTES);
+        }
+        return sum;
+    }
+}
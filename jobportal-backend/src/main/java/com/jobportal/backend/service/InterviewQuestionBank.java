@@ -0,0 +1,103 @@
+package com.jobportal.backend.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Loads the interview question bank (a JSON file, see interview/questions.json) into a
+ * {@link QuestionBankIndex}. The file is polled for changes and recompiled in the
+ * background; a file that fails to parse is logged and the previous index kept.
+ */
+@Component
+@Slf4j
+public class InterviewQuestionBank {
+    
+    private final ResourceLoader resourceLoader;
+    private final ObjectMapper objectMapper;
+    private final String location;
+    
+    private volatile QuestionBankIndex index = QuestionBankIndex.EMPTY;
+    private volatile long loadedModified = -1;
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    
+    public InterviewQuestionBank(ResourceLoader resourceLoader,
+                                 ObjectMapper objectMapper,
+                                 @Value("${app.interview.question-bank:classpath:interview/questions.json}") String location) {
+        this.resourceLoader = resourceLoader;
+        this.objectMapper = objectMapper;
+        this.location = location;
+    }
+    
+    @PostConstruct
+    public void load() {
+        try {
+            reload();
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalStateException("Cannot load interview question bank from " + location, e);
+        }
+    }
+    
+    public QuestionBankIndex index() {
+        return index;
+    }
+    
+    /**
+     * Recompiles the index from the bank file
+     *
+     * @return number of questions loaded
+     */
+    public int reload() throws IOException {
+        reloadLock.lock();
+        try {
+            Resource resource = resourceLoader.getResource(location);
+            long modified = lastModified(resource);
+            List<QuestionBankIndex.Question> questions;
+            try (InputStream in = resource.getInputStream()) {
+                questions = objectMapper.readValue(in, new TypeReference<>() {});
+            }
+            QuestionBankIndex compiled = QuestionBankIndex.build(questions);
+            index = compiled;
+            loadedModified = modified;
+            log.info("Interview question bank loaded from {} with {} questions", location, compiled.size());
+            return compiled.size();
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+    
+    @Scheduled(fixedDelayString = "${app.interview.reload-interval:30000}")
+    public void reloadIfChanged() {
+        Resource resource = resourceLoader.getResource(location);
+        long modified = lastModified(resource);
+        if (modified < 0 || modified == loadedModified) {
+            return;
+        }
+        try {
+            reload();
+        } catch (IOException | RuntimeException e) {
+            // Not retried until the file changes again
+            loadedModified = modified;
+            log.warn("Keeping previous interview question bank, reload from {} failed: {}", location, e.getMessage());
+        }
+    }
+    
+    private static long lastModified(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            return -1;   // not resolvable to a file, e.g. inside a jar: no change detection
+        }
+    }
+}
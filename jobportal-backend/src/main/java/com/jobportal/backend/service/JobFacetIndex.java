@@ -0,0 +1,323 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.model.Job;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compact in-memory columnar index over the active jobs, used for facet counts.
+ *
+ * Each job occupies a row. Every facet is a dictionary-encoded column (row → value code)
+ * plus one bitmap per distinct value, so a facet histogram is a handful of bitmap
+ * intersections instead of a table scan. Rows of removed jobs are recycled.
+ */
+public class JobFacetIndex {
+
+    public enum Facet {
+        JOB_TYPE("jobType"),
+        LOCATION("location"),
+        COMPANY("company"),
+        SALARY_BAND("salaryBand"),
+        EXPERIENCE("experience");
+
+        private final String paramName;
+
+        Facet(String paramName) {
+            this.paramName = paramName;
+        }
+
+        public String getParamName() {
+            return paramName;
+        }
+    }
+
+    public static final String UNSPECIFIED = "Unspecified";
+
+    private static final Pattern FIRST_NUMBER = Pattern.compile("(\\d+)");
+
+    private final Map<Facet, Column> columns = new EnumMap<>(Facet.class);
+    private final Map<Long, Integer> rowByJobId = new HashMap<>();
+    private long[] jobIdByRow = new long[64];
+    private final BitSet live = new BitSet();
+    private final Deque<Integer> freeRows = new ArrayDeque<>();
+    private int rowCount = 0;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public JobFacetIndex() {
+        for (Facet facet : Facet.values()) {
+            columns.put(facet, new Column());
+        }
+    }
+
+    /**
+     * Replaces the whole index content
+     */
+    public void rebuild(Collection<Job> jobs) {
+        lock.writeLock().lock();
+        try {
+            columns.replaceAll((facet, column) -> new Column());
+            rowByJobId.clear();
+            live.clear();
+            freeRows.clear();
+            rowCount = 0;
+            for (Job job : jobs) {
+                upsertLocked(job);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds or re-indexes a job; inactive jobs are removed
+     */
+    public void upsert(Job job) {
+        lock.writeLock().lock();
+        try {
+            upsertLocked(job);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return rowByJobId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Jobs matching every facet filter (values within a facet are OR-ed), newest first,
+     * plus per-facet value counts. Counts for a facet ignore that facet's own filter so
+     * the UI can offer the alternatives.
+     *
+     * @param filters    selected values per facet; missing or empty means no filter
+     * @param restrictTo job ids to restrict to (e.g. keyword hits), or null for all jobs
+     */
+    public Result query(Map<Facet, Set<String>> filters, Set<Long> restrictTo) {
+        lock.readLock().lock();
+        try {
+            BitSet base = (BitSet) live.clone();
+            if (restrictTo != null) {
+                BitSet allowed = new BitSet();
+                for (Long jobId : restrictTo) {
+                    Integer row = rowByJobId.get(jobId);
+                    if (row != null) {
+                        allowed.set(row);
+                    }
+                }
+                base.and(allowed);
+            }
+
+            Map<Facet, BitSet> selections = new EnumMap<>(Facet.class);
+            for (Map.Entry<Facet, Set<String>> filter : filters.entrySet()) {
+                if (filter.getValue() != null && !filter.getValue().isEmpty()) {
+                    selections.put(filter.getKey(), columns.get(filter.getKey()).union(filter.getValue()));
+                }
+            }
+
+            BitSet matches = (BitSet) base.clone();
+            selections.values().forEach(matches::and);
+
+            Map<Facet, Map<String, Integer>> counts = new EnumMap<>(Facet.class);
+            for (Facet facet : Facet.values()) {
+                BitSet facetBase = (BitSet) base.clone();
+                selections.forEach((other, selection) -> {
+                    if (other != facet) {
+                        facetBase.and(selection);
+                    }
+                });
+                counts.put(facet, columns.get(facet).histogram(facetBase));
+            }
+
+            List<Long> jobIds = new ArrayList<>(matches.cardinality());
+            for (int row = matches.nextSetBit(0); row >= 0; row = matches.nextSetBit(row + 1)) {
+                jobIds.add(jobIdByRow[row]);
+            }
+            jobIds.sort(Comparator.reverseOrder());
+
+            return new Result(jobIds, counts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public record Result(List<Long> jobIds, Map<Facet, Map<String, Integer>> counts) {
+    }
+
+    // ---------- facet value derivation ----------
+
+    static String salaryBand(Job job) {
+        BigDecimal salary = job.getMinSalary() != null ? job.getMinSalary() : job.getMaxSalary();
+        if (salary == null) {
+            return UNSPECIFIED;
+        }
+        long amount = salary.longValue();
+        if (amount < 50_000) {
+            return "Under 50K";
+        } else if (amount < 100_000) {
+            return "50K-100K";
+        } else if (amount < 150_000) {
+            return "100K-150K";
+        } else if (amount < 200_000) {
+            return "150K-200K";
+        }
+        return "200K+";
+    }
+
+    static String experienceLevel(Job job) {
+        if (job.getExperienceRequired() == null) {
+            return UNSPECIFIED;
+        }
+        Matcher matcher = FIRST_NUMBER.matcher(job.getExperienceRequired());
+        if (!matcher.find()) {
+            return job.getExperienceRequired().toLowerCase().contains("fresher") ? "Entry (0-1 yrs)" : UNSPECIFIED;
+        }
+        int years = Integer.parseInt(matcher.group(1));
+        if (years <= 1) {
+            return "Entry (0-1 yrs)";
+        } else if (years <= 4) {
+            return "Mid (2-4 yrs)";
+        } else if (years <= 9) {
+            return "Senior (5-9 yrs)";
+        }
+        return "Lead (10+ yrs)";
+    }
+
+    private static String valueOf(Facet facet, Job job) {
+        return switch (facet) {
+            case JOB_TYPE -> job.getJobType() != null ? job.getJobType().name() : UNSPECIFIED;
+            case LOCATION -> textOrUnspecified(job.getLocation());
+            case COMPANY -> textOrUnspecified(job.getCompany());
+            case SALARY_BAND -> salaryBand(job);
+            case EXPERIENCE -> experienceLevel(job);
+        };
+    }
+
+    private static String textOrUnspecified(String value) {
+        return value == null || value.isBlank() ? UNSPECIFIED : value.trim();
+    }
+
+    // ---------- row maintenance (write lock held) ----------
+
+    private void upsertLocked(Job job) {
+        if (job.getId() == null) {
+            return;
+        }
+        if (!Boolean.TRUE.equals(job.getIsActive())) {
+            removeLocked(job.getId());
+            return;
+        }
+
+        Integer row = rowByJobId.get(job.getId());
+        if (row == null) {
+            row = freeRows.isEmpty() ? rowCount++ : freeRows.pop();
+            if (row >= jobIdByRow.length) {
+                jobIdByRow = Arrays.copyOf(jobIdByRow, jobIdByRow.length * 2);
+            }
+            rowByJobId.put(job.getId(), row);
+            jobIdByRow[row] = job.getId();
+        }
+
+        for (Facet facet : Facet.values()) {
+            columns.get(facet).set(row, valueOf(facet, job));
+        }
+        live.set(row);
+    }
+
+    private void removeLocked(Long jobId) {
+        Integer row = rowByJobId.remove(jobId);
+        if (row == null) {
+            return;
+        }
+        columns.values().forEach(column -> column.clear(row));
+        live.clear(row);
+        freeRows.push(row);
+    }
+
+    /**
+     * One dictionary-encoded column. Values are matched case-insensitively; the first
+     * spelling seen is the one reported in facet counts.
+     */
+    private static final class Column {
+
+        private final Map<String, Integer> codeByKey = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+        private final List<BitSet> bitmaps = new ArrayList<>();
+        private int[] codeByRow = new int[64];
+
+        void set(int row, String value) {
+            clear(row);
+            int code = codeByKey.computeIfAbsent(key(value), k -> {
+                values.add(value);
+                bitmaps.add(new BitSet());
+                return values.size() - 1;
+            });
+            codeByRow[row] = code + 1;
+            bitmaps.get(code).set(row);
+        }
+
+        void clear(int row) {
+            if (row >= codeByRow.length) {
+                codeByRow = Arrays.copyOf(codeByRow, Math.max(codeByRow.length * 2, row + 1));
+                return;
+            }
+            int code = codeByRow[row] - 1;
+            if (code >= 0) {
+                bitmaps.get(code).clear(row);
+                codeByRow[row] = 0;
+            }
+        }
+
+        BitSet union(Set<String> selected) {
+            BitSet union = new BitSet();
+            for (String value : selected) {
+                Integer code = codeByKey.get(key(value));
+                if (code != null) {
+                    union.or(bitmaps.get(code));
+                }
+            }
+            return union;
+        }
+
+        Map<String, Integer> histogram(BitSet rows) {
+            List<Map.Entry<String, Integer>> entries = new ArrayList<>();
+            for (int code = 0; code < values.size(); code++) {
+                BitSet bitmap = bitmaps.get(code);
+                if (bitmap.isEmpty() || !bitmap.intersects(rows)) {
+                    continue;
+                }
+                BitSet hits = (BitSet) bitmap.clone();
+                hits.and(rows);
+                entries.add(Map.entry(values.get(code), hits.cardinality()));
+            }
+            entries.sort(Map.Entry.<String, Integer>comparingByValue().reversed()
+                    .thenComparing(Map.Entry.comparingByKey()));
+
+            Map<String, Integer> histogram = new LinkedHashMap<>();
+            entries.forEach(entry -> histogram.put(entry.getKey(), entry.getValue()));
+            return histogram;
+        }
+
+        private static String key(String value) {
+            return value.trim().toLowerCase(Locale.ROOT);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.dto.JobResponse;
+import com.jobportal.backend.model.JobType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+
+public interface JobFilterService {
+    Page<JobResponse> filterJobs(BigDecimal salaryFrom, BigDecimal salaryTo, LocalDate deadlineAfter,
+                                 Set<JobType> jobTypes, String keyword, Pageable pageable);
+}
@@ -0,0 +1,104 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.dto.JobResponse;
+import com.jobportal.backend.event.JobChangedEvent;
+import com.jobportal.backend.model.JobType;
+import com.jobportal.backend.repository.JobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Salary / deadline / job type filtering served from {@link JobRangeIndex}.
+ * Job writes update the entry map right away; the index is rebuilt from it on the
+ * next refresh tick, so filters see a write within app.range-index.refresh-interval.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobFilterServiceImpl implements JobFilterService {
+    
+    private final JobRepository jobRepository;
+    private final JobService jobService;
+    
+    private final Map<Long, JobRangeIndex.Entry> entries = new ConcurrentHashMap<>();
+    private volatile boolean dirty = false;
+    private volatile JobRangeIndex index = JobRangeIndex.EMPTY;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        entries.clear();
+        jobRepository.findByIsActiveTrue().forEach(job -> entries.put(job.getId(), JobRangeIndex.Entry.of(job)));
+        dirty = true;
+        refresh();
+        log.info("Job range index built with {} active jobs", index.size());
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.isLive()) {
+            entries.put(event.jobId(), JobRangeIndex.Entry.of(event.job()));
+        } else {
+            entries.remove(event.jobId());
+        }
+        dirty = true;
+    }
+    
+    @Scheduled(fixedDelayString = "${app.range-index.refresh-interval:2000}")
+    public void refresh() {
+        if (!dirty) {
+            return;
+        }
+        dirty = false;
+        index = JobRangeIndex.build(entries.values());
+    }
+    
+    @Override
+    public Page<JobResponse> filterJobs(BigDecimal salaryFrom, BigDecimal salaryTo, LocalDate deadlineAfter,
+                                        Set<JobType> jobTypes, String keyword, Pageable pageable) {
+        log.info("Filtering jobs: salary=[{}, {}], deadlineAfter={}, jobTypes={}, keyword={}",
+                 salaryFrom, salaryTo, deadlineAfter, jobTypes, keyword);
+        
+        if (salaryFrom != null && salaryTo != null && salaryFrom.compareTo(salaryTo) > 0) {
+            throw new RuntimeException("minSalary must not be greater than maxSalary");
+        }
+        
+        // Keyword hits come from the regular (cached) search and are intersected with the ranges
+        Set<Long> keywordHits = null;
+        if (keyword != null && !keyword.isBlank()) {
+            keywordHits = jobService.searchJobs(keyword.trim())
+                    .stream()
+                    .map(JobResponse::getId)
+                    .collect(Collectors.toSet());
+        }
+        
+        List<Long> jobIds = index.query(
+                JobRangeIndex.toScaled(salaryFrom),
+                JobRangeIndex.toScaled(salaryTo),
+                deadlineAfter,
+                jobTypes,
+                keywordHits);
+        
+        List<Long> pageIds = jobIds.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .collect(Collectors.toList());
+        
+        return new PageImpl<>(pageIds.isEmpty() ? List.of() : jobService.getJobsByIds(pageIds), pageable, jobIds.size());
+    }
+}
@@ -0,0 +1,155 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.util.GeoHash;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory geohash grid over job coordinates for "jobs within X km" queries.
+ *
+ * Jobs are keyed by a full-precision geohash in a sorted map, so any coarser cell is a
+ * contiguous key range. A query picks the cell size matching the radius, visits the
+ * centre cell and its 8 neighbours, and filters the candidates by exact distance.
+ */
+public class JobGeoIndex {
+
+    public record Hit(Long jobId, double distanceKm) {
+    }
+
+    private record Point(double latitude, double longitude, String geohash) {
+    }
+
+    private final NavigableMap<String, Set<Long>> jobsByCell = new TreeMap<>();
+    private final Map<Long, Point> points = new HashMap<>();
+    private final Set<Long> remoteJobs = new HashSet<>();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Adds or moves a job; latitude/longitude may be null for jobs with an unknown location
+     */
+    public void upsert(Long jobId, Double latitude, Double longitude, boolean remote) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(jobId);
+            if (latitude != null && longitude != null) {
+                String geohash = GeoHash.encode(latitude, longitude, GeoHash.MAX_PRECISION);
+                points.put(jobId, new Point(latitude, longitude, geohash));
+                jobsByCell.computeIfAbsent(geohash, h -> new HashSet<>()).add(jobId);
+            }
+            if (remote) {
+                remoteJobs.add(jobId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            jobsByCell.clear();
+            points.clear();
+            remoteJobs.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return points.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Jobs within radiusKm of the given point, nearest first
+     */
+    public List<Hit> within(double latitude, double longitude, double radiusKm) {
+        lock.readLock().lock();
+        try {
+            Set<Long> candidates = new HashSet<>();
+            int precision = GeoHash.precisionForRadius(latitude, radiusKm);
+            if (precision == 0) {
+                candidates.addAll(points.keySet());
+            } else {
+                for (String cell : coveringCells(latitude, longitude, precision)) {
+                    jobsByCell.subMap(cell, true, cell + Character.MAX_VALUE, false)
+                            .values()
+                            .forEach(candidates::addAll);
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>();
+            for (Long jobId : candidates) {
+                Point point = points.get(jobId);
+                double distance = GeoHash.distanceKm(latitude, longitude, point.latitude(), point.longitude());
+                if (distance <= radiusKm) {
+                    hits.add(new Hit(jobId, distance));
+                }
+            }
+            hits.sort(Comparator.comparingDouble(Hit::distanceKm).thenComparing(Hit::jobId, Comparator.reverseOrder()));
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Jobs whose type allows remote or hybrid work, newest first
+     */
+    public List<Long> remoteJobIds() {
+        lock.readLock().lock();
+        try {
+            List<Long> ids = new ArrayList<>(remoteJobs);
+            ids.sort(Comparator.reverseOrder());
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Set<String> coveringCells(double latitude, double longitude, int precision) {
+        double height = GeoHash.cellHeightDegrees(precision);
+        double width = GeoHash.cellWidthDegrees(precision);
+        Set<String> cells = new LinkedHashSet<>();
+        for (int dLat = -1; dLat <= 1; dLat++) {
+            for (int dLon = -1; dLon <= 1; dLon++) {
+                double lat = Math.max(-90, Math.min(90, latitude + dLat * height));
+                double lon = longitude + dLon * width;
+                if (lon < -180) {
+                    lon += 360;
+                } else if (lon >= 180) {
+                    lon -= 360;
+                }
+                cells.add(GeoHash.encode(lat, lon, precision));
+            }
+        }
+        return cells;
+    }
+
+    private void removeLocked(Long jobId) {
+        Point point = points.remove(jobId);
+        if (point != null) {
+            Set<Long> cell = jobsByCell.get(point.geohash());
+            cell.remove(jobId);
+            if (cell.isEmpty()) {
+                jobsByCell.remove(point.geohash());
+            }
+        }
+        remoteJobs.remove(jobId);
+    }
+}
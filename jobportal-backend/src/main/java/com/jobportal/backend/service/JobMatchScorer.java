@@ -0,0 +1,187 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.dto.JobRecommendationResponse;
+import com.jobportal.backend.model.Job;
+import com.jobportal.backend.model.User;
+import com.jobportal.backend.util.Gazetteer;
+import com.jobportal.backend.util.GeoHash;
+import com.jobportal.backend.util.SkillDictionary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Candidate/job match scoring shared by on-demand recommendations and the precomputed
+ * recommendation feeds. {@link #score} only computes the number, {@link #explain} also
+ * builds the reasons shown to the user; both apply the same rules.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class JobMatchScorer {
+
+    // Jobs within this distance of the candidate count as local
+    private static final double LOCAL_RADIUS_KM = 50;
+
+    private final Gazetteer gazetteer;
+    private final UserProfileService userProfileService;
+    private final SkillCatalog skillCatalog;
+
+    /**
+     * What the scorer needs to know about a candidate, resolved once per candidate.
+     * City and years of experience are null when the candidate's resume did not say.
+     */
+    public record CandidateProfile(Long userId, List<String> skills, SkillProfile stored,
+                                   Gazetteer.City city, Integer yearsExperience) {
+    }
+
+    public CandidateProfile profileOf(User user) {
+        return profileOf(user.getId(), userProfileService.getProfile(user.getId()));
+    }
+
+    public CandidateProfile profileOf(Long userId, SkillProfile stored) {
+        List<String> skills = skillCatalog.namesOf(stored.skillIds());
+        log.debug("User {} has {} skills: {}", userId, skills.size(), skills);
+        return new CandidateProfile(
+                userId,
+                skills,
+                stored,
+                stored.location() != null ? gazetteer.resolve(stored.location()).orElse(null) : null,
+                stored.yearsExperience());
+    }
+
+    public List<String> extractJobSkills(Job job) {
+        // Canonical names of the dictionary skills the description mentions
+        return SkillDictionary.MATCHER.findIn(job.getDescription());
+    }
+
+    /**
+     * Match score (0-100) without building any explanation
+     */
+    public int score(Job job, List<String> jobSkills, CandidateProfile profile) {
+        return evaluate(job, jobSkills, profile, null, null);
+    }
+
+    public JobRecommendationResponse explain(Job job, List<String> jobSkills, CandidateProfile profile) {
+        List<String> matchReasons = new ArrayList<>();
+        List<String> missingSkills = new ArrayList<>();
+        int totalScore = evaluate(job, jobSkills, profile, matchReasons, missingSkills);
+
+        return JobRecommendationResponse.builder()
+                .job(JobRecommendationResponse.JobSummary.builder()
+                        .id(job.getId())
+                        .title(job.getTitle())
+                        .company(job.getCompany())
+                        .location(job.getLocation())
+                        .jobType(job.getJobType() != null ? job.getJobType().toString() : null)
+                        .experienceLevel(job.getExperienceRequired())
+                        .requiredSkills(jobSkills)
+                        .build())
+                .matchScore(totalScore)
+                .matchReasons(matchReasons.isEmpty() ?
+                        Collections.singletonList("No specific matches found") : matchReasons)
+                .missingSkills(missingSkills)
+                .build();
+    }
+
+    // matchReasons / missingSkills are only filled when non-null
+    private int evaluate(Job job, List<String> jobSkills, CandidateProfile profile,
+                         List<String> matchReasons, List<String> missingSkills) {
+        int totalScore = 0;
+
+        // 1. SKILL MATCHING (60 points max)
+        if (!jobSkills.isEmpty()) {
+            List<String> matchingSkills = new ArrayList<>();
+            for (String jobSkill : jobSkills) {
+                if (profile.stored().hasSkill(skillCatalog.idOf(jobSkill))) {
+                    matchingSkills.add(jobSkill);
+                } else if (missingSkills != null) {
+                    missingSkills.add(jobSkill);
+                }
+            }
+
+            int skillScore = (int) ((matchingSkills.size() * 60.0) / jobSkills.size());
+            totalScore += skillScore;
+
+            if (!matchingSkills.isEmpty() && matchReasons != null) {
+                matchReasons.add(String.format("Skills match: %d/%d required skills (%s)",
+                        matchingSkills.size(), jobSkills.size(),
+                        matchingSkills.stream().limit(3).collect(Collectors.joining(", "))));
+            }
+        }
+
+        // 2. LOCATION MATCHING (20 points max)
+        Gazetteer.City userCity = profile.city();
+        if (userCity != null && job.getLatitude() != null && job.getLongitude() != null
+                && GeoHash.distanceKm(userCity.latitude(), userCity.longitude(),
+                        job.getLatitude(), job.getLongitude()) <= LOCAL_RADIUS_KM) {
+            totalScore += 20;
+            if (matchReasons != null) {
+                matchReasons.add("Location match: " + job.getNormalizedLocation());
+            }
+        } else if (job.getJobType() != null && job.getJobType().isRemoteEligible()) {
+            totalScore += 15;
+            if (matchReasons != null) {
+                matchReasons.add("Remote work available");
+            }
+        }
+
+        // 3. EXPERIENCE LEVEL MATCHING (20 points max)
+        if (job.getExperienceRequired() != null && profile.yearsExperience() != null) {
+            int userYearsExp = profile.yearsExperience();
+            boolean expMatch = checkExperienceMatch(job.getExperienceRequired(), userYearsExp);
+
+            if (expMatch) {
+                totalScore += 20;
+                if (matchReasons != null) {
+                    matchReasons.add(String.format("Experience level matches: %s", job.getExperienceRequired()));
+                }
+            } else {
+                int expGap = calculateExperienceGap(job.getExperienceRequired(), userYearsExp);
+                if (expGap <= 2) {
+                    totalScore += 10;
+                    if (matchReasons != null) {
+                        matchReasons.add("Close experience match");
+                    }
+                }
+            }
+        }
+
+        return totalScore;
+    }
+
+    private boolean checkExperienceMatch(String jobExpLevel, int userYears) {
+        if (jobExpLevel == null) return true;
+
+        String level = jobExpLevel.toLowerCase();
+
+        if (level.contains("entry") || level.contains("junior") || level.contains("0-2")) {
+            return userYears <= 2;
+        } else if (level.contains("mid") || level.contains("2-5") || level.contains("3-5")) {
+            return userYears >= 2 && userYears <= 5;
+        } else if (level.contains("senior") || level.contains("5+") || level.contains("lead")) {
+            return userYears >= 5;
+        }
+
+        return true; // Default to match if can't determine
+    }
+
+    private int calculateExperienceGap(String jobExpLevel, int userYears) {
+        if (jobExpLevel == null) return 0;
+
+        String level = jobExpLevel.toLowerCase();
+
+        if (level.contains("0-2") || level.contains("entry")) {
+            return Math.abs(userYears - 1);
+        } else if (level.contains("2-5") || level.contains("mid")) {
+            return Math.abs(userYears - 3);
+        } else if (level.contains("5+") || level.contains("senior")) {
+            return Math.abs(userYears - 6);
+        }
+
+        return 0;
+    }
+}
@@ -0,0 +1,228 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.model.Job;
+import com.jobportal.backend.model.JobType;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable range index over the active jobs for salary-overlap and deadline filters.
+ *
+ * Salaries are stored as scaled longs (hundredths) and deadlines as epoch days, each in
+ * a primitive array sorted by value with a parallel array of rows. A range predicate is
+ * one binary search plus a scan of the qualifying slice into a bitmap, and predicates
+ * are combined by intersecting bitmaps. Rows are ordered newest job first.
+ */
+public final class JobRangeIndex {
+
+    public static final int SALARY_SCALE = 2;
+
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    /**
+     * The indexed columns of one job
+     */
+    public record Entry(long jobId, long minSalary, long maxSalary, boolean hasSalary,
+                        long deadline, JobType jobType) {
+
+        public static Entry of(Job job) {
+            Long min = toScaled(job.getMinSalary());
+            Long max = toScaled(job.getMaxSalary());
+            return new Entry(
+                    job.getId(),
+                    min != null ? min : (max != null ? max : 0),
+                    max != null ? max : (min != null ? min : 0),
+                    min != null || max != null,
+                    job.getApplicationDeadline() != null ? job.getApplicationDeadline().toEpochDay() : NO_DEADLINE,
+                    job.getJobType());
+        }
+    }
+
+    public static final JobRangeIndex EMPTY = build(List.of());
+
+    private final long[] jobIds;              // row -> job id, descending
+    private final long[] minSalaries;         // sorted ascending
+    private final int[] rowsByMinSalary;
+    private final long[] maxSalaries;         // sorted ascending
+    private final int[] rowsByMaxSalary;
+    private final long[] deadlines;           // sorted ascending
+    private final int[] rowsByDeadline;
+    private final BitSet withSalary;
+    private final Map<JobType, BitSet> rowsByJobType;
+
+    private JobRangeIndex(List<Entry> entries) {
+        int n = entries.size();
+        jobIds = new long[n];
+        withSalary = new BitSet(n);
+        rowsByJobType = new EnumMap<>(JobType.class);
+
+        long[] min = new long[n];
+        long[] max = new long[n];
+        long[] deadline = new long[n];
+        for (int row = 0; row < n; row++) {
+            Entry entry = entries.get(row);
+            jobIds[row] = entry.jobId();
+            min[row] = entry.minSalary();
+            max[row] = entry.maxSalary();
+            deadline[row] = entry.deadline();
+            if (entry.hasSalary()) {
+                withSalary.set(row);
+            }
+            if (entry.jobType() != null) {
+                rowsByJobType.computeIfAbsent(entry.jobType(), t -> new BitSet(n)).set(row);
+            }
+        }
+
+        rowsByMinSalary = sortedRows(min);
+        minSalaries = permute(min, rowsByMinSalary);
+        rowsByMaxSalary = sortedRows(max);
+        maxSalaries = permute(max, rowsByMaxSalary);
+        rowsByDeadline = sortedRows(deadline);
+        deadlines = permute(deadline, rowsByDeadline);
+    }
+
+    public static JobRangeIndex build(Collection<Entry> entries) {
+        List<Entry> rows = new ArrayList<>(entries);
+        rows.sort(Comparator.comparingLong(Entry::jobId).reversed());
+        return new JobRangeIndex(rows);
+    }
+
+    /**
+     * Converts a salary to hundredths without further allocation at query time
+     */
+    public static Long toScaled(BigDecimal amount) {
+        return amount == null ? null : amount.setScale(SALARY_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public int size() {
+        return jobIds.length;
+    }
+
+    /**
+     * Ids of jobs (newest first) whose salary range overlaps [salaryFrom, salaryTo], whose
+     * deadline is on or after the given day (jobs without a deadline always qualify), and
+     * whose type is one of the given types. Null arguments are not filtered on.
+     */
+    public List<Long> query(Long salaryFrom, Long salaryTo, LocalDate deadlineOnOrAfter,
+                            Set<JobType> jobTypes, Set<Long> restrictTo) {
+        int n = jobIds.length;
+        BitSet rows = new BitSet(n);
+        rows.set(0, n);
+
+        if (salaryFrom != null || salaryTo != null) {
+            rows.and(withSalary);
+            if (salaryTo != null) {
+                // job.min <= salaryTo: a prefix of the min-sorted array
+                rows.and(slice(rowsByMinSalary, 0, upperBound(minSalaries, salaryTo)));
+            }
+            if (salaryFrom != null) {
+                // job.max >= salaryFrom: a suffix of the max-sorted array
+                rows.and(slice(rowsByMaxSalary, lowerBound(maxSalaries, salaryFrom), n));
+            }
+        }
+        if (deadlineOnOrAfter != null) {
+            rows.and(slice(rowsByDeadline, lowerBound(deadlines, deadlineOnOrAfter.toEpochDay()), n));
+        }
+        if (jobTypes != null && !jobTypes.isEmpty()) {
+            BitSet typed = new BitSet(n);
+            jobTypes.forEach(type -> {
+                BitSet ofType = rowsByJobType.get(type);
+                if (ofType != null) {
+                    typed.or(ofType);
+                }
+            });
+            rows.and(typed);
+        }
+        if (restrictTo != null) {
+            BitSet allowed = new BitSet(n);
+            for (Long jobId : restrictTo) {
+                int row = rowOf(jobId);
+                if (row >= 0) {
+                    allowed.set(row);
+                }
+            }
+            rows.and(allowed);
+        }
+
+        List<Long> result = new ArrayList<>(rows.cardinality());
+        for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+            result.add(jobIds[row]);
+        }
+        return result;
+    }
+
+    private static BitSet slice(int[] rows, int from, int to) {
+        BitSet bits = new BitSet();
+        for (int i = from; i < to; i++) {
+            bits.set(rows[i]);
+        }
+        return bits;
+    }
+
+    private int rowOf(long jobId) {
+        // jobIds is sorted descending
+        int low = 0;
+        int high = jobIds.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (jobIds[mid] > jobId) {
+                low = mid + 1;
+            } else if (jobIds[mid] < jobId) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    // First index with values[i] >= key
+    private static int lowerBound(long[] values, long key) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // First index with values[i] > key
+    private static int upperBound(long[] values, long key) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int[] sortedRows(long[] values) {
+        return IntStream.range(0, values.length)
+                .boxed()
+                .sorted(Comparator.comparingLong(row -> values[row]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private static long[] permute(long[] values, int[] rows) {
+        long[] sorted = new long[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            sorted[i] = values[rows[i]];
+        }
+        return sorted;
+    }
+}
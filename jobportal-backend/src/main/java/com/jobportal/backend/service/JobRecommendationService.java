@@ -5,4 +5,7 @@ import java.util.List;
 
 public interface JobRecommendationService {
     List<JobRecommendationResponse> getRecommendations(Long userId, Integer limit);
+
+    /** For callers that already checked the user and hold the skill profile */
+    List<JobRecommendationResponse> getRecommendations(Long userId, SkillProfile profile, Integer limit);
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.jobportal.backend.service;
 
 import com.jobportal.backend.dto.CreateJobRequest;
 import com.jobportal.backend.dto.JobResponse;
+import com.jobportal.backend.dto.JobSearchResult;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -10,9 +11,11 @@ import java.util.List;
 public interface JobService {
     JobResponse createJob(CreateJobRequest request, Long recruiterId);
     JobResponse getJobById(Long id);
+    List<JobResponse> getJobsByIds(List<Long> ids);
     List<JobResponse> getAllActiveJobs();
     Page<JobResponse> getAllActiveJobsPaginated(Pageable pageable);
     List<JobResponse> searchJobs(String keyword);
+    Page<JobSearchResult> searchJobsRanked(String query, Pageable pageable);
     List<JobResponse> getJobsByLocation(String location);
     List<JobResponse> getJobsByRecruiterId(Long recruiterId);
     JobResponse updateJob(Long id, CreateJobRequest request, Long recruiterId);
@@ -2,26 +2,40 @@ package com.jobportal.backend.service;
 
 import com.jobportal.backend.dto.CreateJobRequest;
 import com.jobportal.backend.dto.JobResponse;
+import com.jobportal.backend.dto.JobSearchResult;
+import com.jobportal.backend.event.JobChangedEvent;
 import com.jobportal.backend.exception.ResourceNotFoundException;
 import com.jobportal.backend.model.Job;
 import com.jobportal.backend.model.User;
 import com.jobportal.backend.repository.JobRepository;
 import com.jobportal.backend.repository.UserRepository;
+import com.jobportal.backend.util.Gazetteer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.util.HtmlUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,8 +43,22 @@ import java.util.stream.Collectors;
 @Slf4j
 public class JobServiceImpl implements JobService {
     
+    private static final String ENGINE_FULLTEXT = "fulltext";
+    private static final String ENGINE_LIKE = "like";
+    
     private final JobRepository jobRepository;
     private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Gazetteer gazetteer;
+    
+    // "like" (LOWER(..) LIKE scan) or "fulltext" (tsvector + GIN); switch to A/B the two
+    @Value("${app.search.engine:like}")
+    private String searchEngine;
+    
+    // Upper bound on the un-paginated searchJobs() result in full-text mode
+    @Value("${app.search.fulltext.max-results:200}")
+    private int fullTextMaxResults;
     
     @Override
     @Transactional
@@ -47,9 +75,9 @@ public class JobServiceImpl implements JobService {
                 .title(request.getTitle())
                 .description(request.getDescription())
                 .company(request.getCompany())
-                .location(request.getDescription())
+                .location(request.getLocation())
                 .minSalary(request.getMinSalary())
-                .maxSalary(request.getMinSalary())
+                .maxSalary(request.getMaxSalary())
                 .experienceRequired(request.getExperienceRequired())
                 .skillsRequired(request.getSkillsRequired())
                 .jobType(request.getJobType())
@@ -58,13 +86,17 @@ public class JobServiceImpl implements JobService {
                 .recruiter(recruiter)
                 .build();
         
+        gazetteer.normalize(job);
+        
         Job savedJob = jobRepository.save(job);
         log.info("Job created successfully with ID: {}", savedJob.getId());
+        eventPublisher.publishEvent(new JobChangedEvent(JobChangedEvent.Type.CREATED, savedJob));
         
         return mapToJobResponse(savedJob);
     }
     
     @Override
+    @Transactional(readOnly = true)
     @Cacheable(value = "jobs", key = "#id")
     public JobResponse getJobById(Long id) {
         log.info("Fetching job with ID: {}", id);
@@ -76,6 +108,22 @@ public class JobServiceImpl implements JobService {
     }
     
     @Override
+    @Transactional(readOnly = true)
+    public List<JobResponse> getJobsByIds(List<Long> ids) {
+        // One query for the whole batch, returned in the order the ids were given
+        Map<Long, Job> jobsById = jobRepository.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+        
+        return ids.stream()
+                .map(jobsById::get)
+                .filter(Objects::nonNull)
+                .map(this::mapToJobResponse)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
     @Cacheable(value = "job-search", key = "'all-active-jobs'")
     public List<JobResponse> getAllActiveJobs() {
         log.info("Fetching all active jobs");
@@ -87,6 +135,7 @@ public class JobServiceImpl implements JobService {
     }
     
     @Override
+    @Transactional(readOnly = true)
     public Page<JobResponse> getAllActiveJobsPaginated(Pageable pageable) {
         log.info("Fetching active jobs with pagination: page={}, size={}", 
                  pageable.getPageNumber(), pageable.getPageSize());
@@ -96,17 +145,92 @@ public class JobServiceImpl implements JobService {
     }
     
     @Override
+    @Transactional(readOnly = true)
     @Cacheable(value = "job-search", key = "'search-' + #keyword")
     public List<JobResponse> searchJobs(String keyword) {
-        log.info("Searching jobs with keyword: {}", keyword);
+        log.info("Searching jobs with keyword: {} (engine: {})", keyword, searchEngine);
+        
+        if (isFullText()) {
+            return searchTimer(ENGINE_FULLTEXT).record(() ->
+                    fullTextSearch(keyword, PageRequest.of(0, fullTextMaxResults)).stream()
+                            .map(JobSearchResult::getJob)
+                            .collect(Collectors.toList()));
+        }
+        
+        return searchTimer(ENGINE_LIKE).record(() ->
+                jobRepository.searchJobs(keyword)
+                        .stream()
+                        .map(this::mapToJobResponse)
+                        .collect(Collectors.toList()));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Page<JobSearchResult> searchJobsRanked(String query, Pageable pageable) {
+        log.info("Ranked job search: {} page={}, size={} (engine: {})",
+                 query, pageable.getPageNumber(), pageable.getPageSize(), searchEngine);
         
-        return jobRepository.searchJobs(keyword)
+        if (isFullText()) {
+            return searchTimer(ENGINE_FULLTEXT).record(() -> fullTextSearch(query, pageable));
+        }
+        
+        return searchTimer(ENGINE_LIKE).record(() ->
+                jobRepository.searchActiveJobs(query, pageable)
+                        .map(job -> JobSearchResult.builder().job(mapToJobResponse(job)).build()));
+    }
+    
+    private Page<JobSearchResult> fullTextSearch(String query, Pageable pageable) {
+        List<JobRepository.FullTextHit> hits =
+                jobRepository.fullTextSearch(query, pageable.getPageSize(), pageable.getOffset());
+        if (hits.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+        
+        // Load the entities for this page in one query, then restore rank order
+        Map<Long, Job> jobsById = jobRepository.findAllById(
+                        hits.stream().map(JobRepository.FullTextHit::getId).collect(Collectors.toList()))
                 .stream()
-                .map(this::mapToJobResponse)
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+        
+        List<JobSearchResult> results = hits.stream()
+                .filter(hit -> jobsById.containsKey(hit.getId()))
+                .map(hit -> JobSearchResult.builder()
+                        .job(mapToJobResponse(jobsById.get(hit.getId())))
+                        .rank(hit.getRank())
+                        .titleHighlight(highlightHtml(hit.getTitleHighlight()))
+                        .snippet(highlightHtml(hit.getSnippet()))
+                        .build())
                 .collect(Collectors.toList());
+        
+        return PageableExecutionUtils.getPage(results, pageable, () -> jobRepository.countFullTextMatches(query));
+    }
+    
+    /**
+     * Turns a ts_headline fragment into safe HTML: the job text is escaped and only the
+     * highlight delimiters chosen in {@link JobRepository#fullTextSearch} become <mark> tags
+     */
+    static String highlightHtml(String fragment) {
+        if (fragment == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(fragment)
+                .replace("\u0002", "<mark>")
+                .replace("\u0003", "</mark>");
+    }
+    
+    private boolean isFullText() {
+        return ENGINE_FULLTEXT.equalsIgnoreCase(searchEngine);
+    }
+    
+    private Timer searchTimer(String engine) {
+        return Timer.builder("jobs.search")
+                .description("Job keyword search latency by search engine")
+                .tag("engine", engine)
+                .register(meterRegistry);
     }
     
     @Override
+    @Transactional(readOnly = true)
     @Cacheable(value = "job-search", key = "'location-' + #location")
     public List<JobResponse> getJobsByLocation(String location) {
         log.info("Fetching jobs by location: {}", location);
@@ -118,6 +242,7 @@ public class JobServiceImpl implements JobService {
     }
     
     @Override
+    @Transactional(readOnly = true)
     @Cacheable(value = "jobs", key = "'recruiter-' + #recruiterId")
     public List<JobResponse> getJobsByRecruiterId(Long recruiterId) {
         log.info("Fetching jobs posted by recruiter ID: {}", recruiterId);
@@ -150,16 +275,19 @@ public class JobServiceImpl implements JobService {
         job.setTitle(request.getTitle());
         job.setDescription(request.getDescription());
         job.setCompany(request.getCompany());
-        job.setLocation(request.getDescription());
+        job.setLocation(request.getLocation());
         job.setMinSalary(request.getMinSalary());
-        job.setMaxSalary(request.getMinSalary());
+        job.setMaxSalary(request.getMaxSalary());
         job.setExperienceRequired(request.getExperienceRequired());
         job.setSkillsRequired(request.getSkillsRequired());
         job.setJobType(request.getJobType());
         job.setApplicationDeadline(request.getApplicationDeadline());
         
+        gazetteer.normalize(job);
+        
         Job updatedJob = jobRepository.save(job);
         log.info("Job updated successfully: ID {}", updatedJob.getId());
+        eventPublisher.publishEvent(new JobChangedEvent(JobChangedEvent.Type.UPDATED, updatedJob));
         
         return mapToJobResponse(updatedJob);
     }
@@ -184,6 +312,7 @@ public class JobServiceImpl implements JobService {
         
         jobRepository.delete(job);
         log.info("Job deleted successfully: ID {}", id);
+        eventPublisher.publishEvent(new JobChangedEvent(JobChangedEvent.Type.DELETED, job));
     }
     
     // Helper: Entity → DTO conversion
@@ -195,6 +324,10 @@ private JobResponse mapToJobResponse(Job job) {
             .description(job.getDescription())
             .company(job.getCompany())
             .location(job.getLocation())
+            .normalizedLocation(job.getNormalizedLocation())
+            .latitude(job.getLatitude())
+            .longitude(job.getLongitude())
+            .remote(job.getJobType() != null && job.getJobType().isRemoteEligible())
             .minSalary(job.getMinSalary())  // Fix: was getMaxSalary()
             .maxSalary(job.getMaxSalary())
             .experienceRequired(job.getExperienceRequired())  // Fix: was getSkillsRequired()
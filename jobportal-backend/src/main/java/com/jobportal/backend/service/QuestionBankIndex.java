@@ -0,0 +1,178 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.dto.InterviewQuestionResponse;
+import com.jobportal.backend.dto.InterviewQuestionResponse.QuestionDifficulty;
+
+import java.util.*;
+
+/**
+ * Immutable index over the interview question bank, keyed by (skill, difficulty) and
+ * (skill, difficulty, category). Response objects are built once when the index is
+ * compiled; {@link #select} hands out copies, so callers may modify what they get.
+ *
+ * Selection draws from a seeded lazy Fisher-Yates shuffle over the matching pools, so
+ * picking k questions costs O(k) regardless of pool size and the same seed always yields
+ * the same questions in the same order.
+ */
+public final class QuestionBankIndex {
+
+    public static final String GENERAL = "general";
+
+    /**
+     * One question as stored in the bank file
+     */
+    public record Question(List<String> skills, QuestionDifficulty difficulty, String category,
+                           String question, String expectedAnswer, List<String> tags,
+                           List<String> followUpQuestions) {
+    }
+
+    private record Key(String skill, QuestionDifficulty difficulty, String category) {
+    }
+
+    private static final InterviewQuestionResponse[] NONE = new InterviewQuestionResponse[0];
+
+    public static final QuestionBankIndex EMPTY = build(List.of());
+
+    private final Map<Key, InterviewQuestionResponse[]> pools;
+    private final int size;
+
+    private QuestionBankIndex(Map<Key, InterviewQuestionResponse[]> pools, int size) {
+        this.pools = pools;
+        this.size = size;
+    }
+
+    public static QuestionBankIndex build(Collection<Question> questions) {
+        Map<Key, List<InterviewQuestionResponse>> grouped = new HashMap<>();
+        int size = 0;
+        for (Question question : questions) {
+            validate(question);
+            InterviewQuestionResponse response = InterviewQuestionResponse.builder()
+                    .question(question.question())
+                    .difficulty(question.difficulty())
+                    .category(question.category())
+                    .expectedAnswer(question.expectedAnswer())
+                    .tags(question.tags() != null ? List.copyOf(question.tags()) : List.of())
+                    .followUpQuestions(question.followUpQuestions() != null
+                            ? List.copyOf(question.followUpQuestions()) : List.of())
+                    .build();
+            for (String skill : question.skills()) {
+                String normalizedSkill = normalize(skill);
+                grouped.computeIfAbsent(new Key(normalizedSkill, question.difficulty(), null),
+                        key -> new ArrayList<>()).add(response);
+                if (question.category() != null) {
+                    grouped.computeIfAbsent(new Key(normalizedSkill, question.difficulty(), normalize(question.category())),
+                            key -> new ArrayList<>()).add(response);
+                }
+            }
+            size++;
+        }
+
+        // Skills listing exactly the same questions share one array, so a job naming
+        // several of them draws from that pool once
+        Map<List<InterviewQuestionResponse>, InterviewQuestionResponse[]> interned = new HashMap<>();
+        Map<Key, InterviewQuestionResponse[]> pools = new HashMap<>();
+        grouped.forEach((key, list) -> pools.put(key,
+                interned.computeIfAbsent(list, l -> l.toArray(InterviewQuestionResponse[]::new))));
+        return new QuestionBankIndex(Map.copyOf(pools), size);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Up to {@code count} distinct questions for the skills, topped up from the general
+     * pool when the skills do not have enough, in a seed-determined order
+     *
+     * @param category null for any category
+     */
+    public List<InterviewQuestionResponse> select(List<String> skills, QuestionDifficulty difficulty,
+                                                  String category, int count, long seed) {
+        Random random = new Random(seed);
+        String categoryKey = category != null ? normalize(category) : null;
+
+        List<InterviewQuestionResponse[]> skillPools = new ArrayList<>();
+        Set<InterviewQuestionResponse[]> seenPools = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String skill : skills) {
+            InterviewQuestionResponse[] pool = pool(skill, difficulty, categoryKey);
+            if (pool.length > 0 && seenPools.add(pool)) {
+                skillPools.add(pool);
+            }
+        }
+
+        List<InterviewQuestionResponse> selected = new ArrayList<>(count);
+        Set<InterviewQuestionResponse> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        draw(skillPools, count, random, selected, seen);
+        if (selected.size() < count) {
+            draw(Collections.singletonList(pool(GENERAL, difficulty, categoryKey)), count, random, selected, seen);
+        }
+
+        Collections.shuffle(selected, random);
+        // The pooled responses are shared across requests; their lists are already immutable
+        selected.replaceAll(QuestionBankIndex::copyOf);
+        return selected;
+    }
+
+    private static InterviewQuestionResponse copyOf(InterviewQuestionResponse response) {
+        return InterviewQuestionResponse.builder()
+                .question(response.getQuestion())
+                .difficulty(response.getDifficulty())
+                .category(response.getCategory())
+                .expectedAnswer(response.getExpectedAnswer())
+                .tags(response.getTags())
+                .followUpQuestions(response.getFollowUpQuestions())
+                .build();
+    }
+
+    private InterviewQuestionResponse[] pool(String skill, QuestionDifficulty difficulty, String category) {
+        return pools.getOrDefault(new Key(normalize(skill), difficulty, category), NONE);
+    }
+
+    // Lazy Fisher-Yates over the concatenated pools: only the swapped positions are stored
+    private static void draw(List<InterviewQuestionResponse[]> pools, int count, Random random,
+                             List<InterviewQuestionResponse> selected, Set<InterviewQuestionResponse> seen) {
+        int total = 0;
+        for (InterviewQuestionResponse[] pool : pools) {
+            total += pool.length;
+        }
+
+        Map<Integer, Integer> swapped = new HashMap<>();
+        for (int i = 0; i < total && selected.size() < count; i++) {
+            int j = i + random.nextInt(total - i);
+            int position = swapped.getOrDefault(j, j);
+            swapped.put(j, swapped.getOrDefault(i, i));
+
+            InterviewQuestionResponse question = at(pools, position);
+            // Pools of different skills may still overlap in individual questions
+            if (seen.add(question)) {
+                selected.add(question);
+            }
+        }
+    }
+
+    private static InterviewQuestionResponse at(List<InterviewQuestionResponse[]> pools, int position) {
+        for (InterviewQuestionResponse[] pool : pools) {
+            if (position < pool.length) {
+                return pool[position];
+            }
+            position -= pool.length;
+        }
+        throw new IndexOutOfBoundsException(position);
+    }
+
+    private static void validate(Question question) {
+        if (question.question() == null || question.question().isBlank()) {
+            throw new IllegalArgumentException("Question text is required");
+        }
+        if (question.difficulty() == null) {
+            throw new IllegalArgumentException("Difficulty is required: " + question.question());
+        }
+        if (question.skills() == null || question.skills().isEmpty()) {
+            throw new IllegalArgumentException("At least one skill is required: " + question.question());
+        }
+    }
+
+    private static String normalize(String text) {
+        return text.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,6 @@
+package com.jobportal.backend.service;
+
+public interface RecommendationFeedService {
+    RecommendationFeedStore.Feed getFeed(Long userId);
+    int refreshAllFeeds();
+}
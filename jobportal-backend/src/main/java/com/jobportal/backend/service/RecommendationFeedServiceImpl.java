@@ -0,0 +1,277 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.event.JobChangedEvent;
+import com.jobportal.backend.event.UserProfileChangedEvent;
+import com.jobportal.backend.model.Job;
+import com.jobportal.backend.model.User;
+import com.jobportal.backend.model.UserRole;
+import com.jobportal.backend.repository.JobRepository;
+import com.jobportal.backend.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Maintains the precomputed recommendation feed of every candidate.
+ *
+ * A scheduled batch rescoring all candidates against all active jobs runs on a dedicated
+ * fork/join pool, splitting the candidate list into shards. Between batches, a newly
+ * created job is scored only against the candidates sharing at least one of its skills
+ * and spliced into their feeds; updated or closed jobs are dropped from every feed.
+ * A candidate whose profile changes gets a fresh feed on next access.
+ *
+ * Job changes that arrive while a batch runs are also queued: the batch overwrites
+ * feeds from the job list it loaded at its start, so it replays the queue onto its own
+ * result before finishing. Applying a change twice leaves a feed unchanged.
+ */
+@Service
+@Slf4j
+public class RecommendationFeedServiceImpl implements RecommendationFeedService {
+    
+    private final UserRepository userRepository;
+    private final JobRepository jobRepository;
+    private final JobMatchScorer scorer;
+    private final UserProfileService userProfileService;
+    private final SkillCatalog skillCatalog;
+    private final RecommendationFeedStore feedStore;
+    private final ForkJoinPool pool;
+    
+    @Value("${app.recommendations.feed.size:50}")
+    private int feedSize;
+    
+    @Value("${app.recommendations.feed.shard-size:64}")
+    private int shardSize;
+    
+    private final Map<Long, JobMatchScorer.CandidateProfile> profiles = new ConcurrentHashMap<>();
+    // skill id -> candidates having it, used by the incremental path
+    private final Map<Integer, Set<Long>> candidatesBySkill = new ConcurrentHashMap<>();
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+    // Job changes seen during a running batch; null when no batch runs. Guarded by itself.
+    private final Object pendingLock = new Object();
+    private List<JobChangedEvent> pendingJobChanges;
+    
+    public RecommendationFeedServiceImpl(UserRepository userRepository,
+                                         JobRepository jobRepository,
+                                         JobMatchScorer scorer,
+                                         UserProfileService userProfileService,
+                                         SkillCatalog skillCatalog,
+                                         RecommendationFeedStore feedStore,
+                                         @Value("${app.recommendations.feed.parallelism:0}") int parallelism) {
+        this.userRepository = userRepository;
+        this.jobRepository = jobRepository;
+        this.scorer = scorer;
+        this.userProfileService = userProfileService;
+        this.skillCatalog = skillCatalog;
+        this.feedStore = feedStore;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+    
+    @Override
+    public RecommendationFeedStore.Feed getFeed(Long userId) {
+        RecommendationFeedStore.Feed feed = feedStore.get(userId);
+        if (feed != null) {
+            return feed;
+        }
+        
+        // Candidate not covered by the last batch yet: compute just this feed now
+        JobMatchScorer.CandidateProfile profile = registerProfile(
+                scorer.profileOf(userId, userProfileService.getProfile(userId)));
+        feed = computeFeed(profile, prepareJobs(jobRepository.findByIsActiveTrue()));
+        feedStore.put(userId, feed);
+        return feed;
+    }
+    
+    @Override
+    @Scheduled(fixedDelayString = "${app.recommendations.feed.refresh-interval:21600000}",
+               initialDelayString = "${app.recommendations.feed.initial-delay:30000}")
+    public int refreshAllFeeds() {
+        if (!refreshing.compareAndSet(false, true)) {
+            log.info("Recommendation feed refresh already running, skipping");
+            return 0;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            // Queue from before the job list is read, so no change after it is missed
+            synchronized (pendingLock) {
+                pendingJobChanges = new ArrayList<>();
+            }
+            List<User> candidates = userRepository.findByRole(UserRole.CANDIDATE);
+            // Job skills are extracted once and shared by every shard
+            List<PreparedJob> jobs = prepareJobs(jobRepository.findByIsActiveTrue());
+            
+            profiles.clear();
+            candidatesBySkill.clear();
+            // One query for all stored profiles; candidates without one score on job type only
+            Map<Long, SkillProfile> stored = userProfileService.getProfiles(
+                    candidates.stream().map(User::getId).toList());
+            List<JobMatchScorer.CandidateProfile> candidateProfiles = candidates.stream()
+                    .map(user -> registerProfile(scorer.profileOf(user.getId(),
+                            stored.getOrDefault(user.getId(), SkillProfile.EMPTY))))
+                    .toList();
+            
+            pool.invoke(new FeedShardTask(candidateProfiles, 0, candidateProfiles.size(), jobs));
+            int replayed = replayPendingJobChanges();
+            
+            log.info("Recomputed {} recommendation feeds against {} jobs in {}ms ({} job changes replayed)",
+                     candidateProfiles.size(), jobs.size(), System.currentTimeMillis() - start, replayed);
+            return candidateProfiles.size();
+        } finally {
+            synchronized (pendingLock) {
+                pendingJobChanges = null;
+            }
+            refreshing.set(false);
+        }
+    }
+    
+    // Drains the queue until it stays empty, then stops queueing under the same lock
+    private int replayPendingJobChanges() {
+        int replayed = 0;
+        while (true) {
+            List<JobChangedEvent> batch;
+            synchronized (pendingLock) {
+                batch = pendingJobChanges;
+                if (batch.isEmpty()) {
+                    pendingJobChanges = null;
+                    return replayed;
+                }
+                pendingJobChanges = new ArrayList<>();
+            }
+            batch.forEach(this::applyJobChange);
+            replayed += batch.size();
+        }
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        synchronized (pendingLock) {
+            if (pendingJobChanges != null) {
+                pendingJobChanges.add(event);
+            }
+        }
+        applyJobChange(event);
+    }
+    
+    private void applyJobChange(JobChangedEvent event) {
+        if (event.type() != JobChangedEvent.Type.CREATED) {
+            feedStore.removeJob(event.jobId());
+        }
+        if (!event.isLive()) {
+            return;
+        }
+        
+        Job job = event.job();
+        List<String> jobSkills = scorer.extractJobSkills(job);
+        Set<Long> affected = new HashSet<>();
+        for (String skill : jobSkills) {
+            affected.addAll(candidatesBySkill.getOrDefault(skillCatalog.idOf(skill), Set.of()));
+        }
+        
+        for (Long userId : affected) {
+            JobMatchScorer.CandidateProfile profile = profiles.get(userId);
+            if (profile == null) {
+                continue;
+            }
+            int score = scorer.score(job, jobSkills, profile);
+            if (score > 0) {
+                feedStore.splice(userId, job.getId(), score, feedSize);
+            }
+        }
+        log.debug("Spliced job {} into the feeds of up to {} candidates", job.getId(), affected.size());
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        profiles.remove(event.userId());
+        feedStore.remove(event.userId());
+    }
+    
+    private JobMatchScorer.CandidateProfile registerProfile(JobMatchScorer.CandidateProfile profile) {
+        profiles.put(profile.userId(), profile);
+        for (int skillId : profile.stored().skillIds()) {
+            candidatesBySkill.computeIfAbsent(skillId, s -> ConcurrentHashMap.newKeySet())
+                    .add(profile.userId());
+        }
+        return profile;
+    }
+    
+    private List<PreparedJob> prepareJobs(List<Job> jobs) {
+        return jobs.stream()
+                .map(job -> new PreparedJob(job, scorer.extractJobSkills(job)))
+                .toList();
+    }
+    
+    /**
+     * Top-N by score (ties: newer job first) using a bounded min-heap
+     */
+    private RecommendationFeedStore.Feed computeFeed(JobMatchScorer.CandidateProfile profile, List<PreparedJob> jobs) {
+        PriorityQueue<long[]> heap = new PriorityQueue<>(feedSize + 1,
+                Comparator.<long[]>comparingLong(entry -> entry[1]).thenComparingLong(entry -> entry[0]));
+        for (PreparedJob prepared : jobs) {
+            int score = scorer.score(prepared.job(), prepared.skills(), profile);
+            if (score <= 0) {
+                continue;
+            }
+            heap.add(new long[]{prepared.job().getId(), score});
+            if (heap.size() > feedSize) {
+                heap.poll();
+            }
+        }
+        
+        int size = heap.size();
+        long[] jobIds = new long[size];
+        int[] scores = new int[size];
+        for (int i = size - 1; i >= 0; i--) {
+            long[] entry = heap.poll();
+            jobIds[i] = entry[0];
+            scores[i] = (int) entry[1];
+        }
+        return new RecommendationFeedStore.Feed(jobIds, scores, LocalDateTime.now());
+    }
+    
+    private record PreparedJob(Job job, List<String> skills) {
+    }
+    
+    private class FeedShardTask extends RecursiveAction {
+        
+        private final List<JobMatchScorer.CandidateProfile> candidates;
+        private final int from;
+        private final int to;
+        private final List<PreparedJob> jobs;
+        
+        FeedShardTask(List<JobMatchScorer.CandidateProfile> candidates, int from, int to, List<PreparedJob> jobs) {
+            this.candidates = candidates;
+            this.from = from;
+            this.to = to;
+            this.jobs = jobs;
+        }
+        
+        @Override
+        protected void compute() {
+            if (to - from <= shardSize) {
+                for (int i = from; i < to; i++) {
+                    JobMatchScorer.CandidateProfile profile = candidates.get(i);
+                    feedStore.put(profile.userId(), computeFeed(profile, jobs));
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new FeedShardTask(candidates, from, mid, jobs),
+                      new FeedShardTask(candidates, mid, to, jobs));
+        }
+    }
+}
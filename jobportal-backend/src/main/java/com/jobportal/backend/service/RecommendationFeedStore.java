@@ -0,0 +1,97 @@
+package com.jobportal.backend.service;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-candidate recommendation feeds: the best-scoring job ids with their scores,
+ * kept as small immutable primitive arrays ordered by score (highest first).
+ */
+@Component
+public class RecommendationFeedStore {
+
+    public record Feed(long[] jobIds, int[] scores, LocalDateTime computedAt) {
+
+        public static Feed empty() {
+            return new Feed(new long[0], new int[0], LocalDateTime.now());
+        }
+
+        public int size() {
+            return jobIds.length;
+        }
+
+        /**
+         * Copy with the job inserted at its score position (or re-positioned if present),
+         * trimmed to capacity
+         */
+        public Feed withJob(long jobId, int score, int capacity) {
+            Feed base = withoutJob(jobId);
+            int position = 0;
+            while (position < base.size() && base.scores[position] >= score) {
+                position++;
+            }
+            if (position >= capacity) {
+                return base;
+            }
+            int newSize = Math.min(base.size() + 1, capacity);
+            long[] ids = new long[newSize];
+            int[] newScores = new int[newSize];
+            System.arraycopy(base.jobIds, 0, ids, 0, position);
+            System.arraycopy(base.scores, 0, newScores, 0, position);
+            ids[position] = jobId;
+            newScores[position] = score;
+            int tail = newSize - position - 1;
+            System.arraycopy(base.jobIds, position, ids, position + 1, tail);
+            System.arraycopy(base.scores, position, newScores, position + 1, tail);
+            return new Feed(ids, newScores, computedAt);
+        }
+
+        public Feed withoutJob(long jobId) {
+            for (int i = 0; i < jobIds.length; i++) {
+                if (jobIds[i] == jobId) {
+                    long[] ids = new long[jobIds.length - 1];
+                    int[] newScores = new int[scores.length - 1];
+                    System.arraycopy(jobIds, 0, ids, 0, i);
+                    System.arraycopy(jobIds, i + 1, ids, i, ids.length - i);
+                    System.arraycopy(scores, 0, newScores, 0, i);
+                    System.arraycopy(scores, i + 1, newScores, i, newScores.length - i);
+                    return new Feed(ids, newScores, computedAt);
+                }
+            }
+            return this;
+        }
+    }
+
+    private final Map<Long, Feed> feeds = new ConcurrentHashMap<>();
+
+    public Feed get(Long userId) {
+        return feeds.get(userId);
+    }
+
+    public void put(Long userId, Feed feed) {
+        feeds.put(userId, feed);
+    }
+
+    /**
+     * Atomically splices a job into an existing feed; candidates without a feed are skipped
+     * (theirs is computed in full on first access)
+     */
+    public void splice(Long userId, long jobId, int score, int capacity) {
+        feeds.computeIfPresent(userId, (id, feed) -> feed.withJob(jobId, score, capacity));
+    }
+
+    public void remove(Long userId) {
+        feeds.remove(userId);
+    }
+
+    public void removeJob(long jobId) {
+        feeds.replaceAll((userId, feed) -> feed.withoutJob(jobId));
+    }
+
+    public int size() {
+        return feeds.size();
+    }
+}
@@ -0,0 +1,25 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.dto.FileUploadResponse;
+import com.jobportal.backend.dto.UploadSessionResponse;
+
+import java.io.InputStream;
+
+public interface ResumableUploadService {
+
+    UploadSessionResponse create(long uploadLength, String fileName, String contentType, String owner);
+
+    UploadSessionResponse getStatus(String uploadId, String owner);
+
+    /**
+     * Writes the chunk at {@code offset}, which must equal the current upload offset.
+     * {@code checksum} is an optional tus-style "sha256 <base64>" digest of the chunk;
+     * a chunk that does not match it is discarded. Returns the new offset.
+     */
+    long appendChunk(String uploadId, String owner, long offset, InputStream chunk, String checksum);
+
+    /** Moves a fully received upload into the file store */
+    FileUploadResponse complete(String uploadId, String owner);
+
+    void cancel(String uploadId, String owner);
+}
@@ -0,0 +1,529 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.dto.FileUploadResponse;
+import com.jobportal.backend.dto.UploadSessionResponse;
+import com.jobportal.backend.exception.UploadException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Resumable uploads in the style of the tus protocol.
+ *
+ * Creating an upload preallocates a file of the announced length under
+ * {@code <upload-dir>/.partial}; every chunk is written straight into it at its offset, so
+ * nothing is buffered beyond one I/O buffer and an interrupted upload resumes from the
+ * last received byte. The SHA-256 of the whole file is carried along chunk by chunk, which
+ * lets {@link #complete} hand the file to the content-addressed store with a rename.
+ *
+ * Each upload's metadata (owner, length, offset) is kept in a {@code <id>.session} file next
+ * to its partial file and rewritten after every chunk, once the chunk is on disk, so uploads
+ * survive a restart. The running digest cannot be saved; a recovered upload re-hashes the
+ * bytes it already has on its next chunk or on completion.
+ *
+ * Chunk writes across all uploads share a small number of permits so a burst of mobile
+ * clients cannot saturate the disk; every upload reserves its full length on disk, so each
+ * owner may only have a few unfinished at once. Uploads left idle past the expiry are deleted.
+ */
+@Service
+@Slf4j
+public class ResumableUploadServiceImpl implements ResumableUploadService {
+
+    // tus "460 Checksum Mismatch"
+    private static final HttpStatusCode CHECKSUM_MISMATCH = HttpStatusCode.valueOf(460);
+    private static final Set<String> ALLOWED_TYPES = Set.of(
+            "application/pdf",
+            "application/vnd.openxmlformats-officedocument.wordprocessingml.document",
+            "application/msword",
+            "application/zip",
+            "image/png",
+            "image/jpeg");
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String SESSION_SUFFIX = ".session";
+
+    private final FileStorageService fileStorageService;
+    private final Path partialLocation;
+    private final long maxSize;
+    private final long maxChunkSize;
+    private final Semaphore writePermits;
+    private final Duration writeWait;
+    private final Duration expiry;
+    private final int maxUploadsPerOwner;
+    private final Counter bytesReceived;
+
+    private final Map<String, Upload> uploads = new ConcurrentHashMap<>();
+    // Serializes the per-owner count and the insert in create
+    private final ReentrantLock createLock = new ReentrantLock();
+
+    public ResumableUploadServiceImpl(FileStorageService fileStorageService,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${file.upload-dir:uploads}") String uploadDir,
+                                      @Value("${app.upload.resumable.max-size:100MB}") DataSize maxSize,
+                                      @Value("${app.upload.resumable.max-chunk-size:16MB}") DataSize maxChunkSize,
+                                      @Value("${app.upload.resumable.max-concurrent-writes:8}") int maxConcurrentWrites,
+                                      @Value("${app.upload.resumable.write-wait:2s}") Duration writeWait,
+                                      @Value("${app.upload.resumable.expiry:24h}") Duration expiry,
+                                      @Value("${app.upload.resumable.max-uploads-per-owner:5}") int maxUploadsPerOwner) {
+        this.fileStorageService = fileStorageService;
+        this.partialLocation = Paths.get(uploadDir).toAbsolutePath().normalize().resolve(".partial");
+        this.maxSize = maxSize.toBytes();
+        this.maxChunkSize = maxChunkSize.toBytes();
+        this.writePermits = new Semaphore(maxConcurrentWrites);
+        this.writeWait = writeWait;
+        this.expiry = expiry;
+        this.maxUploadsPerOwner = maxUploadsPerOwner;
+        this.bytesReceived = meterRegistry.counter("upload.resumable.bytes");
+        meterRegistry.gaugeMapSize("upload.resumable.active", Tags.empty(), uploads);
+
+        try {
+            Files.createDirectories(partialLocation);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not create partial upload directory", e);
+        }
+        recoverUploads();
+    }
+
+    @Override
+    public UploadSessionResponse create(long uploadLength, String fileName, String contentType, String owner) {
+        if (uploadLength <= 0) {
+            throw new UploadException(HttpStatus.BAD_REQUEST, "Upload-Length must be positive");
+        }
+        if (uploadLength > maxSize) {
+            throw new UploadException(HttpStatus.PAYLOAD_TOO_LARGE,
+                                      "File size exceeds " + DataSize.ofBytes(maxSize).toMegabytes() + "MB limit");
+        }
+        if (contentType == null || !ALLOWED_TYPES.contains(contentType)) {
+            throw new UploadException(HttpStatus.UNSUPPORTED_MEDIA_TYPE,
+                                      "Invalid file type. Only PDF, DOCX, DOC, ZIP, PNG and JPEG are allowed");
+        }
+
+        String id = UUID.randomUUID().toString();
+        Path file = partialLocation.resolve(id);
+        Upload upload = new Upload(id, owner, fileName, contentType, uploadLength, file);
+        createLock.lock();
+        try {
+            long unfinished = uploads.values().stream().filter(existing -> existing.owner.equals(owner)).count();
+            if (unfinished >= maxUploadsPerOwner) {
+                throw new UploadException(HttpStatus.TOO_MANY_REQUESTS,
+                                          "Too many unfinished uploads; complete or cancel one first");
+            }
+            try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+                raf.setLength(uploadLength);
+                saveSession(upload);
+            } catch (IOException e) {
+                deleteQuietly(file);
+                throw new RuntimeException("Could not create upload", e);
+            }
+            uploads.put(id, upload);
+        } finally {
+            createLock.unlock();
+        }
+        log.info("Resumable upload {} created by {}: {} ({} bytes)", id, owner, fileName, uploadLength);
+        return toResponse(upload);
+    }
+
+    @Override
+    public UploadSessionResponse getStatus(String uploadId, String owner) {
+        return toResponse(find(uploadId, owner));
+    }
+
+    @Override
+    public long appendChunk(String uploadId, String owner, long offset, InputStream chunk, String checksum) {
+        Upload upload = find(uploadId, owner);
+        MessageDigest expectedDigest = checksum != null ? parseChecksum(checksum) : null;
+
+        if (!upload.lock.tryLock()) {
+            throw new UploadException(HttpStatus.CONFLICT, "Another chunk of this upload is being written");
+        }
+        try {
+            ensureActive(upload);
+            if (offset != upload.offset) {
+                throw new UploadException(HttpStatus.CONFLICT,
+                                          "Upload-Offset " + offset + " does not match current offset " + upload.offset);
+            }
+            acquireWritePermit();
+            try {
+                return write(upload, chunk, expectedDigest, checksum);
+            } finally {
+                writePermits.release();
+            }
+        } finally {
+            upload.lastActivity = Instant.now();
+            upload.lock.unlock();
+        }
+    }
+
+    @Override
+    public FileUploadResponse complete(String uploadId, String owner) {
+        Upload upload = find(uploadId, owner);
+        upload.lock.lock();
+        try {
+            ensureActive(upload);
+            if (upload.offset != upload.length) {
+                throw new UploadException(HttpStatus.CONFLICT,
+                                          "Upload incomplete: " + upload.offset + " of " + upload.length + " bytes received");
+            }
+            String sha256 = HexFormat.of().formatHex(runningDigest(upload).digest());
+            String fileUrl = fileStorageService.storeFile(upload.file, sha256, upload.fileName, upload.contentType,
+                                                          upload.owner);
+            uploads.remove(uploadId);
+            deleteQuietly(sessionFile(upload.id));
+            log.info("Resumable upload {} completed: {}", uploadId, fileUrl);
+
+            return FileUploadResponse.builder()
+                    .fileName(upload.fileName)
+                    .fileUrl(fileUrl)
+                    .fileType(upload.contentType)
+                    .fileSize(upload.length)
+                    .build();
+        } finally {
+            upload.lock.unlock();
+        }
+    }
+
+    @Override
+    public void cancel(String uploadId, String owner) {
+        Upload upload = find(uploadId, owner);
+        upload.lock.lock();
+        try {
+            ensureActive(upload);
+            uploads.remove(uploadId);
+            discard(upload);
+            log.info("Resumable upload {} cancelled", uploadId);
+        } finally {
+            upload.lock.unlock();
+        }
+    }
+
+    /**
+     * Drops uploads idle for longer than the expiry, and partial and session files no upload
+     * owns (left behind by a crash mid-create or an unreadable session)
+     */
+    @Scheduled(fixedDelayString = "${app.upload.resumable.cleanup-interval:900000}")
+    public void removeAbandonedUploads() {
+        Instant cutoff = Instant.now().minus(expiry);
+        uploads.values().removeIf(upload -> {
+            if (upload.lastActivity.isBefore(cutoff) && upload.lock.tryLock()) {
+                try {
+                    discard(upload);
+                    log.info("Resumable upload {} expired at {} of {} bytes", upload.id, upload.offset, upload.length);
+                    return true;
+                } finally {
+                    upload.lock.unlock();
+                }
+            }
+            return false;
+        });
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(partialLocation)) {
+            for (Path file : files) {
+                if (!uploads.containsKey(uploadIdOf(file))
+                        && Files.getLastModifiedTime(file).toInstant().isBefore(cutoff)) {
+                    deleteQuietly(file);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not sweep partial uploads: {}", e.getMessage());
+        }
+    }
+
+    private long write(Upload upload, InputStream chunk, MessageDigest expectedDigest, String checksum) {
+        long limit = Math.min(maxChunkSize, upload.length - upload.offset);
+        MessageDigest fileDigest = cloneDigest(runningDigest(upload));
+        long position = upload.offset;
+        boolean interrupted = false;
+
+        try (FileChannel channel = FileChannel.open(upload.file, StandardOpenOption.WRITE)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            ByteBuffer wrapped = ByteBuffer.wrap(buffer);
+            int read;
+            try {
+                while ((read = chunk.read(buffer)) != -1) {
+                    if (position - upload.offset + read > limit) {
+                        throw new UploadException(HttpStatus.PAYLOAD_TOO_LARGE,
+                                                  "Chunk exceeds the upload length or the " + DataSize.ofBytes(maxChunkSize).toMegabytes() + "MB chunk limit");
+                    }
+                    wrapped.clear().limit(read);
+                    while (wrapped.hasRemaining()) {
+                        position += channel.write(wrapped, position);
+                    }
+                    fileDigest.update(buffer, 0, read);
+                    if (expectedDigest != null) {
+                        expectedDigest.update(buffer, 0, read);
+                    }
+                }
+            } catch (IOException e) {
+                // Client went away mid-chunk: keep what arrived unless it has to be verified
+                interrupted = true;
+                log.debug("Resumable upload {} interrupted at {}: {}", upload.id, position, e.getMessage());
+            }
+            // On disk before the session file records the new offset
+            channel.force(false);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not write upload chunk", e);
+        }
+
+        if (expectedDigest != null) {
+            byte[] expected = Base64.getDecoder().decode(checksum.substring(checksum.indexOf(' ') + 1).trim());
+            if (interrupted || !MessageDigest.isEqual(expected, expectedDigest.digest())) {
+                // Offset and running digest stay where they were; the bytes are overwritten on retry
+                throw new UploadException(CHECKSUM_MISMATCH, "Chunk checksum mismatch");
+            }
+        }
+
+        bytesReceived.increment(position - upload.offset);
+        upload.digest = fileDigest;
+        upload.offset = position;
+        upload.lastActivity = Instant.now();
+        try {
+            saveSession(upload);
+        } catch (IOException e) {
+            // The upload goes on; after a restart it resumes from the last saved offset
+            log.warn("Could not save resumable upload {}: {}", upload.id, e.getMessage());
+        }
+        return position;
+    }
+
+    /**
+     * SHA-256 of the bytes received so far; re-hashed from the partial file for uploads
+     * recovered after a restart. Callers hold the upload's lock.
+     */
+    private MessageDigest runningDigest(Upload upload) {
+        if (upload.digest == null) {
+            MessageDigest digest = sha256();
+            try (InputStream in = Files.newInputStream(upload.file)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                long remaining = upload.offset;
+                while (remaining > 0) {
+                    int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                    if (read == -1) {
+                        throw new IOException("Partial file is shorter than its offset");
+                    }
+                    digest.update(buffer, 0, read);
+                    remaining -= read;
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("Could not resume upload " + upload.id, e);
+            }
+            upload.digest = digest;
+        }
+        return upload.digest;
+    }
+
+    /**
+     * Loads the uploads whose session and partial files survived the last shutdown
+     */
+    private void recoverUploads() {
+        try (DirectoryStream<Path> sessions = Files.newDirectoryStream(partialLocation, "*" + SESSION_SUFFIX)) {
+            for (Path session : sessions) {
+                Upload upload = loadSession(session);
+                if (upload != null) {
+                    uploads.put(upload.id, upload);
+                } else {
+                    deleteQuietly(session);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not recover resumable uploads: {}", e.getMessage());
+        }
+        if (!uploads.isEmpty()) {
+            log.info("Recovered {} resumable uploads", uploads.size());
+        }
+    }
+
+    private Upload loadSession(Path session) {
+        String id = uploadIdOf(session);
+        Path file = partialLocation.resolve(id);
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(session)) {
+            properties.load(in);
+            long length = Long.parseLong(properties.getProperty("length"));
+            long offset = Long.parseLong(properties.getProperty("offset"));
+            if (!Files.exists(file) || Files.size(file) != length || offset < 0 || offset > length) {
+                log.warn("Discarding resumable upload {}: partial file missing or inconsistent", id);
+                return null;
+            }
+            Upload upload = new Upload(id, properties.getProperty("owner"), properties.getProperty("fileName"),
+                                       properties.getProperty("contentType"), length, file);
+            upload.offset = offset;
+            upload.digest = null;
+            upload.lastActivity = Instant.ofEpochMilli(Long.parseLong(properties.getProperty("lastActivity")));
+            return upload.owner != null ? upload : null;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Discarding resumable upload {}: {}", id, e.getMessage());
+            return null;
+        }
+    }
+
+    // Written to a temp file and renamed, so a crash leaves either the old or the new session
+    private void saveSession(Upload upload) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("owner", upload.owner);
+        if (upload.fileName != null) {
+            properties.setProperty("fileName", upload.fileName);
+        }
+        if (upload.contentType != null) {
+            properties.setProperty("contentType", upload.contentType);
+        }
+        properties.setProperty("length", Long.toString(upload.length));
+        properties.setProperty("offset", Long.toString(upload.offset));
+        properties.setProperty("lastActivity", Long.toString(upload.lastActivity.toEpochMilli()));
+
+        Path session = sessionFile(upload.id);
+        Path temp = session.resolveSibling(session.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            properties.store(out, null);
+        }
+        Files.move(temp, session, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Path sessionFile(String uploadId) {
+        return partialLocation.resolve(uploadId + SESSION_SUFFIX);
+    }
+
+    // <id>, <id>.session and <id>.session.tmp all belong to upload <id>
+    private static String uploadIdOf(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.indexOf('.');
+        return dot < 0 ? name : name.substring(0, dot);
+    }
+
+    private void discard(Upload upload) {
+        deleteQuietly(upload.file);
+        deleteQuietly(sessionFile(upload.id));
+    }
+
+    private void acquireWritePermit() {
+        try {
+            if (!writePermits.tryAcquire(writeWait.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new UploadException(HttpStatus.SERVICE_UNAVAILABLE, "Too many uploads in progress, retry shortly");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UploadException(HttpStatus.SERVICE_UNAVAILABLE, "Upload interrupted");
+        }
+    }
+
+    private Upload find(String uploadId, String owner) {
+        Upload upload = uploads.get(uploadId);
+        if (upload == null || !upload.owner.equals(owner)) {
+            throw new UploadException(HttpStatus.NOT_FOUND, "Upload not found: " + uploadId);
+        }
+        return upload;
+    }
+
+    // Completed, cancelled or expired while the caller waited for the lock
+    private void ensureActive(Upload upload) {
+        if (uploads.get(upload.id) != upload) {
+            throw new UploadException(HttpStatus.NOT_FOUND, "Upload not found: " + upload.id);
+        }
+    }
+
+    private static MessageDigest parseChecksum(String checksum) {
+        int space = checksum.indexOf(' ');
+        if (space < 0 || !checksum.substring(0, space).equalsIgnoreCase("sha256")) {
+            throw new UploadException(HttpStatus.BAD_REQUEST, "Upload-Checksum must be \"sha256 <base64 digest>\"");
+        }
+        try {
+            Base64.getDecoder().decode(checksum.substring(space + 1).trim());
+        } catch (IllegalArgumentException e) {
+            throw new UploadException(HttpStatus.BAD_REQUEST, "Upload-Checksum digest is not valid base64");
+        }
+        return sha256();
+    }
+
+    private UploadSessionResponse toResponse(Upload upload) {
+        return UploadSessionResponse.builder()
+                .uploadId(upload.id)
+                .fileName(upload.fileName)
+                .fileType(upload.contentType)
+                .uploadLength(upload.length)
+                .uploadOffset(upload.offset)
+                .expiresAt(LocalDateTime.ofInstant(upload.lastActivity.plus(expiry), ZoneId.systemDefault()))
+                .build();
+    }
+
+    private static MessageDigest cloneDigest(MessageDigest digest) {
+        try {
+            return (MessageDigest) digest.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete {}: {}", path, e.getMessage());
+        }
+    }
+
+    private static final class Upload {
+        final String id;
+        final String owner;
+        final String fileName;
+        final String contentType;
+        final long length;
+        final Path file;
+        final ReentrantLock lock = new ReentrantLock();
+        // Guarded by lock; volatile so status reads see progress without taking it
+        volatile long offset;
+        // Null until re-hashed for an upload recovered after a restart
+        volatile MessageDigest digest = sha256();
+        volatile Instant lastActivity = Instant.now();
+
+        Upload(String id, String owner, String fileName, String contentType, long length, Path file) {
+            this.id = id;
+            this.owner = owner;
+            this.fileName = fileName;
+            this.contentType = contentType;
+            this.length = length;
+            this.file = file;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.dto.ResumeBatchStatusResponse;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+
+public interface ResumeBatchService {
+
+    /**
+     * Reads the uploaded resumes (zip archives are expanded entry by entry) and queues
+     * them for parsing; returns the initial status of the new batch
+     */
+    ResumeBatchStatusResponse submit(List<MultipartFile> files, String submittedBy);
+
+    ResumeBatchStatusResponse getStatus(String batchId, String requestedBy);
+}
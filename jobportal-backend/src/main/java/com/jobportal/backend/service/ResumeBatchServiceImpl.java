@@ -0,0 +1,323 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.dto.ParsedResumeResponse;
+import com.jobportal.backend.dto.ResumeBatchStatusResponse;
+import com.jobportal.backend.dto.ResumeBatchStatusResponse.BatchStatus;
+import com.jobportal.backend.dto.ResumeBatchStatusResponse.ItemStatus;
+import com.jobportal.backend.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Bulk resume import for recruiters.
+ *
+ * The request thread reads the upload sequentially: each plain file, or each entry of a
+ * zip archive read through a {@link ZipInputStream}, is copied to its own temp file while
+ * its SHA-256 is computed, so the archive is never held in memory. An entry whose hash was
+ * already seen in the batch is recorded as a duplicate of the first copy; every other
+ * entry is handed to a work-stealing pool with a fixed parallelism for text extraction
+ * and parsing. Batches live in memory and are dropped a while after they finish.
+ */
+@Service
+@Slf4j
+public class ResumeBatchServiceImpl implements ResumeBatchService {
+
+    private final ResumeTextExtractor resumeTextExtractor;
+    private final AIResumeParserService resumeParserService;
+    private final MeterRegistry meterRegistry;
+    private final ForkJoinPool pool;
+    private final int maxFiles;
+    private final long maxFileBytes;
+    private final Duration retention;
+
+    private final Map<String, Batch> batches = new ConcurrentHashMap<>();
+
+    public ResumeBatchServiceImpl(ResumeTextExtractor resumeTextExtractor,
+                                  AIResumeParserService resumeParserService,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.resume.batch.parallelism:4}") int parallelism,
+                                  @Value("${app.resume.batch.max-files:500}") int maxFiles,
+                                  @Value("${app.resume.extraction.max-size:10MB}") DataSize maxFileSize,
+                                  @Value("${app.resume.batch.retention:1h}") Duration retention) {
+        this.resumeTextExtractor = resumeTextExtractor;
+        this.resumeParserService = resumeParserService;
+        this.meterRegistry = meterRegistry;
+        this.pool = new ForkJoinPool(parallelism, ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true);
+        this.maxFiles = maxFiles;
+        this.maxFileBytes = maxFileSize.toBytes();
+        this.retention = retention;
+
+        meterRegistry.gauge("resume.batch.queued", pool, ForkJoinPool::getQueuedSubmissionCount);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    @Override
+    public ResumeBatchStatusResponse submit(List<MultipartFile> files, String submittedBy) {
+        if (files == null || files.isEmpty()) {
+            throw new RuntimeException("No files uploaded");
+        }
+
+        Batch batch = new Batch(UUID.randomUUID().toString(), submittedBy);
+        batches.put(batch.id, batch);
+        log.info("Resume batch {} submitted by {} ({} uploads)", batch.id, submittedBy, files.size());
+
+        try {
+            for (MultipartFile file : files) {
+                if (isZip(file)) {
+                    try (ZipInputStream zip = new ZipInputStream(file.getInputStream())) {
+                        ZipEntry entry;
+                        while ((entry = zip.getNextEntry()) != null) {
+                            if (!entry.isDirectory() && !isMetadataEntry(entry.getName())) {
+                                accept(batch, baseName(entry.getName()), zip);
+                            }
+                        }
+                    }
+                } else {
+                    try (InputStream in = file.getInputStream()) {
+                        accept(batch, file.getOriginalFilename(), in);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            batches.remove(batch.id);
+            log.warn("Resume batch {}: could not read upload: {}", batch.id, e.getMessage());
+            throw new RuntimeException("Could not read the uploaded files: " + e.getMessage(), e);
+        } finally {
+            batch.finishSubmission();
+        }
+
+        meterRegistry.counter("resume.batch.files", "outcome", "submitted").increment(batch.items.size());
+        return batch.toResponse();
+    }
+
+    @Override
+    public ResumeBatchStatusResponse getStatus(String batchId, String requestedBy) {
+        Batch batch = batches.get(batchId);
+        // Other users' batches are reported as missing rather than forbidden
+        if (batch == null || !batch.submittedBy.equals(requestedBy)) {
+            throw new ResourceNotFoundException("Resume batch not found: " + batchId);
+        }
+        return batch.toResponse();
+    }
+
+    @Scheduled(fixedDelayString = "${app.resume.batch.cleanup-interval:300000}")
+    public void evictFinishedBatches() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        batches.values().removeIf(batch -> batch.completedAt != null && batch.completedAt.isBefore(cutoff));
+    }
+
+    private void accept(Batch batch, String fileName, InputStream content) throws IOException {
+        if (batch.items.size() >= maxFiles) {
+            batch.skipped.incrementAndGet();
+            return;
+        }
+
+        Item item = batch.add(fileName);
+        Path temp = Files.createTempFile("resume-batch-", ".upload");
+        try {
+            MessageDigest digest = sha256();
+            // Not closed: for archives the same stream continues with the next entry
+            InputStream in = new ResumeTextExtractor.LimitedInputStream(content, maxFileBytes);
+            try (OutputStream out = new DigestOutputStream(Files.newOutputStream(temp), digest)) {
+                in.transferTo(out);
+            }
+            item.contentHash = HexFormat.of().formatHex(digest.digest());
+        } catch (ResumeTextExtractor.SizeLimitExceeded e) {
+            // Only this file fails; the archive stream skips the rest of the entry
+            Files.deleteIfExists(temp);
+            batch.finish(item, ItemStatus.FAILED, e.getMessage());
+            return;
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            batch.finish(item, ItemStatus.FAILED, e.getMessage());
+            throw e;
+        }
+
+        String firstCopy = batch.fileByHash.putIfAbsent(item.contentHash, item.fileName);
+        if (firstCopy != null) {
+            Files.deleteIfExists(temp);
+            item.duplicateOf = firstCopy;
+            batch.finish(item, ItemStatus.DUPLICATE, null);
+            return;
+        }
+        pool.execute(() -> process(batch, item, temp));
+    }
+
+    private void process(Batch batch, Item item, Path file) {
+        item.status = ItemStatus.PROCESSING;
+        try {
+            String text = resumeTextExtractor.extractFile(file, null, item.fileName);
+            if (text.isBlank()) {
+                batch.finish(item, ItemStatus.FAILED, "No text found (image-only or empty document)");
+                return;
+            }
+            item.result = resumeParserService.parseText(text);
+            batch.finish(item, ItemStatus.COMPLETED, null);
+        } catch (Exception e) {
+            log.debug("Resume batch {}: {} failed: {}", batch.id, item.fileName, e.getMessage());
+            batch.finish(item, ItemStatus.FAILED, e.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Could not delete temp file {}", file);
+            }
+        }
+    }
+
+    private void onBatchCompleted(Batch batch) {
+        log.info("Resume batch {} completed: {} parsed, {} failed, {} duplicates, {} skipped",
+                 batch.id, batch.completed.get(), batch.failed.get(), batch.duplicates.get(), batch.skipped.get());
+        meterRegistry.counter("resume.batch.files", "outcome", "completed").increment(batch.completed.get());
+        meterRegistry.counter("resume.batch.files", "outcome", "failed").increment(batch.failed.get());
+        meterRegistry.counter("resume.batch.files", "outcome", "duplicate").increment(batch.duplicates.get());
+    }
+
+    private static boolean isZip(MultipartFile file) {
+        String type = file.getContentType() != null ? file.getContentType().toLowerCase(Locale.ROOT) : "";
+        String name = file.getOriginalFilename() != null ? file.getOriginalFilename().toLowerCase(Locale.ROOT) : "";
+        return name.endsWith(".zip") || type.equals("application/zip") || type.equals("application/x-zip-compressed");
+    }
+
+    // macOS resource forks and hidden files that archivers add next to the real documents
+    private static boolean isMetadataEntry(String name) {
+        return name.startsWith("__MACOSX/") || baseName(name).startsWith(".");
+    }
+
+    private static String baseName(String path) {
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Item {
+        final int index;
+        final String fileName;
+        volatile String contentHash;
+        volatile ItemStatus status = ItemStatus.QUEUED;
+        volatile String duplicateOf;
+        volatile String error;
+        volatile ParsedResumeResponse result;
+
+        Item(int index, String fileName) {
+            this.index = index;
+            this.fileName = fileName;
+        }
+    }
+
+    private final class Batch {
+        final String id;
+        final String submittedBy;
+        final LocalDateTime submittedAt = LocalDateTime.now();
+        final List<Item> items = Collections.synchronizedList(new ArrayList<>());
+        final Map<String, String> fileByHash = new ConcurrentHashMap<>();
+        final AtomicInteger completed = new AtomicInteger();
+        final AtomicInteger failed = new AtomicInteger();
+        final AtomicInteger duplicates = new AtomicInteger();
+        final AtomicInteger skipped = new AtomicInteger();
+        // Items not yet finished, plus one while the upload is still being read
+        final AtomicInteger outstanding = new AtomicInteger(1);
+        volatile LocalDateTime completedAt;
+
+        Batch(String id, String submittedBy) {
+            this.id = id;
+            this.submittedBy = submittedBy;
+        }
+
+        Item add(String fileName) {
+            synchronized (items) {
+                Item item = new Item(items.size(), fileName);
+                items.add(item);
+                outstanding.incrementAndGet();
+                return item;
+            }
+        }
+
+        void finish(Item item, ItemStatus status, String error) {
+            item.error = error;
+            item.status = status;
+            switch (status) {
+                case COMPLETED -> completed.incrementAndGet();
+                case DUPLICATE -> duplicates.incrementAndGet();
+                default -> failed.incrementAndGet();
+            }
+            release();
+        }
+
+        void finishSubmission() {
+            release();
+        }
+
+        private void release() {
+            if (outstanding.decrementAndGet() == 0) {
+                completedAt = LocalDateTime.now();
+                onBatchCompleted(this);
+            }
+        }
+
+        ResumeBatchStatusResponse toResponse() {
+            List<ResumeBatchStatusResponse.Item> snapshot;
+            synchronized (items) {
+                snapshot = items.stream()
+                        .map(item -> ResumeBatchStatusResponse.Item.builder()
+                                .index(item.index)
+                                .fileName(item.fileName)
+                                .contentHash(item.contentHash)
+                                .status(item.status)
+                                .duplicateOf(item.duplicateOf)
+                                .error(item.error)
+                                .result(item.result)
+                                .build())
+                        .toList();
+            }
+            int total = snapshot.size();
+            int done = completed.get() + failed.get() + duplicates.get();
+            return ResumeBatchStatusResponse.builder()
+                    .batchId(id)
+                    .status(completedAt != null ? BatchStatus.COMPLETED : BatchStatus.RUNNING)
+                    .submittedAt(submittedAt)
+                    .completedAt(completedAt)
+                    .totalFiles(total)
+                    .completed(completed.get())
+                    .failed(failed.get())
+                    .duplicates(duplicates.get())
+                    .skipped(skipped.get())
+                    .percentComplete(total == 0 ? 100 : done * 100 / total)
+                    .items(snapshot)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,557 @@
+package com.jobportal.backend.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Extracts the text of uploaded resumes (PDF, DOCX, DOC, plain text) without holding the
+ * whole upload on the heap.
+ *
+ * The upload is streamed to a temp file and the format is detected from its leading bytes
+ * (falling back to the declared content type). PDFs are read by PDFBox from that file,
+ * keeping at most {@code max-main-memory} of parsed streams in memory and spilling the
+ * rest to scratch files. DOCX bodies are streamed with StAX from the zip entry; the
+ * XMLInputFactory is built once and shared, since creating readers from it is thread-safe.
+ * Legacy DOC files get a best-effort scan for text runs. Every format stops at the same
+ * character budget (PDFs also at a page budget) and goes through the same whitespace
+ * normalization, so downstream parsers see one text shape. Work runs on the bounded
+ * "documentExtractionExecutor" with a per-document timeout.
+ */
+@Component
+@Slf4j
+public class ResumeTextExtractor {
+
+    public enum Format {
+        PDF,
+        DOCX,
+        DOC,
+        TEXT
+    }
+
+    private static final String WORD_NS = "http://schemas.openxmlformats.org/wordprocessingml/2006/main";
+    private static final byte[] PDF_MAGIC = {'%', 'P', 'D', 'F'};
+    private static final byte[] ZIP_MAGIC = {'P', 'K', 3, 4};
+    private static final byte[] OLE2_MAGIC = {(byte) 0xD0, (byte) 0xCF, 0x11, (byte) 0xE0,
+                                              (byte) 0xA1, (byte) 0xB1, 0x1A, (byte) 0xE1};
+    // Shortest run of printable characters a DOC scan keeps
+    private static final int MIN_DOC_RUN = 4;
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+    private static final char[] CP1252 = cp1252Table();
+
+    private final ThreadPoolTaskExecutor executor;
+    private final MeterRegistry meterRegistry;
+    private final int maxPages;
+    private final int maxChars;
+    private final long maxBytes;
+    private final long maxMainMemoryBytes;
+    private final Duration timeout;
+    private final DistributionSummary allocated;
+
+    public ResumeTextExtractor(@Qualifier("documentExtractionExecutor") ThreadPoolTaskExecutor executor,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.resume.extraction.max-pages:10}") int maxPages,
+                               @Value("${app.resume.extraction.max-chars:20000}") int maxChars,
+                               @Value("${app.resume.extraction.max-size:10MB}") DataSize maxSize,
+                               @Value("${app.resume.extraction.max-main-memory:16MB}") DataSize maxMainMemory,
+                               @Value("${app.resume.extraction.timeout:20s}") Duration timeout) {
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+        this.maxPages = maxPages;
+        this.maxChars = maxChars;
+        this.maxBytes = maxSize.toBytes();
+        this.maxMainMemoryBytes = maxMainMemory.toBytes();
+        this.timeout = timeout;
+        this.allocated = DistributionSummary.builder("resume.extraction.allocated")
+                .description("Heap allocated while extracting the text of one document")
+                .baseUnit("bytes")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Normalized text of the start of the document, at most {@code max-chars} long
+     */
+    public String extract(MultipartFile file) throws IOException {
+        if (file.getSize() > maxBytes) {
+            throw new IOException("File exceeds the " + DataSize.ofBytes(maxBytes).toMegabytes() + "MB limit");
+        }
+
+        Future<String> task;
+        try {
+            task = executor.submit(() -> extractNow(file));
+        } catch (TaskRejectedException e) {
+            meterRegistry.counter("resume.extraction.rejected").increment();
+            throw new RuntimeException("Too many resumes are being processed right now. Please try again shortly.");
+        }
+
+        try {
+            return task.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            task.cancel(true);
+            throw new IOException("Text extraction timed out after " + timeout, e);
+        } catch (InterruptedException e) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while extracting text", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    String extractNow(MultipartFile file) throws IOException {
+        Path temp = Files.createTempFile("resume-", ".upload");
+        try {
+            spool(file, temp);
+            return extractFile(temp, file.getContentType(), file.getOriginalFilename());
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Same as {@link #extract} for a document already on disk, but on the calling thread:
+     * for callers such as batch ingestion that bound their own concurrency. The same
+     * per-document timeout applies, checked as text is written and at every PDF page,
+     * where an interrupt (a cancelled {@link #extract}) also stops the work.
+     */
+    public String extractFile(Path file, String contentType, String fileName) throws IOException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        long allocatedBefore = allocatedBytes();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Format format = null;
+        String outcome = "error";
+        try {
+            if (Files.size(file) > maxBytes) {
+                throw new IOException("File exceeds the " + DataSize.ofBytes(maxBytes).toMegabytes() + "MB limit");
+            }
+            format = detect(readHeader(file), contentType, fileName);
+
+            BoundedWriter writer = new BoundedWriter(maxChars, deadline);
+            try {
+                switch (format) {
+                    case PDF -> writePdf(file, writer);
+                    case DOCX -> writeDocx(file, writer);
+                    case DOC -> writeDoc(file, writer);
+                    case TEXT -> writeText(file, writer);
+                }
+                outcome = "complete";
+            } catch (BoundedWriter.BudgetReached e) {
+                outcome = "truncated";
+            } catch (BoundedWriter.DeadlineExceeded e) {
+                outcome = "timeout";
+                throw new IOException("Text extraction timed out after " + timeout, e);
+            } catch (InterruptedIOException e) {
+                outcome = "cancelled";
+                throw e;
+            }
+            String text = normalize(writer.toString());
+            log.debug("Extracted {} chars from {} {} ({})", text.length(), format, fileName, outcome);
+            return text;
+        } finally {
+            sample.stop(meterRegistry.timer("resume.extraction.duration",
+                    "format", format != null ? format.name().toLowerCase(Locale.ROOT) : "unknown",
+                    "outcome", outcome));
+            long allocatedAfter = allocatedBytes();
+            if (allocatedBefore >= 0 && allocatedAfter >= allocatedBefore) {
+                allocated.record(allocatedAfter - allocatedBefore);
+            }
+        }
+    }
+
+    /**
+     * Format from the file signature; the declared type and name only identify plain text
+     */
+    static Format detect(byte[] header, String contentType, String fileName) throws IOException {
+        if (startsWith(header, PDF_MAGIC)) {
+            return Format.PDF;
+        }
+        if (startsWith(header, ZIP_MAGIC)) {
+            return Format.DOCX;
+        }
+        if (startsWith(header, OLE2_MAGIC)) {
+            return Format.DOC;
+        }
+        String type = contentType != null ? contentType.toLowerCase(Locale.ROOT) : "";
+        String name = fileName != null ? fileName.toLowerCase(Locale.ROOT) : "";
+        if (type.startsWith("text/") || name.endsWith(".txt") || name.endsWith(".md")) {
+            return Format.TEXT;
+        }
+        throw new IOException("Unsupported file format. Please upload a PDF, DOCX, DOC or text resume.");
+    }
+
+    private void writePdf(Path file, BoundedWriter writer) throws IOException {
+        // Loading from a File uses a buffered random-access reader instead of a byte[]
+        try (PDDocument document = Loader.loadPDF(file.toFile(),
+                MemoryUsageSetting.setupMixed(maxMainMemoryBytes).streamCache)) {
+            // Stateful and cheap to build, so one per document
+            PDFTextStripper stripper = new PDFTextStripper() {
+                // Pages without text (scans, vector art) never reach the writer
+                @Override
+                protected void startPage(PDPage page) throws IOException {
+                    writer.checkAbandoned();
+                    super.startPage(page);
+                }
+            };
+            stripper.setEndPage(maxPages);
+            stripper.writeText(document, writer);
+        }
+    }
+
+    private void writeDocx(Path file, Writer writer) throws IOException {
+        try (ZipFile zip = new ZipFile(file.toFile())) {
+            ZipEntry body = zip.getEntry("word/document.xml");
+            if (body == null) {
+                throw new IOException("Not a Word document: word/document.xml is missing");
+            }
+            // Caps the inflated size as well, so a zip bomb cannot run past the size budget
+            try (InputStream in = new LimitedInputStream(zip.getInputStream(body), maxBytes * 10)) {
+                XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(in);
+                try {
+                    boolean inText = false;
+                    while (reader.hasNext()) {
+                        int event = reader.next();
+                        if (event == XMLStreamConstants.START_ELEMENT && WORD_NS.equals(reader.getNamespaceURI())) {
+                            switch (reader.getLocalName()) {
+                                case "t" -> inText = true;
+                                case "tab" -> writer.write('\t');
+                                case "br", "cr" -> writer.write('\n');
+                                default -> { }
+                            }
+                        } else if (event == XMLStreamConstants.END_ELEMENT && WORD_NS.equals(reader.getNamespaceURI())) {
+                            switch (reader.getLocalName()) {
+                                case "t" -> inText = false;
+                                case "p" -> writer.write('\n');
+                                default -> { }
+                            }
+                        } else if (inText && event == XMLStreamConstants.CHARACTERS) {
+                            writer.write(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                        }
+                    }
+                } finally {
+                    reader.close();
+                }
+            } catch (XMLStreamException e) {
+                throw new IOException("Malformed Word document: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Word 97-2003 files keep their text in an OLE2 container with a piece table. Without
+     * a full parser, keep runs of printable text in either single-byte (cp1252) or UTF-16LE
+     * encoding, which recovers the body text along with some style and font names.
+     */
+    private void writeDoc(Path file, Writer writer) throws IOException {
+        StringBuilder narrow = new StringBuilder();
+        // UTF-16 runs starting at even and at odd offsets
+        StringBuilder[] wide = {new StringBuilder(), new StringBuilder()};
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            in.skipNBytes(512);   // OLE2 header
+            int previous = -1;
+            int b;
+            long position = 512;
+            while ((b = in.read()) != -1) {
+                char c = cp1252(b);
+                if (isTextChar(c)) {
+                    narrow.append(c);
+                } else {
+                    flushRun(narrow, writer);
+                }
+                // UTF-16LE: a text character followed by a zero high byte
+                StringBuilder aligned = wide[(int) (position & 1)];
+                if (b == 0 && previous > 0 && isTextChar((char) previous)) {
+                    aligned.append((char) previous);
+                } else {
+                    flushRun(aligned, writer);
+                }
+                previous = b;
+                position++;
+            }
+            flushRun(narrow, writer);
+            flushRun(wide[0], writer);
+            flushRun(wide[1], writer);
+        }
+    }
+
+    private static void flushRun(StringBuilder run, Writer writer) throws IOException {
+        if (run.length() >= MIN_DOC_RUN && run.chars().anyMatch(Character::isLetter)) {
+            writer.append(run).append('\n');
+        }
+        run.setLength(0);
+    }
+
+    private static boolean isTextChar(char c) {
+        return (c >= 0x20 && c != 0x7F && c != 0xFFFD) || c == '\t' || c == '\r' || c == '\n';
+    }
+
+    private static char cp1252(int b) {
+        return CP1252[b];
+    }
+
+    private static char[] cp1252Table() {
+        byte[] bytes = new byte[256];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        // Undefined code points decode to U+FFFD, which isTextChar rejects
+        return Charset.forName("windows-1252").decode(ByteBuffer.wrap(bytes)).array();
+    }
+
+    private void writeText(Path file, Writer writer) throws IOException {
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        try (Reader reader = new InputStreamReader(Files.newInputStream(file), decoder)) {
+            CharBuffer buffer = CharBuffer.allocate(8192);
+            while (reader.read(buffer) != -1) {
+                buffer.flip();
+                writer.write(buffer.array(), 0, buffer.limit());
+                buffer.clear();
+            }
+        }
+    }
+
+    /**
+     * One text shape for every format: \n line breaks, no control characters, single
+     * spaces within lines, trimmed lines and at most one blank line in a row
+     */
+    static String normalize(String raw) {
+        StringBuilder out = new StringBuilder(raw.length());
+        int blankLines = 0;
+        for (String line : raw.split("\r\n|\r|\n", -1)) {
+            String cleaned = line.replaceAll("[\\p{Cntrl}\\u00A0\\u2007\\u202F\\s]+", " ").trim();
+            if (cleaned.isEmpty()) {
+                if (out.length() > 0 && blankLines++ == 0) {
+                    out.append('\n');
+                }
+                continue;
+            }
+            blankLines = 0;
+            out.append(cleaned).append('\n');
+        }
+        return out.toString().strip();
+    }
+
+    // Copies the upload to disk, enforcing the size budget
+    private void spool(MultipartFile file, Path temp) throws IOException {
+        try (InputStream in = new LimitedInputStream(file.getInputStream(), maxBytes)) {
+            Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static byte[] readHeader(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return in.readNBytes(8);
+        }
+    }
+
+    private static boolean startsWith(byte[] data, byte[] prefix) {
+        if (data.length < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (data[i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        // Word bodies never need DTDs; refusing them rules out XXE and entity expansion
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+        return factory;
+    }
+
+    // Bytes allocated so far by the current thread, or -1 where the JVM cannot tell
+    private static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemoryEnabled()) {
+            return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    /**
+     * Fails once more than the allowed number of bytes has been read
+     */
+    static final class LimitedInputStream extends FilterInputStream {
+
+        private final long limit;
+        private long count;
+
+        LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count(read);
+            }
+            return read;
+        }
+
+        private void count(long read) throws IOException {
+            count += read;
+            if (count > limit) {
+                throw new SizeLimitExceeded(limit);
+            }
+        }
+    }
+
+    static final class SizeLimitExceeded extends IOException {
+        SizeLimitExceeded(long limit) {
+            super("Document exceeds the " + DataSize.ofBytes(limit).toMegabytes() + "MB limit");
+        }
+    }
+
+    /**
+     * Collects text up to a character budget, then aborts the extraction
+     */
+    static final class BoundedWriter extends Writer {
+
+        static final class BudgetReached extends IOException {
+            BudgetReached() {
+                super("Character budget reached");
+            }
+
+            // Used for control flow only
+            @Override
+            public synchronized Throwable fillInStackTrace() {
+                return this;
+            }
+        }
+
+        static final class DeadlineExceeded extends IOException {
+            DeadlineExceeded() {
+                super("Extraction deadline passed");
+            }
+        }
+
+        private final StringBuilder text;
+        private final int maxChars;
+        // System.nanoTime() after which writing fails
+        private final long deadline;
+
+        BoundedWriter(int maxChars, long deadline) {
+            this.maxChars = maxChars;
+            this.deadline = deadline;
+            this.text = new StringBuilder(Math.min(maxChars, 8192));
+        }
+
+        /**
+         * Stops work nobody waits for any more: past the deadline, or interrupted by the
+         * caller's Future.cancel(true). The interrupt flag is left set for the pool.
+         */
+        void checkAbandoned() throws IOException {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedIOException("Text extraction cancelled");
+            }
+            if (System.nanoTime() - deadline > 0) {
+                throw new DeadlineExceeded();
+            }
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) throws IOException {
+            checkAbandoned();
+            int room = maxChars - text.length();
+            text.append(chars, offset, Math.min(room, length));
+            if (length >= room) {
+                throw new BudgetReached();
+            }
+        }
+
+        @Override
+        public void write(String string, int offset, int length) throws IOException {
+            checkAbandoned();
+            int room = maxChars - text.length();
+            text.append(string, offset, offset + Math.min(room, length));
+            if (length >= room) {
+                throw new BudgetReached();
+            }
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            write(new char[]{(char) c}, 0, 1);
+        }
+
+        @Override
+        public Writer append(CharSequence chars) throws IOException {
+            String string = String.valueOf(chars);
+            write(string, 0, string.length());
+            return this;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String toString() {
+            return text.toString();
+        }
+    }
+}
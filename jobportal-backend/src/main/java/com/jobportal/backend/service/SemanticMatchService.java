@@ -0,0 +1,11 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.dto.ParsedResumeResponse;
+import com.jobportal.backend.dto.SemanticMatchResponse;
+
+import java.util.List;
+
+public interface SemanticMatchService {
+    List<SemanticMatchResponse> findSimilarJobs(Long jobId, int limit);
+    List<SemanticMatchResponse> matchResume(ParsedResumeResponse resume, int limit);
+}
@@ -0,0 +1,239 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.dto.JobResponse;
+import com.jobportal.backend.dto.ParsedResumeResponse;
+import com.jobportal.backend.dto.SemanticMatchResponse;
+import com.jobportal.backend.event.JobChangedEvent;
+import com.jobportal.backend.exception.ResourceNotFoundException;
+import com.jobportal.backend.exception.ServiceUnavailableException;
+import com.jobportal.backend.model.Job;
+import com.jobportal.backend.repository.JobRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SemanticMatchServiceImpl implements SemanticMatchService {
+    
+    private final JobRepository jobRepository;
+    private final JobService jobService;
+    
+    @Value("${app.semantic.index-path:./data/job-vectors.hnsw}")
+    private Path indexPath;
+    
+    @Value("${app.semantic.dimensions:256}")
+    private int dimensions;
+    
+    @Value("${app.semantic.m:16}")
+    private int m;
+    
+    @Value("${app.semantic.ef-construction:100}")
+    private int efConstruction;
+    
+    @Value("${app.semantic.ef-search:64}")
+    private int efSearch;
+    
+    @Value("${app.semantic.max-limit:50}")
+    private int maxLimit;
+    
+    // Removed and re-embedded jobs leave tombstoned nodes; past this share the graph is rebuilt
+    @Value("${app.semantic.max-tombstone-ratio:0.2}")
+    private double maxTombstoneRatio;
+    
+    private volatile HnswIndex index;
+    private volatile HashingVectorizer vectorizer;
+    private volatile boolean dirty;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        vectorizer = new HashingVectorizer(dimensions);
+        HnswIndex loaded = loadPersistedIndex();
+        index = loaded != null ? loaded : new HnswIndex(dimensions, m, efConstruction);
+        
+        // Reconcile with the database: jobs created, edited, closed or deleted while we were down
+        List<Job> activeJobs = jobRepository.findByIsActiveTrue();
+        Set<Long> activeIds = activeJobs.stream().map(Job::getId).collect(Collectors.toSet());
+        index.ids().stream().filter(id -> !activeIds.contains(id)).forEach(index::remove);
+        int added = 0;
+        for (Job job : activeJobs) {
+            long version = versionOf(job);
+            Long indexedVersion = index.versionOf(job.getId());
+            if (indexedVersion == null || indexedVersion != version) {
+                index.add(job.getId(), version, vectorizer.vectorize(textOf(job)));
+                added++;
+            }
+        }
+        dirty = loaded == null || added > 0;
+        compactIfNeeded();
+        log.info("Semantic job index ready with {} jobs ({} embedded at startup)", index.size(), added);
+        persistIfDirty();
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (index == null) {
+            return;
+        }
+        if (event.isLive()) {
+            index.add(event.jobId(), versionOf(event.job()), vectorizer.vectorize(textOf(event.job())));
+        } else {
+            index.remove(event.jobId());
+        }
+        dirty = true;
+    }
+    
+    @Scheduled(fixedDelayString = "${app.semantic.persist-interval:300000}")
+    public void persistIfDirty() {
+        if (index == null || !dirty) {
+            return;
+        }
+        dirty = false;
+        compactIfNeeded();
+        try {
+            index.save(indexPath);
+            log.debug("Semantic job index persisted to {}", indexPath);
+        } catch (IOException e) {
+            dirty = true;
+            log.warn("Failed to persist semantic job index to {}: {}", indexPath, e.getMessage());
+        }
+    }
+    
+    private void compactIfNeeded() {
+        double ratio = index.tombstoneRatio();
+        if (ratio > maxTombstoneRatio) {
+            int removed = index.compact();
+            dirty = true;
+            log.info("Semantic job index compacted: {} tombstoned nodes dropped ({}% of the graph)",
+                    removed, Math.round(ratio * 100));
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        persistIfDirty();
+    }
+    
+    @Override
+    public List<SemanticMatchResponse> findSimilarJobs(Long jobId, int limit) {
+        log.info("Finding jobs similar to job {}", jobId);
+        
+        HnswIndex index = readyIndex();
+        float[] vector = index.vectorOf(jobId);
+        if (vector == null) {
+            throw new ResourceNotFoundException("Job not found with id: " + jobId);
+        }
+        // One extra hit because the job itself is always its own nearest neighbour
+        List<HnswIndex.Match> matches = index.search(vector, clamp(limit) + 1, efSearch)
+                .stream()
+                .filter(match -> match.id() != jobId)
+                .limit(clamp(limit))
+                .collect(Collectors.toList());
+        return toResponses(matches);
+    }
+    
+    @Override
+    public List<SemanticMatchResponse> matchResume(ParsedResumeResponse resume, int limit) {
+        log.info("Matching parsed resume of {} against the semantic job index", resume.getEmail());
+        
+        HnswIndex index = readyIndex();
+        float[] vector = vectorizer.vectorize(textOf(resume));
+        return toResponses(index.search(vector, clamp(limit), efSearch));
+    }
+    
+    // index and vectorizer are only set once the application is ready (vectorizer first)
+    private HnswIndex readyIndex() {
+        HnswIndex current = index;
+        if (current == null) {
+            throw new ServiceUnavailableException("Semantic job index is still being built, retry shortly");
+        }
+        return current;
+    }
+    
+    private int clamp(int limit) {
+        if (limit <= 0 || limit > maxLimit) {
+            throw new RuntimeException("limit must be between 1 and " + maxLimit);
+        }
+        return limit;
+    }
+    
+    private List<SemanticMatchResponse> toResponses(List<HnswIndex.Match> matches) {
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, JobResponse> jobsById = jobService.getJobsByIds(
+                        matches.stream().map(HnswIndex.Match::id).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(JobResponse::getId, Function.identity()));
+        
+        return matches.stream()
+                .filter(match -> jobsById.containsKey(match.id()))
+                .map(match -> SemanticMatchResponse.builder()
+                        .job(jobsById.get(match.id()))
+                        .similarity(Math.round(Math.max(0, match.similarity()) * 1000) / 1000.0)
+                        .build())
+                .collect(Collectors.toList());
+    }
+    
+    private HnswIndex loadPersistedIndex() {
+        if (!Files.exists(indexPath)) {
+            return null;
+        }
+        try {
+            HnswIndex loaded = HnswIndex.load(indexPath);
+            if (loaded.getDimensions() != dimensions) {
+                log.info("Semantic index at {} has {} dimensions, expected {}; rebuilding",
+                        indexPath, loaded.getDimensions(), dimensions);
+                return null;
+            }
+            return loaded;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not load semantic index from {}, rebuilding: {}", indexPath, e.getMessage());
+            return null;
+        }
+    }
+    
+    // Stored with each embedding, so a job edited while the application was down is re-embedded
+    private static long versionOf(Job job) {
+        return job.getUpdatedAt() != null ? job.getUpdatedAt().toInstant(ZoneOffset.UTC).toEpochMilli() : 0;
+    }
+    
+    private static String textOf(Job job) {
+        // Title and company are repeated so they weigh more than the long description
+        return String.join(" ",
+                Objects.toString(job.getTitle(), ""), Objects.toString(job.getTitle(), ""),
+                Objects.toString(job.getCompany(), ""),
+                Objects.toString(job.getExperienceRequired(), ""),
+                Objects.toString(job.getDescription(), ""));
+    }
+    
+    private static String textOf(ParsedResumeResponse resume) {
+        StringBuilder text = new StringBuilder();
+        if (resume.getSkills() != null) {
+            text.append(String.join(" ", resume.getSkills())).append(' ');
+        }
+        if (resume.getExperience() != null) {
+            for (ParsedResumeResponse.Experience experience : resume.getExperience()) {
+                text.append(Objects.toString(experience.getRole(), "")).append(' ')
+                        .append(Objects.toString(experience.getDescription(), "")).append(' ');
+            }
+        }
+        text.append(Objects.toString(resume.getSummary(), ""));
+        return text.toString();
+    }
+}
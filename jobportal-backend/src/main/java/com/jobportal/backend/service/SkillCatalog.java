@@ -0,0 +1,164 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.model.Skill;
+import com.jobportal.backend.repository.SkillRepository;
+import com.jobportal.backend.util.SkillDictionary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory mirror of the skills table: normalized name <-> small integer id.
+ *
+ * Skills are few and never deleted, so the whole table is loaded once and new names are
+ * inserted on first sight. Dictionary skills keep their canonical spelling regardless of
+ * how a resume wrote them.
+ *
+ * A new name is inserted with ON CONFLICT DO NOTHING and read back, so a concurrent insert
+ * of the same name (another instance, or a transaction that has not committed yet) yields
+ * the row that wins. New ids only enter the in-memory maps once their transaction has
+ * committed, so a rollback never leaves an id that is not in the table.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class SkillCatalog {
+    
+    public static final int UNKNOWN = -1;
+    
+    private static final int MAX_NAME_LENGTH = 100;
+    
+    private final SkillRepository skillRepository;
+    
+    private final Map<String, Integer> idsByName = new ConcurrentHashMap<>();
+    private final Map<Integer, String> namesById = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+    // Held across repository calls, so a ReentrantLock rather than a monitor (no virtual thread pinning)
+    private final ReentrantLock lock = new ReentrantLock();
+    
+    /**
+     * Id of the skill, or {@link #UNKNOWN} if no candidate has had it yet
+     */
+    public int idOf(String skill) {
+        ensureLoaded();
+        return idsByName.getOrDefault(normalize(skill), UNKNOWN);
+    }
+    
+    public String nameOf(int skillId) {
+        ensureLoaded();
+        return namesById.get(skillId);
+    }
+    
+    /**
+     * Sorted, distinct ids of the given skills, registering names seen for the first time.
+     * New skills commit on their own, before the caller stores anything referencing them.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int[] register(Collection<String> skills) {
+        lock.lock();
+        try {
+            ensureLoaded();
+            Map<String, Skill> created = new HashMap<>();
+            int[] ids = skills.stream()
+                    .filter(skill -> skill != null && !normalize(skill).isEmpty())
+                    .mapToInt(skill -> registerOne(skill, created))
+                    .distinct()
+                    .sorted()
+                    .toArray();
+            if (!created.isEmpty()) {
+                rememberAfterCommit(List.copyOf(created.values()));
+            }
+            return ids;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    public List<String> namesOf(int[] skillIds) {
+        List<String> names = new ArrayList<>(skillIds.length);
+        for (int skillId : skillIds) {
+            String name = nameOf(skillId);
+            if (name != null) {
+                names.add(name);
+            }
+        }
+        return names;
+    }
+    
+    static String normalize(String skill) {
+        if (skill == null) {
+            return "";
+        }
+        String normalized = skill.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+        return normalized.length() > MAX_NAME_LENGTH ? normalized.substring(0, MAX_NAME_LENGTH) : normalized;
+    }
+    
+    private int registerOne(String skill, Map<String, Skill> created) {
+        String normalized = normalize(skill);
+        Integer existing = idsByName.get(normalized);
+        if (existing != null) {
+            return existing;
+        }
+        Skill pending = created.get(normalized);
+        if (pending != null) {
+            return pending.getId();
+        }
+        skillRepository.insertIfAbsent(canonicalName(skill.trim(), normalized), normalized);
+        Skill saved = skillRepository.findByNormalizedName(normalized)
+                .orElseThrow(() -> new IllegalStateException("Skill was not stored: " + normalized));
+        created.put(normalized, saved);
+        return saved.getId();
+    }
+    
+    private void rememberAfterCommit(List<Skill> skills) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            skills.forEach(this::remember);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                skills.forEach(SkillCatalog.this::remember);
+            }
+        });
+    }
+    
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (loaded) {
+                return;
+            }
+            skillRepository.findAll().forEach(this::remember);
+            loaded = true;
+            log.info("Skill catalog loaded with {} skills", idsByName.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private void remember(Skill skill) {
+        idsByName.put(skill.getNormalizedName(), skill.getId());
+        namesById.put(skill.getId(), skill.getName());
+    }
+    
+    private static String canonicalName(String skill, String normalized) {
+        for (String known : SkillDictionary.SKILLS) {
+            if (known.toLowerCase(Locale.ROOT).equals(normalized)) {
+                return known;
+            }
+        }
+        return skill.length() > MAX_NAME_LENGTH ? skill.substring(0, MAX_NAME_LENGTH) : skill;
+    }
+}
@@ -1,7 +1,14 @@
 package com.jobportal.backend.service;
 
 import com.jobportal.backend.dto.SkillGapAnalysisResponse;
+import com.jobportal.backend.dto.SkillGapBatchResponse;
+
+import java.util.List;
 
 public interface SkillGapAnalysisService {
     SkillGapAnalysisResponse analyzeSkillGap(Long userId, Long jobId);
-}
\ No newline at end of file
+    SkillGapBatchResponse analyzeSkillGaps(Long userId, List<Long> jobIds);
+
+    /** For callers that already checked the user and hold the skill profile */
+    SkillGapBatchResponse analyzeSkillGaps(Long userId, SkillProfile profile, List<Long> jobIds);
+}
@@ -2,15 +2,21 @@ package com.jobportal.backend.service;
 
 import com.jobportal.backend.dto.SkillGapAnalysisResponse;
 import com.jobportal.backend.dto.SkillGapAnalysisResponse.*;
+import com.jobportal.backend.dto.SkillGapBatchResponse;
+import com.jobportal.backend.dto.SkillGapBatchResponse.MissingSkillFrequency;
 import com.jobportal.backend.model.Job;
 import com.jobportal.backend.model.User;
 import com.jobportal.backend.repository.JobRepository;
 import com.jobportal.backend.repository.UserRepository;
+import com.jobportal.backend.util.LearningResourceCatalog;
+import com.jobportal.backend.util.SkillDictionary;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -18,10 +24,18 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class SkillGapAnalysisServiceImpl implements SkillGapAnalysisService {
 
+    private static final List<String> DEFAULT_JOB_SKILLS = List.of("Java", "Spring Boot", "AWS", "Docker");
+
+    private static final List<String> CRITICAL_SKILLS = List.of(
+            "java", "python", "javascript", "aws", "spring boot", "react");
+
     private final UserRepository userRepository;
     private final JobRepository jobRepository;
+    private final UserProfileService userProfileService;
+    private final SkillCatalog skillCatalog;
 
     @Override
+    @Transactional(readOnly = true)
     public SkillGapAnalysisResponse analyzeSkillGap(Long userId, Long jobId) {
         log.info("Analyzing skill gap for user {} and job {}", userId, jobId);
 
@@ -31,25 +45,100 @@ public class SkillGapAnalysisServiceImpl implements SkillGapAnalysisService {
         Job job = jobRepository.findById(jobId)
                 .orElseThrow(() -> new RuntimeException("Job not found with id: " + jobId));
 
-        // Extract skills
-        List<String> userSkills = extractUserSkills(user);
+        return analyze(user.getId(), userProfileService.getProfile(userId), job);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SkillGapBatchResponse analyzeSkillGaps(Long userId, List<Long> jobIds) {
+        log.info("Analyzing skill gaps for user {} across {} jobs", userId, jobIds.size());
+
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("User not found with id: " + userId);
+        }
+        // The candidate's skill vector is loaded once and shared by every job in the batch
+        return analyzeSkillGaps(userId, userProfileService.getProfile(userId), jobIds);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SkillGapBatchResponse analyzeSkillGaps(Long userId, SkillProfile profile, List<Long> jobIds) {
+        List<Long> distinctIds = jobIds.stream().distinct().collect(Collectors.toList());
+        Map<Long, Job> jobsById = jobRepository.findAllById(distinctIds)
+                .stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+
+        List<SkillGapAnalysisResponse> analyses = new ArrayList<>(jobsById.size());
+        List<Long> notFound = new ArrayList<>();
+        // skill -> frequency entry, in first-seen order so ties keep the caller's job order
+        Map<String, MissingSkillFrequency> frequencies = new LinkedHashMap<>();
+        for (Long jobId : distinctIds) {
+            Job job = jobsById.get(jobId);
+            if (job == null) {
+                notFound.add(jobId);
+                continue;
+            }
+            SkillGapAnalysisResponse analysis = analyze(userId, profile, job);
+            analyses.add(analysis);
+            for (MissingSkill missing : analysis.getMissingSkills()) {
+                MissingSkillFrequency frequency = frequencies.computeIfAbsent(missing.getSkill().toLowerCase(),
+                        skill -> MissingSkillFrequency.builder()
+                                .skill(missing.getSkill())
+                                .jobCount(0)
+                                .highestPriority(SkillPriority.LOW)
+                                .jobIds(new ArrayList<>())
+                                .learningResources(missing.getLearningResources())
+                                .estimatedLearningTime(missing.getEstimatedLearningTime())
+                                .build());
+                frequency.setJobCount(frequency.getJobCount() + 1);
+                frequency.getJobIds().add(jobId);
+                // SkillPriority is declared HIGH first
+                if (missing.getPriority().compareTo(frequency.getHighestPriority()) < 0) {
+                    frequency.setHighestPriority(missing.getPriority());
+                }
+            }
+        }
+
+        analyses.sort(Comparator.comparing(SkillGapAnalysisResponse::getMatchPercentage).reversed());
+        List<MissingSkillFrequency> missingSkillFrequencies = frequencies.values().stream()
+                .sorted(Comparator.comparing(MissingSkillFrequency::getJobCount).reversed()
+                        .thenComparing(MissingSkillFrequency::getHighestPriority))
+                .collect(Collectors.toList());
+
+        int averageMatch = (int) analyses.stream()
+                .mapToInt(SkillGapAnalysisResponse::getMatchPercentage)
+                .average()
+                .orElse(0);
+
+        log.info("Analyzed {} jobs for user {}: average match {}%, {} distinct missing skills",
+                 analyses.size(), userId, averageMatch, missingSkillFrequencies.size());
+
+        return SkillGapBatchResponse.builder()
+                .userId(userId)
+                .jobsAnalyzed(analyses.size())
+                .jobsNotFound(notFound)
+                .averageMatchPercentage(averageMatch)
+                .analyses(analyses)
+                .missingSkillFrequencies(missingSkillFrequencies)
+                .build();
+    }
+
+    private SkillGapAnalysisResponse analyze(Long userId, SkillProfile profile, Job job) {
         List<String> jobSkills = extractJobSkills(job);
 
-        log.info("User has {} skills, job requires {} skills", userSkills.size(), jobSkills.size());
+        log.debug("User has {} skills, job {} requires {} skills",
+                  profile.skillIds().length, job.getId(), jobSkills.size());
 
         // Analyze matches
         List<SkillMatch> matchingSkills = new ArrayList<>();
         List<MissingSkill> missingSkills = new ArrayList<>();
 
         for (String jobSkill : jobSkills) {
-            boolean hasSkill = userSkills.stream()
-                    .anyMatch(us -> us.equalsIgnoreCase(jobSkill));
-
-            if (hasSkill) {
+            if (profile.hasSkill(skillCatalog.idOf(jobSkill))) {
                 // User has this skill
                 matchingSkills.add(SkillMatch.builder()
                         .skill(jobSkill)
-                        .userLevel(determineSkillLevel(jobSkill, user))
+                        .userLevel(determineSkillLevel(jobSkill, userId))
                         .requiredLevel("Advanced") // Could be extracted from job description
                         .status(MatchStatus.MATCHES)
                         .build());
@@ -59,8 +148,8 @@ public class SkillGapAnalysisServiceImpl implements SkillGapAnalysisService {
                         .skill(jobSkill)
                         .requiredLevel("Advanced")
                         .priority(determineSkillPriority(jobSkill, job))
-                        .learningResources(getLearningResources(jobSkill))
-                        .estimatedLearningTime(estimateLearningTime(jobSkill))
+                        .learningResources(LearningResourceCatalog.resourcesFor(jobSkill))
+                        .estimatedLearningTime(LearningResourceCatalog.learningTimeFor(jobSkill))
                         .build());
             }
         }
@@ -87,42 +176,12 @@ public class SkillGapAnalysisServiceImpl implements SkillGapAnalysisService {
                 .build();
     }
 
-    private List<String> extractUserSkills(User user) {
-        // In production, get from user.getProfile().getSkills()
-        List<String> skills = new ArrayList<>();
-        skills.add("Java");
-        skills.add("Spring Boot");
-        skills.add("PostgreSQL");
-        skills.add("REST API");
-        skills.add("Git");
-        return skills;
-    }
-
     private List<String> extractJobSkills(Job job) {
-        List<String> skills = new ArrayList<>();
-        String description = (job.getDescription() != null ? job.getDescription() : "").toLowerCase();
-
-        String[] skillKeywords = {
-            "java", "python", "javascript", "react", "angular", "vue",
-            "spring boot", "spring", "node.js", "express",
-            "aws", "azure", "docker", "kubernetes",
-            "postgresql", "mysql", "mongodb", "redis",
-            "git", "jenkins", "rest api", "graphql", "microservices"
-        };
-
-        for (String keyword : skillKeywords) {
-            if (description.contains(keyword.toLowerCase())) {
-                String capitalized = Arrays.stream(keyword.split(" "))
-                        .map(word -> word.substring(0, 1).toUpperCase() + word.substring(1))
-                        .collect(Collectors.joining(" "));
-                skills.add(capitalized);
-            }
-        }
-
-        return skills.isEmpty() ? Arrays.asList("Java", "Spring Boot", "AWS", "Docker") : skills;
+        List<String> skills = SkillDictionary.MATCHER.findIn(job.getDescription());
+        return skills.isEmpty() ? DEFAULT_JOB_SKILLS : skills;
     }
 
-    private String determineSkillLevel(String skill, User user) {
+    private String determineSkillLevel(String skill, Long userId) {
         // In production, get from user skill proficiency data
         return "Advanced";
     }
@@ -131,22 +190,23 @@ public class SkillGapAnalysisServiceImpl implements SkillGapAnalysisService {
         // Determine priority based on job title and description
         String title = job.getTitle().toLowerCase();
         String description = job.getDescription() != null ? job.getDescription().toLowerCase() : "";
+        String needle = skill.toLowerCase();
 
         // High priority if skill is in job title
-        if (title.contains(skill.toLowerCase())) {
+        if (title.contains(needle)) {
             return SkillPriority.HIGH;
         }
 
         // High priority for core technical skills
-        List<String> criticalSkills = Arrays.asList(
-                "java", "python", "javascript", "aws", "spring boot", "react"
-        );
-        if (criticalSkills.stream().anyMatch(cs -> cs.equalsIgnoreCase(skill))) {
+        if (CRITICAL_SKILLS.contains(needle)) {
             return SkillPriority.HIGH;
         }
 
         // Medium priority if mentioned multiple times
-        int mentionCount = description.split(skill.toLowerCase(), -1).length - 1;
+        int mentionCount = 0;
+        for (int at = description.indexOf(needle); at >= 0; at = description.indexOf(needle, at + needle.length())) {
+            mentionCount++;
+        }
         if (mentionCount > 2) {
             return SkillPriority.MEDIUM;
         }
@@ -154,112 +214,6 @@ public class SkillGapAnalysisServiceImpl implements SkillGapAnalysisService {
         return SkillPriority.LOW;
     }
 
-    private List<LearningResource> getLearningResources(String skill) {
-        // Curated learning resources for common skills
-        Map<String, List<LearningResource>> resourceMap = new HashMap<>();
-
-        // AWS Resources
-        resourceMap.put("aws", Arrays.asList(
-                LearningResource.builder()
-                        .title("AWS Certified Solutions Architect Course")
-                        .url("https://www.udemy.com/course/aws-certified-solutions-architect-associate/")
-                        .duration("24 hours")
-                        .type(ResourceType.COURSE)
-                        .build(),
-                LearningResource.builder()
-                        .title("AWS Official Documentation")
-                        .url("https://docs.aws.amazon.com/")
-                        .duration("Self-paced")
-                        .type(ResourceType.DOCUMENTATION)
-                        .build()
-        ));
-
-        // Docker Resources
-        resourceMap.put("docker", Arrays.asList(
-                LearningResource.builder()
-                        .title("Docker Crash Course")
-                        .url("https://www.youtube.com/watch?v=pg19Z8LL06w")
-                        .duration("4 hours")
-                        .type(ResourceType.VIDEO)
-                        .build(),
-                LearningResource.builder()
-                        .title("Docker Official Docs")
-                        .url("https://docs.docker.com/")
-                        .duration("Self-paced")
-                        .type(ResourceType.DOCUMENTATION)
-                        .build()
-        ));
-
-        // Kubernetes Resources
-        resourceMap.put("kubernetes", Arrays.asList(
-                LearningResource.builder()
-                        .title("Kubernetes for Beginners")
-                        .url("https://www.udemy.com/course/learn-kubernetes/")
-                        .duration("8 hours")
-                        .type(ResourceType.COURSE)
-                        .build(),
-                LearningResource.builder()
-                        .title("Kubernetes Official Tutorial")
-                        .url("https://kubernetes.io/docs/tutorials/")
-                        .duration("Self-paced")
-                        .type(ResourceType.TUTORIAL)
-                        .build()
-        ));
-
-        // React Resources
-        resourceMap.put("react", Arrays.asList(
-                LearningResource.builder()
-                        .title("React - The Complete Guide")
-                        .url("https://www.udemy.com/course/react-the-complete-guide/")
-                        .duration("40 hours")
-                        .type(ResourceType.COURSE)
-                        .build(),
-                LearningResource.builder()
-                        .title("Official React Documentation")
-                        .url("https://react.dev/")
-                        .duration("Self-paced")
-                        .type(ResourceType.DOCUMENTATION)
-                        .build()
-        ));
-
-        // Python Resources
-        resourceMap.put("python", Arrays.asList(
-                LearningResource.builder()
-                        .title("Python for Everybody")
-                        .url("https://www.coursera.org/specializations/python")
-                        .duration("32 hours")
-                        .type(ResourceType.COURSE)
-                        .build()
-        ));
-
-        // Return resources or generic ones
-        return resourceMap.getOrDefault(skill.toLowerCase(), 
-                Collections.singletonList(
-                        LearningResource.builder()
-                                .title(skill + " Tutorial on YouTube")
-                                .url("https://www.youtube.com/results?search_query=" + 
-                                      skill.replace(" ", "+") + "+tutorial")
-                                .duration("Varies")
-                                .type(ResourceType.VIDEO)
-                                .build()
-                ));
-    }
-
-    private String estimateLearningTime(String skill) {
-        // Estimate learning time based on skill complexity
-        Map<String, String> timeEstimates = new HashMap<>();
-        timeEstimates.put("aws", "4-6 weeks");
-        timeEstimates.put("docker", "1-2 weeks");
-        timeEstimates.put("kubernetes", "3-4 weeks");
-        timeEstimates.put("react", "4-6 weeks");
-        timeEstimates.put("angular", "4-6 weeks");
-        timeEstimates.put("python", "6-8 weeks");
-        timeEstimates.put("microservices", "3-4 weeks");
-        timeEstimates.put("graphql", "2-3 weeks");
-
-        return timeEstimates.getOrDefault(skill.toLowerCase(), "2-4 weeks");
-    }
-
     private List<String> generateRecommendations(
             int matchPercentage, 
             List<SkillMatch> matching, 
@@ -0,0 +1,20 @@
+package com.jobportal.backend.service;
+
+import java.util.Arrays;
+
+/**
+ * Compact, cacheable form of a candidate profile: sorted skill ids plus the raw location
+ * and years of experience (null when unknown).
+ */
+public record SkillProfile(int[] skillIds, String location, Integer yearsExperience) {
+    
+    public static final SkillProfile EMPTY = new SkillProfile(new int[0], null, null);
+    
+    public boolean hasSkill(int skillId) {
+        return skillId >= 0 && Arrays.binarySearch(skillIds, skillId) >= 0;
+    }
+    
+    public boolean isEmpty() {
+        return skillIds.length == 0 && location == null && yearsExperience == null;
+    }
+}
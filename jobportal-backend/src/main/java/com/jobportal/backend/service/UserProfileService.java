@@ -0,0 +1,12 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.dto.ParsedResumeResponse;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface UserProfileService {
+    void saveFromResume(Long userId, ParsedResumeResponse resume, String callerEmail);
+    SkillProfile getProfile(Long userId);
+    Map<Long, SkillProfile> getProfiles(Collection<Long> userIds);
+}
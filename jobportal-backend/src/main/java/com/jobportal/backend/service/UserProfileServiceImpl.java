@@ -0,0 +1,107 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.dto.ParsedResumeResponse;
+import com.jobportal.backend.event.UserProfileChangedEvent;
+import com.jobportal.backend.exception.ResourceNotFoundException;
+import com.jobportal.backend.model.User;
+import com.jobportal.backend.model.UserProfile;
+import com.jobportal.backend.model.UserRole;
+import com.jobportal.backend.repository.UserProfileRepository;
+import com.jobportal.backend.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserProfileServiceImpl implements UserProfileService {
+    
+    private static final Pattern YEARS = Pattern.compile("(\\d{1,2})");
+    
+    private final UserProfileRepository userProfileRepository;
+    private final UserRepository userRepository;
+    private final SkillCatalog skillCatalog;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @Override
+    @Transactional
+    @CacheEvict(value = "user-profiles", key = "#userId")
+    public void saveFromResume(Long userId, ParsedResumeResponse resume, String callerEmail) {
+        User caller = userRepository.findByEmail(callerEmail)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        // Candidates may only store their own profile; an admin may store anyone's
+        if (!caller.getId().equals(userId) && caller.getRole() != UserRole.ADMIN) {
+            throw new RuntimeException("You are not authorized to update this profile");
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found with id: " + userId);
+        }
+        
+        UserProfile profile = userProfileRepository.findById(userId)
+                .orElseGet(() -> UserProfile.builder().userId(userId).build());
+        
+        List<String> skills = resume.getSkills() == null ? List.of() : resume.getSkills().stream()
+                .filter(skill -> !FallbackResumeParser.PLACEHOLDER_SKILL.equals(skill))
+                .toList();
+        int[] skillIds = skillCatalog.register(skills);
+        profile.setSkillIds(Arrays.stream(skillIds).boxed().collect(Collectors.toCollection(HashSet::new)));
+        if (resume.getLocation() != null && !resume.getLocation().isBlank()) {
+            profile.setLocation(resume.getLocation().trim());
+        }
+        Integer years = parseYears(resume.getTotalExperience());
+        if (years != null) {
+            profile.setYearsExperience(years);
+        }
+        userProfileRepository.save(profile);
+        
+        log.info("Stored profile for user {}: {} skills, location={}, experience={}",
+                 userId, skillIds.length, profile.getLocation(), profile.getYearsExperience());
+        eventPublisher.publishEvent(new UserProfileChangedEvent(userId));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = "user-profiles", key = "#userId")
+    public SkillProfile getProfile(Long userId) {
+        return userProfileRepository.findById(userId)
+                .map(this::toSkillProfile)
+                .orElse(SkillProfile.EMPTY);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, SkillProfile> getProfiles(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, SkillProfile> profiles = new HashMap<>();
+        for (UserProfile profile : userProfileRepository.findWithSkillsByUserIdIn(userIds)) {
+            profiles.put(profile.getUserId(), toSkillProfile(profile));
+        }
+        return profiles;
+    }
+    
+    private SkillProfile toSkillProfile(UserProfile profile) {
+        int[] skillIds = profile.getSkillIds().stream().mapToInt(Integer::intValue).sorted().toArray();
+        return new SkillProfile(skillIds, profile.getLocation(), profile.getYearsExperience());
+    }
+    
+    // "5 years", "5+ yrs", "3.5 years" -> whole years
+    static Integer parseYears(String totalExperience) {
+        if (totalExperience == null) {
+            return null;
+        }
+        Matcher matcher = YEARS.matcher(totalExperience);
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : null;
+    }
+}
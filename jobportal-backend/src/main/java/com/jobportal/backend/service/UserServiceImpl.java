@@ -20,6 +20,7 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final EmailService emailService;
+    private final FileStorageService fileStorageService;
 
     // ...existing code...    @Override
     @CacheEvict(value = "users", allEntries = true)
@@ -81,6 +82,8 @@ public class UserServiceImpl implements UserService {
     public void updateResumeUrl(Long userId, String resumeUrl) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
+        // The previous file is swept once nothing else points to it
+        fileStorageService.attach(resumeUrl, userId);
         user.setResumeUrl(resumeUrl);
         userRepository.save(user);
     }
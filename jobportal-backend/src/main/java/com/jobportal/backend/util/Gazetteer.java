@@ -0,0 +1,100 @@
+package com.jobportal.backend.util;
+
+import com.jobportal.backend.model.Job;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Resolves free-text locations ("Bangalore, India", "Hybrid - Pune") to a canonical city
+ * with coordinates, using the offline gazetteer bundled at geo/cities.csv.
+ */
+@Component
+@Slf4j
+public class Gazetteer {
+
+    private static final String GAZETTEER_FILE = "geo/cities.csv";
+
+    public record City(String name, String country, double latitude, double longitude) {
+    }
+
+    private final Map<String, City> citiesByAlias;
+
+    public Gazetteer() {
+        this.citiesByAlias = load();
+        log.info("Gazetteer loaded with {} names", citiesByAlias.size());
+    }
+
+    public Optional<City> resolve(String location) {
+        if (location == null || location.isBlank()) {
+            return Optional.empty();
+        }
+        String normalized = normalize(location);
+
+        // Whole string, then each comma/dash separated part, then single words
+        City city = citiesByAlias.get(normalized);
+        if (city == null) {
+            city = firstMatch(normalized.split("\\s*[,;/|()\\-]+\\s*"));
+        }
+        if (city == null) {
+            city = firstMatch(normalized.split("[^\\p{L}\\p{N}]+"));
+        }
+        return Optional.ofNullable(city);
+    }
+
+    /**
+     * Sets the job's normalized location and coordinates from its free-text location
+     * (cleared when the location cannot be resolved)
+     */
+    public void normalize(Job job) {
+        Optional<City> city = resolve(job.getLocation());
+        job.setNormalizedLocation(city.map(City::name).orElse(null));
+        job.setLatitude(city.map(City::latitude).orElse(null));
+        job.setLongitude(city.map(City::longitude).orElse(null));
+    }
+
+    private City firstMatch(String[] candidates) {
+        for (String candidate : candidates) {
+            City city = citiesByAlias.get(candidate.trim());
+            if (city != null) {
+                return city;
+            }
+        }
+        return null;
+    }
+
+    private static Map<String, City> load() {
+        Map<String, City> byAlias = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource(GAZETTEER_FILE).getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split(",", -1);
+                City city = new City(fields[0].trim(), fields[1].trim(),
+                        Double.parseDouble(fields[2]), Double.parseDouble(fields[3]));
+                byAlias.put(normalize(city.name()), city);
+                if (fields.length > 4 && !fields[4].isBlank()) {
+                    for (String alias : fields[4].split("\\|")) {
+                        byAlias.putIfAbsent(normalize(alias), city);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not load gazetteer " + GAZETTEER_FILE, e);
+        }
+        return Map.copyOf(byAlias);
+    }
+
+    private static String normalize(String text) {
+        return text.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+}
@@ -0,0 +1,96 @@
+package com.jobportal.backend.util;
+
+/**
+ * Minimal geohash encoding plus great-circle distance, used by the job geo index.
+ */
+public final class GeoHash {
+
+    public static final int MAX_PRECISION = 7;
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final double KM_PER_DEGREE_LAT = 111.32;
+
+    private GeoHash() {
+    }
+
+    public static String encode(double latitude, double longitude, int precision) {
+        double minLat = -90, maxLat = 90;
+        double minLon = -180, maxLon = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int ch = 0;
+
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLon + maxLon) / 2;
+                if (longitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLon = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLon = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+            if (++bit == 5) {
+                hash.append(BASE32[ch]);
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /**
+     * Height of a geohash cell in degrees of latitude
+     */
+    public static double cellHeightDegrees(int precision) {
+        return 180.0 / (1L << ((5 * precision) / 2));
+    }
+
+    /**
+     * Width of a geohash cell in degrees of longitude
+     */
+    public static double cellWidthDegrees(int precision) {
+        return 360.0 / (1L << ((5 * precision + 1) / 2));
+    }
+
+    /**
+     * Longest geohash precision whose cells are at least radiusKm high and wide around the
+     * given latitude, so the centre cell and its 8 neighbours cover the whole circle.
+     * Returns 0 when even single-character cells are too small.
+     */
+    public static int precisionForRadius(double latitude, double radiusKm) {
+        double radiusLat = radiusKm / KM_PER_DEGREE_LAT;
+        double radiusLon = radiusKm / (KM_PER_DEGREE_LAT * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+        for (int precision = MAX_PRECISION; precision >= 1; precision--) {
+            if (cellHeightDegrees(precision) >= radiusLat && cellWidthDegrees(precision) >= radiusLon) {
+                return precision;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Haversine distance in kilometres
+     */
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+}
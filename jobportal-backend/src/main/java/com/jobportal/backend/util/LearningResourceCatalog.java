@@ -0,0 +1,84 @@
+package com.jobportal.backend.util;
+
+import com.jobportal.backend.dto.SkillGapAnalysisResponse.LearningResource;
+import com.jobportal.backend.dto.SkillGapAnalysisResponse.ResourceType;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Curated learning resources and learning-time estimates per skill, built once at class
+ * load. Lists and resources are immutable, so they are shared by every skill-gap response.
+ */
+public final class LearningResourceCatalog {
+
+    private static final String DEFAULT_LEARNING_TIME = "2-4 weeks";
+
+    private static final Map<String, List<LearningResource>> RESOURCES = Map.of(
+            "aws", List.of(
+                    resource("AWS Certified Solutions Architect Course",
+                            "https://www.udemy.com/course/aws-certified-solutions-architect-associate/",
+                            "24 hours", ResourceType.COURSE),
+                    resource("AWS Official Documentation", "https://docs.aws.amazon.com/",
+                            "Self-paced", ResourceType.DOCUMENTATION)),
+            "docker", List.of(
+                    resource("Docker Crash Course", "https://www.youtube.com/watch?v=pg19Z8LL06w",
+                            "4 hours", ResourceType.VIDEO),
+                    resource("Docker Official Docs", "https://docs.docker.com/",
+                            "Self-paced", ResourceType.DOCUMENTATION)),
+            "kubernetes", List.of(
+                    resource("Kubernetes for Beginners", "https://www.udemy.com/course/learn-kubernetes/",
+                            "8 hours", ResourceType.COURSE),
+                    resource("Kubernetes Official Tutorial", "https://kubernetes.io/docs/tutorials/",
+                            "Self-paced", ResourceType.TUTORIAL)),
+            "react", List.of(
+                    resource("React - The Complete Guide", "https://www.udemy.com/course/react-the-complete-guide/",
+                            "40 hours", ResourceType.COURSE),
+                    resource("Official React Documentation", "https://react.dev/",
+                            "Self-paced", ResourceType.DOCUMENTATION)),
+            "python", List.of(
+                    resource("Python for Everybody", "https://www.coursera.org/specializations/python",
+                            "32 hours", ResourceType.COURSE))
+    );
+
+    private static final Map<String, String> LEARNING_TIMES = Map.of(
+            "aws", "4-6 weeks",
+            "docker", "1-2 weeks",
+            "kubernetes", "3-4 weeks",
+            "react", "4-6 weeks",
+            "angular", "4-6 weeks",
+            "python", "6-8 weeks",
+            "microservices", "3-4 weeks",
+            "graphql", "2-3 weeks"
+    );
+
+    private LearningResourceCatalog() {
+    }
+
+    /**
+     * Curated resources for the skill, or a single search link for skills without any
+     */
+    public static List<LearningResource> resourcesFor(String skill) {
+        List<LearningResource> curated = RESOURCES.get(skill.toLowerCase(Locale.ROOT));
+        if (curated != null) {
+            return curated;
+        }
+        return List.of(resource(skill + " Tutorial on YouTube",
+                "https://www.youtube.com/results?search_query=" + skill.replace(" ", "+") + "+tutorial",
+                "Varies", ResourceType.VIDEO));
+    }
+
+    public static String learningTimeFor(String skill) {
+        return LEARNING_TIMES.getOrDefault(skill.toLowerCase(Locale.ROOT), DEFAULT_LEARNING_TIME);
+    }
+
+    private static LearningResource resource(String title, String url, String duration, ResourceType type) {
+        return LearningResource.builder()
+                .title(title)
+                .url(url)
+                .duration(duration)
+                .type(type)
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.jobportal.backend.util;
+
+import java.util.List;
+
+/**
+ * Canonical names of the technical skills the portal recognises.
+ * Single source for the resume parser, job matching, skill gaps, interview questions
+ * and autocomplete: job descriptions are all scanned with {@link #MATCHER}.
+ */
+public final class SkillDictionary {
+
+    public static final List<String> SKILLS = List.of(
+            "Java", "Python", "JavaScript", "TypeScript", "React", "Angular", "Vue",
+            "Spring Boot", "Spring", "Node.js", "Express",
+            "AWS", "Azure", "GCP", "Docker", "Kubernetes",
+            "PostgreSQL", "MySQL", "MongoDB", "Redis",
+            "Git", "Jenkins", "CI/CD", "Microservices",
+            "REST API", "GraphQL", "HTML", "CSS"
+    );
+
+    /**
+     * Finds the skills above in free text; shared because building the automaton is the
+     * expensive part
+     */
+    public static final SkillMatcher MATCHER = new SkillMatcher(SKILLS);
+
+    private SkillDictionary() {
+    }
+}
@@ -0,0 +1,147 @@
+package com.jobportal.backend.util;
+
+import java.util.*;
+
+/**
+ * Case-insensitive multi-pattern matcher (Aho-Corasick) over a fixed list of skill names.
+ *
+ * The automaton is compiled once into a dense transition table, so finding every skill
+ * mentioned in a text is a single pass over its characters with no lower-cased copy.
+ * A skill matches wherever it occurs as a substring, the same rule as
+ * {@code text.toLowerCase().contains(skill.toLowerCase())}. Instances are immutable and
+ * safe to share between threads.
+ */
+public final class SkillMatcher {
+
+    private final List<String> skills;
+    // Character -> column in the transition table; 0 is "not in any skill"
+    private final char[] columnOf = new char[Character.MAX_VALUE + 1];
+    private final int columns;
+    private final int[] transitions;   // state * columns + column -> next state
+    private final int[][] matchesAt;   // state -> skill indexes ending here (incl. via failure links)
+
+    public SkillMatcher(List<String> skills) {
+        this.skills = List.copyOf(skills);
+
+        int column = 1;
+        for (String skill : this.skills) {
+            for (char c : lower(skill).toCharArray()) {
+                if (columnOf[c] == 0) {
+                    columnOf[c] = (char) column++;
+                }
+            }
+        }
+        this.columns = column;
+
+        // Trie
+        List<int[]> trie = new ArrayList<>();
+        List<List<Integer>> outputs = new ArrayList<>();
+        trie.add(new int[columns]);
+        outputs.add(new ArrayList<>());
+        for (int s = 0; s < this.skills.size(); s++) {
+            int state = 0;
+            for (char c : lower(this.skills.get(s)).toCharArray()) {
+                int col = columnOf[c];
+                if (trie.get(state)[col] == 0) {
+                    trie.get(state)[col] = trie.size();
+                    trie.add(new int[columns]);
+                    outputs.add(new ArrayList<>());
+                }
+                state = trie.get(state)[col];
+            }
+            outputs.get(state).add(s);
+        }
+
+        // Breadth-first: resolve failure links into a complete transition table
+        int states = trie.size();
+        this.transitions = new int[states * columns];
+        int[] failure = new int[states];
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int col = 1; col < columns; col++) {
+            int child = trie.get(0)[col];
+            transitions[col] = child;
+            if (child != 0) {
+                queue.add(child);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            outputs.get(state).addAll(outputs.get(failure[state]));
+            for (int col = 1; col < columns; col++) {
+                int child = trie.get(state)[col];
+                if (child != 0) {
+                    failure[child] = transitions[failure[state] * columns + col];
+                    transitions[state * columns + col] = child;
+                    queue.add(child);
+                } else {
+                    transitions[state * columns + col] = transitions[failure[state] * columns + col];
+                }
+            }
+        }
+
+        this.matchesAt = new int[states][];
+        for (int state = 0; state < states; state++) {
+            matchesAt[state] = outputs.get(state).stream().distinct().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    public List<String> getSkills() {
+        return skills;
+    }
+
+    /**
+     * Skills mentioned anywhere in the text, in the order they were given to the matcher
+     */
+    public List<String> findIn(CharSequence text) {
+        Scan scan = newScan();
+        if (text != null) {
+            for (int i = 0, n = text.length(); i < n; i++) {
+                scan.accept(text.charAt(i));
+            }
+        }
+        return scan.skills();
+    }
+
+    /**
+     * Incremental matching, for callers that already walk the text character by character
+     */
+    public Scan newScan() {
+        return new Scan();
+    }
+
+    public final class Scan {
+
+        private final BitSet found = new BitSet(skills.size());
+        private int state;
+
+        private Scan() {
+        }
+
+        public void accept(char c) {
+            state = transitions[state * columns + columnOf[lowerChar(c)]];
+            for (int skill : matchesAt[state]) {
+                found.set(skill);
+            }
+        }
+
+        public List<String> skills() {
+            List<String> result = new ArrayList<>(found.cardinality());
+            for (int s = found.nextSetBit(0); s >= 0; s = found.nextSetBit(s + 1)) {
+                result.add(SkillMatcher.this.skills.get(s));
+            }
+            return result;
+        }
+    }
+
+    private static char lowerChar(char c) {
+        return c < 128 ? (c >= 'A' && c <= 'Z' ? (char) (c + 32) : c) : Character.toLowerCase(c);
+    }
+
+    private static String lower(String text) {
+        StringBuilder lowered = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            lowered.append(lowerChar(text.charAt(i)));
+        }
+        return lowered.toString();
+    }
+}
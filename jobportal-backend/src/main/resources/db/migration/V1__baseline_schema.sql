@@ -0,0 +1,47 @@
+-- ========================================
+-- Baseline schema (matches the JPA entities as created by ddl-auto=update)
+-- Existing databases are baselined at this version and skip it.
+-- ========================================
+
+CREATE TABLE IF NOT EXISTS users (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email           VARCHAR(255) NOT NULL UNIQUE,
+    password        VARCHAR(255) NOT NULL,
+    full_name       VARCHAR(255) NOT NULL,
+    role            VARCHAR(255) NOT NULL,
+    phone           VARCHAR(255),
+    resume_url      VARCHAR(255),
+    created_at      TIMESTAMP(6),
+    updated_at      TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS jobs (
+    id                   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title                VARCHAR(255) NOT NULL,
+    description          TEXT,
+    company              VARCHAR(255) NOT NULL,
+    location             VARCHAR(255) NOT NULL,
+    min_salary           NUMERIC(38, 2),
+    max_salary           NUMERIC(38, 2),
+    experience_required  VARCHAR(255),
+    skills_required      TEXT,
+    job_type             VARCHAR(255) NOT NULL,
+    application_deadline DATE,
+    is_active            BOOLEAN NOT NULL,
+    recruiter_id         BIGINT NOT NULL REFERENCES users (id),
+    created_at           TIMESTAMP(6),
+    updated_at           TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS applications (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id         BIGINT NOT NULL REFERENCES users (id),
+    job_id          BIGINT NOT NULL REFERENCES jobs (id),
+    resume_url      VARCHAR(255),
+    cover_letter    TEXT,
+    status          VARCHAR(255) NOT NULL,
+    recruiter_notes TEXT,
+    applied_at      TIMESTAMP(6),
+    updated_at      TIMESTAMP(6),
+    CONSTRAINT uk_applications_user_job UNIQUE (user_id, job_id)
+);
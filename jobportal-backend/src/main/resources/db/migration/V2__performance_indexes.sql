@@ -0,0 +1,65 @@
+-- ========================================
+-- Indexes for the hot repository queries
+-- ========================================
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- ---------- jobs ----------
+
+-- JobRepository.findByIsActiveTrue(), findByIsActiveTrue(Pageable) sorted by newest first
+CREATE INDEX IF NOT EXISTS idx_jobs_active_created_at
+    ON jobs (created_at DESC)
+    WHERE is_active = TRUE;
+
+-- JobRepository.findByRecruiterId(), analytics per recruiter
+CREATE INDEX IF NOT EXISTS idx_jobs_recruiter_id
+    ON jobs (recruiter_id, created_at DESC);
+
+-- JobRepository.findByJobType()
+CREATE INDEX IF NOT EXISTS idx_jobs_job_type
+    ON jobs (job_type)
+    WHERE is_active = TRUE;
+
+-- Open jobs by deadline (apply-time deadline checks, upcoming deadlines)
+CREATE INDEX IF NOT EXISTS idx_jobs_active_deadline
+    ON jobs (application_deadline)
+    WHERE is_active = TRUE;
+
+-- JobRepository.findByLocationContainingIgnoreCase() -> upper(location) LIKE upper('%x%')
+CREATE INDEX IF NOT EXISTS idx_jobs_location_trgm
+    ON jobs USING GIN (upper(location) gin_trgm_ops);
+
+-- JobRepository.findByCompanyContainingIgnoreCase() -> upper(company) LIKE upper('%x%')
+CREATE INDEX IF NOT EXISTS idx_jobs_company_trgm
+    ON jobs USING GIN (upper(company) gin_trgm_ops);
+
+-- JobRepository.searchJobs() -> lower(title) LIKE ... OR lower(description) LIKE ...
+CREATE INDEX IF NOT EXISTS idx_jobs_title_trgm
+    ON jobs USING GIN (lower(title) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_jobs_description_trgm
+    ON jobs USING GIN (lower(description) gin_trgm_ops);
+
+-- ---------- applications ----------
+-- (user_id, job_id) is already covered by uk_applications_user_job, which also
+-- serves existsByUserIdAndJobId() and findByUserId().
+
+-- ApplicationRepository.findByJobId(), countByJobId(), findApplicationsForRecruiter() join
+CREATE INDEX IF NOT EXISTS idx_applications_job_status
+    ON applications (job_id, status);
+
+-- Candidate dashboard: newest applications first
+CREATE INDEX IF NOT EXISTS idx_applications_user_applied_at
+    ON applications (user_id, applied_at DESC);
+
+-- Analytics: status breakdowns and time-windowed trends
+CREATE INDEX IF NOT EXISTS idx_applications_status_applied_at
+    ON applications (status, applied_at);
+
+CREATE INDEX IF NOT EXISTS idx_applications_applied_at
+    ON applications (applied_at);
+
+-- Recruiter pipeline: only applications still in play
+CREATE INDEX IF NOT EXISTS idx_applications_open_by_job
+    ON applications (job_id, applied_at DESC)
+    WHERE status NOT IN ('WITHDRAWN', 'REJECTED', 'ACCEPTED');
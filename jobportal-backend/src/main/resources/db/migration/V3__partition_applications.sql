@@ -0,0 +1,186 @@
+-- ========================================
+-- Monthly range partitioning of applications on applied_at
+-- plus a compressed archive tier for closed applications
+-- ========================================
+
+ALTER TABLE applications RENAME TO applications_legacy;
+ALTER INDEX IF EXISTS applications_pkey RENAME TO applications_legacy_pkey;
+
+-- Partition key must be part of the primary key, so (id, applied_at)
+CREATE TABLE applications (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    user_id         BIGINT NOT NULL REFERENCES users (id),
+    job_id          BIGINT NOT NULL REFERENCES jobs (id),
+    resume_url      VARCHAR(255),
+    cover_letter    TEXT,
+    status          VARCHAR(255) NOT NULL,
+    recruiter_notes TEXT,
+    applied_at      TIMESTAMP(6) NOT NULL DEFAULT now(),
+    updated_at      TIMESTAMP(6),
+    PRIMARY KEY (id, applied_at)
+) PARTITION BY RANGE (applied_at);
+
+-- Catches rows outside every monthly partition (should stay empty)
+CREATE TABLE applications_default PARTITION OF applications DEFAULT;
+
+-- Creates the partition for the month containing p_month, named applications_pYYYY_MM
+CREATE OR REPLACE FUNCTION create_applications_partition(p_month DATE) RETURNS TEXT AS $$
+DECLARE
+    v_start DATE := date_trunc('month', p_month)::DATE;
+    v_end   DATE := (date_trunc('month', p_month) + INTERVAL '1 month')::DATE;
+    v_name  TEXT := format('applications_p%s', to_char(v_start, 'YYYY_MM'));
+BEGIN
+    IF to_regclass(v_name) IS NULL THEN
+        EXECUTE format('CREATE TABLE %I PARTITION OF applications FOR VALUES FROM (%L) TO (%L)',
+                       v_name, v_start, v_end);
+    END IF;
+    RETURN v_name;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Ensures partitions exist from the current month through p_months_ahead months ahead
+CREATE OR REPLACE FUNCTION ensure_applications_partitions(p_months_ahead INT) RETURNS VOID AS $$
+DECLARE
+    i INT;
+BEGIN
+    FOR i IN 0..p_months_ahead LOOP
+        PERFORM create_applications_partition((date_trunc('month', now()) + make_interval(months => i))::DATE);
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Partitions for historical data and the months ahead
+DO $$
+DECLARE
+    v_month DATE;
+BEGIN
+    FOR v_month IN
+        SELECT DISTINCT date_trunc('month', applied_at)::DATE FROM applications_legacy WHERE applied_at IS NOT NULL
+    LOOP
+        PERFORM create_applications_partition(v_month);
+    END LOOP;
+    PERFORM ensure_applications_partitions(3);
+END;
+$$;
+
+INSERT INTO applications (id, user_id, job_id, resume_url, cover_letter, status, recruiter_notes, applied_at, updated_at)
+SELECT id, user_id, job_id, resume_url, cover_letter, status, recruiter_notes,
+       COALESCE(applied_at, updated_at, now()), updated_at
+FROM applications_legacy;
+
+SELECT setval(pg_get_serial_sequence('applications', 'id'), COALESCE((SELECT max(id) FROM applications), 0) + 1, false);
+
+-- ---------- one application per user and job ----------
+-- A unique constraint on a partitioned table must include applied_at, so the
+-- (user_id, job_id) guarantee lives in a small unpartitioned key table.
+CREATE TABLE application_keys (
+    user_id        BIGINT NOT NULL,
+    job_id         BIGINT NOT NULL,
+    application_id BIGINT NOT NULL,
+    CONSTRAINT pk_application_keys PRIMARY KEY (user_id, job_id)
+);
+
+INSERT INTO application_keys (user_id, job_id, application_id)
+SELECT user_id, job_id, id FROM applications;
+
+CREATE OR REPLACE FUNCTION applications_register_key() RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO application_keys (user_id, job_id, application_id) VALUES (NEW.user_id, NEW.job_id, NEW.id);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_applications_register_key
+    BEFORE INSERT ON applications
+    FOR EACH ROW EXECUTE FUNCTION applications_register_key();
+
+DROP TABLE applications_legacy;
+
+-- ---------- indexes (created on every partition) ----------
+CREATE INDEX idx_applications_user_job ON applications (user_id, job_id);
+CREATE INDEX idx_applications_job_status ON applications (job_id, status);
+CREATE INDEX idx_applications_user_applied_at ON applications (user_id, applied_at DESC);
+CREATE INDEX idx_applications_status_applied_at ON applications (status, applied_at);
+CREATE INDEX idx_applications_applied_at ON applications (applied_at);
+CREATE INDEX idx_applications_open_by_job ON applications (job_id, applied_at DESC)
+    WHERE status NOT IN ('WITHDRAWN', 'REJECTED', 'ACCEPTED');
+CREATE INDEX idx_applications_id ON applications (id);
+
+-- ---------- archive tier ----------
+-- Append-only, no secondary indexes beyond the key; text columns are pushed to
+-- TOAST (and compressed) as early as possible.
+CREATE TABLE applications_archive (
+    id              BIGINT NOT NULL,
+    user_id         BIGINT NOT NULL,
+    job_id          BIGINT NOT NULL,
+    resume_url      VARCHAR(255),
+    cover_letter    TEXT,
+    status          VARCHAR(255) NOT NULL,
+    recruiter_notes TEXT,
+    applied_at      TIMESTAMP(6) NOT NULL,
+    updated_at      TIMESTAMP(6),
+    archived_at     TIMESTAMP(6) NOT NULL DEFAULT now(),
+    PRIMARY KEY (id, applied_at)
+) WITH (toast_tuple_target = 128, fillfactor = 100);
+
+ALTER TABLE applications_archive ALTER COLUMN cover_letter SET STORAGE MAIN;
+ALTER TABLE applications_archive ALTER COLUMN recruiter_notes SET STORAGE MAIN;
+
+-- Moves closed (WITHDRAWN/REJECTED) applications out of every monthly partition
+-- that ended more than p_retention_months ago. Partitions left empty are detached
+-- and dropped, which also removes their index entries.
+CREATE OR REPLACE FUNCTION archive_closed_application_partitions(p_retention_months INT)
+    RETURNS TABLE (partition_name TEXT, archived_rows BIGINT, dropped BOOLEAN) AS $$
+DECLARE
+    v_cutoff    DATE := (date_trunc('month', now()) - make_interval(months => p_retention_months))::DATE;
+    v_partition TEXT;
+    v_month     DATE;
+    v_remaining BIGINT;
+BEGIN
+    -- Stray rows in the default partition are archived by date, never dropped
+    WITH moved AS (
+        DELETE FROM applications_default
+        WHERE status IN ('WITHDRAWN', 'REJECTED') AND applied_at < v_cutoff
+        RETURNING *)
+    INSERT INTO applications_archive (id, user_id, job_id, resume_url, cover_letter, status,
+                                      recruiter_notes, applied_at, updated_at)
+    SELECT id, user_id, job_id, resume_url, cover_letter, status, recruiter_notes, applied_at, updated_at
+    FROM moved;
+    GET DIAGNOSTICS archived_rows = ROW_COUNT;
+    IF archived_rows > 0 THEN
+        partition_name := 'applications_default';
+        dropped := FALSE;
+        RETURN NEXT;
+    END IF;
+
+    FOR v_partition IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'applications'::regclass
+          AND c.relname ~ '^applications_p[0-9]{4}_[0-9]{2}$'
+        ORDER BY c.relname
+    LOOP
+        v_month := to_date(substring(v_partition FROM 15), 'YYYY_MM');
+        CONTINUE WHEN v_month + INTERVAL '1 month' > v_cutoff;
+
+        EXECUTE format(
+            'WITH moved AS (DELETE FROM %I WHERE status IN (''WITHDRAWN'', ''REJECTED'') RETURNING *) ' ||
+            'INSERT INTO applications_archive (id, user_id, job_id, resume_url, cover_letter, status, ' ||
+            'recruiter_notes, applied_at, updated_at) ' ||
+            'SELECT id, user_id, job_id, resume_url, cover_letter, status, recruiter_notes, applied_at, updated_at ' ||
+            'FROM moved', v_partition);
+        GET DIAGNOSTICS archived_rows = ROW_COUNT;
+
+        EXECUTE format('SELECT count(*) FROM %I', v_partition) INTO v_remaining;
+        dropped := v_remaining = 0;
+        IF dropped THEN
+            EXECUTE format('ALTER TABLE applications DETACH PARTITION %I', v_partition);
+            EXECUTE format('DROP TABLE %I', v_partition);
+        END IF;
+
+        partition_name := v_partition;
+        RETURN NEXT;
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,34 @@
+-- ========================================
+-- Full-text search on jobs
+-- ========================================
+-- search_vector is maintained by trigger (not mapped by JPA) and weighted:
+--   A = title, B = skills_required, C = company, D = description
+
+ALTER TABLE jobs ADD COLUMN IF NOT EXISTS search_vector tsvector;
+
+CREATE OR REPLACE FUNCTION jobs_search_vector(p_title TEXT, p_skills TEXT, p_company TEXT, p_description TEXT)
+RETURNS tsvector AS $$
+    SELECT setweight(to_tsvector('english', coalesce(p_title, '')), 'A')
+        || setweight(to_tsvector('english', coalesce(p_skills, '')), 'B')
+        || setweight(to_tsvector('english', coalesce(p_company, '')), 'C')
+        || setweight(to_tsvector('english', coalesce(p_description, '')), 'D');
+$$ LANGUAGE sql IMMUTABLE;
+
+CREATE OR REPLACE FUNCTION jobs_search_vector_update() RETURNS TRIGGER AS $$
+BEGIN
+    NEW.search_vector := jobs_search_vector(NEW.title, NEW.skills_required, NEW.company, NEW.description);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_jobs_search_vector ON jobs;
+CREATE TRIGGER trg_jobs_search_vector
+    BEFORE INSERT OR UPDATE OF title, skills_required, company, description ON jobs
+    FOR EACH ROW EXECUTE FUNCTION jobs_search_vector_update();
+
+UPDATE jobs SET search_vector = jobs_search_vector(title, skills_required, company, description);
+
+-- JobRepository.fullTextSearch(): only active jobs are ever searched
+CREATE INDEX IF NOT EXISTS idx_jobs_search_vector
+    ON jobs USING GIN (search_vector)
+    WHERE is_active = TRUE;
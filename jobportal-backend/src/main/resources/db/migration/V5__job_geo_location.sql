@@ -0,0 +1,9 @@
+-- ========================================
+-- Normalized job locations
+-- ========================================
+-- Filled from the bundled gazetteer (geo/cities.csv) when a job is saved; rows written
+-- before this migration are backfilled on startup by GeoSearchServiceImpl.
+
+ALTER TABLE jobs ADD COLUMN IF NOT EXISTS normalized_location VARCHAR(255);
+ALTER TABLE jobs ADD COLUMN IF NOT EXISTS latitude DOUBLE PRECISION;
+ALTER TABLE jobs ADD COLUMN IF NOT EXISTS longitude DOUBLE PRECISION;
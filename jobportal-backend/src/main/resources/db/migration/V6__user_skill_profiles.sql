@@ -0,0 +1,27 @@
+-- ========================================
+-- Candidate skill profiles
+-- ========================================
+-- Filled from parsed resumes (POST /api/ai/parse-resume?userId=). Skills are normalized
+-- into one row per distinct skill so a profile is just a set of small integer ids.
+
+CREATE TABLE IF NOT EXISTS skills (
+    id              INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name            VARCHAR(100) NOT NULL,
+    normalized_name VARCHAR(100) NOT NULL UNIQUE
+);
+
+CREATE TABLE IF NOT EXISTS user_profiles (
+    user_id          BIGINT PRIMARY KEY REFERENCES users (id) ON DELETE CASCADE,
+    location         VARCHAR(255),
+    years_experience INTEGER,
+    updated_at       TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS user_skills (
+    user_id  BIGINT  NOT NULL REFERENCES user_profiles (user_id) ON DELETE CASCADE,
+    skill_id INTEGER NOT NULL REFERENCES skills (id),
+    PRIMARY KEY (user_id, skill_id)
+);
+
+-- "Which candidates have skill X" for incremental recommendation updates
+CREATE INDEX IF NOT EXISTS idx_user_skills_skill ON user_skills (skill_id);
@@ -0,0 +1,23 @@
+-- ========================================
+-- Content-addressed file store
+-- ========================================
+-- Uploaded files are kept once per distinct content under uploads/<aa>/<sha256>.
+-- A file is referenced by whichever rows hold its URL: applications,
+-- applications_archive and users.resume_url. Files none of them point to are swept
+-- once last_uploaded_at is older than the grace period, which leaves time to attach
+-- a fresh upload.
+
+CREATE TABLE IF NOT EXISTS stored_files (
+    sha256           VARCHAR(64) PRIMARY KEY,
+    content_type     VARCHAR(255),
+    size_bytes       BIGINT    NOT NULL,
+    created_at       TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_uploaded_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Who uploaded each file; uploaders may read it and attach it to applications
+CREATE TABLE IF NOT EXISTS stored_file_uploaders (
+    sha256  VARCHAR(64) NOT NULL REFERENCES stored_files (sha256) ON DELETE CASCADE,
+    user_id BIGINT      NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    PRIMARY KEY (sha256, user_id)
+);
@@ -0,0 +1,96 @@
+-- ========================================
+-- Keep application_keys in step with deleted and archived applications
+-- ========================================
+-- Keys were only ever inserted, so a candidate whose closed application had been
+-- archived (or deleted) could not apply to the same job again: pk_application_keys
+-- still held the old pair.
+
+-- Single-row deletes (withdrawn applications removed by the API, cascades) drop
+-- their key. The archive function removes its keys in bulk and switches this off
+-- for its own transaction.
+CREATE OR REPLACE FUNCTION applications_unregister_key() RETURNS TRIGGER AS $$
+BEGIN
+    DELETE FROM application_keys
+    WHERE user_id = OLD.user_id AND job_id = OLD.job_id AND application_id = OLD.id;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_applications_unregister_key
+    AFTER DELETE ON applications
+    FOR EACH ROW
+    WHEN (coalesce(current_setting('app.archiving_applications', true), '') <> 'on')
+    EXECUTE FUNCTION applications_unregister_key();
+
+-- Same as V3, plus the key rows of every archived application are deleted with it
+CREATE OR REPLACE FUNCTION archive_closed_application_partitions(p_retention_months INT)
+    RETURNS TABLE (partition_name TEXT, archived_rows BIGINT, dropped BOOLEAN) AS $$
+DECLARE
+    v_cutoff    DATE := (date_trunc('month', now()) - make_interval(months => p_retention_months))::DATE;
+    v_partition TEXT;
+    v_month     DATE;
+    v_remaining BIGINT;
+BEGIN
+    PERFORM set_config('app.archiving_applications', 'on', true);
+
+    -- Stray rows in the default partition are archived by date, never dropped
+    WITH moved AS (
+        DELETE FROM applications_default
+        WHERE status IN ('WITHDRAWN', 'REJECTED') AND applied_at < v_cutoff
+        RETURNING *),
+    archived AS (
+        INSERT INTO applications_archive (id, user_id, job_id, resume_url, cover_letter, status,
+                                          recruiter_notes, applied_at, updated_at)
+        SELECT id, user_id, job_id, resume_url, cover_letter, status, recruiter_notes, applied_at, updated_at
+        FROM moved),
+    unkeyed AS (
+        DELETE FROM application_keys k
+        USING moved m
+        WHERE k.user_id = m.user_id AND k.job_id = m.job_id AND k.application_id = m.id)
+    SELECT count(*) INTO archived_rows FROM moved;
+    IF archived_rows > 0 THEN
+        partition_name := 'applications_default';
+        dropped := FALSE;
+        RETURN NEXT;
+    END IF;
+
+    FOR v_partition IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'applications'::regclass
+          AND c.relname ~ '^applications_p[0-9]{4}_[0-9]{2}$'
+        ORDER BY c.relname
+    LOOP
+        v_month := to_date(substring(v_partition FROM 15), 'YYYY_MM');
+        CONTINUE WHEN v_month + INTERVAL '1 month' > v_cutoff;
+
+        EXECUTE format(
+            'WITH moved AS (DELETE FROM %I WHERE status IN (''WITHDRAWN'', ''REJECTED'') RETURNING *), ' ||
+            'archived AS (INSERT INTO applications_archive (id, user_id, job_id, resume_url, cover_letter, status, ' ||
+            'recruiter_notes, applied_at, updated_at) ' ||
+            'SELECT id, user_id, job_id, resume_url, cover_letter, status, recruiter_notes, applied_at, updated_at ' ||
+            'FROM moved), ' ||
+            'unkeyed AS (DELETE FROM application_keys k USING moved m ' ||
+            'WHERE k.user_id = m.user_id AND k.job_id = m.job_id AND k.application_id = m.id) ' ||
+            'SELECT count(*) FROM moved', v_partition) INTO archived_rows;
+
+        EXECUTE format('SELECT count(*) FROM %I', v_partition) INTO v_remaining;
+        dropped := v_remaining = 0;
+        IF dropped THEN
+            EXECUTE format('ALTER TABLE applications DETACH PARTITION %I', v_partition);
+            EXECUTE format('DROP TABLE %I', v_partition);
+        END IF;
+
+        partition_name := v_partition;
+        RETURN NEXT;
+    END LOOP;
+
+    PERFORM set_config('app.archiving_applications', 'off', true);
+END;
+$$ LANGUAGE plpgsql;
+
+-- Keys left behind by applications archived or deleted before this migration
+DELETE FROM application_keys k
+WHERE NOT EXISTS (SELECT 1 FROM applications a
+                  WHERE a.user_id = k.user_id AND a.job_id = k.job_id AND a.id = k.application_id);
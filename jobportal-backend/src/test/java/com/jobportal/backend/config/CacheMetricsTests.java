@@ -0,0 +1,126 @@
+package com.jobportal.backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Import;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CacheMetricsTests {
+
+	private AnnotationConfigApplicationContext context;
+	private CacheManager cacheManager;
+	private JobLookup jobs;
+
+	@BeforeEach
+	void setUp() {
+		context = new AnnotationConfigApplicationContext(TestConfig.class);
+		cacheManager = context.getBean(CacheManager.class);
+		jobs = context.getBean(JobLookup.class);
+	}
+
+	@AfterEach
+	void tearDown() {
+		context.close();
+	}
+
+	@Test
+	void hitRatiosAreKeptPerKeyPrefix() {
+		jobs.search("java");
+		jobs.search("java");
+		jobs.search("java");
+		jobs.byLocation("berlin");
+		jobs.byLocation("paris");
+
+		InstrumentedCaffeineCache cache = (InstrumentedCaffeineCache) cacheManager.getCache("job-search");
+		assertThat(cache.getPrefixStats().get("search").hitRatio()).isEqualTo(2 / 3.0);
+		assertThat(cache.getPrefixStats().get("location").hitRatio()).isZero();
+	}
+
+	@Test
+	void loadsAreTimedOnlyOnMissesAndFailuresAreCounted() {
+		jobs.search("java");
+		jobs.search("java");
+		assertThatThrownBy(() -> jobs.search("boom")).isInstanceOf(IllegalStateException.class);
+
+		var stats = ((InstrumentedCaffeineCache) cacheManager.getCache("job-search")).getNativeCache().stats();
+		assertThat(jobs.calls()).isEqualTo(2);
+		assertThat(stats.loadSuccessCount()).isEqualTo(1);
+		assertThat(stats.loadFailureCount()).isEqualTo(1);
+		assertThat(stats.hitCount()).isEqualTo(1);
+		assertThat(stats.totalLoadTime()).isPositive();
+	}
+
+	@Test
+	void collectorBindsCachesAndPrefixes() {
+		MeterRegistry registry = new SimpleMeterRegistry();
+		MetricsConfig.CacheMetricsCollector collector = new MetricsConfig.CacheMetricsCollector(cacheManager, registry);
+
+		jobs.search("java");
+		jobs.search("java");
+		collector.collectCacheMetrics();
+		jobs.byLocation("berlin");
+		collector.collectCacheMetrics();
+		collector.collectCacheMetrics();
+
+		assertThat(registry.get("cache.gets").tag("cache", "job-search").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+		assertThat(registry.get("cache.load").tag("cache", "job-search").tag("result", "success").functionCounter().count()).isEqualTo(2);
+		assertThat(registry.get("cache.load.duration").tag("cache", "job-search").timeGauge().value()).isPositive();
+		assertThat(registry.get("cache.prefix.hit.ratio").tag("prefix", "search").gauge().value()).isEqualTo(0.5);
+		assertThat(registry.get("cache.prefix.gets").tag("prefix", "location").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void keyPrefixes() {
+		assertThat(InstrumentedCaffeineCache.prefixOf("search-java")).isEqualTo("search");
+		assertThat(InstrumentedCaffeineCache.prefixOf("all-active-jobs")).isEqualTo("all");
+		assertThat(InstrumentedCaffeineCache.prefixOf(42L)).isEqualTo("id");
+		assertThat(InstrumentedCaffeineCache.prefixOf("mary-jane@example.com")).isEqualTo("other");
+		assertThat(InstrumentedCaffeineCache.prefixOf("Search-java")).isEqualTo("other");
+	}
+
+	@Configuration
+	@EnableAspectJAutoProxy
+	@Import({CacheConfig.class, CacheLoadMetricsAspect.class})
+	static class TestConfig {
+
+		@Bean
+		JobLookup jobLookup() {
+			return new JobLookup();
+		}
+	}
+
+	static class JobLookup {
+		private final AtomicInteger calls = new AtomicInteger();
+
+		public int calls() {
+			return calls.get();
+		}
+
+		@Cacheable(value = "job-search", key = "'search-' + #keyword")
+		public String search(String keyword) {
+			calls.incrementAndGet();
+			if (keyword.equals("boom")) {
+				throw new IllegalStateException(keyword);
+			}
+			return "jobs for " + keyword;
+		}
+
+		@Cacheable(value = "job-search", key = "'location-' + #location")
+		public String byLocation(String location) {
+			return "jobs in " + location;
+		}
+	}
+}
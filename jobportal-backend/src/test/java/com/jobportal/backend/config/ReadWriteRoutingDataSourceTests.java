@@ -0,0 +1,118 @@
+package com.jobportal.backend.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Uses two in-memory H2 databases as stand-ins for the primary and the replica.
+ */
+class ReadWriteRoutingDataSourceTests {
+
+	private DataSource writer;
+	private DataSource reader;
+	private ReadWriteRoutingDataSource routingDataSource;
+	private JdbcTemplate jdbcTemplate;
+	private TransactionTemplate transactionTemplate;
+
+	@BeforeEach
+	void setUp() {
+		writer = h2("writer");
+		reader = h2("reader");
+		new JdbcTemplate(writer).execute("CREATE TABLE node (name VARCHAR(10)); INSERT INTO node VALUES ('writer')");
+		new JdbcTemplate(reader).execute("CREATE TABLE node (name VARCHAR(10)); INSERT INTO node VALUES ('reader')");
+
+		routingDataSource = new ReadWriteRoutingDataSource(writer, reader);
+		DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+	}
+
+	@AfterEach
+	void tearDown() {
+		new JdbcTemplate(writer).execute("DROP TABLE node");
+		new JdbcTemplate(reader).execute("DROP TABLE node");
+	}
+
+	@Test
+	void readOnlyTransactionsGoToReader() {
+		transactionTemplate.setReadOnly(true);
+
+		assertThat(currentNode()).isEqualTo("reader");
+		assertThat(routingDataSource.getReaderRoutes()).isEqualTo(1);
+	}
+
+	@Test
+	void readWriteTransactionsGoToWriter() {
+		transactionTemplate.setReadOnly(false);
+
+		assertThat(currentNode()).isEqualTo("writer");
+		assertThat(routingDataSource.getReaderRoutes()).isZero();
+	}
+
+	@Test
+	void laggingReplicaFallsBackToWriter() {
+		ReplicaLagMonitor monitor = new ReplicaLagMonitor(routingDataSource, "SELECT 120", 10);
+		monitor.checkReplicaLag();
+		transactionTemplate.setReadOnly(true);
+
+		assertThat(routingDataSource.isReaderAvailable()).isFalse();
+		assertThat(currentNode()).isEqualTo("writer");
+		assertThat(routingDataSource.getFallbackRoutes()).isEqualTo(1);
+	}
+
+	@Test
+	void replicaReturnsToRotationOnceCaughtUp() {
+		routingDataSource.setReaderAvailable(false);
+		ReplicaLagMonitor monitor = new ReplicaLagMonitor(routingDataSource, "SELECT 2", 10);
+		monitor.checkReplicaLag();
+		transactionTemplate.setReadOnly(true);
+
+		assertThat(monitor.getLastLagSeconds()).isEqualTo(2);
+		assertThat(currentNode()).isEqualTo("reader");
+	}
+
+	@Test
+	void unreachableReplicaIsTakenOutOfRotation() {
+		ReplicaLagMonitor monitor = new ReplicaLagMonitor(routingDataSource, "SELECT * FROM missing_table", 10);
+		monitor.checkReplicaLag();
+
+		assertThat(routingDataSource.isReaderAvailable()).isFalse();
+		assertThat(monitor.getLastLagSeconds()).isEqualTo(-1);
+	}
+
+	@Test
+	void healthStatsLookThroughTheLazyProxyToTheWriterPool() {
+		HikariConfig config = new HikariConfig();
+		config.setJdbcUrl("jdbc:h2:mem:writer;DB_CLOSE_DELAY=-1");
+		config.setMinimumIdle(1);
+		config.setMaximumPoolSize(2);
+		try (HikariDataSource pool = new HikariDataSource(config)) {
+			DataSource dataSource = new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(pool, reader));
+
+			assertThat(new DatabaseConfig.DatabaseHealthChecker().getStats(dataSource).totalConnections()).isPositive();
+		}
+	}
+
+	private String currentNode() {
+		return transactionTemplate.execute(status ->
+				jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+	}
+
+	private static DataSource h2(String name) {
+		JdbcDataSource dataSource = new JdbcDataSource();
+		dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+		return dataSource;
+	}
+}
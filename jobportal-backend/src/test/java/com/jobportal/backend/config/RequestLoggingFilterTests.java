@@ -0,0 +1,118 @@
+package com.jobportal.backend.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.jobportal.backend.config.LoggingConfig.RequestLoggingFilter;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestLoggingFilterTests {
+
+	private final Logger logger = (Logger) LoggerFactory.getLogger(LoggingConfig.class);
+	private final ListAppender<ILoggingEvent> events = new ListAppender<>();
+
+	@BeforeEach
+	void setUp() {
+		events.start();
+		logger.addAppender(events);
+		logger.setLevel(Level.INFO);
+	}
+
+	@AfterEach
+	void tearDown() {
+		logger.detachAppender(events);
+		logger.setLevel(null);
+	}
+
+	@Test
+	void unsampledSuccessIsNotLoggedButErrorsAndSlowRequestsAre() throws Exception {
+		RequestLoggingFilter filter = new RequestLoggingFilter(true, 0.0, Duration.ofMillis(50));
+
+		run(filter, (request, response) -> ((MockHttpServletResponse) response).setStatus(200));
+		assertThat(events.list).isEmpty();
+
+		run(filter, (request, response) -> ((MockHttpServletResponse) response).setStatus(503));
+		run(filter, (request, response) -> sleep(80));
+		assertThat(events.list).extracting(ILoggingEvent::getLevel).containsExactly(Level.ERROR, Level.WARN);
+
+		assertThatThrownBy(() -> run(filter, (request, response) -> {
+			throw new IllegalStateException("boom");
+		})).isInstanceOf(IllegalStateException.class);
+		assertThat(events.list).hasSize(3);
+		assertThat(events.list.get(2).getFormattedMessage()).contains("threw");
+	}
+
+	@Test
+	void correlationIdIsInMdcDuringTheRequestAndOnTheResponse() throws Exception {
+		RequestLoggingFilter filter = new RequestLoggingFilter(true, 1.0, null);
+		String[] seen = new String[1];
+
+		MockHttpServletResponse response = run(filter, (req, res) -> seen[0] = MDC.get(RequestLoggingFilter.CORRELATION_ID));
+
+		assertThat(seen[0]).isNotBlank().isEqualTo(response.getHeader(RequestLoggingFilter.CORRELATION_HEADER));
+		assertThat(MDC.get(RequestLoggingFilter.CORRELATION_ID)).isNull();
+		assertThat(events.list).singleElement()
+				.satisfies(event -> assertThat(event.getMDCPropertyMap()).containsEntry("correlationId", seen[0]));
+	}
+
+	@Test
+	void usableIncomingCorrelationIdIsKept() throws Exception {
+		RequestLoggingFilter filter = new RequestLoggingFilter(true, 1.0, null);
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/jobs");
+		request.addHeader(RequestLoggingFilter.CORRELATION_HEADER, "edge-42.a_b");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, (req, res) -> { });
+		assertThat(response.getHeader(RequestLoggingFilter.CORRELATION_HEADER)).isEqualTo("edge-42.a_b");
+
+		request = new MockHttpServletRequest("GET", "/api/jobs");
+		request.addHeader(RequestLoggingFilter.CORRELATION_HEADER, "forged\nline");
+		response = new MockHttpServletResponse();
+		filter.doFilter(request, response, (req, res) -> { });
+		assertThat(response.getHeader(RequestLoggingFilter.CORRELATION_HEADER)).doesNotContain("\n");
+	}
+
+	@Test
+	void generatedIdsAreUniqueAndIncreasing() {
+		LoggingConfig.CorrelationIdGenerator generator = new LoggingConfig.CorrelationIdGenerator();
+		Set<String> ids = new HashSet<>();
+		long previous = -1;
+		for (int i = 0; i < 10_000; i++) {
+			String id = generator.next();
+			long sequence = Long.parseLong(id.substring(id.indexOf('-') + 1), 36);
+			assertThat(sequence).isGreaterThan(previous);
+			previous = sequence;
+			ids.add(id);
+		}
+		assertThat(ids).hasSize(10_000);
+	}
+
+	private static MockHttpServletResponse run(RequestLoggingFilter filter, FilterChain chain) throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(new MockHttpServletRequest("GET", "/api/jobs"), response, chain);
+		return response;
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,120 @@
+package com.jobportal.backend.config;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.autoconfigure.web.embedded.TomcatVirtualThreadsWebServerFactoryCustomizer;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request handling with platform threads (Tomcat's default 200-thread pool) against
+ * virtual threads (spring.threads.virtual.enabled) when every request blocks, the way ours
+ * do on JDBC, SMTP and the OpenAI HTTP call.
+ *
+ * Each invocation sends a burst of concurrent requests to an embedded Tomcat whose only
+ * endpoint sleeps for the configured time, and waits for all of them. With platform threads
+ * a burst takes at least (requests / 200) blocking periods; with virtual threads about one.
+ *
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=com.jobportal.backend.config.ThreadingModeBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ThreadingModeBenchmark {
+
+	@Param({"platform", "virtual"})
+	public String mode;
+
+	@Param({"1000"})
+	public int concurrentRequests;
+
+	@Param({"50", "200"})
+	public int blockMillis;
+
+	private WebServer server;
+	private HttpClient client;
+	private HttpRequest request;
+
+	@Setup
+	public void startServer() {
+		TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory(0);
+		if (mode.equals("virtual")) {
+			new TomcatVirtualThreadsWebServerFactoryCustomizer().customize(factory);
+		}
+		factory.addInitializers(context -> context.addServlet("blocking", new BlockingServlet(blockMillis)).addMapping("/"));
+		server = factory.getWebServer();
+		server.start();
+		client = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_1_1)
+				.connectTimeout(Duration.ofSeconds(10))
+				.build();
+		request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + "/"))
+				.timeout(Duration.ofSeconds(30))
+				.build();
+	}
+
+	@TearDown
+	public void stopServer() {
+		server.stop();
+		server.destroy();
+	}
+
+	@Benchmark
+	public int burst() {
+		CompletableFuture<?>[] responses = new CompletableFuture<?>[concurrentRequests];
+		for (int i = 0; i < concurrentRequests; i++) {
+			responses[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+					.thenApply(response -> {
+						if (response.statusCode() != 200) {
+							throw new IllegalStateException("Unexpected status " + response.statusCode());
+						}
+						return response;
+					});
+		}
+		CompletableFuture.allOf(responses).join();
+		return responses.length;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(ThreadingModeBenchmark.class.getSimpleName())
+				.build()).run();
+	}
+
+	private static final class BlockingServlet extends HttpServlet {
+		private final int blockMillis;
+
+		BlockingServlet(int blockMillis) {
+			this.blockMillis = blockMillis;
+		}
+
+		@Override
+		protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+			try {
+				Thread.sleep(blockMillis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			response.setContentType("text/plain");
+			response.getWriter().write("ok");
+		}
+	}
+}
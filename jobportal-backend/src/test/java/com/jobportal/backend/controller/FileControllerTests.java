@@ -0,0 +1,103 @@
+package com.jobportal.backend.controller;
+
+import com.jobportal.backend.model.StoredFile;
+import com.jobportal.backend.service.FileStorageService;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class FileControllerTests {
+
+	private static final String HASH = "a".repeat(64);
+	private static final byte[] CONTENT = "%PDF-1.7 resume bytes".getBytes(StandardCharsets.US_ASCII);
+	private static final TestingAuthenticationToken OWNER = new TestingAuthenticationToken("owner@example.com", null);
+	private static final TestingAuthenticationToken OTHER = new TestingAuthenticationToken("other@example.com", null);
+
+	private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new FileController(new SingleFileStore(), null)).build();
+
+	@Test
+	void servesStoredFilesWithTheirHashAsETag() throws Exception {
+		mockMvc.perform(get("/api/files/" + HASH + ".pdf").principal(OWNER))
+				.andExpect(status().isOk())
+				.andExpect(header().string("ETag", "\"" + HASH + "\""))
+				.andExpect(header().string("Accept-Ranges", "bytes"))
+				.andExpect(header().string("Content-Type", "application/pdf"))
+				.andExpect(content().bytes(CONTENT));
+	}
+
+	@Test
+	void answersNotModifiedForAMatchingETag() throws Exception {
+		mockMvc.perform(get("/api/files/" + HASH + ".pdf").principal(OWNER).header("If-None-Match", "\"" + HASH + "\""))
+				.andExpect(status().isNotModified())
+				.andExpect(content().bytes(new byte[0]));
+	}
+
+	@Test
+	void servesByteRanges() throws Exception {
+		mockMvc.perform(get("/api/files/" + HASH + ".pdf").principal(OWNER).header("Range", "bytes=0-7"))
+				.andExpect(status().isPartialContent())
+				.andExpect(header().string("Content-Range", "bytes 0-7/" + CONTENT.length))
+				.andExpect(content().bytes("%PDF-1.7".getBytes(StandardCharsets.US_ASCII)));
+	}
+
+	@Test
+	void unknownFilesAreNotFound() throws Exception {
+		mockMvc.perform(get("/api/files/" + "b".repeat(64) + ".pdf").principal(OWNER))
+				.andExpect(status().isNotFound());
+	}
+
+	@Test
+	void filesOfOtherUsersAreNotFound() throws Exception {
+		mockMvc.perform(get("/api/files/" + HASH + ".pdf").principal(OTHER))
+				.andExpect(status().isNotFound());
+	}
+
+	// Holds one file, readable only by its uploader
+	private static class SingleFileStore implements FileStorageService {
+
+		@Override
+		public String storeFile(MultipartFile file, String uploadedBy) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public String storeFile(Path file, String sha256, String fileName, String contentType, String uploadedBy) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Optional<StoredFile> findReadableFile(String fileName, String email) {
+			return fileName.startsWith(HASH) && email.equals(OWNER.getName())
+					? Optional.of(new StoredFile(HASH, "application/pdf", (long) CONTENT.length, LocalDateTime.now(), LocalDateTime.now()))
+					: Optional.empty();
+		}
+
+		@Override
+		public Resource loadContent(StoredFile file) {
+			return new ByteArrayResource(CONTENT);
+		}
+
+		@Override
+		public void attach(String fileUrl, Long userId) {
+		}
+
+		@Override
+		public int removeUnreferencedFiles() {
+			return 0;
+		}
+	}
+}
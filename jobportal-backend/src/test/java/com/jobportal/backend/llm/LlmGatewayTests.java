@@ -0,0 +1,194 @@
+package com.jobportal.backend.llm;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LlmGatewayTests {
+
+	private static final SimpleAsyncTaskExecutor CALL_EXECUTOR = new SimpleAsyncTaskExecutor("llm-call-");
+
+	@Test
+	void stubProviderIsDeterministic() {
+		LlmGateway gateway = gateway(new StubLlmProvider(new ObjectMapper(), Duration.ZERO), 4, 0);
+		LlmRequest request = LlmRequest.of("system", "Jane Doe, jane@example.com, 5 years of Java and Docker", 0.3);
+
+		LlmResponse first = gateway.complete(request);
+		LlmResponse second = gateway.complete(request);
+
+		assertThat(first.content()).isEqualTo(second.content())
+				.contains("\"Java\"", "\"Docker\"", "jane@example.com", "5 years");
+		assertThat(first.model()).isEqualTo("test-model");
+	}
+
+	@Test
+	void identicalConcurrentRequestsAreCoalesced() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		BlockingProvider provider = new BlockingProvider(release);
+		LlmGateway gateway = gateway(provider, 4, 0);
+		LlmRequest request = LlmRequest.of("system", "same prompt", 0.0);
+
+		ExecutorService executor = Executors.newFixedThreadPool(5);
+		try {
+			List<Future<LlmResponse>> futures = new CopyOnWriteArrayList<>();
+			for (int i = 0; i < 5; i++) {
+				futures.add(executor.submit(() -> gateway.complete(request)));
+			}
+			provider.started.await(5, TimeUnit.SECONDS);
+			Thread.sleep(200);   // let the other callers join the in-flight call
+			release.countDown();
+
+			for (Future<LlmResponse> future : futures) {
+				assertThat(future.get(5, TimeUnit.SECONDS).content()).isEqualTo("done");
+			}
+			assertThat(provider.calls.get()).isEqualTo(1);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void bulkheadRejectsCallsBeyondTheConcurrencyLimit() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		BlockingProvider provider = new BlockingProvider(release);
+		LlmGateway gateway = gateway(provider, 1, 0);
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<LlmResponse> first = executor.submit(() -> gateway.complete(LlmRequest.of(null, "first", 0.0)));
+			provider.started.await(5, TimeUnit.SECONDS);
+
+			assertThatThrownBy(() -> gateway.complete(LlmRequest.of(null, "second", 0.0)))
+					.isInstanceOf(LlmException.class)
+					.hasMessageContaining("concurrent");
+
+			release.countDown();
+			assertThat(first.get(5, TimeUnit.SECONDS).content()).isEqualTo("done");
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void tokenBudgetRefusesCallsOnceExhausted() {
+		// Each call reserves ~3 prompt tokens + 100 max tokens and gives back the unused part
+		LlmGateway gateway = gateway(new StubLlmProvider(new ObjectMapper(), Duration.ZERO), 4, 150);
+		LlmRequest large = new LlmRequest(null, "hello", null, 200, 0.0);
+
+		assertThatThrownBy(() -> gateway.complete(large))
+				.isInstanceOf(LlmException.class)
+				.hasMessageContaining("budget");
+		assertThat(gateway.complete(LlmRequest.of(null, "hello", 0.0)).content()).isNotEmpty();
+	}
+
+	@Test
+	void openBreakerFailsFastWithoutCallingTheProvider() {
+		AtomicInteger calls = new AtomicInteger();
+		LlmProvider failing = new LlmProvider() {
+			@Override
+			public String name() {
+				return "failing";
+			}
+
+			@Override
+			public LlmResponse complete(LlmRequest request) {
+				calls.incrementAndGet();
+				throw new LlmException("upstream 503");
+			}
+		};
+		CircuitBreakerRegistry breakers = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+				.slidingWindowSize(4)
+				.minimumNumberOfCalls(4)
+				.failureRateThreshold(50)
+				.waitDurationInOpenState(Duration.ofMinutes(1))
+				.build());
+		LlmGateway gateway = gateway(failing, breakers, TimeLimiterRegistry.ofDefaults());
+
+		for (int i = 0; i < 4; i++) {
+			String prompt = "prompt " + i;
+			assertThatThrownBy(() -> gateway.complete(LlmRequest.of(null, prompt, 0.0)))
+					.isInstanceOf(LlmException.class)
+					.hasMessageContaining("upstream 503");
+		}
+		assertThat(gateway.isAvailable()).isFalse();
+
+		assertThatThrownBy(() -> gateway.complete(LlmRequest.of(null, "one more", 0.0)))
+				.isInstanceOf(LlmException.class)
+				.hasMessageContaining("circuit breaker is open");
+		assertThat(calls.get()).isEqualTo(4);
+	}
+
+	@Test
+	void slowProviderCallsTimeOut() {
+		BlockingProvider provider = new BlockingProvider(new CountDownLatch(1));
+		TimeLimiterRegistry timeLimiters = TimeLimiterRegistry.of(TimeLimiterConfig.custom()
+				.timeoutDuration(Duration.ofMillis(100))
+				.build());
+		LlmGateway gateway = gateway(provider, CircuitBreakerRegistry.ofDefaults(), timeLimiters);
+
+		long start = System.nanoTime();
+		assertThatThrownBy(() -> gateway.complete(LlmRequest.of(null, "slow", 0.0)))
+				.isInstanceOf(LlmException.class)
+				.hasMessageContaining("timed out");
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+	}
+
+	private static LlmGateway gateway(LlmProvider provider, int maxConcurrent, long tokensPerMinute) {
+		return new LlmGatewayImpl(List.of(provider), new SimpleMeterRegistry(),
+				CircuitBreakerRegistry.ofDefaults(), RetryRegistry.ofDefaults(), TimeLimiterRegistry.ofDefaults(), CALL_EXECUTOR,
+				provider.name(), "test-model", 100, maxConcurrent, Duration.ofMillis(50), tokensPerMinute);
+	}
+
+	private static LlmGateway gateway(LlmProvider provider, CircuitBreakerRegistry breakers,
+									  TimeLimiterRegistry timeLimiters) {
+		// Single attempt so each request is exactly one provider call
+		RetryRegistry retries = RetryRegistry.of(RetryConfig.custom()
+				.maxAttempts(1)
+				.build());
+		return new LlmGatewayImpl(List.of(provider), new SimpleMeterRegistry(), breakers, retries, timeLimiters, CALL_EXECUTOR,
+				provider.name(), "test-model", 100, 4, Duration.ofMillis(50), 0);
+	}
+
+	private static class BlockingProvider implements LlmProvider {
+
+		private final CountDownLatch release;
+		private final CountDownLatch started = new CountDownLatch(1);
+		private final AtomicInteger calls = new AtomicInteger();
+
+		BlockingProvider(CountDownLatch release) {
+			this.release = release;
+		}
+
+		@Override
+		public String name() {
+			return "blocking";
+		}
+
+		@Override
+		public LlmResponse complete(LlmRequest request) {
+			calls.incrementAndGet();
+			started.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return new LlmResponse("done", name(), request.model(), 1, 1);
+		}
+	}
+}
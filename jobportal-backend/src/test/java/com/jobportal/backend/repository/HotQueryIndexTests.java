@@ -0,0 +1,156 @@
+package com.jobportal.backend.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the Flyway migrations against a real PostgreSQL and checks that the SQL
+ * generated for each hot repository query is answered from an index.
+ * Skipped when Docker is not available.
+ *
+ * The planner runs with its default settings, so the seed is large and selective enough
+ * that an index genuinely wins: 20k users, 50k jobs and 400k applications over the last
+ * twelve months. Only partitions holding no rows may be scanned sequentially.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class HotQueryIndexTests {
+
+	@Container
+	static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+	private static final Pattern SEQ_SCAN = Pattern.compile("Seq Scan on (\\w+)");
+
+	private static final String TECHNOLOGIES = "'java', 'kotlin', 'scala', 'python', 'django', 'flask', 'ruby', 'rails', " +
+			"'php', 'laravel', 'rust', 'golang', 'haskell', 'elixir', 'erlang', 'clojure', 'swift', 'android', " +
+			"'react', 'angular', 'vue', 'svelte', 'typescript', 'node', 'graphql', 'postgresql', 'mysql', 'mongodb', " +
+			"'redis', 'kafka', 'rabbitmq', 'elasticsearch', 'docker', 'kubernetes', 'terraform', 'ansible', 'aws', " +
+			"'azure', 'spark', 'hadoop'";
+
+	static JdbcTemplate jdbcTemplate;
+
+	@BeforeAll
+	static void migrateAndSeed() {
+		Flyway.configure()
+				.dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+				.load()
+				.migrate();
+
+		jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+				postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword()));
+
+		jdbcTemplate.execute("INSERT INTO users (email, password, full_name, role) " +
+				"SELECT 'user' || g || '@example.com', 'x', 'User ' || g, " +
+				"CASE WHEN g % 10 = 0 THEN 'RECRUITER' ELSE 'CANDIDATE' END " +
+				"FROM generate_series(1, 20000) g");
+		// Two of forty technologies per description, so a two-word search matches ~0.1% of jobs
+		jdbcTemplate.execute("INSERT INTO jobs (title, description, company, location, job_type, is_active, recruiter_id, created_at) " +
+				"SELECT 'Engineer ' || g, " +
+				"'Developer role ' || g || ' working with ' || t.names[g % 40 + 1] || ' and ' || t.names[(g / 40) % 40 + 1], " +
+				"'Company ' || (g % 5000), 'City ' || (g % 1000), " +
+				"CASE WHEN g % 50 = 0 THEN 'REMOTE' ELSE 'FULL_TIME' END, g % 4 <> 0, " +
+				"(g % 2000) * 10 + 10, now() - (g || ' minutes')::interval " +
+				"FROM generate_series(1, 50000) g, (SELECT ARRAY[" + TECHNOLOGIES + "] AS names) t");
+		// Past partitions first: rows outside every partition would land in the default one
+		jdbcTemplate.execute("SELECT create_applications_partition((date_trunc('month', now()) - make_interval(months => m))::DATE) " +
+				"FROM generate_series(1, 12) m");
+		// Twenty distinct jobs per user, one row per hour across the twelve full months before this one
+		jdbcTemplate.execute("INSERT INTO applications (user_id, job_id, status, applied_at) " +
+				"SELECT u, (u * 37 + k * 2503) % 50000 + 1, " +
+				"CASE WHEN (u + k) % 10 = 0 THEN 'REJECTED' ELSE 'PENDING' END, " +
+				"date_trunc('month', now()) - (((u * 20 + k) % 8640 + 1) || ' hours')::interval " +
+				"FROM generate_series(1, 20000) u, generate_series(1, 20) k");
+		jdbcTemplate.execute("VACUUM ANALYZE");
+	}
+
+	@Test
+	void appliedAtWindowPrunesOldPartitions() {
+		List<String> plan = explain("SELECT * FROM applications WHERE applied_at >= date_trunc('month', now())");
+
+		assertThat(plan)
+				.as("plan:%n%s", String.join("\n", plan))
+				.noneMatch(line -> line.contains(partitionName(2)));
+	}
+
+	private static String partitionName(int monthsAgo) {
+		YearMonth month = YearMonth.now().minusMonths(monthsAgo);
+		return String.format("applications_p%d_%02d", month.getYear(), month.getMonthValue());
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@CsvSource(delimiter = '|', value = {
+			"findByIsActiveTrue(Pageable)       | SELECT * FROM jobs WHERE is_active = TRUE ORDER BY created_at DESC LIMIT 10",
+			"findByRecruiterId                  | SELECT * FROM jobs WHERE recruiter_id = 10",
+			"findByJobType                      | SELECT * FROM jobs WHERE is_active = TRUE AND job_type = 'REMOTE'",
+			"findByLocationContainingIgnoreCase | SELECT * FROM jobs WHERE upper(location) LIKE upper('%city 427%')",
+			"findByCompanyContainingIgnoreCase  | SELECT * FROM jobs WHERE upper(company) LIKE upper('%company 4271%')",
+			"searchJobs                         | SELECT * FROM jobs WHERE lower(title) LIKE lower('%engineer 31415%') OR lower(description) LIKE lower('%engineer 31415%')",
+			"fullTextSearch                     | SELECT id FROM jobs WHERE is_active = TRUE AND search_vector @@ websearch_to_tsquery('english', 'rust terraform')",
+			"existsByUserIdAndJobId             | SELECT EXISTS (SELECT 1 FROM application_keys WHERE user_id = 5 AND job_id = 10)",
+			"findByUserId                       | SELECT * FROM applications WHERE user_id = 5",
+			"findByJobId                        | SELECT * FROM applications WHERE job_id = 10",
+			"countByJobId                       | SELECT count(*) FROM applications WHERE job_id = 10",
+			"findApplicationsForRecruiter       | SELECT a.* FROM applications a JOIN jobs j ON j.id = a.job_id WHERE j.recruiter_id = 10",
+			// Windows inside a fully seeded month, so the plan does not depend on the day the test runs
+			"applicationsByStatus               | SELECT * FROM applications WHERE status = 'REJECTED' AND applied_at >= date_trunc('month', now()) - interval '2 months' AND applied_at < date_trunc('month', now()) - interval '2 months' + interval '7 days'",
+			"applicationTrends                  | SELECT count(*) FROM applications WHERE applied_at >= date_trunc('month', now()) - interval '2 months' AND applied_at < date_trunc('month', now()) - interval '2 months' + interval '1 day'"
+	})
+	void hotQueryUsesIndex(String repositoryMethod, String sql) {
+		List<String> plan = explain(sql);
+
+		assertThat(plan)
+				.as("plan for %s:%n%s", repositoryMethod, String.join("\n", plan))
+				.anyMatch(line -> line.contains("Index Scan") || line.contains("Index Only Scan")
+						|| line.contains("Bitmap Index Scan"));
+		assertThat(sequentiallyScanned(plan))
+				.as("plan for %s:%n%s", repositoryMethod, String.join("\n", plan))
+				.allMatch(table -> rowCount(table) == 0);
+	}
+
+	private static List<String> sequentiallyScanned(List<String> plan) {
+		List<String> tables = new ArrayList<>();
+		for (String line : plan) {
+			Matcher matcher = SEQ_SCAN.matcher(line);
+			if (matcher.find()) {
+				tables.add(matcher.group(1));
+			}
+		}
+		return tables;
+	}
+
+	private static long rowCount(String table) {
+		// Names come from the plan, not from input
+		return jdbcTemplate.queryForObject("SELECT count(*) FROM " + table, Long.class);
+	}
+
+	private static List<String> explain(String sql) {
+		return jdbcTemplate.execute((Connection connection) -> {
+			try (Statement statement = connection.createStatement();
+				 ResultSet resultSet = statement.executeQuery("EXPLAIN " + sql)) {
+				List<String> lines = new ArrayList<>();
+				while (resultSet.next()) {
+					lines.add(resultSet.getString(1));
+				}
+				return lines;
+			}
+		});
+	}
+}
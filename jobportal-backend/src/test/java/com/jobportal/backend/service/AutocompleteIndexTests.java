@@ -0,0 +1,66 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.service.AutocompleteIndex.Category;
+import com.jobportal.backend.service.AutocompleteIndex.Term;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AutocompleteIndexTests {
+
+	private final AutocompleteIndex index = AutocompleteIndex.build(List.of(
+			new Term("Java Developer", Category.TITLE, 12),
+			new Term("Senior Java Engineer", Category.TITLE, 30),
+			new Term("JavaScript", Category.SKILL, 20),
+			new Term("Java", Category.SKILL, 45),
+			new Term("Jakarta", Category.LOCATION, 3),
+			new Term("Python", Category.SKILL, 50)));
+
+	@Test
+	void returnsMostPopularTermsForPrefix() {
+		assertThat(index.suggest("ja", 3)).extracting(Term::text)
+				.containsExactly("Java", "Senior Java Engineer", "JavaScript");
+	}
+
+	@Test
+	void matchesWordStartsAndIgnoresCase() {
+		assertThat(index.suggest("  ENGIN", 5)).extracting(Term::text).containsExactly("Senior Java Engineer");
+		assertThat(index.suggest("java d", 5)).extracting(Term::text).containsExactly("Java Developer");
+	}
+
+	@Test
+	void eachTermIsSuggestedOnce() {
+		// "Senior Java Engineer" is reachable through both "java engineer" and "java"-prefixed keys
+		assertThat(index.suggest("j", 10)).extracting(Term::text)
+				.doesNotHaveDuplicates()
+				.hasSize(5);
+	}
+
+	@Test
+	void unknownOrBlankPrefixReturnsNothing() {
+		assertThat(index.suggest("rust", 5)).isEmpty();
+		assertThat(index.suggest(" ", 5)).isEmpty();
+		assertThat(AutocompleteIndex.EMPTY.suggest("java", 5)).isEmpty();
+	}
+
+	@Test
+	void topNMatchesBruteForceOnLargeIndex() {
+		List<Term> terms = new ArrayList<>();
+		for (int i = 0; i < 5000; i++) {
+			terms.add(new Term("term " + Integer.toString(i, 36), Category.TITLE, (i * 7919) % 1000));
+		}
+		AutocompleteIndex large = AutocompleteIndex.build(terms);
+
+		List<Integer> expected = terms.stream()
+				.filter(term -> term.text().startsWith("term a"))
+				.map(Term::weight)
+				.sorted((a, b) -> b - a)
+				.limit(10)
+				.toList();
+
+		assertThat(large.suggest("term a", 10)).extracting(Term::weight).containsExactlyElementsOf(expected);
+	}
+}
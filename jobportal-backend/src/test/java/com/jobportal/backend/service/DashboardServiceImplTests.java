@@ -0,0 +1,153 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.dto.ApplicationResponse;
+import com.jobportal.backend.dto.CandidateDashboardResponse;
+import com.jobportal.backend.dto.CandidateDashboardResponse.Section;
+import com.jobportal.backend.dto.JobRecommendationResponse;
+import com.jobportal.backend.dto.SkillGapBatchResponse;
+import com.jobportal.backend.model.ApplicationStatus;
+import com.jobportal.backend.model.User;
+import com.jobportal.backend.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DashboardServiceImplTests {
+
+	private static final Duration DEADLINE = Duration.ofMillis(300);
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private volatile List<Long> skillGapJobIds;
+
+	@Test
+	void assemblesEverySectionWhenBranchesAreInTime() {
+		DashboardServiceImpl dashboard = dashboard(new SimpleAsyncTaskExecutor(), this::applications,
+				() -> List.of(new JobRecommendationResponse()));
+
+		CandidateDashboardResponse response = dashboard.getCandidateDashboard("candidate@example.com");
+
+		assertThat(response.getPartial()).isFalse();
+		assertThat(response.getUnavailableSections()).isEmpty();
+		assertThat(response.getApplications()).hasSize(3);
+		assertThat(response.getApplicationStats().getActiveApplications()).isEqualTo(2);
+		assertThat(response.getRecommendations()).hasSize(1);
+		// Open applications only, most recent first
+		assertThat(skillGapJobIds).containsExactly(20L, 10L);
+		assertThat(response.getSkillGaps().getUserId()).isEqualTo(7L);
+	}
+
+	@Test
+	void branchPastItsDeadlineIsReportedAndInterrupted() throws Exception {
+		CountDownLatch interrupted = new CountDownLatch(1);
+		DashboardServiceImpl dashboard = dashboard(new SimpleAsyncTaskExecutor(), this::applications, () -> {
+			try {
+				Thread.sleep(10_000);
+			} catch (InterruptedException e) {
+				interrupted.countDown();
+			}
+			return List.of();
+		});
+
+		long start = System.nanoTime();
+		CandidateDashboardResponse response = dashboard.getCandidateDashboard("candidate@example.com");
+
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+		assertThat(response.getPartial()).isTrue();
+		assertThat(response.getUnavailableSections()).containsExactly(Section.RECOMMENDATIONS);
+		assertThat(response.getRecommendations()).isNull();
+		assertThat(response.getApplications()).hasSize(3);
+		assertThat(response.getSkillGaps()).isNotNull();
+		assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+		assertThat(unavailableCount(Section.RECOMMENDATIONS, "timeout")).isEqualTo(1);
+	}
+
+	@Test
+	void failedApplicationsTakeTheirDependentSectionsWithThem() {
+		DashboardServiceImpl dashboard = dashboard(new SimpleAsyncTaskExecutor(), () -> {
+			throw new IllegalStateException("database down");
+		}, List::of);
+
+		CandidateDashboardResponse response = dashboard.getCandidateDashboard("candidate@example.com");
+
+		assertThat(response.getPartial()).isTrue();
+		assertThat(response.getUnavailableSections())
+				.containsExactly(Section.APPLICATIONS, Section.APPLICATION_STATS, Section.SKILL_GAPS);
+		assertThat(response.getRecommendations()).isEmpty();
+		assertThat(unavailableCount(Section.APPLICATIONS, "error")).isEqualTo(1);
+	}
+
+	@Test
+	void rejectedBranchesAreReportedUnavailable() {
+		AsyncTaskExecutor saturated = task -> {
+			throw new TaskRejectedException("Dashboard executor saturated");
+		};
+		DashboardServiceImpl dashboard = dashboard(saturated, this::applications, List::of);
+
+		CandidateDashboardResponse response = dashboard.getCandidateDashboard("candidate@example.com");
+
+		assertThat(response.getUser().getId()).isEqualTo(7L);
+		assertThat(response.getPartial()).isTrue();
+		assertThat(response.getUnavailableSections()).containsExactly(
+				Section.APPLICATIONS, Section.APPLICATION_STATS, Section.RECOMMENDATIONS, Section.SKILL_GAPS);
+		assertThat(unavailableCount(Section.RECOMMENDATIONS, "rejected")).isEqualTo(1);
+	}
+
+	private List<ApplicationResponse> applications() {
+		LocalDateTime now = LocalDateTime.now();
+		return List.of(application(10L, ApplicationStatus.PENDING, now.minusDays(3)),
+				application(20L, ApplicationStatus.PENDING, now.minusDays(1)),
+				application(30L, ApplicationStatus.REJECTED, now));
+	}
+
+	private static ApplicationResponse application(Long jobId, ApplicationStatus status, LocalDateTime appliedAt) {
+		return ApplicationResponse.builder()
+				.status(status)
+				.appliedAt(appliedAt)
+				.job(ApplicationResponse.JobInfo.builder().id(jobId).build())
+				.build();
+	}
+
+	private double unavailableCount(Section section, String reason) {
+		return meterRegistry.counter("dashboard.section.unavailable", "section", section.name(), "reason", reason).count();
+	}
+
+	private DashboardServiceImpl dashboard(AsyncTaskExecutor executor, Supplier<List<ApplicationResponse>> applications,
+										   Supplier<List<JobRecommendationResponse>> recommendations) {
+		UserRepository users = mock(UserRepository.class);
+		when(users.findByEmail(anyString()))
+				.thenAnswer(invocation -> Optional.of(User.builder().id(7L).email(invocation.getArgument(0)).build()));
+		UserProfileService profiles = mock(UserProfileService.class);
+		when(profiles.getProfile(anyLong())).thenReturn(SkillProfile.EMPTY);
+		ApplicationService applicationService = mock(ApplicationService.class);
+		when(applicationService.getUserApplications(anyLong())).thenAnswer(invocation -> applications.get());
+		JobRecommendationService recommendationService = mock(JobRecommendationService.class);
+		when(recommendationService.getRecommendations(anyLong(), any(SkillProfile.class), any()))
+				.thenAnswer(invocation -> recommendations.get());
+		SkillGapAnalysisService skillGapService = mock(SkillGapAnalysisService.class);
+		when(skillGapService.analyzeSkillGaps(anyLong(), any(SkillProfile.class), anyList())).thenAnswer(invocation -> {
+			List<Long> jobIds = invocation.getArgument(2);
+			skillGapJobIds = jobIds;
+			return SkillGapBatchResponse.builder().userId(invocation.getArgument(0)).jobsAnalyzed(jobIds.size()).build();
+		});
+		return new DashboardServiceImpl(users, profiles, applicationService, recommendationService, skillGapService,
+				executor, meterRegistry, DEADLINE, DEADLINE, DEADLINE.multipliedBy(2), 5, 5);
+	}
+}
@@ -0,0 +1,91 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.dto.ParsedResumeResponse;
+import com.jobportal.backend.util.SkillDictionary;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Fallback resume parsing over a synthetic corpus: the single-pass parser against the
+ * previous compile-per-field, lower-case-per-skill implementation.
+ *
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=com.jobportal.backend.service.FallbackResumeParserBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FallbackResumeParserBenchmark {
+
+	private final FallbackResumeParser parser = new FallbackResumeParser();
+	private List<String> corpus;
+
+	@Setup
+	public void setUp() {
+		corpus = SyntheticResumes.generate(1_000, 2024);
+	}
+
+	@Benchmark
+	public void singlePass(Blackhole blackhole) {
+		for (String resume : corpus) {
+			blackhole.consume(parser.parse(resume));
+		}
+	}
+
+	@Benchmark
+	public void previous(Blackhole blackhole) {
+		for (String resume : corpus) {
+			blackhole.consume(previousParse(resume));
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(FallbackResumeParserBenchmark.class.getSimpleName())
+				.build()).run();
+	}
+
+	// The regex parser as it was before the single-pass rewrite, kept as the baseline
+	private static ParsedResumeResponse previousParse(String resumeText) {
+		ParsedResumeResponse response = new ParsedResumeResponse();
+		String name = extractPattern(resumeText,
+				"(?i)(?:name[:\\s]+)?([A-Z][a-z]+ [A-Z][a-z]+(?:\\s+[A-Z][a-z]+)?)",
+				resumeText.split("\n")[0].trim());
+		response.setFullName(name);
+		response.setEmail(extractPattern(resumeText,
+				"([a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,})", "not-found@example.com"));
+		response.setPhone(extractPattern(resumeText,
+				"(?i)(?:phone[:\\s]+)?([+\\d][\\d\\s-]{8,})", "Not Found"));
+
+		List<String> skills = new ArrayList<>();
+		for (String skill : SkillDictionary.SKILLS) {
+			if (resumeText.toLowerCase().contains(skill.toLowerCase())) {
+				skills.add(skill);
+			}
+		}
+		response.setSkills(skills);
+
+		Matcher matcher = Pattern.compile("(?i)(\\d+)\\s*(?:\\+)?\\s*(?:years?|yrs?)").matcher(resumeText);
+		response.setTotalExperience(matcher.find() ? matcher.group(1) + " years" : "0 years");
+		response.setSummary(String.valueOf(resumeText.toLowerCase().contains("b.tech")
+				|| resumeText.toLowerCase().contains("bachelor")));
+		return response;
+	}
+
+	private static String extractPattern(String text, String regex, String defaultValue) {
+		Matcher matcher = Pattern.compile(regex).matcher(text);
+		return matcher.find() ? matcher.group(1).trim() : defaultValue;
+	}
+}
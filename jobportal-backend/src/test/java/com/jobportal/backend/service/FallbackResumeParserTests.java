@@ -0,0 +1,74 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.dto.ParsedResumeResponse;
+import com.jobportal.backend.util.SkillDictionary;
+import com.jobportal.backend.util.SkillMatcher;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FallbackResumeParserTests {
+
+	private final FallbackResumeParser parser = new FallbackResumeParser();
+
+	@Test
+	void parsesTheUsualFields() {
+		ParsedResumeResponse parsed = parser.parse("""
+				Name: Jane Doe
+				Email: jane.doe@example.com
+				Phone: +91 98765 43210
+				Senior engineer, 7+ years with Java, Spring Boot and Kubernetes.
+				B.Tech in Computer Science
+				""");
+
+		assertThat(parsed.getFullName()).isEqualTo("Jane Doe");
+		assertThat(parsed.getEmail()).isEqualTo("jane.doe@example.com");
+		assertThat(parsed.getPhone()).isEqualTo("+91 98765 43210");
+		assertThat(parsed.getTotalExperience()).isEqualTo("7 years");
+		assertThat(parsed.getSkills()).containsExactly("Java", "Spring Boot", "Spring", "Kubernetes");
+		assertThat(parsed.getEducation()).hasSize(1);
+	}
+
+	@Test
+	void fallsBackToDefaultsWhenFieldsAreMissing() {
+		ParsedResumeResponse parsed = parser.parse("RESUME\n\n12 34");
+
+		assertThat(parsed.getFullName()).isEqualTo("RESUME");
+		assertThat(parsed.getEmail()).isEqualTo("not-found@example.com");
+		assertThat(parsed.getPhone()).isEqualTo("Not Found");
+		assertThat(parsed.getSkills()).containsExactly("General IT Skills");
+		assertThat(parsed.getTotalExperience()).isEqualTo("0 years");
+		assertThat(parsed.getExperience()).isEmpty();
+		assertThat(parsed.getEducation()).isEmpty();
+	}
+
+	@Test
+	void singlePassFindsWhatEachPatternFindsOnItsOwn() {
+		for (String resume : SyntheticResumes.generate(500, 42)) {
+			String[] fields = FallbackResumeParser.scanFields(resume, SkillDictionary.MATCHER.newScan());
+			for (int f = 0; f < FallbackResumeParser.FIELD_PATTERNS.length; f++) {
+				Matcher matcher = FallbackResumeParser.FIELD_PATTERNS[f].matcher(resume);
+				assertThat(fields[f]).as("field %d of:%n%s", f, resume)
+						.isEqualTo(matcher.find() ? matcher.group(1) : null);
+			}
+		}
+	}
+
+	@Test
+	void skillAutomatonMatchesLowerCaseContains() {
+		SkillMatcher matcher = new SkillMatcher(SkillDictionary.SKILLS);
+
+		for (String resume : SyntheticResumes.generate(500, 7)) {
+			String lower = resume.toLowerCase(Locale.ROOT);
+			List<String> expected = SkillDictionary.SKILLS.stream()
+					.filter(skill -> lower.contains(skill.toLowerCase(Locale.ROOT)))
+					.toList();
+			assertThat(matcher.findIn(resume)).isEqualTo(expected);
+		}
+		assertThat(matcher.findIn("ci/cd with GitHub, nodE.JS and gcp")).containsExactly("Node.js", "GCP", "Git", "CI/CD");
+	}
+}
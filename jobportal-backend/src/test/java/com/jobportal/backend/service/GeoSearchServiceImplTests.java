@@ -0,0 +1,27 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.exception.BadRequestException;
+import com.jobportal.backend.repository.JobRepository;
+import com.jobportal.backend.util.Gazetteer;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class GeoSearchServiceImplTests {
+
+	private final GeoSearchServiceImpl service =
+			new GeoSearchServiceImpl(mock(JobRepository.class), mock(JobService.class), mock(Gazetteer.class));
+
+	@ParameterizedTest
+	@ValueSource(doubles = {0, -5, 501, Double.NaN})
+	void rejectsRadiiOutsideTheAllowedRangeAsBadRequests(double radiusKm) {
+		ReflectionTestUtils.setField(service, "maxRadiusKm", 500.0);
+
+		assertThatThrownBy(() -> service.findJobsNear(52.52, 13.40, radiusKm, false, 20))
+				.isInstanceOf(BadRequestException.class)
+				.hasMessageContaining("radiusKm");
+	}
+}
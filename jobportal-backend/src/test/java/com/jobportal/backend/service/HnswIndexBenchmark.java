@@ -0,0 +1,88 @@
+package com.jobportal.backend.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Top-10 search over clustered job-like vectors: the HNSW graph built in memory, the same
+ * graph served from its mapped file after a restart, and the brute-force scan.
+ *
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=com.jobportal.backend.service.HnswIndexBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HnswIndexBenchmark {
+
+	private static final int DIMENSIONS = 256;
+
+	@Param({"10000"})
+	public int jobs;
+
+	private HnswIndex index;
+	private HnswIndex loaded;
+	private float[][] queries;
+	private int next;
+	private Path file;
+
+	@Setup
+	public void setUp() throws IOException {
+		Random random = new Random(42);
+		float[][] centroids = SyntheticVectors.centroids(random, 40, DIMENSIONS);
+		index = new HnswIndex(DIMENSIONS, 16, 100);
+		for (long id = 1; id <= jobs; id++) {
+			index.add(id, SyntheticVectors.clustered(random, centroids, 0.6));
+		}
+		file = Files.createTempFile("jobs", ".hnsw");
+		index.save(file);
+		loaded = HnswIndex.load(file);
+		queries = new float[1_000][];
+		for (int q = 0; q < queries.length; q++) {
+			queries[q] = SyntheticVectors.clustered(random, centroids, 0.6);
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(file);
+	}
+
+	@Benchmark
+	public void inMemory(Blackhole blackhole) {
+		blackhole.consume(index.search(nextQuery(), 10, 64));
+	}
+
+	@Benchmark
+	public void mapped(Blackhole blackhole) {
+		blackhole.consume(loaded.search(nextQuery(), 10, 64));
+	}
+
+	@Benchmark
+	public void bruteForce(Blackhole blackhole) {
+		blackhole.consume(index.bruteForce(nextQuery(), 10));
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(HnswIndexBenchmark.class.getSimpleName())
+				.build()).run();
+	}
+
+	private float[] nextQuery() {
+		next = (next + 1) % queries.length;
+		return queries[next];
+	}
+}
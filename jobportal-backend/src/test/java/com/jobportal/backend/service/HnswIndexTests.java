@@ -0,0 +1,171 @@
+package com.jobportal.backend.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HnswIndexTests {
+
+	private static final int DIMENSIONS = 64;
+
+	@Test
+	void approximateSearchRecallsBruteForceNeighbours() {
+		Random random = new Random(42);
+		HnswIndex index = new HnswIndex(DIMENSIONS, 16, 100);
+		float[][] centroids = SyntheticVectors.centroids(random, 40, DIMENSIONS);
+		for (long id = 1; id <= 5000; id++) {
+			index.add(id, SyntheticVectors.clustered(random, centroids, 0.6));
+		}
+
+		assertThat(recall(index, random, centroids)).isGreaterThanOrEqualTo(0.9);
+	}
+
+	@Test
+	void loadedIndexKeepsRecallAndAcceptsUpdates(@TempDir Path dir) throws Exception {
+		Random random = new Random(5);
+		HnswIndex index = new HnswIndex(DIMENSIONS, 16, 100);
+		float[][] centroids = SyntheticVectors.centroids(random, 20, DIMENSIONS);
+		for (long id = 1; id <= 2000; id++) {
+			index.add(id, SyntheticVectors.clustered(random, centroids, 0.6));
+		}
+		Path file = dir.resolve("jobs.hnsw");
+		index.save(file);
+
+		HnswIndex loaded = HnswIndex.load(file);
+		// New nodes link into mapped ones, whose links then move to the heap
+		float[] added = null;
+		for (long id = 2001; id <= 2500; id++) {
+			added = SyntheticVectors.clustered(random, centroids, 0.6);
+			loaded.add(id, 7, added);
+		}
+		loaded.remove(1L);
+
+		assertThat(loaded.search(added, 1, 32)).extracting(HnswIndex.Match::id).containsExactly(2500L);
+		assertThat(loaded.contains(1L)).isFalse();
+		assertThat(recall(loaded, random, centroids)).isGreaterThanOrEqualTo(0.9);
+
+		// Mixed mapped and heap nodes save and load back, also over the mapped file itself
+		loaded.save(file);
+		HnswIndex reloaded = HnswIndex.load(file);
+		assertThat(reloaded.size()).isEqualTo(2499);
+		assertThat(reloaded.versionOf(2500L)).isEqualTo(7L);
+		for (int q = 0; q < 20; q++) {
+			float[] query = SyntheticVectors.clustered(random, centroids, 0.6);
+			assertThat(reloaded.search(query, 10, 32)).isEqualTo(loaded.search(query, 10, 32));
+		}
+
+		assertThat(reloaded.compact()).isEqualTo(1);
+		assertThat(recall(reloaded, random, centroids)).isGreaterThanOrEqualTo(0.9);
+	}
+
+	@Test
+	void removedAndReplacedEntriesAreNotReturned() {
+		Random random = new Random(7);
+		HnswIndex index = new HnswIndex(DIMENSIONS, 8, 50);
+		float[] first = randomUnitVector(random);
+		index.add(1L, first);
+		for (long id = 2; id <= 200; id++) {
+			index.add(id, randomUnitVector(random));
+		}
+
+		index.remove(1L);
+		assertThat(index.search(first, 5, 32)).extracting(HnswIndex.Match::id).doesNotContain(1L);
+
+		index.add(2L, first);
+		assertThat(index.search(first, 1, 32)).extracting(HnswIndex.Match::id).containsExactly(2L);
+		assertThat(index.size()).isEqualTo(199);
+	}
+
+	@Test
+	void compactionDropsTombstonesAndKeepsLiveEntries() {
+		Random random = new Random(11);
+		HnswIndex index = new HnswIndex(DIMENSIONS, 8, 50);
+		float[][] vectors = new float[301][];
+		for (int id = 1; id <= 300; id++) {
+			vectors[id] = randomUnitVector(random);
+			index.add(id, vectors[id]);
+		}
+		for (long id = 1; id <= 100; id++) {
+			index.remove(id);
+		}
+		for (int id = 101; id <= 150; id++) {
+			vectors[id] = randomUnitVector(random);
+			index.add(id, vectors[id]);
+		}
+		assertThat(index.tombstoneRatio()).isEqualTo(150 / 350.0);
+
+		assertThat(index.compact()).isEqualTo(150);
+
+		assertThat(index.tombstoneRatio()).isZero();
+		assertThat(index.size()).isEqualTo(200);
+		assertThat(index.contains(1L)).isFalse();
+		for (int id = 101; id <= 300; id++) {
+			assertThat(index.search(vectors[id], 1, 32)).extracting(HnswIndex.Match::id).containsExactly((long) id);
+		}
+	}
+
+	@Test
+	void savedIndexLoadsBackIdentically(@TempDir Path dir) throws Exception {
+		Random random = new Random(3);
+		HnswIndex index = new HnswIndex(DIMENSIONS, 8, 50);
+		for (long id = 1; id <= 500; id++) {
+			index.add(id, id * 10, randomUnitVector(random));
+		}
+		index.remove(10L);
+
+		Path file = dir.resolve("jobs.hnsw");
+		index.save(file);
+		HnswIndex loaded = HnswIndex.load(file);
+
+		assertThat(loaded.size()).isEqualTo(499);
+		assertThat(loaded.contains(10L)).isFalse();
+		assertThat(loaded.vectorOf(42L)).containsExactly(index.vectorOf(42L));
+		assertThat(loaded.versionOf(42L)).isEqualTo(420L);
+		assertThat(loaded.versionOf(10L)).isNull();
+		for (int q = 0; q < 20; q++) {
+			float[] query = randomUnitVector(random);
+			assertThat(loaded.search(query, 10, 32)).isEqualTo(index.search(query, 10, 32));
+		}
+	}
+
+	@Test
+	void hashedVectorsRankRelatedTextHigher() {
+		HashingVectorizer vectorizer = new HashingVectorizer(256);
+		float[] backend = vectorizer.vectorize("Senior Java developer, Spring Boot microservices and PostgreSQL");
+		float[] similar = vectorizer.vectorize("Java Spring Boot engineer building microservices");
+		float[] unrelated = vectorizer.vectorize("Graphic designer for print and branding campaigns");
+
+		assertThat(dot(backend, similar)).isGreaterThan(dot(backend, unrelated));
+	}
+
+	// Share of the exact top 10 that the graph search returns, over 200 clustered queries
+	private static double recall(HnswIndex index, Random random, float[][] centroids) {
+		int queries = 200;
+		int k = 10;
+		int recalled = 0;
+		for (int q = 0; q < queries; q++) {
+			float[] query = SyntheticVectors.clustered(random, centroids, 0.6);
+			Set<Long> exactIds = index.bruteForce(query, k).stream().map(HnswIndex.Match::id).collect(Collectors.toSet());
+			recalled += (int) index.search(query, k, 64).stream().filter(match -> exactIds.contains(match.id())).count();
+		}
+		return recalled / (double) (queries * k);
+	}
+
+	private static float[] randomUnitVector(Random random) {
+		return SyntheticVectors.unitVector(random, DIMENSIONS, null, 0);
+	}
+
+	private static float dot(float[] a, float[] b) {
+		float sum = 0;
+		for (int i = 0; i < a.length; i++) {
+			sum += a[i] * b[i];
+		}
+		return sum;
+	}
+}
@@ -0,0 +1,87 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.model.Job;
+import com.jobportal.backend.model.JobType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.jobportal.backend.service.JobFacetIndex.Facet.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobFacetIndexTests {
+
+	private JobFacetIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new JobFacetIndex();
+		index.rebuild(List.of(
+				job(1L, JobType.FULL_TIME, "Bangalore", "Acme", 60_000, "3 years"),
+				job(2L, JobType.REMOTE, "bangalore ", "Acme", 120_000, "5+ years"),
+				job(3L, JobType.FULL_TIME, "Pune", "Globex", null, "Fresher"),
+				job(4L, JobType.CONTRACT, "Pune", "Initech", 30_000, "1 year")));
+	}
+
+	@Test
+	void countsEveryFacetWithoutFilters() {
+		JobFacetIndex.Result result = index.query(Map.of(), null);
+
+		assertThat(result.jobIds()).containsExactly(4L, 3L, 2L, 1L);
+		assertThat(result.counts().get(LOCATION)).containsExactly(Map.entry("Bangalore", 2), Map.entry("Pune", 2));
+		assertThat(result.counts().get(JOB_TYPE)).containsEntry("FULL_TIME", 2);
+		assertThat(result.counts().get(SALARY_BAND))
+				.containsEntry("50K-100K", 1).containsEntry(JobFacetIndex.UNSPECIFIED, 1);
+		assertThat(result.counts().get(EXPERIENCE))
+				.containsEntry("Entry (0-1 yrs)", 2).containsEntry("Senior (5-9 yrs)", 1);
+	}
+
+	@Test
+	void facetCountsIgnoreTheirOwnFilter() {
+		JobFacetIndex.Result result = index.query(Map.of(LOCATION, Set.of("pune")), null);
+
+		assertThat(result.jobIds()).containsExactly(4L, 3L);
+		assertThat(result.counts().get(LOCATION)).containsEntry("Bangalore", 2).containsEntry("Pune", 2);
+		assertThat(result.counts().get(COMPANY)).containsOnlyKeys("Globex", "Initech");
+	}
+
+	@Test
+	void restrictsToKeywordHits() {
+		JobFacetIndex.Result result = index.query(Map.of(COMPANY, Set.of("Acme")), Set.of(2L, 3L));
+
+		assertThat(result.jobIds()).containsExactly(2L);
+	}
+
+	@Test
+	void incrementalUpdatesMoveAndRemoveRows() {
+		index.upsert(job(1L, JobType.FULL_TIME, "Pune", "Acme", 60_000, "3 years"));
+		Job closed = job(2L, JobType.REMOTE, "Bangalore", "Acme", 120_000, "5 years");
+		closed.setIsActive(false);
+		index.upsert(closed);
+		index.remove(4L);
+		index.upsert(job(5L, JobType.HYBRID, "Delhi", "Acme", 90_000, "2 years"));
+
+		JobFacetIndex.Result result = index.query(Map.of(), null);
+
+		assertThat(result.jobIds()).containsExactly(5L, 3L, 1L);
+		assertThat(result.counts().get(LOCATION)).containsExactly(Map.entry("Pune", 2), Map.entry("Delhi", 1));
+		assertThat(index.size()).isEqualTo(3);
+	}
+
+	private static Job job(Long id, JobType type, String location, String company, Integer salary, String experience) {
+		return Job.builder()
+				.id(id)
+				.title("Job " + id)
+				.jobType(type)
+				.location(location)
+				.company(company)
+				.minSalary(salary != null ? BigDecimal.valueOf(salary) : null)
+				.experienceRequired(experience)
+				.isActive(true)
+				.build();
+	}
+}
@@ -0,0 +1,68 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.util.Gazetteer;
+import com.jobportal.backend.util.GeoHash;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobGeoIndexTests {
+
+	private final Gazetteer gazetteer = new Gazetteer();
+
+	@Test
+	void resolvesFreeTextLocationsToCanonicalCities() {
+		assertThat(gazetteer.resolve("Bangalore, India")).get().extracting(Gazetteer.City::name).isEqualTo("Bengaluru");
+		assertThat(gazetteer.resolve("Hybrid - Gurgaon")).get().extracting(Gazetteer.City::name).isEqualTo("Gurugram");
+		assertThat(gazetteer.resolve("  NEW YORK ")).get().extracting(Gazetteer.City::name).isEqualTo("New York");
+		assertThat(gazetteer.resolve("Atlantis")).isEmpty();
+	}
+
+	@Test
+	void findsJobsWithinRadiusNearestFirst() {
+		JobGeoIndex index = new JobGeoIndex();
+		index.upsert(1L, 12.9716, 77.5946, false);   // Bengaluru
+		index.upsert(2L, 12.2958, 76.6394, false);   // Mysuru, ~125 km away
+		index.upsert(3L, 13.0827, 80.2707, true);    // Chennai, ~290 km away
+		index.upsert(4L, 12.9352, 77.6245, false);   // Koramangala, ~5 km away
+		index.upsert(5L, null, null, true);          // remote, no location
+
+		assertThat(index.within(12.9716, 77.5946, 25)).extracting(JobGeoIndex.Hit::jobId).containsExactly(1L, 4L);
+		assertThat(index.within(12.9716, 77.5946, 150)).extracting(JobGeoIndex.Hit::jobId).containsExactly(1L, 4L, 2L);
+		assertThat(index.remoteJobIds()).containsExactly(5L, 3L);
+
+		index.upsert(4L, 28.7041, 77.1025, false);
+		index.remove(1L);
+		assertThat(index.within(12.9716, 77.5946, 25)).isEmpty();
+	}
+
+	@Test
+	void gridQueryMatchesBruteForce() {
+		Random random = new Random(42);
+		JobGeoIndex index = new JobGeoIndex();
+		double[][] points = new double[3000][];
+		for (int i = 0; i < points.length; i++) {
+			points[i] = new double[]{8 + random.nextDouble() * 20, 70 + random.nextDouble() * 20};
+			index.upsert((long) i, points[i][0], points[i][1], false);
+		}
+
+		for (double radius : new double[]{2, 30, 120, 400}) {
+			List<Long> expected = new ArrayList<>();
+			for (int i = 0; i < points.length; i++) {
+				if (GeoHash.distanceKm(18.5, 73.8, points[i][0], points[i][1]) <= radius) {
+					expected.add((long) i);
+				}
+			}
+			List<Long> actual = index.within(18.5, 73.8, radius).stream()
+					.map(JobGeoIndex.Hit::jobId)
+					.collect(Collectors.toList());
+
+			assertThat(actual).as("radius %s km", radius).containsExactlyInAnyOrderElementsOf(expected);
+		}
+	}
+}
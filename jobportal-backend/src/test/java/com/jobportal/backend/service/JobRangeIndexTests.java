@@ -0,0 +1,67 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.model.Job;
+import com.jobportal.backend.model.JobType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobRangeIndexTests {
+
+	private static final LocalDate TODAY = LocalDate.of(2026, 6, 1);
+
+	private final JobRangeIndex index = JobRangeIndex.build(List.of(
+			entry(1L, "40000", "60000", TODAY.plusDays(10), JobType.FULL_TIME),
+			entry(2L, "90000.50", "120000", TODAY.minusDays(1), JobType.REMOTE),
+			entry(3L, null, null, null, JobType.CONTRACT),
+			entry(4L, "70000", null, TODAY.plusDays(30), JobType.FULL_TIME),
+			entry(5L, null, "55000", TODAY, JobType.INTERNSHIP)));
+
+	@Test
+	void salaryFilterMatchesOverlappingRanges() {
+		assertThat(query("50000", "75000", null, null)).containsExactly(5L, 4L, 1L);
+		assertThat(query("90000.50", null, null, null)).containsExactly(2L);
+		assertThat(query(null, "45000", null, null)).containsExactly(1L);
+	}
+
+	@Test
+	void deadlineFilterKeepsJobsWithoutDeadline() {
+		assertThat(query(null, null, TODAY, null)).containsExactly(5L, 4L, 3L, 1L);
+	}
+
+	@Test
+	void combinesWithJobTypesAndSearchResults() {
+		assertThat(index.query(null, null, TODAY, Set.of(JobType.FULL_TIME), null)).containsExactly(4L, 1L);
+		assertThat(index.query(JobRangeIndex.toScaled(new BigDecimal("1")), null, null, null, Set.of(1L, 3L, 99L)))
+				.containsExactly(1L);
+	}
+
+	@Test
+	void noFiltersReturnsEverythingNewestFirst() {
+		assertThat(query(null, null, null, null)).containsExactly(5L, 4L, 3L, 2L, 1L);
+		assertThat(JobRangeIndex.EMPTY.query(1L, 2L, TODAY, Set.of(JobType.REMOTE), null)).isEmpty();
+	}
+
+	private List<Long> query(String from, String to, LocalDate deadline, Set<JobType> types) {
+		return index.query(
+				from != null ? JobRangeIndex.toScaled(new BigDecimal(from)) : null,
+				to != null ? JobRangeIndex.toScaled(new BigDecimal(to)) : null,
+				deadline, types, null);
+	}
+
+	private static JobRangeIndex.Entry entry(Long id, String min, String max, LocalDate deadline, JobType type) {
+		return JobRangeIndex.Entry.of(Job.builder()
+				.id(id)
+				.minSalary(min != null ? new BigDecimal(min) : null)
+				.maxSalary(max != null ? new BigDecimal(max) : null)
+				.applicationDeadline(deadline)
+				.jobType(type)
+				.isActive(true)
+				.build());
+	}
+}
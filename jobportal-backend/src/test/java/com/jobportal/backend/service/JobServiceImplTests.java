@@ -0,0 +1,106 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.dto.CreateJobRequest;
+import com.jobportal.backend.event.JobChangedEvent;
+import com.jobportal.backend.model.Job;
+import com.jobportal.backend.model.JobType;
+import com.jobportal.backend.model.User;
+import com.jobportal.backend.repository.JobRepository;
+import com.jobportal.backend.repository.UserRepository;
+import com.jobportal.backend.util.Gazetteer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JobServiceImplTests {
+
+	private final Map<Long, Job> jobs = new HashMap<>();
+	private final List<JobChangedEvent> events = new ArrayList<>();
+	private final JobServiceImpl jobService = new JobServiceImpl(jobRepository(), userRepository(),
+			new SimpleMeterRegistry(), event -> events.add((JobChangedEvent) event), new Gazetteer());
+
+	@Test
+	void createdJobKeepsItsSalaryRangeForOverlapFiltering() {
+		jobService.createJob(request("40000", "90000"), 7L);
+
+		Job saved = events.get(0).job();
+		assertThat(saved.getMinSalary()).isEqualByComparingTo("40000");
+		assertThat(saved.getMaxSalary()).isEqualByComparingTo("90000");
+		// Only overlaps the upper part of the job's range
+		assertThat(overlapping(saved, "80000", "100000")).containsExactly(saved.getId());
+	}
+
+	@Test
+	void updatedJobKeepsItsSalaryRange() {
+		jobService.createJob(request("40000", "50000"), 7L);
+		Long id = events.get(0).job().getId();
+
+		jobService.updateJob(id, request("40000", "95000"), 7L);
+
+		Job updated = events.get(1).job();
+		assertThat(updated.getMaxSalary()).isEqualByComparingTo("95000");
+		assertThat(overlapping(updated, "90000", null)).containsExactly(id);
+	}
+
+	@Test
+	void highlightsEscapeJobTextAndKeepOnlyTheirOwnMarks() {
+		String fragment = "<img src=x onerror=alert(1)> \u0002Spring\u0003 & <mark>Boot</mark>";
+
+		assertThat(JobServiceImpl.highlightHtml(fragment)).isEqualTo(
+				"&lt;img src=x onerror=alert(1)&gt; <mark>Spring</mark> &amp; &lt;mark&gt;Boot&lt;/mark&gt;");
+		assertThat(JobServiceImpl.highlightHtml(null)).isNull();
+	}
+
+	private static List<Long> overlapping(Job job, String from, String to) {
+		return JobRangeIndex.build(List.of(JobRangeIndex.Entry.of(job))).query(
+				JobRangeIndex.toScaled(new BigDecimal(from)),
+				to != null ? JobRangeIndex.toScaled(new BigDecimal(to)) : null,
+				null, null, null);
+	}
+
+	private static CreateJobRequest request(String minSalary, String maxSalary) {
+		return CreateJobRequest.builder()
+				.title("Backend Engineer")
+				.description("Java and PostgreSQL")
+				.company("Acme")
+				.location("Berlin")
+				.minSalary(new BigDecimal(minSalary))
+				.maxSalary(new BigDecimal(maxSalary))
+				.jobType(JobType.FULL_TIME)
+				.build();
+	}
+
+	private JobRepository jobRepository() {
+		JobRepository jobRepository = mock(JobRepository.class);
+		when(jobRepository.save(any(Job.class))).thenAnswer(invocation -> {
+			Job job = invocation.getArgument(0);
+			if (job.getId() == null) {
+				job.setId((long) jobs.size() + 1);
+			}
+			jobs.put(job.getId(), job);
+			return job;
+		});
+		when(jobRepository.findById(anyLong()))
+				.thenAnswer(invocation -> Optional.ofNullable(jobs.get(invocation.<Long>getArgument(0))));
+		return jobRepository;
+	}
+
+	private static UserRepository userRepository() {
+		UserRepository userRepository = mock(UserRepository.class);
+		when(userRepository.findById(anyLong()))
+				.thenAnswer(invocation -> Optional.of(User.builder().id(invocation.getArgument(0)).build()));
+		return userRepository;
+	}
+}
@@ -0,0 +1,96 @@
+package com.jobportal.backend.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobportal.backend.dto.InterviewQuestionResponse;
+import com.jobportal.backend.dto.InterviewQuestionResponse.QuestionDifficulty;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuestionBankIndexTests {
+
+	@Test
+	void bundledQuestionBankCompiles() throws Exception {
+		try (InputStream in = getClass().getResourceAsStream("/interview/questions.json")) {
+			List<QuestionBankIndex.Question> questions = new ObjectMapper().readValue(in, new TypeReference<>() {});
+			QuestionBankIndex index = QuestionBankIndex.build(questions);
+
+			assertThat(index.size()).isEqualTo(questions.size()).isPositive();
+			assertThat(index.select(List.of("java"), QuestionDifficulty.MEDIUM, null, 10, 1)).isNotEmpty();
+		}
+	}
+
+	@Test
+	void sameSeedGivesSameQuestionsInSameOrder() {
+		QuestionBankIndex index = QuestionBankIndex.build(bank());
+
+		List<InterviewQuestionResponse> first = index.select(List.of("java", "docker"), QuestionDifficulty.MEDIUM, null, 5, 42);
+		List<InterviewQuestionResponse> second = index.select(List.of("java", "docker"), QuestionDifficulty.MEDIUM, null, 5, 42);
+
+		assertThat(first).hasSize(5).containsExactlyElementsOf(second);
+		assertThat(first).doesNotHaveDuplicates();
+	}
+
+	@Test
+	void selectedQuestionsAreNotSharedBetweenRequests() {
+		QuestionBankIndex index = QuestionBankIndex.build(bank());
+
+		List<InterviewQuestionResponse> first = index.select(List.of("docker"), QuestionDifficulty.MEDIUM, null, 4, 1);
+		first.forEach(question -> question.setQuestion("changed"));
+
+		assertThat(index.select(List.of("docker"), QuestionDifficulty.MEDIUM, null, 4, 1))
+				.extracting(InterviewQuestionResponse::getQuestion)
+				.allMatch(text -> text.startsWith("docker "));
+	}
+
+	@Test
+	void prefersSkillQuestionsAndTopsUpFromGeneral() {
+		QuestionBankIndex index = QuestionBankIndex.build(bank());
+
+		List<InterviewQuestionResponse> questions = index.select(List.of("docker"), QuestionDifficulty.MEDIUM, null, 6, 7);
+
+		// 4 docker questions + 2 of the 5 general ones
+		assertThat(questions).hasSize(6);
+		assertThat(questions).filteredOn(q -> q.getTags().contains("docker")).hasSize(4);
+		assertThat(questions).filteredOn(q -> q.getTags().contains("general")).hasSize(2);
+	}
+
+	@Test
+	void overlappingSkillsAndCategoryFilter() {
+		QuestionBankIndex index = QuestionBankIndex.build(bank());
+
+		// "sql" questions are listed under both postgresql and mysql
+		List<InterviewQuestionResponse> questions = index.select(List.of("postgresql", "mysql"), QuestionDifficulty.MEDIUM, null, 20, 3);
+		assertThat(questions).doesNotHaveDuplicates().hasSize(3 + 5);
+
+		assertThat(index.select(List.of("java"), QuestionDifficulty.MEDIUM, "concurrency", 20, 3))
+				.extracting(InterviewQuestionResponse::getCategory)
+				.containsOnly("Concurrency");
+	}
+
+	private static List<QuestionBankIndex.Question> bank() {
+		List<QuestionBankIndex.Question> questions = new ArrayList<>();
+		for (int i = 0; i < 6; i++) {
+			questions.add(question(List.of("java"), i % 2 == 0 ? "Concurrency" : "Collections", "java " + i, "java"));
+		}
+		for (int i = 0; i < 4; i++) {
+			questions.add(question(List.of("docker"), "Containers", "docker " + i, "docker"));
+		}
+		for (int i = 0; i < 3; i++) {
+			questions.add(question(List.of("postgresql", "mysql"), "Databases", "sql " + i, "sql"));
+		}
+		for (int i = 0; i < 5; i++) {
+			questions.add(question(List.of(QuestionBankIndex.GENERAL), "System Design", "general " + i, "general"));
+		}
+		return questions;
+	}
+
+	private static QuestionBankIndex.Question question(List<String> skills, String category, String text, String tag) {
+		return new QuestionBankIndex.Question(skills, QuestionDifficulty.MEDIUM, category, text, "answer", List.of(tag), List.of());
+	}
+}
@@ -0,0 +1,48 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.service.RecommendationFeedStore.Feed;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecommendationFeedStoreTests {
+
+	private final Feed feed = new Feed(new long[]{10, 11, 12}, new int[]{90, 70, 50}, LocalDateTime.now());
+
+	@Test
+	void splicesNewJobAtItsScorePosition() {
+		Feed spliced = feed.withJob(20, 80, 3);
+
+		assertThat(spliced.jobIds()).containsExactly(10, 20, 11);
+		assertThat(spliced.scores()).containsExactly(90, 80, 70);
+	}
+
+	@Test
+	void ignoresJobsScoringBelowAFullFeed() {
+		assertThat(feed.withJob(20, 40, 3).jobIds()).containsExactly(10, 11, 12);
+		assertThat(feed.withJob(20, 40, 4).jobIds()).containsExactly(10, 11, 12, 20);
+	}
+
+	@Test
+	void rescoredJobMovesInsteadOfDuplicating() {
+		Feed rescored = feed.withJob(12, 95, 3);
+
+		assertThat(rescored.jobIds()).containsExactly(12, 10, 11);
+		assertThat(rescored.withoutJob(10).jobIds()).containsExactly(12, 11);
+	}
+
+	@Test
+	void storeSplicesOnlyIntoExistingFeeds() {
+		RecommendationFeedStore store = new RecommendationFeedStore();
+		store.put(1L, feed);
+
+		store.splice(1L, 30, 60, 50);
+		store.splice(2L, 30, 60, 50);
+		store.removeJob(10);
+
+		assertThat(store.get(1L).jobIds()).containsExactly(11, 30, 12);
+		assertThat(store.get(2L)).isNull();
+	}
+}
@@ -0,0 +1,201 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.exception.UploadException;
+import com.jobportal.backend.model.StoredFile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResumableUploadServiceTests {
+
+	private static final String OWNER = "candidate@example.com";
+
+	@TempDir
+	Path uploadDir;
+
+	private final RecordingStore store = new RecordingStore();
+
+	@Test
+	void resumesAfterAnInterruptedChunkAndStoresTheWholeFile() throws Exception {
+		ResumableUploadServiceImpl service = service(Duration.ofHours(1));
+		byte[] content = new byte[300_000];
+		new Random(1).nextBytes(content);
+		String id = service.create(content.length, "portfolio.pdf", "application/pdf", OWNER).getUploadId();
+
+		// The connection drops after 100 000 bytes of the first chunk; those bytes are kept
+		long offset = service.appendChunk(id, OWNER, 0, droppingAfter(content, 100_000), null);
+		assertThat(offset).isEqualTo(100_000);
+		assertThat(service.getStatus(id, OWNER).getUploadOffset()).isEqualTo(100_000);
+
+		offset = service.appendChunk(id, OWNER, offset, chunk(content, 100_000, 250_000), checksum(content, 100_000, 250_000));
+		offset = service.appendChunk(id, OWNER, offset, chunk(content, 250_000, content.length), null);
+		assertThat(offset).isEqualTo(content.length);
+
+		assertThat(service.complete(id, OWNER).getFileUrl()).isEqualTo("/api/files/stored.pdf");
+		assertThat(store.sha256).isEqualTo(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content)));
+		assertThat(store.content).isEqualTo(content);
+		assertThatThrownBy(() -> service.getStatus(id, OWNER)).isInstanceOf(UploadException.class);
+	}
+
+	@Test
+	void rejectsChunksAtTheWrongOffsetOrWithABadChecksum() throws Exception {
+		ResumableUploadServiceImpl service = service(Duration.ofHours(1));
+		byte[] content = "%PDF-1.7 a short resume".getBytes();
+		String id = service.create(content.length, "resume.pdf", "application/pdf", OWNER).getUploadId();
+
+		assertThatThrownBy(() -> service.appendChunk(id, OWNER, 5, chunk(content, 5, 10), null))
+				.isInstanceOf(UploadException.class)
+				.satisfies(e -> assertThat(((UploadException) e).getStatus().value()).isEqualTo(409));
+		assertThatThrownBy(() -> service.appendChunk(id, OWNER, 0, chunk(content, 0, 10), checksum(content, 1, 11)))
+				.satisfies(e -> assertThat(((UploadException) e).getStatus().value()).isEqualTo(460));
+		assertThat(service.getStatus(id, OWNER).getUploadOffset()).isZero();
+		assertThatThrownBy(() -> service.complete(id, OWNER))
+				.satisfies(e -> assertThat(((UploadException) e).getStatus().value()).isEqualTo(409));
+		assertThatThrownBy(() -> service.getStatus(id, "someone-else@example.com"))
+				.satisfies(e -> assertThat(((UploadException) e).getStatus().value()).isEqualTo(404));
+	}
+
+	@Test
+	void uploadsSurviveARestart() throws Exception {
+		byte[] content = new byte[200_000];
+		new Random(2).nextBytes(content);
+		ResumableUploadServiceImpl before = service(Duration.ofHours(1));
+		String id = before.create(content.length, "portfolio.pdf", "application/pdf", OWNER).getUploadId();
+		before.appendChunk(id, OWNER, 0, chunk(content, 0, 120_000), null);
+
+		ResumableUploadServiceImpl after = service(Duration.ofHours(1));
+
+		assertThat(after.getStatus(id, OWNER).getUploadOffset()).isEqualTo(120_000);
+		assertThat(after.getStatus(id, OWNER).getFileName()).isEqualTo("portfolio.pdf");
+		after.appendChunk(id, OWNER, 120_000, chunk(content, 120_000, content.length), null);
+		after.complete(id, OWNER);
+		assertThat(store.sha256).isEqualTo(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content)));
+		assertThat(uploadDir.resolve(".partial")).isEmptyDirectory();
+	}
+
+	@Test
+	void limitsUnfinishedUploadsPerOwner() {
+		ResumableUploadServiceImpl service = service(Duration.ofHours(1));
+		for (int i = 0; i < 2; i++) {
+			service.create(1_000, "resume.pdf", "application/pdf", OWNER);
+		}
+
+		assertThatThrownBy(() -> service.create(1_000, "resume.pdf", "application/pdf", OWNER))
+				.satisfies(e -> assertThat(((UploadException) e).getStatus().value()).isEqualTo(429));
+		String id = service.create(1_000, "resume.pdf", "application/pdf", "other@example.com").getUploadId();
+		service.cancel(id, "other@example.com");
+	}
+
+	@Test
+	void removesAbandonedUploads() throws Exception {
+		ResumableUploadServiceImpl service = service(Duration.ZERO);
+		String id = service.create(1_000, "resume.pdf", "application/pdf", OWNER).getUploadId();
+		Path orphan = Files.createFile(uploadDir.resolve(".partial").resolve("left-by-a-restart"));
+		Thread.sleep(5);
+
+		service.removeAbandonedUploads();
+
+		assertThatThrownBy(() -> service.getStatus(id, OWNER)).isInstanceOf(UploadException.class);
+		assertThat(uploadDir.resolve(".partial")).isEmptyDirectory();
+		assertThat(orphan).doesNotExist();
+	}
+
+	private ResumableUploadServiceImpl service(Duration expiry) {
+		return new ResumableUploadServiceImpl(store, new SimpleMeterRegistry(), uploadDir.toString(),
+				DataSize.ofMegabytes(1), DataSize.ofKilobytes(256), 2, Duration.ofSeconds(1), expiry, 2);
+	}
+
+	private static InputStream chunk(byte[] content, int from, int to) {
+		return new ByteArrayInputStream(content, from, to - from);
+	}
+
+	private static String checksum(byte[] content, int from, int to) throws Exception {
+		MessageDigest digest = MessageDigest.getInstance("SHA-256");
+		digest.update(content, from, to - from);
+		return "sha256 " + Base64.getEncoder().encodeToString(digest.digest());
+	}
+
+	private static InputStream droppingAfter(byte[] content, int length) {
+		return new InputStream() {
+			private int position;
+
+			@Override
+			public int read() throws IOException {
+				if (position == length) {
+					throw new IOException("Connection reset");
+				}
+				return content[position++] & 0xff;
+			}
+
+			@Override
+			public int read(byte[] b, int off, int len) throws IOException {
+				if (position == length) {
+					throw new IOException("Connection reset");
+				}
+				int n = Math.min(len, length - position);
+				System.arraycopy(content, position, b, off, n);
+				position += n;
+				return n;
+			}
+		};
+	}
+
+	private static class RecordingStore implements FileStorageService {
+		String sha256;
+		byte[] content;
+
+		@Override
+		public String storeFile(Path file, String sha256, String fileName, String contentType, String uploadedBy) {
+			try {
+				this.sha256 = sha256;
+				this.content = Files.readAllBytes(file);
+				Files.delete(file);
+			} catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+			return "/api/files/stored.pdf";
+		}
+
+		@Override
+		public String storeFile(MultipartFile file, String uploadedBy) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Optional<StoredFile> findReadableFile(String fileName, String email) {
+			return Optional.empty();
+		}
+
+		@Override
+		public Resource loadContent(StoredFile file) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void attach(String fileUrl, Long userId) {
+		}
+
+		@Override
+		public int removeUnreferencedFiles() {
+			return 0;
+		}
+	}
+}
@@ -0,0 +1,128 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.dto.ParsedResumeResponse;
+import com.jobportal.backend.dto.ResumeBatchStatusResponse;
+import com.jobportal.backend.dto.ResumeBatchStatusResponse.BatchStatus;
+import com.jobportal.backend.dto.ResumeBatchStatusResponse.ItemStatus;
+import com.jobportal.backend.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResumeBatchServiceTests {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final ResumeTextExtractor extractor = new ResumeTextExtractor(null, meterRegistry, 10, 20_000,
+			DataSize.ofKilobytes(1), DataSize.ofMegabytes(1), Duration.ofSeconds(10));
+	private final FallbackResumeParser fallbackParser = new FallbackResumeParser();
+	private final ResumeBatchServiceImpl service = new ResumeBatchServiceImpl(extractor, new TextOnlyParser(),
+			meterRegistry, 2, 3, DataSize.ofKilobytes(1), Duration.ofHours(1));
+
+	@AfterEach
+	void shutdown() {
+		service.shutdown();
+	}
+
+	@Test
+	void parsesArchiveEntriesAndRecordsDuplicates() throws Exception {
+		String resume = "Jane Doe\njane@example.com\n5 years of Java";
+		MockMultipartFile archive = zip(
+				"resumes/jane.txt", resume,
+				"__MACOSX/resumes/._jane.txt", "resource fork",
+				"resumes/copy-of-jane.txt", resume,
+				"resumes/john.txt", "John Smith\njohn@example.com\nPython");
+
+		ResumeBatchStatusResponse status = awaitCompletion(service.submit(List.of(archive), "recruiter@example.com"));
+
+		assertThat(status.getTotalFiles()).isEqualTo(3);
+		assertThat(status.getCompleted()).isEqualTo(2);
+		assertThat(status.getDuplicates()).isEqualTo(1);
+		assertThat(status.getPercentComplete()).isEqualTo(100);
+		ResumeBatchStatusResponse.Item copy = status.getItems().get(1);
+		assertThat(copy.getStatus()).isEqualTo(ItemStatus.DUPLICATE);
+		assertThat(copy.getDuplicateOf()).isEqualTo("jane.txt");
+		assertThat(copy.getContentHash()).isEqualTo(status.getItems().get(0).getContentHash());
+		assertThat(status.getItems().get(2).getResult().getEmail()).isEqualTo("john@example.com");
+	}
+
+	@Test
+	void failsOversizedFilesAndSkipsBeyondTheBatchLimit() throws Exception {
+		List<MultipartFile> files = List.of(
+				text("big.txt", "x".repeat(2048)),
+				text("a.txt", "Ann Lee\nann@example.com"),
+				text("b.txt", "Bob Ray\nbob@example.com"),
+				text("c.txt", "Cy Fox\ncy@example.com"));
+
+		ResumeBatchStatusResponse status = awaitCompletion(service.submit(files, "recruiter@example.com"));
+
+		assertThat(status.getItems().get(0).getStatus()).isEqualTo(ItemStatus.FAILED);
+		assertThat(status.getCompleted()).isEqualTo(2);
+		assertThat(status.getSkipped()).isEqualTo(1);
+	}
+
+	@Test
+	void batchesAreOnlyVisibleToTheirSubmitter() throws Exception {
+		String batchId = service.submit(List.of(text("a.txt", "Ann Lee")), "recruiter@example.com").getBatchId();
+
+		assertThatThrownBy(() -> service.getStatus(batchId, "someone-else@example.com"))
+				.isInstanceOf(ResourceNotFoundException.class);
+	}
+
+	private ResumeBatchStatusResponse awaitCompletion(ResumeBatchStatusResponse submitted) throws InterruptedException {
+		for (int i = 0; i < 500; i++) {
+			ResumeBatchStatusResponse status = service.getStatus(submitted.getBatchId(), "recruiter@example.com");
+			if (status.getStatus() == BatchStatus.COMPLETED) {
+				return status;
+			}
+			Thread.sleep(10);
+		}
+		throw new AssertionError("batch did not complete");
+	}
+
+	private static MockMultipartFile text(String name, String content) {
+		return new MockMultipartFile("files", name, "text/plain", content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static MockMultipartFile zip(String... namesAndContents) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (ZipOutputStream zip = new ZipOutputStream(out)) {
+			for (int i = 0; i < namesAndContents.length; i += 2) {
+				zip.putNextEntry(new ZipEntry(namesAndContents[i]));
+				zip.write(namesAndContents[i + 1].getBytes(StandardCharsets.UTF_8));
+			}
+		}
+		return new MockMultipartFile("files", "resumes.zip", "application/zip", out.toByteArray());
+	}
+
+	private class TextOnlyParser implements AIResumeParserService {
+
+		@Override
+		public ParsedResumeResponse parseResume(MultipartFile file) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public ParsedResumeResponse parseText(String resumeText) {
+			return fallbackParser.parse(resumeText);
+		}
+
+		@Override
+		public String extractTextFromFile(MultipartFile file) {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
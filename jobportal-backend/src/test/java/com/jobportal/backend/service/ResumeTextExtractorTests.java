@@ -0,0 +1,202 @@
+package com.jobportal.backend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResumeTextExtractorTests {
+
+	private final ThreadPoolTaskExecutor executor = executor();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@AfterEach
+	void shutdown() {
+		executor.shutdown();
+	}
+
+	@Test
+	void extractsTextOfEveryPageWithinBudget() throws IOException {
+		ResumeTextExtractor extractor = extractor(10, 20_000);
+
+		String text = extractor.extract(pdf("Jane Doe", "Java Developer", "Spring Boot"));
+
+		assertThat(text).contains("Jane Doe", "Java Developer", "Spring Boot");
+		assertThat(meterRegistry.get("resume.extraction.duration").tag("outcome", "complete").timer().count())
+				.isEqualTo(1);
+	}
+
+	@Test
+	void stopsAtThePageBudget() throws IOException {
+		ResumeTextExtractor extractor = extractor(2, 20_000);
+
+		String text = extractor.extract(pdf("first page", "second page", "third page"));
+
+		assertThat(text).contains("first page", "second page").doesNotContain("third page");
+	}
+
+	@Test
+	void stopsAtTheCharacterBudget() throws IOException {
+		ResumeTextExtractor extractor = extractor(10, 12);
+
+		String text = extractor.extract(pdf("abcdefghijklmnopqrstuvwxyz"));
+
+		assertThat(text).isEqualTo("abcdefghijkl");
+		assertThat(meterRegistry.get("resume.extraction.duration").tag("outcome", "truncated").timer().count())
+				.isEqualTo(1);
+	}
+
+	@Test
+	void filesExtractedOnTheCallingThreadHonourTheTimeout(@TempDir Path dir) throws IOException {
+		ResumeTextExtractor extractor = extractor(10, 20_000, Duration.ZERO);
+		Path file = Files.write(dir.resolve("resume.pdf"), pdf("first page", "second page").getBytes());
+
+		assertThatThrownBy(() -> extractor.extractFile(file, null, "resume.pdf"))
+				.isInstanceOf(IOException.class)
+				.hasMessageContaining("timed out");
+		assertThat(meterRegistry.get("resume.extraction.duration").tag("outcome", "timeout").timer().count())
+				.isEqualTo(1);
+	}
+
+	@Test
+	void cancelledExtractionStopsAtTheNextWrite() {
+		ResumeTextExtractor.BoundedWriter writer = new ResumeTextExtractor.BoundedWriter(100, System.nanoTime() + 10_000_000_000L);
+
+		Thread.currentThread().interrupt();
+		try {
+			assertThatThrownBy(() -> writer.write("text")).isInstanceOf(InterruptedIOException.class);
+		} finally {
+			Thread.interrupted();
+		}
+		assertThat(writer.toString()).isEmpty();
+	}
+
+	@Test
+	void rejectsUnknownBinaryFormats() {
+		ResumeTextExtractor extractor = extractor(10, 20_000);
+		MockMultipartFile binary = new MockMultipartFile("file", "resume.pdf", "application/pdf",
+				new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9});
+
+		assertThatThrownBy(() -> extractor.extract(binary)).isInstanceOf(IOException.class);
+		assertThat(meterRegistry.get("resume.extraction.duration").tag("outcome", "error").timer().count())
+				.isEqualTo(1);
+	}
+
+	@Test
+	void streamsDocxParagraphsRunsAndTabs() throws IOException {
+		ResumeTextExtractor extractor = extractor(10, 20_000);
+		String body = "<w:document xmlns:w=\"http://schemas.openxmlformats.org/wordprocessingml/2006/main\"><w:body>"
+				+ "<w:p><w:r><w:t>Jane</w:t></w:r><w:r><w:t xml:space=\"preserve\"> Doe</w:t></w:r></w:p>"
+				+ "<w:p><w:r><w:t>Skills:</w:t><w:tab/><w:t>Java &amp; Docker</w:t></w:r></w:p>"
+				+ "</w:body></w:document>";
+
+		String text = extractor.extract(docx(body));
+
+		assertThat(text).isEqualTo("Jane Doe\nSkills: Java & Docker");
+	}
+
+	@Test
+	void refusesDocxWithDoctype() {
+		ResumeTextExtractor extractor = extractor(10, 20_000);
+		String body = "<!DOCTYPE x [<!ENTITY e SYSTEM \"file:///etc/passwd\">]>"
+				+ "<w:document xmlns:w=\"http://schemas.openxmlformats.org/wordprocessingml/2006/main\">"
+				+ "<w:p><w:r><w:t>&e;</w:t></w:r></w:p></w:document>";
+
+		assertThatThrownBy(() -> extractor.extract(docx(body))).isInstanceOf(IOException.class);
+	}
+
+	@Test
+	void recoversTextRunsFromLegacyDoc() throws IOException {
+		ResumeTextExtractor extractor = extractor(10, 20_000);
+		ByteArrayOutputStream doc = new ByteArrayOutputStream();
+		doc.write(new byte[]{(byte) 0xD0, (byte) 0xCF, 0x11, (byte) 0xE0, (byte) 0xA1, (byte) 0xB1, 0x1A, (byte) 0xE1});
+		doc.write(new byte[504]);
+		doc.write("Jane Doe\rJava Developer".getBytes(StandardCharsets.ISO_8859_1));
+		doc.write(new byte[]{0, 0, 1, 2});
+		doc.write("Kubernetes".getBytes(StandardCharsets.UTF_16LE));
+
+		String text = extractor.extract(new MockMultipartFile("file", "resume.doc", "application/msword",
+				doc.toByteArray()));
+
+		assertThat(text).contains("Jane Doe\nJava Developer", "Kubernetes");
+	}
+
+	@Test
+	void everyFormatYieldsTheSameTextShape() throws IOException {
+		ResumeTextExtractor extractor = extractor(10, 20_000);
+		MockMultipartFile plain = new MockMultipartFile("file", "resume.txt", "text/plain",
+				"  Jane\u00A0 Doe \r\n\r\n\r\n\tJava\t Developer  \r\n".getBytes(StandardCharsets.UTF_8));
+
+		assertThat(extractor.extract(plain)).isEqualTo("Jane Doe\n\nJava Developer");
+	}
+
+	private ResumeTextExtractor extractor(int maxPages, int maxChars) {
+		return extractor(maxPages, maxChars, Duration.ofSeconds(10));
+	}
+
+	private ResumeTextExtractor extractor(int maxPages, int maxChars, Duration timeout) {
+		return new ResumeTextExtractor(executor, meterRegistry, maxPages, maxChars,
+				DataSize.ofMegabytes(1), DataSize.ofMegabytes(1), timeout);
+	}
+
+	private static ThreadPoolTaskExecutor executor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.setQueueCapacity(1);
+		executor.initialize();
+		return executor;
+	}
+
+	private static MockMultipartFile docx(String documentXml) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (ZipOutputStream zip = new ZipOutputStream(out)) {
+			zip.putNextEntry(new ZipEntry("[Content_Types].xml"));
+			zip.write("<Types/>".getBytes(StandardCharsets.UTF_8));
+			zip.putNextEntry(new ZipEntry("word/document.xml"));
+			zip.write(documentXml.getBytes(StandardCharsets.UTF_8));
+		}
+		return new MockMultipartFile("file", "resume.docx",
+				"application/vnd.openxmlformats-officedocument.wordprocessingml.document", out.toByteArray());
+	}
+
+	private static MockMultipartFile pdf(String... pages) throws IOException {
+		try (PDDocument document = new PDDocument(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+			PDType1Font font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+			for (String line : pages) {
+				PDPage page = new PDPage();
+				document.addPage(page);
+				try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+					content.beginText();
+					content.setFont(font, 12);
+					content.newLineAtOffset(72, 700);
+					content.showText(line);
+					content.endText();
+				}
+			}
+			document.save(out);
+			return new MockMultipartFile("file", "resume.pdf", "application/pdf", out.toByteArray());
+		}
+	}
+}
@@ -0,0 +1,123 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.model.Skill;
+import com.jobportal.backend.repository.SkillRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SkillCatalogTests {
+
+	// Stands in for the skills table: the unique normalized_name is the key
+	private final Map<String, Skill> table = new ConcurrentHashMap<>();
+	private final AtomicInteger nextId = new AtomicInteger(1);
+	private final AtomicInteger inserts = new AtomicInteger();
+
+	@Test
+	void concurrentRegistrationsOfANewSkillShareOneRow() throws Exception {
+		// Two instances of the application, four requests each
+		List<SkillCatalog> catalogs = List.of(new SkillCatalog(skillRepository()), new SkillCatalog(skillRepository()));
+		int threads = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<int[]>> results = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				SkillCatalog catalog = catalogs.get(i % catalogs.size());
+				results.add(executor.submit(() -> {
+					start.await();
+					return catalog.register(List.of("Rust", " rust ", "Terraform"));
+				}));
+			}
+			start.countDown();
+
+			int[] first = results.get(0).get();
+			for (Future<int[]> result : results) {
+				assertThat(result.get()).containsExactly(first);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(table).containsOnlyKeys("rust", "terraform");
+		assertThat(inserts).hasValue(2);
+		for (SkillCatalog catalog : catalogs) {
+			assertThat(catalog.idOf("RUST")).isEqualTo(table.get("rust").getId());
+			assertThat(catalog.nameOf(table.get("terraform").getId())).isEqualTo("Terraform");
+		}
+	}
+
+	@Test
+	void newSkillsAreCachedOnlyOnceTheirTransactionCommits() {
+		SkillCatalog catalog = new SkillCatalog(skillRepository());
+
+		List<TransactionSynchronization> committed = inTransaction(() -> catalog.register(List.of("Rust")));
+		int id = table.get("rust").getId();
+		assertThat(catalog.idOf("Rust")).isEqualTo(SkillCatalog.UNKNOWN);
+		committed.forEach(TransactionSynchronization::afterCommit);
+		assertThat(catalog.idOf("Rust")).isEqualTo(id);
+	}
+
+	@Test
+	void rolledBackRegistrationLeavesNothingCached() {
+		SkillCatalog catalog = new SkillCatalog(skillRepository());
+
+		inTransaction(() -> catalog.register(List.of("Rust")))
+				.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+		// The rolled-back row is gone; the next registration inserts it again under a new id
+		table.clear();
+
+		assertThat(catalog.idOf("Rust")).isEqualTo(SkillCatalog.UNKNOWN);
+		assertThat(catalog.nameOf(1)).isNull();
+		int[] ids = catalog.register(List.of("Rust"));
+		assertThat(ids).containsExactly(table.get("rust").getId());
+		assertThat(catalog.idOf("Rust")).isEqualTo(ids[0]);
+	}
+
+	// Runs the work with synchronization active, as inside @Transactional, and returns what it registered
+	private static List<TransactionSynchronization> inTransaction(Runnable work) {
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			work.run();
+			return TransactionSynchronizationManager.getSynchronizations();
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	private SkillRepository skillRepository() {
+		SkillRepository skillRepository = mock(SkillRepository.class);
+		when(skillRepository.findAll()).thenAnswer(invocation -> List.copyOf(table.values()));
+		when(skillRepository.findByNormalizedName(anyString()))
+				.thenAnswer(invocation -> Optional.ofNullable(table.get(invocation.<String>getArgument(0))));
+		// ON CONFLICT (normalized_name) DO NOTHING
+		when(skillRepository.insertIfAbsent(anyString(), anyString())).thenAnswer(invocation -> {
+			String name = invocation.getArgument(0);
+			String normalizedName = invocation.getArgument(1);
+			boolean[] inserted = new boolean[1];
+			table.computeIfAbsent(normalizedName, key -> {
+				inserted[0] = true;
+				inserts.incrementAndGet();
+				return Skill.builder().id(nextId.getAndIncrement()).name(name).normalizedName(key).build();
+			});
+			return inserted[0] ? 1 : 0;
+		});
+		return skillRepository;
+	}
+}
@@ -0,0 +1,115 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.dto.SkillGapAnalysisResponse;
+import com.jobportal.backend.dto.SkillGapAnalysisResponse.SkillPriority;
+import com.jobportal.backend.dto.SkillGapBatchResponse;
+import com.jobportal.backend.dto.SkillGapBatchResponse.MissingSkillFrequency;
+import com.jobportal.backend.model.Job;
+import com.jobportal.backend.model.Skill;
+import com.jobportal.backend.repository.JobRepository;
+import com.jobportal.backend.repository.SkillRepository;
+import com.jobportal.backend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SkillGapAnalysisServiceImplTests {
+
+	private static final Map<Long, Job> JOBS = Map.of(
+			1L, job(1L, "Backend Engineer", "Java, Docker and AWS"),
+			2L, job(2L, "Docker Platform Engineer", "Docker and Kubernetes"),
+			3L, job(3L, "Site Reliability", "Docker"));
+
+	// The candidate knows Java only
+	private static final SkillProfile PROFILE = new SkillProfile(new int[] {1}, null, null);
+
+	private final List<Collection<Long>> jobLookups = new ArrayList<>();
+	private final SkillGapAnalysisServiceImpl service = new SkillGapAnalysisServiceImpl(
+			mock(UserRepository.class), jobRepository(), null, skillCatalog());
+
+	@Test
+	void reportsUnknownJobsAndAnalyzesDuplicatesOnce() {
+		SkillGapBatchResponse batch = service.analyzeSkillGaps(7L, PROFILE, List.of(1L, 99L, 2L, 1L, 3L));
+
+		assertThat(batch.getUserId()).isEqualTo(7L);
+		assertThat(batch.getJobsNotFound()).containsExactly(99L);
+		assertThat(batch.getJobsAnalyzed()).isEqualTo(3);
+		assertThat(jobLookups).containsExactly(List.of(1L, 99L, 2L, 3L));
+		// Best match first: only job 1 asks for Java
+		assertThat(batch.getAnalyses()).extracting(analysis -> analysis.getJobInfo().getJobId())
+				.startsWith(1L).containsExactlyInAnyOrder(1L, 2L, 3L);
+		assertThat(batch.getAnalyses().get(0).getMatchPercentage()).isEqualTo(33);
+		assertThat(batch.getAverageMatchPercentage()).isEqualTo(11);
+	}
+
+	@Test
+	void ordersMissingSkillsByFrequencyThenPriority() {
+		SkillGapBatchResponse batch = service.analyzeSkillGaps(7L, PROFILE, List.of(1L, 2L, 3L));
+
+		assertThat(batch.getMissingSkillFrequencies())
+				.extracting(MissingSkillFrequency::getSkill, MissingSkillFrequency::getJobCount)
+				.containsExactly(tuple("Docker", 3), tuple("AWS", 1), tuple("Kubernetes", 1));
+		assertThat(frequency(batch, "Docker").getJobIds()).containsExactly(1L, 2L, 3L);
+	}
+
+	@Test
+	void highestPriorityIsTheMostUrgentAcrossJobs() {
+		SkillGapBatchResponse batch = service.analyzeSkillGaps(7L, PROFILE, List.of(3L, 1L, 2L));
+
+		// Docker is LOW in jobs 1 and 3 but HIGH in job 2, whose title names it
+		assertThat(missingPriority(batch, 3L, "Docker")).isEqualTo(SkillPriority.LOW);
+		assertThat(missingPriority(batch, 2L, "Docker")).isEqualTo(SkillPriority.HIGH);
+		assertThat(frequency(batch, "Docker").getHighestPriority()).isEqualTo(SkillPriority.HIGH);
+		assertThat(frequency(batch, "AWS").getHighestPriority()).isEqualTo(SkillPriority.HIGH);
+		assertThat(frequency(batch, "Kubernetes").getHighestPriority()).isEqualTo(SkillPriority.LOW);
+	}
+
+	private static MissingSkillFrequency frequency(SkillGapBatchResponse batch, String skill) {
+		return batch.getMissingSkillFrequencies().stream()
+				.filter(frequency -> frequency.getSkill().equals(skill))
+				.findFirst()
+				.orElseThrow();
+	}
+
+	private static SkillPriority missingPriority(SkillGapBatchResponse batch, Long jobId, String skill) {
+		SkillGapAnalysisResponse analysis = batch.getAnalyses().stream()
+				.filter(a -> a.getJobInfo().getJobId().equals(jobId))
+				.findFirst()
+				.orElseThrow();
+		return analysis.getMissingSkills().stream()
+				.filter(missing -> missing.getSkill().equals(skill))
+				.findFirst()
+				.orElseThrow()
+				.getPriority();
+	}
+
+	private static Job job(Long id, String title, String description) {
+		return Job.builder().id(id).title(title).company("Acme").description(description).build();
+	}
+
+	private JobRepository jobRepository() {
+		JobRepository jobRepository = mock(JobRepository.class);
+		when(jobRepository.findAllById(anyCollection())).thenAnswer(invocation -> {
+			Collection<Long> ids = invocation.getArgument(0);
+			jobLookups.add(List.copyOf(ids));
+			return ids.stream().map(JOBS::get).filter(Objects::nonNull).toList();
+		});
+		return jobRepository;
+	}
+
+	private static SkillCatalog skillCatalog() {
+		SkillRepository skillRepository = mock(SkillRepository.class);
+		when(skillRepository.findAll()).thenReturn(List.of(Skill.builder().id(1).name("Java").normalizedName("java").build()));
+		return new SkillCatalog(skillRepository);
+	}
+}
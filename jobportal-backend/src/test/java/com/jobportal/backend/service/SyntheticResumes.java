@@ -0,0 +1,87 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.util.SkillDictionary;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeded generator of plain-text resumes in the shape {@link ResumeTextExtractor} produces,
+ * with the usual fields present, missing or in unusual places
+ */
+final class SyntheticResumes {
+
+	private static final String[] FIRST_NAMES = {"Jane", "Arjun", "Maria", "Wei", "Olu", "Sofia", "Rahul", "Liam"};
+	private static final String[] LAST_NAMES = {"Doe", "Sharma", "Garcia", "Chen", "Adeyemi", "Rossi", "Verma", "Smith"};
+	private static final String[] FILLER = {
+			"Designed and maintained services handling millions of requests per day.",
+			"Led a small team through a migration to a new deployment platform.",
+			"Worked closely with product managers to refine requirements.",
+			"Improved build times and test reliability across several repositories.",
+			"Mentored junior engineers and ran internal workshops.",
+			"Owned on-call rotation and incident reviews for the payments stack."
+	};
+
+	private SyntheticResumes() {
+	}
+
+	static List<String> generate(int count, long seed) {
+		Random random = new Random(seed);
+		List<String> resumes = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			resumes.add(generate(random));
+		}
+		return resumes;
+	}
+
+	private static String generate(Random random) {
+		String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+		String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+		StringBuilder text = new StringBuilder();
+
+		if (random.nextInt(5) > 0) {
+			text.append(random.nextBoolean() ? "Name: " : "").append(first).append(' ').append(last).append('\n');
+		} else {
+			text.append("CURRICULUM VITAE\n");
+		}
+		if (random.nextInt(6) > 0) {
+			text.append("Email: ").append(first.toLowerCase()).append('.').append(last.toLowerCase())
+					.append(random.nextInt(100)).append("@example.com\n");
+		}
+		if (random.nextInt(4) > 0) {
+			text.append(random.nextBoolean() ? "Phone: " : "").append("+91 ")
+					.append(900 + random.nextInt(99)).append(' ').append(100_000 + random.nextInt(899_999)).append('\n');
+		}
+
+		text.append("\nSummary\n");
+		int years = random.nextInt(15);
+		if (random.nextInt(4) > 0) {
+			text.append("Software engineer with ").append(years).append(random.nextBoolean() ? "+ years" : " yrs")
+					.append(" of experience.\n");
+		}
+
+		text.append("\nSkills\n");
+		List<String> skills = SkillDictionary.SKILLS;
+		int skillCount = random.nextInt(8);
+		for (int s = 0; s < skillCount; s++) {
+			String skill = skills.get(random.nextInt(skills.size()));
+			text.append(random.nextBoolean() ? skill : skill.toUpperCase()).append(s + 1 < skillCount ? ", " : "\n");
+		}
+
+		text.append("\nExperience\n");
+		int paragraphs = 5 + random.nextInt(20);
+		for (int p = 0; p < paragraphs; p++) {
+			text.append(2010 + random.nextInt(14)).append(" - ").append(2012 + random.nextInt(12)).append(": ")
+					.append(FILLER[random.nextInt(FILLER.length)]).append('\n');
+		}
+
+		text.append("\nEducation\n");
+		if (random.nextBoolean()) {
+			text.append(random.nextBoolean() ? "B.Tech" : "Bachelor of Science").append(" in Computer Science\n");
+		} else {
+			text.append("Diploma in Electronics\n");
+		}
+		return text.toString();
+	}
+}
@@ -0,0 +1,43 @@
+package com.jobportal.backend.service;
+
+import java.util.Random;
+
+/**
+ * Seeded unit vectors for {@link HnswIndex}, uniform or clustered around centroids the way
+ * embeddings of similar job postings are
+ */
+final class SyntheticVectors {
+
+	private SyntheticVectors() {
+	}
+
+	static float[][] centroids(Random random, int count, int dimensions) {
+		float[][] centroids = new float[count][];
+		for (int c = 0; c < count; c++) {
+			centroids[c] = unitVector(random, dimensions, null, 0);
+		}
+		return centroids;
+	}
+
+	// Unit vector drawn around a random centroid with the given spread
+	static float[] clustered(Random random, float[][] centroids, double spread) {
+		float[] centre = centroids[random.nextInt(centroids.length)];
+		return unitVector(random, centre.length, centre, spread);
+	}
+
+	// Unit vector drawn around the centre with the given spread, or uniformly when centre is null
+	static float[] unitVector(Random random, int dimensions, float[] centre, double spread) {
+		float[] vector = new float[dimensions];
+		double norm = 0;
+		for (int i = 0; i < dimensions; i++) {
+			double value = random.nextGaussian() * (centre == null ? 1 : spread / Math.sqrt(dimensions))
+					+ (centre == null ? 0 : centre[i]);
+			vector[i] = (float) value;
+			norm += value * value;
+		}
+		for (int i = 0; i < dimensions; i++) {
+			vector[i] /= (float) Math.sqrt(norm);
+		}
+		return vector;
+	}
+}
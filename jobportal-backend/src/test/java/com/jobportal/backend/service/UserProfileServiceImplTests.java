@@ -0,0 +1,84 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.dto.ParsedResumeResponse;
+import com.jobportal.backend.model.Skill;
+import com.jobportal.backend.model.User;
+import com.jobportal.backend.model.UserProfile;
+import com.jobportal.backend.model.UserRole;
+import com.jobportal.backend.repository.SkillRepository;
+import com.jobportal.backend.repository.UserProfileRepository;
+import com.jobportal.backend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserProfileServiceImplTests {
+
+	private final UserRepository userRepository = mock(UserRepository.class);
+	private final UserProfileRepository userProfileRepository = mock(UserProfileRepository.class);
+	private final SkillRepository skillRepository = mock(SkillRepository.class);
+	private final UserProfileServiceImpl service = new UserProfileServiceImpl(userProfileRepository, userRepository,
+			new SkillCatalog(skillRepository), mock(ApplicationEventPublisher.class));
+
+	@Test
+	void candidateCannotStoreAnotherUsersProfile() {
+		user(7L, "candidate@example.com", UserRole.CANDIDATE);
+		user(8L, "other@example.com", UserRole.CANDIDATE);
+
+		assertThatThrownBy(() -> service.saveFromResume(8L, resume("Java"), "candidate@example.com"))
+				.hasMessageContaining("not authorized");
+		verify(userProfileRepository, never()).save(any());
+	}
+
+	@Test
+	void adminMayStoreAnyProfile() {
+		user(1L, "admin@example.com", UserRole.ADMIN);
+		user(8L, "other@example.com", UserRole.CANDIDATE);
+		when(skillRepository.findByNormalizedName("java"))
+				.thenReturn(Optional.of(Skill.builder().id(3).name("Java").normalizedName("java").build()));
+
+		service.saveFromResume(8L, resume("Java"), "admin@example.com");
+
+		assertThat(savedProfile().getUserId()).isEqualTo(8L);
+		assertThat(savedProfile().getSkillIds()).containsExactly(3);
+	}
+
+	@Test
+	void fallbackPlaceholderIsNotStoredAsASkill() {
+		user(7L, "candidate@example.com", UserRole.CANDIDATE);
+
+		service.saveFromResume(7L, resume(FallbackResumeParser.PLACEHOLDER_SKILL), "candidate@example.com");
+
+		assertThat(savedProfile().getSkillIds()).isEmpty();
+		verify(skillRepository, never()).insertIfAbsent(anyString(), anyString());
+	}
+
+	private void user(Long id, String email, UserRole role) {
+		when(userRepository.findByEmail(email)).thenReturn(Optional.of(User.builder().id(id).email(email).role(role).build()));
+		when(userRepository.existsById(id)).thenReturn(true);
+	}
+
+	private UserProfile savedProfile() {
+		ArgumentCaptor<UserProfile> profile = ArgumentCaptor.forClass(UserProfile.class);
+		verify(userProfileRepository).save(profile.capture());
+		return profile.getValue();
+	}
+
+	private static ParsedResumeResponse resume(String skill) {
+		ParsedResumeResponse resume = new ParsedResumeResponse();
+		resume.setSkills(List.of(skill));
+		return resume;
+	}
+}